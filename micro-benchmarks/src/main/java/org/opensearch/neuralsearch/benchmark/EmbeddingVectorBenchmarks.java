@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
+import org.opensearch.neuralsearch.common.FloatVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares boxed and primitive dense embeddings on the ingest path, from the values of a model tensor to the document source,
+ * optionally through the ingest inference cache. Allocations per operation are reported by the GC profiler:
+ *
+ * ./gradlew :micro-benchmarks:run --args 'EmbeddingVectorBenchmarks -prof gc'
+ *
+ * Besides allocations, a boxed embedding retains a reference and a {@link Float} per dimension, about 20 bytes on a 64-bit JVM
+ * with compressed references, while a primitive embedding retains 4 bytes per dimension until the document is indexed.
+ * Serializing the source boxes primitive values again, those short-lived objects are measured by the serialize benchmarks.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EmbeddingVectorBenchmarks {
+    private static final String EMBEDDING_FIELD = "embedding";
+
+    @Param({ "384", "1024" })
+    private int dimension;
+
+    @Param({ "100" })
+    private int documentCount;
+
+    @Param({ "false", "true" })
+    private boolean inferenceCache;
+
+    private Number[][] tensorData;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        tensorData = new Number[documentCount][dimension];
+        for (Number[] data : tensorData) {
+            for (int i = 0; i < dimension; i++) {
+                data[i] = random.nextFloat();
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> buildBoxedDocuments() {
+        return buildDocuments(data -> Arrays.stream(data).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> buildPrimitiveDocuments() {
+        return buildDocuments(FloatVector::of);
+    }
+
+    @Benchmark
+    public long serializeBoxedDocuments() throws IOException {
+        return serialize(buildBoxedDocuments());
+    }
+
+    @Benchmark
+    public long serializePrimitiveDocuments() throws IOException {
+        return serialize(buildPrimitiveDocuments());
+    }
+
+    private List<Map<String, Object>> buildDocuments(final Function<Number[], List<Number>> vectorBuilder) {
+        final List<Map<String, Object>> documents = new ArrayList<>(tensorData.length);
+        for (Number[] data : tensorData) {
+            Object vector = vectorBuilder.apply(data);
+            if (inferenceCache) {
+                // the ingest inference cache copies results when they are cached and when they are served
+                vector = IngestInferenceCache.copyOf(IngestInferenceCache.copyOf(vector));
+            }
+            final Map<String, Object> source = new HashMap<>();
+            source.put(EMBEDDING_FIELD, vector);
+            documents.add(source);
+        }
+        return documents;
+    }
+
+    private static long serialize(final List<Map<String, Object>> documents) throws IOException {
+        long length = 0;
+        for (Map<String, Object> source : documents) {
+            try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                builder.map(source);
+                length += BytesReference.bytes(builder).length();
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.HitQueue;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares collecting the top docs of hybrid sub-queries with {@link HybridTopScoreDocCollector}, which keeps them in primitive
+ * heaps, to collecting them with a {@link ScoreDoc} allocated per competitive hit and a {@link HitQueue} per sub-query, the way
+ * the collector did before. Allocations per operation are reported by the GC profiler:
+ *
+ * ./gradlew :micro-benchmarks:run --args 'HybridTopScoreDocCollectorBenchmarks -prof gc'
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HybridTopScoreDocCollectorBenchmarks {
+    private static final int TOTAL_HITS_UP_TO = 10_000;
+
+    @Param({ "2", "5" })
+    private int subQueryCount;
+
+    @Param({ "100", "1000" })
+    private int numHits;
+
+    @Param({ "1000000" })
+    private int documentCount;
+
+    // share of docs matched by each sub-query, docs that don't match have zero score
+    @Param({ "0.5" })
+    private float matchRatio;
+
+    private float[][] subQueryScores;
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReaderContext leafReaderContext;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Random random = new Random(42);
+        subQueryScores = new float[documentCount][subQueryCount];
+        for (float[] scores : subQueryScores) {
+            for (int i = 0; i < subQueryCount; i++) {
+                scores[i] = random.nextFloat() < matchRatio ? random.nextFloat() * 10 : 0.0f;
+            }
+        }
+        // collectors only need the doc base of the segment, the docs themselves are never read
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            final Document document = new Document();
+            for (int i = 0; i < documentCount; i++) {
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        leafReaderContext = reader.leaves().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public List<TopDocs> collectPrimitiveHeap() throws IOException {
+        final HybridTopScoreDocCollector collector = new HybridTopScoreDocCollector(numHits, new HitsThresholdChecker(TOTAL_HITS_UP_TO));
+        final HybridSubQueryScorer scorer = new HybridSubQueryScorer(subQueryCount);
+        final LeafCollector leafCollector = collector.getLeafCollector(leafReaderContext);
+        leafCollector.setScorer(scorer);
+        for (int doc = 0; doc < documentCount; doc++) {
+            System.arraycopy(subQueryScores[doc], 0, scorer.getSubQueryScores(), 0, subQueryCount);
+            leafCollector.collect(doc);
+        }
+        return collector.topDocs();
+    }
+
+    @Benchmark
+    public List<TopDocs> collectScoreDocAllocation() {
+        final int docBase = leafReaderContext.docBase;
+        final HybridSubQueryScorer scorer = new HybridSubQueryScorer(subQueryCount);
+        final List<HitQueue> queues = new ArrayList<>(subQueryCount);
+        for (int i = 0; i < subQueryCount; i++) {
+            queues.add(new HitQueue(numHits, false));
+        }
+        final int[] collectedHits = new int[subQueryCount];
+        final float[] minScoreThresholds = new float[subQueryCount];
+        Arrays.fill(minScoreThresholds, Float.MIN_VALUE);
+        for (int doc = 0; doc < documentCount; doc++) {
+            System.arraycopy(subQueryScores[doc], 0, scorer.getSubQueryScores(), 0, subQueryCount);
+            final float[] scores = scorer.getSubQueryScores();
+            for (int i = 0; i < subQueryCount; i++) {
+                final float score = scores[i];
+                if (score <= 0 && score < minScoreThresholds[i]) {
+                    continue;
+                }
+                collectedHits[i]++;
+                final ScoreDoc evicted = queues.get(i).insertWithOverflow(new ScoreDoc(doc + docBase, score));
+                if (evicted != null) {
+                    minScoreThresholds[i] = Math.max(minScoreThresholds[i], evicted.score);
+                    scorer.getMinScores()[i] = Math.max(scorer.getMinScores()[i], evicted.score);
+                }
+            }
+        }
+        final List<TopDocs> topDocs = new ArrayList<>(subQueryCount);
+        for (int i = 0; i < subQueryCount; i++) {
+            final HitQueue queue = queues.get(i);
+            final ScoreDoc[] results = new ScoreDoc[Math.min(collectedHits[i], queue.size())];
+            for (int j = results.length - 1; j >= 0; j--) {
+                results[j] = queue.pop();
+            }
+            topDocs.add(new TopDocs(new TotalHits(collectedHits[i], TotalHits.Relation.EQUAL_TO), results));
+        }
+        return topDocs;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.processor.combination.ArithmeticMeanScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.CombineScoresDto;
+import org.opensearch.neuralsearch.processor.combination.GeometricMeanScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.HarmonicMeanScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.RRFScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombinationTechnique;
+import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares combination of normalized scores of hybrid sub-queries by {@link ScoreCombiner}, which keeps doc ids and scores
+ * in primitive arrays, to combination with maps of boxed doc ids the way the combiner did before. Allocations per operation
+ * are reported by the GC profiler:
+ *
+ * ./gradlew :micro-benchmarks:run --args 'ScoreCombinerBenchmarks -prof gc'
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ScoreCombinerBenchmarks {
+    private static final SearchShard SEARCH_SHARD = new SearchShard("index", 0, "node");
+
+    @Param(
+        {
+            ArithmeticMeanScoreCombinationTechnique.TECHNIQUE_NAME,
+            GeometricMeanScoreCombinationTechnique.TECHNIQUE_NAME,
+            HarmonicMeanScoreCombinationTechnique.TECHNIQUE_NAME,
+            RRFScoreCombinationTechnique.TECHNIQUE_NAME }
+    )
+    private String technique;
+
+    // number of hits of every sub-query, same as pagination depth
+    @Param({ "10000", "100000", "1000000" })
+    private int documentCount;
+
+    @Param({ "2" })
+    private int subQueryCount;
+
+    private ScoreCombinationTechnique scoreCombinationTechnique;
+    private List<TopDocs> topDocsPerSubQuery;
+    private ScoreCombiner scoreCombiner;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(42);
+        scoreCombinationTechnique = new ScoreCombinationFactory().createCombination(technique);
+        scoreCombiner = new ScoreCombiner();
+        topDocsPerSubQuery = new ArrayList<>(subQueryCount);
+        for (int i = 0; i < subQueryCount; i++) {
+            // sub-queries match overlapping ranges of docs, scores are normalized and sorted in descending order
+            final int[] docIds = shuffledRange(i * documentCount / 2, documentCount, random);
+            final ScoreDoc[] scoreDocs = new ScoreDoc[documentCount];
+            for (int j = 0; j < documentCount; j++) {
+                scoreDocs[j] = new ScoreDoc(docIds[j], 1.0f - (float) j / documentCount);
+            }
+            topDocsPerSubQuery.add(new TopDocs(new TotalHits(documentCount, TotalHits.Relation.EQUAL_TO), scoreDocs));
+        }
+    }
+
+    /**
+     * Doc ids of a sub-query are unique, same as hits of a query, so they are a shuffled range of consecutive doc ids
+     */
+    private static int[] shuffledRange(final int firstDoc, final int count, final Random random) {
+        final int[] docIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            docIds[i] = firstDoc + i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int docId = docIds[i];
+            docIds[i] = docIds[j];
+            docIds[j] = docId;
+        }
+        return docIds;
+    }
+
+    @Benchmark
+    public List<ScoreDoc> combinePrimitiveArrays() {
+        final CompoundTopDocs compoundTopDocs = new CompoundTopDocs(
+            new TotalHits(documentCount, TotalHits.Relation.EQUAL_TO),
+            topDocsPerSubQuery,
+            false,
+            SEARCH_SHARD
+        );
+        scoreCombiner.combineScores(
+            CombineScoresDto.builder()
+                .queryTopDocs(List.of(compoundTopDocs))
+                .scoreCombinationTechnique(scoreCombinationTechnique)
+                .querySearchResults(List.of())
+                .build()
+        );
+        return compoundTopDocs.getScoreDocs();
+    }
+
+    @Benchmark
+    public List<ScoreDoc> combineBoxedMaps() {
+        final Map<Integer, float[]> normalizedScoresPerDoc = new HashMap<>();
+        for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(j).scoreDocs) {
+                normalizedScoresPerDoc.computeIfAbsent(scoreDoc.doc, key -> new float[topDocsPerSubQuery.size()])[j] = scoreDoc.score;
+            }
+        }
+        final Map<Integer, Float> combinedScoresByDocId = normalizedScoresPerDoc.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        final List<Integer> sortedDocIds = new ArrayList<>(combinedScoresByDocId.keySet());
+        sortedDocIds.sort((a, b) -> Float.compare(combinedScoresByDocId.get(b), combinedScoresByDocId.get(a)));
+        final List<ScoreDoc> scoreDocs = new ArrayList<>();
+        for (int i = 0; i < Math.min(documentCount, sortedDocIds.size()); i++) {
+            final Integer docId = sortedDocIds.get(i);
+            scoreDocs.add(new ScoreDoc(docId, combinedScoresByDocId.get(docId), -1));
+        }
+        return scoreDocs;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
+
+import lombok.NonNull;
+
+/**
+ * Least recently used cache bounded both by the number of entries and by the estimated size of the entries in bytes.
+ * Entries also expire once they have been in the cache longer than the configured time to live.
+ * All operations are guarded by a single lock, critical sections are kept short and only touch the backing map.
+ *
+ * @param <K> type of cache keys, must implement equals and hashCode
+ * @param <V> type of cached values
+ */
+public class BoundedLruCache<K, V> {
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ToLongBiFunction<K, V> weigher;
+    private final LongSupplier nanoTimeSupplier;
+    private final Runnable evictionListener;
+
+    private int maxEntries;
+    private long maxWeightInBytes;
+    private long expireAfterNanos;
+    private long weightInBytes;
+
+    /**
+     * Creates a cache
+     * @param maxEntries maximum number of entries, 0 disables caching
+     * @param maxWeightInBytes maximum total weight of all entries in bytes
+     * @param expireAfterNanos time to live of an entry counted from the moment it was written, non-positive value disables expiration
+     * @param weigher function that estimates the size in bytes of a key-value pair
+     * @param nanoTimeSupplier source of monotonic time in nanoseconds
+     * @param evictionListener callback invoked each time an entry is evicted because of size limits or expiration
+     */
+    public BoundedLruCache(
+        final int maxEntries,
+        final long maxWeightInBytes,
+        final long expireAfterNanos,
+        @NonNull final ToLongBiFunction<K, V> weigher,
+        @NonNull final LongSupplier nanoTimeSupplier,
+        @NonNull final Runnable evictionListener
+    ) {
+        this.maxEntries = maxEntries;
+        this.maxWeightInBytes = maxWeightInBytes;
+        this.expireAfterNanos = expireAfterNanos;
+        this.weigher = weigher;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns the value associated with the key and marks the entry as most recently used
+     * @param key cache key
+     * @return cached value or null if the key is absent or the entry has expired
+     */
+    public V get(@NonNull final K key) {
+        boolean expired = false;
+        V value = null;
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (isExpired(entry, nanoTimeSupplier.getAsLong())) {
+                    entries.remove(key);
+                    weightInBytes -= entry.weightInBytes;
+                    expired = true;
+                } else {
+                    value = entry.value;
+                }
+            }
+        }
+        if (expired) {
+            evictionListener.run();
+        }
+        return value;
+    }
+
+    /**
+     * Associates the value with the key, replacing any previous value, and evicts least recently used entries
+     * until the cache fits its limits again. Values that alone exceed the weight limit are not cached.
+     * @param key cache key
+     * @param value value to cache
+     */
+    public void put(@NonNull final K key, @NonNull final V value) {
+        final long weight = weigher.applyAsLong(key, value);
+        int evicted = 0;
+        synchronized (this) {
+            if (maxEntries <= 0 || weight > maxWeightInBytes) {
+                return;
+            }
+            CacheEntry<V> previous = entries.put(key, new CacheEntry<>(value, weight, nanoTimeSupplier.getAsLong()));
+            if (previous != null) {
+                weightInBytes -= previous.weightInBytes;
+            }
+            weightInBytes += weight;
+            evicted = evictIfNeeded();
+        }
+        notifyEvictions(evicted);
+    }
+
+    /**
+     * Updates the limits of the cache, entries that do not fit the new limits are evicted immediately
+     * @param maxEntries maximum number of entries, 0 disables caching
+     * @param maxWeightInBytes maximum total weight of all entries in bytes
+     * @param expireAfterNanos time to live of an entry, non-positive value disables expiration
+     */
+    public void setLimits(final int maxEntries, final long maxWeightInBytes, final long expireAfterNanos) {
+        int evicted;
+        synchronized (this) {
+            this.maxEntries = maxEntries;
+            this.maxWeightInBytes = maxWeightInBytes;
+            this.expireAfterNanos = expireAfterNanos;
+            evicted = evictIfNeeded();
+        }
+        notifyEvictions(evicted);
+    }
+
+    /**
+     * Removes all entries without counting them as evictions
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weightInBytes = 0;
+    }
+
+    /**
+     * Removes entries with keys that match the predicate without counting them as evictions
+     * @param keyPredicate predicate of keys to remove
+     */
+    public synchronized void invalidateIf(@NonNull final Predicate<K> keyPredicate) {
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+            if (keyPredicate.test(entry.getKey())) {
+                iterator.remove();
+                weightInBytes -= entry.getValue().weightInBytes;
+            }
+        }
+    }
+
+    /**
+     * @return number of entries currently in the cache, including expired entries not yet removed
+     */
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    /**
+     * @return estimated total weight of all entries in bytes
+     */
+    public synchronized long weightInBytes() {
+        return weightInBytes;
+    }
+
+    private int evictIfNeeded() {
+        int evicted = 0;
+        final long now = nanoTimeSupplier.getAsLong();
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        // iteration goes from the least recently used entry to the most recently used one
+        while (iterator.hasNext()) {
+            CacheEntry<V> entry = iterator.next().getValue();
+            boolean overLimit = entries.size() > maxEntries || weightInBytes > maxWeightInBytes;
+            if (overLimit == false && isExpired(entry, now) == false) {
+                break;
+            }
+            iterator.remove();
+            weightInBytes -= entry.weightInBytes;
+            evicted++;
+        }
+        return evicted;
+    }
+
+    private boolean isExpired(final CacheEntry<V> entry, final long now) {
+        return expireAfterNanos > 0 && now - entry.writeTimeNanos >= expireAfterNanos;
+    }
+
+    private void notifyEvictions(final int evicted) {
+        for (int i = 0; i < evicted; i++) {
+            evictionListener.run();
+        }
+    }
+
+    private record CacheEntry<V>(V value, long weightInBytes, long writeTimeNanos) {
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.NonNull;
+
+/**
+ * Singleton node-local cache of hybrid query results collected on shards, used to serve following pages of a paginated
+ * hybrid query without executing its sub-queries again. Entries hold top hits of all sub-queries collected for
+ * pagination_depth and are keyed by the index reader, the shard level query, pagination depth and total hits tracking.
+ * Entries of a reader are dropped once the reader is closed, so results are never served after a refresh. The cache is
+ * bounded by estimated size in bytes and is a no-op until it is initialized and enabled through
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#HYBRID_PAGINATION_CACHE_ENABLED}.
+ */
+public class HybridQueryResultCache {
+    // rough estimate of object headers and references kept per cache entry, and of queries that don't report their size
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 128;
+    private static final long QUERY_DEFAULT_RAM_BYTES_USED = 1024;
+    private static final long SCORE_DOC_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(ScoreDoc.class)
+        + RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+
+    private static HybridQueryResultCache INSTANCE;
+
+    private volatile NeuralSearchSettingsAccessor settingsAccessor;
+    private final BoundedLruCache<CacheKey, List<TopDocsAndMaxScore>> cache = new BoundedLruCache<>(
+        Integer.MAX_VALUE,
+        0,
+        0,
+        HybridQueryResultCache::estimateWeightInBytes,
+        System::nanoTime,
+        () -> {}
+    );
+    // readers that have a listener registered to drop their entries once they are closed
+    private final Set<IndexReader.CacheKey> readerKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns the singleton instance of HybridQueryResultCache.
+     * Creates a new disabled instance if one doesn't exist.
+     *
+     * @return The singleton instance of HybridQueryResultCache
+     */
+    public static HybridQueryResultCache instance() {
+        if (INSTANCE == null) {
+            INSTANCE = new HybridQueryResultCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Initializes the cache limits and the accessor used to check whether the cache is enabled
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        this.settingsAccessor = settingsAccessor;
+        cache.invalidateAll();
+        if (settingsAccessor != null) {
+            updateLimits(settingsAccessor);
+        }
+    }
+
+    /**
+     * Applies the cache limits currently defined in settings
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void updateLimits(@NonNull final NeuralSearchSettingsAccessor settingsAccessor) {
+        cache.setLimits(Integer.MAX_VALUE, settingsAccessor.getHybridPaginationCacheMaxSize().getBytes(), 0);
+    }
+
+    /**
+     * @return true if results of hybrid queries can be cached
+     */
+    public boolean isEnabled() {
+        NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor != null && accessor.isHybridPaginationCacheEnabled();
+    }
+
+    /**
+     * Gets results of the hybrid query cached for the reader
+     * @param key cache key
+     * @return copy of the cached results or null if the cache is disabled or has no entry for the key
+     */
+    public List<TopDocsAndMaxScore> get(@NonNull final CacheKey key) {
+        if (isEnabled() == false) {
+            return null;
+        }
+        List<TopDocsAndMaxScore> results = cache.get(key);
+        EventStatsManager.increment(
+            results == null ? EventStatName.HYBRID_PAGINATION_CACHE_MISSES : EventStatName.HYBRID_PAGINATION_CACHE_HITS
+        );
+        return results == null ? null : copyOf(results);
+    }
+
+    /**
+     * Caches results of the hybrid query collected with the reader
+     * @param readerCacheHelper cache helper of the reader the results were collected with, entries are dropped once it is closed
+     * @param key cache key, must be created for the same reader
+     * @param results results of the hybrid query
+     */
+    public void put(
+        @NonNull final IndexReader.CacheHelper readerCacheHelper,
+        @NonNull final CacheKey key,
+        @NonNull final List<TopDocsAndMaxScore> results
+    ) {
+        if (isEnabled() == false) {
+            return;
+        }
+        if (readerKeys.add(key.readerKey())) {
+            readerCacheHelper.addClosedListener(readerKey -> {
+                readerKeys.remove(readerKey);
+                cache.invalidateIf(cacheKey -> cacheKey.readerKey() == readerKey);
+            });
+        }
+        cache.put(key, copyOf(results));
+    }
+
+    /**
+     * Removes all cached results
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @VisibleForTesting
+    int count() {
+        return cache.count();
+    }
+
+    /**
+     * Score docs of results are modified by the search workflow after the query phase, every caller gets its own copy
+     */
+    private static List<TopDocsAndMaxScore> copyOf(final List<TopDocsAndMaxScore> results) {
+        List<TopDocsAndMaxScore> copy = new ArrayList<>(results.size());
+        for (TopDocsAndMaxScore topDocsAndMaxScore : results) {
+            ScoreDoc[] scoreDocs = new ScoreDoc[topDocsAndMaxScore.topDocs.scoreDocs.length];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocsAndMaxScore.topDocs.scoreDocs[i];
+                scoreDocs[i] = new ScoreDoc(scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex);
+            }
+            copy.add(new TopDocsAndMaxScore(new TopDocs(topDocsAndMaxScore.topDocs.totalHits, scoreDocs), topDocsAndMaxScore.maxScore));
+        }
+        return copy;
+    }
+
+    private static long estimateWeightInBytes(final CacheKey key, final List<TopDocsAndMaxScore> results) {
+        long weight = ENTRY_OVERHEAD_IN_BYTES;
+        weight += key.query() instanceof Accountable accountable ? accountable.ramBytesUsed() : QUERY_DEFAULT_RAM_BYTES_USED;
+        for (TopDocsAndMaxScore topDocsAndMaxScore : results) {
+            weight += RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + SCORE_DOC_RAM_BYTES_USED * topDocsAndMaxScore.topDocs.scoreDocs.length;
+        }
+        return weight;
+    }
+
+    /**
+     * Key of cached results of a hybrid query on a shard
+     * @param readerKey key of the index reader the results were collected with
+     * @param query shard level query that contains the hybrid query
+     * @param paginationDepth number of hits collected for each sub-query
+     * @param trackTotalHitsUpTo number of hits that are counted accurately
+     */
+    public record CacheKey(IndexReader.CacheKey readerKey, Query query, int paginationDepth, int trackTotalHitsUpTo) {
+    }
+}
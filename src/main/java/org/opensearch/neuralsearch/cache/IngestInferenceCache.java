@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.neuralsearch.common.FloatVector;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.NonNull;
+
+/**
+ * Singleton node-local cache of inference results produced during ingestion. Entries are keyed by model id, type of the
+ * result and a 128-bit hash of the input text, so repeated texts such as boilerplate paragraphs, chunk overlaps or templated
+ * titles are sent to the model only once across documents and batches. The cache is bounded by number of entries, estimated
+ * size in bytes and time to live, and is a no-op until it is initialized and enabled through
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#INGEST_INFERENCE_CACHE_ENABLED}.
+ */
+public class IngestInferenceCache {
+    // rough estimate of object headers, references and boxed values kept per cache entry, per vector element and per sparse token
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 128;
+    private static final long LIST_ELEMENT_OVERHEAD_IN_BYTES = 24;
+    private static final long SPARSE_TOKEN_OVERHEAD_IN_BYTES = 64;
+    private static final long TEXT_HASH_SEED = 0;
+
+    private static IngestInferenceCache INSTANCE;
+
+    private volatile NeuralSearchSettingsAccessor settingsAccessor;
+    private final BoundedLruCache<CacheKey, Object> cache = new BoundedLruCache<>(
+        0,
+        0,
+        0,
+        IngestInferenceCache::estimateWeightInBytes,
+        System::nanoTime,
+        () -> EventStatsManager.increment(EventStatName.INGEST_INFERENCE_CACHE_EVICTIONS)
+    );
+
+    /**
+     * Returns the singleton instance of IngestInferenceCache.
+     * Creates a new disabled instance if one doesn't exist.
+     *
+     * @return The singleton instance of IngestInferenceCache
+     */
+    public static IngestInferenceCache instance() {
+        if (INSTANCE == null) {
+            INSTANCE = new IngestInferenceCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Initializes the cache limits and the accessor used to check whether the cache is enabled
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        this.settingsAccessor = settingsAccessor;
+        cache.invalidateAll();
+        if (settingsAccessor != null) {
+            updateLimits(settingsAccessor);
+        }
+    }
+
+    /**
+     * Applies the cache limits currently defined in settings
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void updateLimits(@NonNull final NeuralSearchSettingsAccessor settingsAccessor) {
+        cache.setLimits(
+            settingsAccessor.getIngestInferenceCacheMaxEntries(),
+            settingsAccessor.getIngestInferenceCacheMaxSize().getBytes(),
+            settingsAccessor.getIngestInferenceCacheExpireAfter().nanos()
+        );
+    }
+
+    /**
+     * @param modelId id of the model
+     * @return true if inference results of the model can be cached
+     */
+    public boolean isEnabled(final String modelId) {
+        NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return modelId != null && accessor != null && accessor.isIngestInferenceCacheEnabled();
+    }
+
+    /**
+     * Gets the inference result cached for the model and text
+     * @param modelId id of the model that produced the result
+     * @param resultType type of the result, results of the same model that are post-processed differently must use different types
+     * @param text input text
+     * @return copy of the cached result or null if the cache is disabled or has no entry for the text
+     */
+    public Object get(final String modelId, @NonNull final String resultType, @NonNull final String text) {
+        if (isEnabled(modelId) == false) {
+            return null;
+        }
+        Object result = cache.get(createKey(modelId, resultType, text));
+        EventStatsManager.increment(
+            result == null ? EventStatName.INGEST_INFERENCE_CACHE_MISSES : EventStatName.INGEST_INFERENCE_CACHE_HITS
+        );
+        return copyOf(result);
+    }
+
+    /**
+     * Caches the inference result produced by the model for the text. Only lists and maps are cached.
+     * @param modelId id of the model that produced the result
+     * @param resultType type of the result, results of the same model that are post-processed differently must use different types
+     * @param text input text
+     * @param result inference result
+     */
+    public void put(final String modelId, @NonNull final String resultType, @NonNull final String text, final Object result) {
+        if (isEnabled(modelId) == false || (result instanceof List<?> == false && result instanceof Map<?, ?> == false)) {
+            return;
+        }
+        cache.put(createKey(modelId, resultType, text), copyOf(result));
+    }
+
+    /**
+     * Records an inference avoided because the same text appears more than once in a batch, it is reported as a cache hit
+     */
+    public void recordDuplicateText() {
+        EventStatsManager.increment(EventStatName.INGEST_INFERENCE_CACHE_HITS);
+    }
+
+    /**
+     * Removes all cached inference results
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Creates a shallow copy of a list or map inference result so documents never share mutable result instances
+     * @param result inference result
+     * @return copy of the result, or the result itself if it is neither a list nor a map
+     */
+    public static Object copyOf(final Object result) {
+        if (result instanceof FloatVector vector) {
+            return vector.copy();
+        }
+        if (result instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        if (result instanceof Map<?, ?> map) {
+            return new HashMap<>(map);
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    int count() {
+        return cache.count();
+    }
+
+    private static CacheKey createKey(final String modelId, final String resultType, final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, TEXT_HASH_SEED, new MurmurHash3.Hash128());
+        return new CacheKey(modelId, resultType, hash.h1, hash.h2, text.length());
+    }
+
+    private static long estimateWeightInBytes(final CacheKey key, final Object value) {
+        long weight = ENTRY_OVERHEAD_IN_BYTES + 2L * key.modelId().length() + 2L * key.resultType().length();
+        if (value instanceof FloatVector vector) {
+            weight += (long) Float.BYTES * vector.size();
+        } else if (value instanceof List<?> list) {
+            weight += LIST_ELEMENT_OVERHEAD_IN_BYTES * list.size();
+        } else if (value instanceof Map<?, ?> map) {
+            for (Object token : map.keySet()) {
+                weight += SPARSE_TOKEN_OVERHEAD_IN_BYTES + (token instanceof String tokenString ? 2L * tokenString.length() : 0);
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Texts are identified by their hash and length instead of their content to bound the size of the keys
+     */
+    private record CacheKey(String modelId, String resultType, long textHashHigh, long textHashLow, int textLength) {
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.NonNull;
+
+/**
+ * Singleton node-local cache of query embeddings produced by ml-commons for neural and neural_sparse queries.
+ * Entries are keyed by model id, type of the embedding, query text and hash of the query image, and bounded by
+ * number of entries, estimated size in bytes and time to live. The cache is a no-op until it is initialized and
+ * enabled through {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#QUERY_INFERENCE_CACHE_ENABLED}.
+ */
+public class QueryInferenceCache {
+    // rough estimate of object headers, references and boxed values kept per cache entry and per sparse token
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 96;
+    private static final long SPARSE_TOKEN_OVERHEAD_IN_BYTES = 64;
+
+    private static QueryInferenceCache INSTANCE;
+
+    private volatile NeuralSearchSettingsAccessor settingsAccessor;
+    private final BoundedLruCache<CacheKey, Object> cache = new BoundedLruCache<>(
+        0,
+        0,
+        0,
+        QueryInferenceCache::estimateWeightInBytes,
+        System::nanoTime,
+        () -> EventStatsManager.increment(EventStatName.QUERY_INFERENCE_CACHE_EVICTIONS)
+    );
+
+    /**
+     * Returns the singleton instance of QueryInferenceCache.
+     * Creates a new disabled instance if one doesn't exist.
+     *
+     * @return The singleton instance of QueryInferenceCache
+     */
+    public static QueryInferenceCache instance() {
+        if (INSTANCE == null) {
+            INSTANCE = new QueryInferenceCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Initializes the cache limits and the accessor used to check whether the cache is enabled
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        this.settingsAccessor = settingsAccessor;
+        cache.invalidateAll();
+        if (settingsAccessor != null) {
+            updateLimits(settingsAccessor);
+        }
+    }
+
+    /**
+     * Applies the cache limits currently defined in settings
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void updateLimits(@NonNull final NeuralSearchSettingsAccessor settingsAccessor) {
+        cache.setLimits(
+            settingsAccessor.getQueryInferenceCacheMaxEntries(),
+            settingsAccessor.getQueryInferenceCacheMaxSize().getBytes(),
+            settingsAccessor.getQueryInferenceCacheExpireAfter().nanos()
+        );
+    }
+
+    /**
+     * Gets the dense vector cached for the model and query input
+     * @param modelId id of the model that produced the vector
+     * @param queryText query text, can be null
+     * @param queryImage base64 encoded query image, can be null
+     * @return copy of the cached vector or null if the cache is disabled or has no entry for the input
+     */
+    public float[] getDenseVector(final String modelId, final String queryText, final String queryImage) {
+        if (isEnabled(modelId) == false) {
+            return null;
+        }
+        float[] vector = (float[]) lookup(new CacheKey(modelId, EmbeddingType.DENSE, queryText, hashImage(queryImage)));
+        return vector == null ? null : vector.clone();
+    }
+
+    /**
+     * Caches the dense vector produced by the model for the query input
+     * @param modelId id of the model that produced the vector
+     * @param queryText query text, can be null
+     * @param queryImage base64 encoded query image, can be null
+     * @param vector dense vector produced by the model
+     */
+    public void putDenseVector(final String modelId, final String queryText, final String queryImage, final float[] vector) {
+        if (isEnabled(modelId) == false || vector == null) {
+            return;
+        }
+        cache.put(new CacheKey(modelId, EmbeddingType.DENSE, queryText, hashImage(queryImage)), vector.clone());
+    }
+
+    /**
+     * Gets the sparse vector cached for the model and query text
+     * @param modelId id of the model that produced the query tokens
+     * @param queryText query text
+     * @return copy of the cached query tokens or null if the cache is disabled or has no entry for the input
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Float> getSparseVector(final String modelId, final String queryText) {
+        if (isEnabled(modelId) == false) {
+            return null;
+        }
+        Map<String, Float> queryTokens = (Map<String, Float>) lookup(new CacheKey(modelId, EmbeddingType.SPARSE, queryText, null));
+        return queryTokens == null ? null : new HashMap<>(queryTokens);
+    }
+
+    /**
+     * Caches the sparse vector produced by the model for the query text
+     * @param modelId id of the model that produced the query tokens
+     * @param queryText query text
+     * @param queryTokens query tokens with their weights
+     */
+    public void putSparseVector(final String modelId, final String queryText, final Map<String, Float> queryTokens) {
+        if (isEnabled(modelId) == false || queryTokens == null) {
+            return;
+        }
+        cache.put(new CacheKey(modelId, EmbeddingType.SPARSE, queryText, null), Map.copyOf(queryTokens));
+    }
+
+    /**
+     * Removes all cached embeddings
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @VisibleForTesting
+    int count() {
+        return cache.count();
+    }
+
+    private boolean isEnabled(final String modelId) {
+        NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return modelId != null && accessor != null && accessor.isQueryInferenceCacheEnabled();
+    }
+
+    private Object lookup(final CacheKey key) {
+        Object value = cache.get(key);
+        EventStatsManager.increment(value == null ? EventStatName.QUERY_INFERENCE_CACHE_MISSES : EventStatName.QUERY_INFERENCE_CACHE_HITS);
+        return value;
+    }
+
+    /**
+     * Images are usually large base64 strings, we keep only their digest in the key to bound the key size
+     */
+    private static String hashImage(final String queryImage) {
+        if (StringUtils.isBlank(queryImage)) {
+            return null;
+        }
+        return MessageDigests.toHexString(MessageDigests.sha256().digest(queryImage.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long estimateWeightInBytes(final CacheKey key, final Object value) {
+        long weight = ENTRY_OVERHEAD_IN_BYTES + sizeOf(key.modelId()) + sizeOf(key.queryText()) + sizeOf(key.queryImageHash());
+        if (value instanceof float[] vector) {
+            weight += (long) Float.BYTES * vector.length;
+        } else if (value instanceof Map<?, ?> queryTokens) {
+            for (String token : ((Map<String, Float>) queryTokens).keySet()) {
+                weight += SPARSE_TOKEN_OVERHEAD_IN_BYTES + sizeOf(token);
+            }
+        }
+        return weight;
+    }
+
+    private static long sizeOf(final String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private enum EmbeddingType {
+        DENSE,
+        SPARSE
+    }
+
+    private record CacheKey(String modelId, EmbeddingType embeddingType, String queryText, String queryImageHash) {
+    }
+}
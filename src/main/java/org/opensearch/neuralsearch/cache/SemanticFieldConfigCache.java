@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.index.Index;
+import org.opensearch.neuralsearch.query.dto.NeuralQueryTargetFieldConfig;
+import org.opensearch.neuralsearch.util.SemanticMappingUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.NonNull;
+
+/**
+ * Singleton node-local cache of target field configs of neural queries resolved from index mappings. Entries are keyed by
+ * index (name and uuid), mapping version of the index and path of the target field, so a config is never served for a
+ * mapping it was not resolved from. Configs of an index are dropped by the cluster state listener once the index is
+ * deleted or its mapping version changes. The cache is a no-op until it is initialized with the cluster service, and
+ * mappings are parsed on every call in that case.
+ */
+public class SemanticFieldConfigCache implements ClusterStateListener {
+    private static SemanticFieldConfigCache INSTANCE;
+
+    private volatile boolean initialized;
+    private final Map<Index, IndexFieldConfigs> fieldConfigsByIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the singleton instance of SemanticFieldConfigCache.
+     * Creates a new not initialized instance if one doesn't exist.
+     *
+     * @return The singleton instance of SemanticFieldConfigCache
+     */
+    public static SemanticFieldConfigCache instance() {
+        if (INSTANCE == null) {
+            INSTANCE = new SemanticFieldConfigCache();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the cache as a listener of cluster state changes and enables caching
+     * @param clusterService cluster service of the node
+     */
+    public void initialize(@NonNull final ClusterService clusterService) {
+        fieldConfigsByIndex.clear();
+        clusterService.addListener(this);
+        initialized = true;
+    }
+
+    /**
+     * Resolve target field configs of the field for every index
+     * @param fieldName full path to the target field
+     * @param targetIndexMetadataList target index metadata
+     * @return index to target field config map
+     */
+    public Map<String, NeuralQueryTargetFieldConfig> getIndexToTargetFieldConfigMap(
+        @NonNull final String fieldName,
+        @NonNull final List<IndexMetadata> targetIndexMetadataList
+    ) {
+        final Map<String, NeuralQueryTargetFieldConfig> indexToTargetFieldConfigMap = new HashMap<>();
+        for (IndexMetadata indexMetadata : targetIndexMetadataList) {
+            if (indexMetadata == null) {
+                continue;
+            }
+            indexToTargetFieldConfigMap.put(indexMetadata.getIndex().toString(), getTargetFieldConfig(fieldName, indexMetadata));
+        }
+        return indexToTargetFieldConfigMap;
+    }
+
+    /**
+     * Resolve target field config of the field from the mapping of the index, the mapping is parsed only if there is no
+     * config for the current mapping version of the index
+     * @param fieldName full path to the target field
+     * @param indexMetadata metadata of the target index
+     * @return target field config
+     */
+    public NeuralQueryTargetFieldConfig getTargetFieldConfig(@NonNull final String fieldName, @NonNull final IndexMetadata indexMetadata) {
+        // an index without uuid can't be told apart from another index with the same name
+        if (initialized == false || IndexMetadata.INDEX_UUID_NA_VALUE.equals(indexMetadata.getIndexUUID())) {
+            return SemanticMappingUtils.getTargetFieldConfigFromIndexMetadata(fieldName, indexMetadata);
+        }
+        final long mappingVersion = indexMetadata.getMappingVersion();
+        final IndexFieldConfigs indexFieldConfigs = fieldConfigsByIndex.compute(
+            indexMetadata.getIndex(),
+            (index, cached) -> cached != null && cached.mappingVersion() >= mappingVersion
+                ? cached
+                : new IndexFieldConfigs(mappingVersion, new ConcurrentHashMap<>())
+        );
+        if (indexFieldConfigs.mappingVersion() != mappingVersion) {
+            // the request resolved an older state of the index than the one that is cached
+            return SemanticMappingUtils.getTargetFieldConfigFromIndexMetadata(fieldName, indexMetadata);
+        }
+        // invalid mappings throw and are not cached
+        return indexFieldConfigs.configsByFieldName()
+            .computeIfAbsent(fieldName, name -> SemanticMappingUtils.getTargetFieldConfigFromIndexMetadata(name, indexMetadata));
+    }
+
+    /**
+     * Drop configs of indices that were deleted or have a new mapping
+     * @param event cluster changed event
+     */
+    @Override
+    public void clusterChanged(final ClusterChangedEvent event) {
+        if (fieldConfigsByIndex.isEmpty() || event.metadataChanged() == false) {
+            return;
+        }
+        final Metadata metadata = event.state().metadata();
+        fieldConfigsByIndex.entrySet().removeIf(entry -> {
+            // lookup by index checks the uuid, a re-created index with the same name doesn't match
+            final IndexMetadata indexMetadata = metadata.index(entry.getKey());
+            return indexMetadata == null || indexMetadata.getMappingVersion() != entry.getValue().mappingVersion();
+        });
+    }
+
+    /**
+     * Removes all cached configs
+     */
+    public void invalidateAll() {
+        fieldConfigsByIndex.clear();
+    }
+
+    @VisibleForTesting
+    int count() {
+        return fieldConfigsByIndex.values().stream().mapToInt(indexFieldConfigs -> indexFieldConfigs.configsByFieldName().size()).sum();
+    }
+
+    private record IndexFieldConfigs(long mappingVersion, Map<String, NeuralQueryTargetFieldConfig> configsByFieldName) {
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import lombok.NonNull;
+
+/**
+ * List backed by a primitive float array. Dense embeddings are kept in this form from model output until they are written to
+ * the document source, which takes four bytes per dimension instead of a reference and a boxed {@link Float}. Elements are
+ * boxed only when they are read through the {@link java.util.List} interface. The list can be modified like any other list
+ * of the ingest document, e.g. by scripts or by processors that merge results into the same field, as long as the elements
+ * are numbers. It must be copied with {@link #copy()} before it is shared by several documents or by caches.
+ */
+public final class FloatVector extends AbstractList<Number> implements RandomAccess {
+    private float[] values;
+    private int size;
+
+    private FloatVector(final float[] values) {
+        this.values = values;
+        this.size = values.length;
+    }
+
+    /**
+     * Creates a vector from values of float precision, values of other types are narrowed to float, e.g. doubles lose
+     * precision beyond float
+     * @param values vector values
+     * @return vector holding a primitive copy of the values
+     */
+    public static FloatVector of(@NonNull final Number[] values) {
+        final float[] floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = values[i].floatValue();
+        }
+        return new FloatVector(floats);
+    }
+
+    /**
+     * Creates a vector that takes ownership of the array, the array must not be modified afterwards
+     * @param values vector values
+     * @return vector backed by the array
+     */
+    public static FloatVector wrap(@NonNull final float[] values) {
+        return new FloatVector(values);
+    }
+
+    @Override
+    public Float get(final int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * @param index index of the element
+     * @return element at the index without boxing it
+     */
+    public float getFloat(final int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    @Override
+    public Float set(final int index, @NonNull final Number element) {
+        Objects.checkIndex(index, size);
+        final float previous = values[index];
+        values[index] = element.floatValue();
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, @NonNull final Number element) {
+        Objects.checkIndex(index, size + 1);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = element.floatValue();
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Float remove(final int index) {
+        Objects.checkIndex(index, size);
+        final float previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return copy of the values as a primitive array
+     */
+    public float[] toFloatArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @return vector backed by a copy of the values
+     */
+    public FloatVector copy() {
+        return new FloatVector(toFloatArray());
+    }
+}
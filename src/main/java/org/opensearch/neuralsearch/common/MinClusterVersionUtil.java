@@ -28,6 +28,8 @@ public final class MinClusterVersionUtil {
     private static final Version MINIMAL_SUPPORTED_VERSION_NEURAL_ORIGINAL_QUERY_TEXT = Version.V_3_0_0;
     public static final Version MINIMAL_SUPPORTED_VERSION_SEMANTIC_FIELD = Version.V_3_1_0;
     public static final Version MINIMAL_SUPPORTED_VERSION_STATS_CATEGORY_FILTERING = Version.V_3_1_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_SUB_QUERY_TIMEOUT_IN_HYBRID_QUERY = Version.V_3_1_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FILTER_IN_HYBRID_QUERY = Version.V_3_1_0;
 
     // Note this minimal version will act as an override
     private static final Map<String, Version> MINIMAL_VERSION_NEURAL = ImmutableMap.<String, Version>builder()
@@ -49,6 +51,16 @@ public final class MinClusterVersionUtil {
         return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_PAGINATION_IN_HYBRID_QUERY);
     }
 
+    public static boolean isClusterOnOrAfterMinReqVersionForSubQueryTimeoutInHybridQuery() {
+        return NeuralSearchClusterUtil.instance()
+            .getClusterMinVersion()
+            .onOrAfter(MINIMAL_SUPPORTED_VERSION_SUB_QUERY_TIMEOUT_IN_HYBRID_QUERY);
+    }
+
+    public static boolean isClusterOnOrAfterMinReqVersionForFilterInHybridQuery() {
+        return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FILTER_IN_HYBRID_QUERY);
+    }
+
     public static boolean isClusterOnOrAfterMinReqVersionForStatCategoryFiltering() {
         return NeuralSearchClusterUtil.instance().getClusterMinVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_STATS_CATEGORY_FILTERING);
     }
@@ -22,6 +22,9 @@ public class VectorUtil {
      * @return array of floats produced from input list
      */
     public static float[] vectorAsListToArray(List<Number> vectorAsList) {
+        if (vectorAsList instanceof FloatVector floatVector) {
+            return floatVector.toFloatArray();
+        }
         float[] vector = new float[vectorAsList.size()];
         for (int i = 0; i < vectorAsList.size(); i++) {
             vector[i] = vectorAsList.get(i).floatValue();
@@ -10,6 +10,7 @@ import lombok.experimental.PackagePrivate;
 import org.apache.lucene.search.TaskExecutor;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
@@ -29,6 +30,7 @@ public final class HybridQueryExecutor {
     private static final Integer MIN_THREAD_SIZE = 2;
     private static final Integer PROCESSOR_COUNT_MULTIPLIER = 2;
     private static TaskExecutor taskExecutor;
+    private static volatile NeuralSearchSettingsAccessor settingsAccessor;
 
     /**
      * Provide fixed executor builder to use for hybrid query executors
@@ -50,14 +52,34 @@ public final class HybridQueryExecutor {
     /**
      * Initialize @{@link TaskExecutor} to run tasks concurrently using {@link ThreadPool}
      * @param threadPool OpenSearch's thread pool instance
+     * @param settingsAccessor settings accessor singleton instance
      */
-    public static void initialize(ThreadPool threadPool) {
+    public static void initialize(ThreadPool threadPool, NeuralSearchSettingsAccessor settingsAccessor) {
         if (threadPool == null) {
             throw new IllegalArgumentException(
                 "Argument thread-pool to Hybrid Query Executor cannot be null. This is required to build executor to run actions in parallel"
             );
         }
         taskExecutor = new TaskExecutor(threadPool.executor(HYBRID_QUERY_EXEC_THREAD_POOL_NAME));
+        HybridQueryExecutor.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Check if sub-queries of hybrid query are scored concurrently within a segment
+     * @return true if scoring of sub-queries runs on the hybrid query executor
+     */
+    public static boolean isConcurrentSubQueryScoringEnabled() {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor != null && accessor.isHybridConcurrentSubQueryScoringEnabled();
+    }
+
+    /**
+     * Get minimum number of hits of hybrid sub-queries combined by a single task on the coordinator node
+     * @return minimum number of hits per task, 0 if combination runs on the calling thread
+     */
+    public static int getParallelCombinationMinHitsPerTask() {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor != null ? accessor.getHybridParallelCombinationMinHitsPerTask() : 0;
     }
 
     /**
@@ -48,6 +48,11 @@ public class SemanticHighlighter implements Highlighter {
             throw new IllegalStateException("SemanticHighlighter has not been initialized");
         }
 
+        // inference of every hit is sent at once by the semantic highlighting search response processor
+        if (semanticHighlighterEngine.isBatchInference(fieldContext.field.fieldOptions().options())) {
+            return null;
+        }
+
         EventStatsManager.increment(EventStatName.SEMANTIC_HIGHLIGHTING_REQUEST_COUNT);
 
         // Extract field text
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.highlight;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.search.Query;
 import org.opensearch.OpenSearchException;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.highlight.SentenceHighlightingRequest;
 import org.opensearch.search.fetch.subphase.highlight.FieldHighlightContext;
@@ -28,6 +29,7 @@ import java.util.Objects;
 @Builder
 public class SemanticHighlighterEngine {
     private static final String MODEL_ID_FIELD = "model_id";
+    private static final String BATCH_INFERENCE_FIELD = "batch_inference";
     private static final String MODEL_INFERENCE_RESULT_KEY = "highlights";
     private static final String MODEL_INFERENCE_RESULT_START_KEY = "start";
     private static final String MODEL_INFERENCE_RESULT_END_KEY = "end";
@@ -105,6 +107,32 @@ public class SemanticHighlighterEngine {
         return (String) modelId;
     }
 
+    /**
+     * Checks whether highlighting is deferred from the fetch phase to the semantic highlighting search response processor,
+     * which sends the inference of all hits of the response concurrently. The processor has to be in the search pipeline of
+     * the request, requests without it are rejected.
+     *
+     * @param options The options map
+     * @return true if batch_inference is enabled in the options
+     */
+    public boolean isBatchInference(Map<String, Object> options) {
+        Object batchInference = options == null ? null : options.get(BATCH_INFERENCE_FIELD);
+        if (batchInference == null) {
+            return false;
+        }
+        if (batchInference instanceof Boolean == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "%s must be a boolean, but was %s",
+                    BATCH_INFERENCE_FIELD,
+                    batchInference.getClass().getSimpleName()
+                )
+            );
+        }
+        return (Boolean) batchInference;
+    }
+
     /**
      * Gets highlighted text from the ML model
      *
@@ -135,31 +163,73 @@ public class SemanticHighlighterEngine {
     public List<Map<String, Object>> fetchModelResults(String modelId, String question, String context) {
         PlainActionFuture<List<Map<String, Object>>> future = PlainActionFuture.newFuture();
 
-        SentenceHighlightingRequest request = SentenceHighlightingRequest.builder()
-            .modelId(modelId)
-            .question(question)
-            .context(context)
-            .build();
-
-        mlCommonsClient.inferenceSentenceHighlighting(request, future);
+        mlCommonsClient.inferenceSentenceHighlighting(createRequest(modelId, question, context), future);
 
         try {
             return future.actionGet();
         } catch (Exception e) {
-            log.error(
-                "Error during sentence highlighting inference - modelId: [{}], question: [{}], context: [{}]",
-                modelId,
-                question,
-                context,
-                e
-            );
-            throw new OpenSearchException(
-                String.format(Locale.ROOT, "Error during sentence highlighting inference from model [%s]", modelId),
-                e
-            );
+            throw toInferenceException(modelId, question, context, e);
         }
     }
 
+    /**
+     * Gets highlighted text from the ML model without blocking the calling thread
+     *
+     * @param modelId The ID of the model to use
+     * @param question The search query
+     * @param context The document text
+     * @param preTag The pre tag to use for highlighting
+     * @param postTag The post tag to use for highlighting
+     * @param listener The listener called with the formatted text with highlighting, or null if the model returned no result
+     */
+    public void getHighlightedSentences(
+        String modelId,
+        String question,
+        String context,
+        String preTag,
+        String postTag,
+        ActionListener<String> listener
+    ) {
+        mlCommonsClient.inferenceSentenceHighlighting(createRequest(modelId, question, context), new ActionListener<>() {
+            @Override
+            public void onResponse(List<Map<String, Object>> results) {
+                String highlightedText;
+                try {
+                    highlightedText = results == null || results.isEmpty()
+                        ? null
+                        : applyHighlighting(context, results.getFirst(), preTag, postTag);
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                    return;
+                }
+                listener.onResponse(highlightedText);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                listener.onFailure(toInferenceException(modelId, question, context, e));
+            }
+        });
+    }
+
+    private SentenceHighlightingRequest createRequest(String modelId, String question, String context) {
+        return SentenceHighlightingRequest.builder().modelId(modelId).question(question).context(context).build();
+    }
+
+    private OpenSearchException toInferenceException(String modelId, String question, String context, Exception e) {
+        log.error(
+            "Error during sentence highlighting inference - modelId: [{}], question: [{}], context: [{}]",
+            modelId,
+            question,
+            context,
+            e
+        );
+        return new OpenSearchException(
+            String.format(Locale.ROOT, "Error during sentence highlighting inference from model [%s]", modelId),
+            e
+        );
+    }
+
     /**
      * Applies highlighting to the original context based on the ML model response
      *
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.highlight.extractor;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.MatchQueryBuilder;
+import org.opensearch.index.query.NestedQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Extracts the query text for highlighting from a query builder of the search request. It is used where the rewritten
+ * Lucene query is not available, such as in search response processors on the coordinator node, and extracts the same
+ * text as the {@link QueryTextExtractorRegistry} extracts from the Lucene query in the fetch phase.
+ */
+@Log4j2
+public class QueryBuilderTextExtractor {
+
+    /**
+     * Extracts text from a query builder for highlighting
+     *
+     * @param queryBuilder The query builder to extract text from
+     * @param fieldName The name of the field being highlighted
+     * @return The extracted query text, or null if the query type is not supported
+     */
+    public String extractQueryText(QueryBuilder queryBuilder, String fieldName) {
+        if (queryBuilder == null) {
+            log.warn("Cannot extract text from null query builder");
+            return null;
+        }
+        if (queryBuilder instanceof NeuralQueryBuilder neuralQueryBuilder) {
+            return neuralQueryBuilder.queryText();
+        }
+        if (queryBuilder instanceof TermQueryBuilder termQueryBuilder) {
+            // Only include terms from the field we're highlighting
+            return fieldName.equals(termQueryBuilder.fieldName()) ? String.valueOf(termQueryBuilder.value()) : "";
+        }
+        if (queryBuilder instanceof MatchQueryBuilder matchQueryBuilder) {
+            return fieldName.equals(matchQueryBuilder.fieldName()) ? String.valueOf(matchQueryBuilder.value()) : "";
+        }
+        if (queryBuilder instanceof NestedQueryBuilder nestedQueryBuilder) {
+            return extractQueryText(nestedQueryBuilder.query(), fieldName);
+        }
+        if (queryBuilder instanceof HybridQueryBuilder hybridQueryBuilder) {
+            // Create a set to avoid duplicates
+            return joinQueryTexts(hybridQueryBuilder.queries(), fieldName, new LinkedHashSet<>());
+        }
+        if (queryBuilder instanceof BoolQueryBuilder boolQueryBuilder) {
+            // must_not clauses represent negative terms and are skipped
+            List<QueryBuilder> clauses = new ArrayList<>(boolQueryBuilder.must());
+            clauses.addAll(boolQueryBuilder.should());
+            clauses.addAll(boolQueryBuilder.filter());
+            return joinQueryTexts(clauses, fieldName, new ArrayList<>());
+        }
+        log.warn("No extractor found for query builder type: {}", queryBuilder.getClass().getName());
+        return null;
+    }
+
+    private String joinQueryTexts(List<QueryBuilder> queryBuilders, String fieldName, Collection<String> queryTexts) {
+        for (QueryBuilder queryBuilder : queryBuilders) {
+            String queryText = extractQueryText(queryBuilder, fieldName);
+            if (queryText != null && queryText.isEmpty() == false) {
+                queryTexts.add(queryText);
+            }
+        }
+        return String.join(" ", queryTexts).trim();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Singleton that coalesces concurrent single-text inference requests targeting the same model into a single batched predict
+ * call. Requests with more than one input text are already batched by their callers and are dispatched right away.
+ * Requests are gathered per {@link BatchKey} until the batch reaches the configured maximum number of input texts or the
+ * coalescing window elapses, then the batch is dispatched once and the results are fanned back to every request listener
+ * in the order of its input texts. Coalescing is a pass-through until the coalescer is initialized and enabled through
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#INFERENCE_COALESCING_ENABLED}.
+ */
+@Log4j2
+public class InferenceRequestCoalescer {
+    private static InferenceRequestCoalescer INSTANCE;
+
+    private final Map<BatchKey, PendingBatch<?>> pendingBatches = new HashMap<>();
+    private volatile ThreadPool threadPool;
+    private volatile NeuralSearchSettingsAccessor settingsAccessor;
+
+    /**
+     * Returns the singleton instance of InferenceRequestCoalescer.
+     * Creates a new pass-through instance if one doesn't exist.
+     *
+     * @return The singleton instance of InferenceRequestCoalescer
+     */
+    public static InferenceRequestCoalescer instance() {
+        if (INSTANCE == null) {
+            INSTANCE = new InferenceRequestCoalescer();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Initializes the thread pool used to flush batches after the coalescing window and the accessor of coalescing settings
+     * @param threadPool OpenSearch's thread pool instance
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public void initialize(final ThreadPool threadPool, final NeuralSearchSettingsAccessor settingsAccessor) {
+        this.threadPool = threadPool;
+        this.settingsAccessor = settingsAccessor;
+        synchronized (pendingBatches) {
+            pendingBatches.clear();
+        }
+    }
+
+    /**
+     * Submits an inference request. The request is either added to the pending batch of its key or, when coalescing is
+     * disabled or the request has more than one input text, dispatched right away.
+     *
+     * @param batchKey key of the batch, only requests that can be sent in one predict call must share it
+     * @param inputTexts input texts of the request
+     * @param listener listener of the request, receives one result per input text
+     * @param dispatcher sends a predict call for the given input texts
+     * @param resultSplitter converts the result of a coalesced predict call into one result per input text, it receives
+     *                       the raw result and the total number of input texts of the batch
+     * @param <T> type of a result of a single input text
+     */
+    public <T> void submit(
+        @NonNull final BatchKey batchKey,
+        @NonNull final List<String> inputTexts,
+        @NonNull final ActionListener<List<T>> listener,
+        @NonNull final BiConsumer<List<String>, ActionListener<List<T>>> dispatcher,
+        @NonNull final BiFunction<List<T>, Integer, List<T>> resultSplitter
+    ) {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        final ThreadPool currentThreadPool = threadPool;
+        if (accessor == null
+            || currentThreadPool == null
+            || accessor.isInferenceCoalescingEnabled() == false
+            || accessor.getInferenceCoalescingWindow().millis() <= 0
+            || inputTexts.size() > 1
+            || inputTexts.size() >= accessor.getInferenceCoalescingMaxBatchSize()) {
+            dispatcher.accept(inputTexts, listener);
+            return;
+        }
+
+        final int maxBatchSize = accessor.getInferenceCoalescingMaxBatchSize();
+        // listener may be notified by the fan out of results and by the failure handler of the batch, only the first counts
+        final PendingRequest<T> request = new PendingRequest<>(inputTexts, ActionListener.notifyOnce(listener), System.nanoTime());
+        PendingBatch<T> fullBatch = null;
+        PendingBatch<T> batchToSchedule = null;
+        synchronized (pendingBatches) {
+            @SuppressWarnings("unchecked")
+            PendingBatch<T> batch = (PendingBatch<T>) pendingBatches.get(batchKey);
+            if (batch == null) {
+                batch = new PendingBatch<>(dispatcher, resultSplitter);
+                pendingBatches.put(batchKey, batch);
+                batchToSchedule = batch;
+            }
+            batch.add(request);
+            if (batch.inputCount >= maxBatchSize) {
+                pendingBatches.remove(batchKey);
+                fullBatch = batch;
+                batchToSchedule = null;
+            }
+        }
+        // predict calls are sent outside the lock
+        dispatch(fullBatch);
+        if (batchToSchedule != null) {
+            scheduleFlush(currentThreadPool, accessor.getInferenceCoalescingWindow(), batchKey, batchToSchedule);
+        }
+    }
+
+    @VisibleForTesting
+    int pendingBatchCount() {
+        synchronized (pendingBatches) {
+            return pendingBatches.size();
+        }
+    }
+
+    private <T> void scheduleFlush(
+        final ThreadPool threadPool,
+        final TimeValue window,
+        final BatchKey batchKey,
+        final PendingBatch<T> batch
+    ) {
+        try {
+            threadPool.schedule(() -> flush(batchKey, batch), window, ThreadPool.Names.GENERIC);
+        } catch (Exception e) {
+            log.warn("Failed to schedule flush of coalesced inference batch, dispatching it right away", e);
+            flush(batchKey, batch);
+        }
+    }
+
+    private <T> void flush(final BatchKey batchKey, final PendingBatch<T> batch) {
+        boolean removed;
+        synchronized (pendingBatches) {
+            removed = pendingBatches.remove(batchKey, batch);
+        }
+        // batch may have been dispatched already because it reached the size limit
+        if (removed) {
+            dispatch(batch);
+        }
+    }
+
+    private <T> void dispatch(final PendingBatch<T> batch) {
+        if (batch == null) {
+            return;
+        }
+        final List<PendingRequest<T>> requests = batch.requests;
+        if (requests.size() == 1) {
+            final PendingRequest<T> request = requests.getFirst();
+            batch.dispatcher.accept(request.inputTexts, request.listener);
+            return;
+        }
+        recordStats(requests);
+        final List<String> inputTexts = new ArrayList<>(batch.inputCount);
+        for (PendingRequest<T> request : requests) {
+            inputTexts.addAll(request.inputTexts);
+        }
+        batch.dispatcher.accept(inputTexts, ActionListener.wrap(results -> {
+            final List<T> resultPerInput = batch.resultSplitter.apply(results, inputTexts.size());
+            if (resultPerInput == null || resultPerInput.size() != inputTexts.size()) {
+                log.warn(
+                    "Coalesced inference returned [{}] results for [{}] inputs, dispatching requests one by one",
+                    results == null ? 0 : results.size(),
+                    inputTexts.size()
+                );
+                requests.forEach(request -> batch.dispatcher.accept(request.inputTexts, request.listener));
+                return;
+            }
+            fanOut(requests, resultPerInput);
+        }, e -> requests.forEach(request -> request.listener.onFailure(e))));
+    }
+
+    private <T> void fanOut(final List<PendingRequest<T>> requests, final List<T> resultPerInput) {
+        int offset = 0;
+        for (PendingRequest<T> request : requests) {
+            final int size = request.inputTexts.size();
+            final List<T> requestResults = new ArrayList<>(resultPerInput.subList(offset, offset + size));
+            offset += size;
+            try {
+                request.listener.onResponse(requestResults);
+            } catch (Exception e) {
+                // listener has been notified already, its failure must not prevent notifying the other requests
+                log.warn("Listener of coalesced inference request failed to handle the response", e);
+            }
+        }
+    }
+
+    private <T> void recordStats(final List<PendingRequest<T>> requests) {
+        final long now = System.nanoTime();
+        long queueTimeInMillis = 0;
+        for (PendingRequest<T> request : requests) {
+            queueTimeInMillis += TimeUnit.NANOSECONDS.toMillis(now - request.enqueueTimeInNanos);
+        }
+        EventStatsManager.increment(EventStatName.ML_INFERENCE_COALESCED_BATCHES);
+        EventStatsManager.add(EventStatName.ML_INFERENCE_COALESCED_REQUESTS, requests.size());
+        EventStatsManager.add(EventStatName.ML_INFERENCE_COALESCING_QUEUE_TIME_MILLIS, queueTimeInMillis);
+    }
+
+    /**
+     * Identifies requests that can be merged into one predict call
+     * @param requestType type of the inference and of its result, e.g. dense vectors or map results
+     * @param modelId id of the model
+     * @param targetResponseFilters response filters of the request, can be null
+     * @param queryText query text of similarity requests, null for other requests
+     */
+    public record BatchKey(String requestType, String modelId, List<String> targetResponseFilters, String queryText) {
+    }
+
+    private record PendingRequest<T>(List<String> inputTexts, ActionListener<List<T>> listener, long enqueueTimeInNanos) {
+    }
+
+    private static class PendingBatch<T> {
+        private final BiConsumer<List<String>, ActionListener<List<T>>> dispatcher;
+        private final BiFunction<List<T>, Integer, List<T>> resultSplitter;
+        private final List<PendingRequest<T>> requests = new ArrayList<>();
+        private int inputCount;
+
+        private PendingBatch(
+            final BiConsumer<List<String>, ActionListener<List<T>>> dispatcher,
+            final BiFunction<List<T>, Integer, List<T>> resultSplitter
+        ) {
+            this.dispatcher = dispatcher;
+            this.resultSplitter = resultSplitter;
+        }
+
+        private void add(final PendingRequest<T> request) {
+            requests.add(request);
+            inputCount += request.inputTexts.size();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Splits inference requests that exceed the per-call limits of a model into several predict calls. Input texts are cut
+ * into contiguous pieces bounded by the maximum number of texts and of characters per call, the pieces are sent
+ * concurrently and their results are merged back in the order of the input texts, so callers never see the split. The
+ * limits are defined per model through
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#ML_INFERENCE_MODEL_MAX_ITEMS_PER_CALL} and
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#ML_INFERENCE_MODEL_MAX_CHARS_PER_CALL}, with node-wide
+ * defaults, and requests are sent as they are while no limit applies.
+ */
+@Log4j2
+public final class InferenceRequestSplitter {
+    private static volatile NeuralSearchSettingsAccessor settingsAccessor;
+
+    private InferenceRequestSplitter() {}
+
+    /**
+     * Initializes the accessor of the per-call limit settings
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public static void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        InferenceRequestSplitter.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Sends the inference request in as many predict calls as the limits of the model require
+     *
+     * @param modelId id of the model the request is sent to
+     * @param inputTexts input texts of the request
+     * @param listener listener of the request, receives one result per input text when the request is split
+     * @param dispatcher sends a predict call for the given input texts
+     * @param resultSplitter converts the result of a predict call into one result per input text, it receives the raw result
+     *                       and the number of input texts of the call
+     * @param <T> type of a result of a single input text
+     */
+    public static <T> void dispatch(
+        final String modelId,
+        @NonNull final List<String> inputTexts,
+        @NonNull final ActionListener<List<T>> listener,
+        @NonNull final BiConsumer<List<String>, ActionListener<List<T>>> dispatcher,
+        @NonNull final BiFunction<List<T>, Integer, List<T>> resultSplitter
+    ) {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        if (accessor == null) {
+            dispatcher.accept(inputTexts, listener);
+            return;
+        }
+        final List<Integer> pieceEnds = cutPieces(
+            inputTexts,
+            accessor.getMlInferenceMaxItemsPerCall(modelId),
+            accessor.getMlInferenceMaxCharsPerCall(modelId)
+        );
+        if (pieceEnds.size() <= 1) {
+            dispatcher.accept(inputTexts, listener);
+            return;
+        }
+        log.debug("Splitting inference request of [{}] texts to model [{}] into [{}] calls", inputTexts.size(), modelId, pieceEnds.size());
+        EventStatsManager.increment(EventStatName.ML_INFERENCE_SPLIT_REQUESTS);
+        EventStatsManager.add(EventStatName.ML_INFERENCE_SPLIT_PIECES, pieceEnds.size());
+        new SplitExecution<>(inputTexts, pieceEnds, listener, dispatcher, resultSplitter).start();
+    }
+
+    /**
+     * Greedily cuts the input texts into contiguous pieces, a text longer than the character limit is sent alone
+     * @return exclusive end index of every piece
+     */
+    @VisibleForTesting
+    static List<Integer> cutPieces(final List<String> inputTexts, final int maxItems, final int maxChars) {
+        final List<Integer> pieceEnds = new ArrayList<>();
+        if (maxItems <= 0 && maxChars <= 0) {
+            pieceEnds.add(inputTexts.size());
+            return pieceEnds;
+        }
+        int itemCount = 0;
+        long charCount = 0;
+        for (int i = 0; i < inputTexts.size(); i++) {
+            final String text = inputTexts.get(i);
+            final int textLength = text == null ? 0 : text.length();
+            if (itemCount > 0 && ((maxItems > 0 && itemCount >= maxItems) || (maxChars > 0 && charCount + textLength > maxChars))) {
+                pieceEnds.add(i);
+                itemCount = 0;
+                charCount = 0;
+            }
+            itemCount++;
+            charCount += textLength;
+        }
+        pieceEnds.add(inputTexts.size());
+        return pieceEnds;
+    }
+
+    private static class SplitExecution<T> {
+        private final List<String> inputTexts;
+        private final List<Integer> pieceEnds;
+        private final ActionListener<List<T>> listener;
+        private final BiConsumer<List<String>, ActionListener<List<T>>> dispatcher;
+        private final BiFunction<List<T>, Integer, List<T>> resultSplitter;
+        private final List<List<T>> pieceResults;
+        private final AtomicInteger remainingPieces;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private SplitExecution(
+            final List<String> inputTexts,
+            final List<Integer> pieceEnds,
+            final ActionListener<List<T>> listener,
+            final BiConsumer<List<String>, ActionListener<List<T>>> dispatcher,
+            final BiFunction<List<T>, Integer, List<T>> resultSplitter
+        ) {
+            this.inputTexts = inputTexts;
+            this.pieceEnds = pieceEnds;
+            this.listener = listener;
+            this.dispatcher = dispatcher;
+            this.resultSplitter = resultSplitter;
+            this.pieceResults = new ArrayList<>(pieceEnds.size());
+            for (int i = 0; i < pieceEnds.size(); i++) {
+                pieceResults.add(null);
+            }
+            this.remainingPieces = new AtomicInteger(pieceEnds.size());
+        }
+
+        private void start() {
+            int from = 0;
+            for (int piece = 0; piece < pieceEnds.size() && failed.get() == false; piece++) {
+                final int to = pieceEnds.get(piece);
+                execute(piece, new ArrayList<>(inputTexts.subList(from, to)));
+                from = to;
+            }
+        }
+
+        private void execute(final int piece, final List<String> pieceTexts) {
+            try {
+                dispatcher.accept(pieceTexts, ActionListener.wrap(results -> {
+                    final List<T> resultPerInput = results == null ? null : resultSplitter.apply(results, pieceTexts.size());
+                    if (resultPerInput == null || resultPerInput.size() != pieceTexts.size()) {
+                        fail(
+                            new IllegalStateException(
+                                String.format(
+                                    Locale.ROOT,
+                                    "expected [%d] inference results but got [%d]",
+                                    pieceTexts.size(),
+                                    resultPerInput == null ? 0 : resultPerInput.size()
+                                )
+                            )
+                        );
+                        return;
+                    }
+                    synchronized (pieceResults) {
+                        pieceResults.set(piece, resultPerInput);
+                    }
+                    if (remainingPieces.decrementAndGet() == 0 && failed.get() == false) {
+                        complete();
+                    }
+                }, this::fail));
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        private void complete() {
+            final List<T> results = new ArrayList<>(inputTexts.size());
+            synchronized (pieceResults) {
+                pieceResults.forEach(results::addAll);
+            }
+            listener.onResponse(results);
+        }
+
+        private void fail(final Exception e) {
+            if (failed.compareAndSet(false, true)) {
+                listener.onFailure(e);
+            }
+        }
+    }
+}
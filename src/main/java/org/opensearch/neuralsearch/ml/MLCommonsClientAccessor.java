@@ -29,10 +29,12 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.common.FloatVector;
 import org.opensearch.neuralsearch.processor.InferenceRequest;
 import org.opensearch.neuralsearch.processor.MapInferenceRequest;
 import org.opensearch.neuralsearch.processor.SimilarityInferenceRequest;
@@ -51,6 +53,10 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 @Log4j2
 public class MLCommonsClientAccessor {
+    private static final String COALESCED_VECTOR_REQUEST_TYPE = "text_embedding_vector";
+    private static final String COALESCED_MAP_REQUEST_TYPE = "text_embedding_map";
+    private static final String COALESCED_SIMILARITY_REQUEST_TYPE = "text_similarity";
+
     private final MachineLearningNodeClient mlClient;
 
     /**
@@ -98,14 +104,55 @@ public class MLCommonsClientAccessor {
         @NonNull final TextInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<List<Number>>> listener
     ) {
-        retryableInferenceSentencesWithVectorResult(inferenceRequest, 0, listener);
+        InferenceRequestCoalescer.instance()
+            .submit(
+                new InferenceRequestCoalescer.BatchKey(
+                    COALESCED_VECTOR_REQUEST_TYPE,
+                    inferenceRequest.getModelId(),
+                    inferenceRequest.getTargetResponseFilters(),
+                    null
+                ),
+                inferenceRequest.getInputTexts(),
+                listener,
+                (inputTexts, batchListener) -> InferenceRequestSplitter.dispatch(
+                    inferenceRequest.getModelId(),
+                    inputTexts,
+                    batchListener,
+                    (pieceTexts, pieceListener) -> retryableInferenceSentencesWithVectorResult(
+                        withInputTexts(inferenceRequest, pieceTexts),
+                        0,
+                        System.nanoTime(),
+                        pieceListener
+                    ),
+                    (results, inputCount) -> results
+                ),
+                (results, inputCount) -> results
+            );
     }
 
     public void inferenceSentencesWithMapResult(
         @NonNull final TextInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<Map<String, ?>>> listener
     ) {
-        retryableInferenceSentencesWithMapResult(inferenceRequest, 0, listener);
+        InferenceRequestCoalescer.instance()
+            .submit(
+                new InferenceRequestCoalescer.BatchKey(COALESCED_MAP_REQUEST_TYPE, inferenceRequest.getModelId(), null, null),
+                inferenceRequest.getInputTexts(),
+                listener,
+                (inputTexts, batchListener) -> InferenceRequestSplitter.dispatch(
+                    inferenceRequest.getModelId(),
+                    inputTexts,
+                    batchListener,
+                    (pieceTexts, pieceListener) -> retryableInferenceSentencesWithMapResult(
+                        withInputTexts(inferenceRequest, pieceTexts),
+                        0,
+                        System.nanoTime(),
+                        pieceListener
+                    ),
+                    this::splitMapResultPerInput
+                ),
+                this::splitMapResultPerInput
+            );
     }
 
     /**
@@ -117,7 +164,23 @@ public class MLCommonsClientAccessor {
      * @param listener {@link ActionListener} which will be called when prediction is completed or errored out.
      */
     public void inferenceSentencesMap(@NonNull MapInferenceRequest inferenceRequest, @NonNull final ActionListener<List<Number>> listener) {
-        retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, listener);
+        final Map<String, String> inputObjects = inferenceRequest.getInputObjects();
+        if (inputObjects != null && inputObjects.size() == 1 && inputObjects.get(INPUT_TEXT) != null) {
+            // text only input is sent to the model exactly as a single sentence request, so it can be coalesced with them
+            inferenceSentences(
+                TextInferenceRequest.builder()
+                    .modelId(inferenceRequest.getModelId())
+                    .targetResponseFilters(inferenceRequest.getTargetResponseFilters())
+                    .inputTexts(List.of(inputObjects.get(INPUT_TEXT)))
+                    .build(),
+                ActionListener.wrap(
+                    vectors -> listener.onResponse(vectors.isEmpty() ? new ArrayList<>() : vectors.getFirst()),
+                    listener::onFailure
+                )
+            );
+            return;
+        }
+        retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, 0, System.nanoTime(), listener);
     }
 
     /**
@@ -132,12 +195,73 @@ public class MLCommonsClientAccessor {
         @NonNull SimilarityInferenceRequest inferenceRequest,
         @NonNull final ActionListener<List<Float>> listener
     ) {
-        retryableInferenceSimilarityWithVectorResult(inferenceRequest, 0, listener);
+        InferenceRequestCoalescer.instance()
+            .submit(
+                new InferenceRequestCoalescer.BatchKey(
+                    COALESCED_SIMILARITY_REQUEST_TYPE,
+                    inferenceRequest.getModelId(),
+                    null,
+                    inferenceRequest.getQueryText()
+                ),
+                inferenceRequest.getInputTexts(),
+                listener,
+                (inputTexts, batchListener) -> InferenceRequestSplitter.dispatch(
+                    inferenceRequest.getModelId(),
+                    inputTexts,
+                    batchListener,
+                    (pieceTexts, pieceListener) -> retryableInferenceSimilarityWithVectorResult(
+                        pieceTexts == inferenceRequest.getInputTexts()
+                            ? inferenceRequest
+                            : SimilarityInferenceRequest.builder()
+                                .modelId(inferenceRequest.getModelId())
+                                .targetResponseFilters(inferenceRequest.getTargetResponseFilters())
+                                .queryText(inferenceRequest.getQueryText())
+                                .inputTexts(pieceTexts)
+                                .build(),
+                        0,
+                        System.nanoTime(),
+                        pieceListener
+                    ),
+                    (results, inputCount) -> results
+                ),
+                (results, inputCount) -> results
+            );
+    }
+
+    private TextInferenceRequest withInputTexts(final TextInferenceRequest inferenceRequest, final List<String> inputTexts) {
+        if (inputTexts == inferenceRequest.getInputTexts()) {
+            return inferenceRequest;
+        }
+        return TextInferenceRequest.builder()
+            .modelId(inferenceRequest.getModelId())
+            .targetResponseFilters(inferenceRequest.getTargetResponseFilters())
+            .inputTexts(inputTexts)
+            .build();
+    }
+
+    /**
+     * Map results of a coalesced call come either as one map per input text, or, for remote models, as a single map
+     * holding the list of results of all input texts. The latter is split into one single-element map per input text.
+     */
+    private List<Map<String, ?>> splitMapResultPerInput(final List<Map<String, ?>> results, final int inputCount) {
+        if (results.size() == inputCount || results.size() != 1 || results.getFirst().size() != 1) {
+            return results;
+        }
+        final Map.Entry<String, ?> entry = results.getFirst().entrySet().iterator().next();
+        if (entry.getValue() instanceof List<?> values && values.size() == inputCount) {
+            final List<Map<String, ?>> resultPerInput = new ArrayList<>(inputCount);
+            for (Object value : values) {
+                resultPerInput.add(Map.of(entry.getKey(), List.of(value)));
+            }
+            return resultPerInput;
+        }
+        return results;
     }
 
     private void retryableInferenceSentencesWithMapResult(
         final TextInferenceRequest inferenceRequest,
         final int retryTime,
+        final long startTimeInNanos,
         final ActionListener<List<Map<String, ?>>> listener
     ) {
         MLInput mlInput = createMLTextInput(null, inferenceRequest.getInputTexts());
@@ -148,7 +272,8 @@ public class MLCommonsClientAccessor {
             e -> RetryUtil.handleRetryOrFailure(
                 e,
                 retryTime,
-                () -> retryableInferenceSentencesWithMapResult(inferenceRequest, retryTime + 1, listener),
+                startTimeInNanos,
+                () -> retryableInferenceSentencesWithMapResult(inferenceRequest, retryTime + 1, startTimeInNanos, listener),
                 listener
             )
         ));
@@ -157,6 +282,7 @@ public class MLCommonsClientAccessor {
     private void retryableInferenceSentencesWithVectorResult(
         final TextInferenceRequest inferenceRequest,
         final int retryTime,
+        final long startTimeInNanos,
         final ActionListener<List<List<Number>>> listener
     ) {
         MLInput mlInput = createMLTextInput(inferenceRequest.getTargetResponseFilters(), inferenceRequest.getInputTexts());
@@ -167,7 +293,8 @@ public class MLCommonsClientAccessor {
             e -> RetryUtil.handleRetryOrFailure(
                 e,
                 retryTime,
-                () -> retryableInferenceSentencesWithVectorResult(inferenceRequest, retryTime + 1, listener),
+                startTimeInNanos,
+                () -> retryableInferenceSentencesWithVectorResult(inferenceRequest, retryTime + 1, startTimeInNanos, listener),
                 listener
             )
         ));
@@ -176,6 +303,7 @@ public class MLCommonsClientAccessor {
     private void retryableInferenceSimilarityWithVectorResult(
         final SimilarityInferenceRequest inferenceRequest,
         final int retryTime,
+        final long startTimeInNanos,
         final ActionListener<List<Float>> listener
     ) {
         MLInput mlInput = createMLTextPairsInput(inferenceRequest.getQueryText(), inferenceRequest.getInputTexts());
@@ -188,7 +316,8 @@ public class MLCommonsClientAccessor {
             e -> RetryUtil.handleRetryOrFailure(
                 e,
                 retryTime,
-                () -> retryableInferenceSimilarityWithVectorResult(inferenceRequest, retryTime + 1, listener),
+                startTimeInNanos,
+                () -> retryableInferenceSimilarityWithVectorResult(inferenceRequest, retryTime + 1, startTimeInNanos, listener),
                 listener
             )
         ));
@@ -205,19 +334,43 @@ public class MLCommonsClientAccessor {
         return new MLInput(FunctionName.TEXT_SIMILARITY, null, inputDataset);
     }
 
-    private <T extends Number> List<List<T>> buildVectorFromResponse(MLOutput mlOutput) {
-        final List<List<T>> vector = new ArrayList<>();
+    private List<List<Number>> buildVectorFromResponse(MLOutput mlOutput) {
+        final List<List<Number>> vector = new ArrayList<>();
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlOutput;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
         for (final ModelTensors tensors : tensorOutputList) {
             final List<ModelTensor> tensorsList = tensors.getMlModelTensors();
             for (final ModelTensor tensor : tensorsList) {
-                vector.add(Arrays.stream(tensor.getData()).map(value -> (T) value).collect(Collectors.toList()));
+                vector.add(buildVectorFromTensor(tensor));
             }
         }
         return vector;
     }
 
+    /**
+     * Float tensors are kept in a primitive float array until they are written to documents or converted into query
+     * vectors, other tensors keep the values produced by the model. A tensor is a float tensor if all its values are
+     * {@link Float} or if it is declared {@link MLResultDataType#FLOAT32}. Remote models often return values of a FLOAT32
+     * tensor as {@link Double}, those values are narrowed to float, the precision the model declares. Values of FLOAT64
+     * tensors are kept as doubles.
+     */
+    private List<Number> buildVectorFromTensor(final ModelTensor tensor) {
+        final Number[] data = tensor.getData();
+        if (data != null && (tensor.getDataType() == MLResultDataType.FLOAT32 || isFloatData(data))) {
+            return FloatVector.of(data);
+        }
+        return Arrays.stream(data).collect(Collectors.toList());
+    }
+
+    private static boolean isFloatData(final Number[] data) {
+        for (Number value : data) {
+            if (value instanceof Float == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private List<Map<String, ?>> buildMapResultFromResponse(MLOutput mlOutput) {
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlOutput;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
@@ -236,14 +389,15 @@ public class MLCommonsClientAccessor {
         return resultMaps;
     }
 
-    private <T extends Number> List<T> buildSingleVectorFromResponse(final MLOutput mlOutput) {
-        final List<List<T>> vector = buildVectorFromResponse(mlOutput);
+    private List<Number> buildSingleVectorFromResponse(final MLOutput mlOutput) {
+        final List<List<Number>> vector = buildVectorFromResponse(mlOutput);
         return vector.isEmpty() ? new ArrayList<>() : vector.get(0);
     }
 
     private void retryableInferenceSentencesWithSingleVectorResult(
         final MapInferenceRequest inferenceRequest,
         final int retryTime,
+        final long startTimeInNanos,
         final ActionListener<List<Number>> listener
     ) {
         MLInput mlInput = createMLMultimodalInput(inferenceRequest.getTargetResponseFilters(), inferenceRequest.getInputObjects());
@@ -255,7 +409,8 @@ public class MLCommonsClientAccessor {
             e -> RetryUtil.handleRetryOrFailure(
                 e,
                 retryTime,
-                () -> retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, retryTime + 1, listener),
+                startTimeInNanos,
+                () -> retryableInferenceSentencesWithSingleVectorResult(inferenceRequest, retryTime + 1, startTimeInNanos, listener),
                 listener
             )
         ));
@@ -318,7 +473,7 @@ public class MLCommonsClientAccessor {
     }
 
     public void getModel(@NonNull final String modelId, @NonNull final ActionListener<MLModel> listener) {
-        retryableGetModel(modelId, 0, listener);
+        retryableGetModel(modelId, 0, System.nanoTime(), listener);
     }
 
     /**
@@ -386,24 +541,36 @@ public class MLCommonsClientAccessor {
         }
     }
 
-    private void retryableGetModel(@NonNull final String modelId, final int retryTime, @NonNull final ActionListener<MLModel> listener) {
+    private void retryableGetModel(
+        @NonNull final String modelId,
+        final int retryTime,
+        final long startTimeInNanos,
+        @NonNull final ActionListener<MLModel> listener
+    ) {
         mlClient.getModel(
             modelId,
             null,
             ActionListener.wrap(
                 listener::onResponse,
-                e -> RetryUtil.handleRetryOrFailure(e, retryTime, () -> retryableGetModel(modelId, retryTime + 1, listener), listener)
+                e -> RetryUtil.handleRetryOrFailure(
+                    e,
+                    retryTime,
+                    startTimeInNanos,
+                    () -> retryableGetModel(modelId, retryTime + 1, startTimeInNanos, listener),
+                    listener
+                )
             )
         );
     }
 
     /**
      * Retryable method to perform sentence highlighting inference.
-     * This method will retry up to 3 times if a retryable exception occurs.
+     * This method will retry up to 3 times if a retryable exception occurs and the retry budget allows it.
      */
     private void retryableInferenceSentenceHighlighting(
         final SentenceHighlightingRequest inferenceRequest,
         final int retryTime,
+        final long startTimeInNanos,
         final ActionListener<List<Map<String, Object>>> listener
     ) {
         try {
@@ -421,7 +588,8 @@ public class MLCommonsClientAccessor {
                 e -> RetryUtil.handleRetryOrFailure(
                     e,
                     retryTime,
-                    () -> retryableInferenceSentenceHighlighting(inferenceRequest, retryTime + 1, listener),
+                    startTimeInNanos,
+                    () -> retryableInferenceSentenceHighlighting(inferenceRequest, retryTime + 1, startTimeInNanos, listener),
                     listener
                 )
             ));
@@ -441,6 +609,6 @@ public class MLCommonsClientAccessor {
         @NonNull final SentenceHighlightingRequest inferenceRequest,
         @NonNull final ActionListener<List<Map<String, Object>>> listener
     ) {
-        retryableInferenceSentenceHighlighting(inferenceRequest, 0, listener);
+        retryableInferenceSentenceHighlighting(inferenceRequest, 0, System.nanoTime(), listener);
     }
 }
@@ -6,6 +6,35 @@ package org.opensearch.neuralsearch.plugin;
 
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_STATS_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_CACHE_MAX_ENTRIES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_INFERENCE_CACHE_MAX_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ML_INFERENCE_RETRY_MAX_IN_FLIGHT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ML_INFERENCE_RETRY_TIMEOUT;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_COALESCING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_COALESCING_MAX_BATCH_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_MAX_BATCH_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_MAX_CHARS_PER_BATCH;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_TARGET_LATENCY;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_COALESCING_WINDOW;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_ENTRIES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_BUCKET_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_MAX_CONCURRENT_BUCKETS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ML_INFERENCE_MAX_CHARS_PER_CALL;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ML_INFERENCE_MAX_ITEMS_PER_CALL;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ML_INFERENCE_MODEL_MAX_CHARS_PER_CALL;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.ML_INFERENCE_MODEL_MAX_ITEMS_PER_CALL;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_CONCURRENT_SUB_QUERY_SCORING_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_SHARD_SCORE_STATISTICS_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PARALLEL_COMBINATION_MIN_HITS_PER_TASK;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PAGINATION_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_PAGINATION_CACHE_MAX_SIZE;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -16,11 +45,16 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.neuralsearch.cache.HybridQueryResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
+import org.opensearch.neuralsearch.cache.QueryInferenceCache;
+import org.opensearch.neuralsearch.cache.SemanticFieldConfigCache;
 import org.opensearch.neuralsearch.highlight.SemanticHighlighter;
 import org.opensearch.neuralsearch.highlight.SemanticHighlighterEngine;
 import org.opensearch.neuralsearch.highlight.extractor.QueryTextExtractorRegistry;
 import com.google.common.collect.ImmutableList;
 import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilter;
 import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.stats.info.InfoStatsManager;
@@ -46,11 +80,15 @@ import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.ingest.Processor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.ml.InferenceRequestCoalescer;
+import org.opensearch.neuralsearch.ml.InferenceRequestSplitter;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.processor.NeuralSparseTwoPhaseProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessorWorkflow;
 import org.opensearch.neuralsearch.processor.ExplanationResponseProcessor;
+import org.opensearch.neuralsearch.processor.highlight.SemanticHighlightingActionFilter;
+import org.opensearch.neuralsearch.processor.highlight.SemanticHighlightingResponseProcessor;
 import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
 import org.opensearch.neuralsearch.processor.TextChunkingProcessor;
@@ -60,6 +98,7 @@ import org.opensearch.neuralsearch.processor.NormalizationProcessor;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
 import org.opensearch.neuralsearch.processor.factory.ExplanationResponseProcessorFactory;
+import org.opensearch.neuralsearch.processor.factory.SemanticHighlightingResponseProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.TextChunkingProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.RerankProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.SparseEncodingProcessorFactory;
@@ -69,6 +108,8 @@ import org.opensearch.neuralsearch.processor.factory.RRFProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.NormalizationProcessorFactory;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizationFactory;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
+import org.opensearch.neuralsearch.processor.optimization.AdaptiveBatchSizer;
+import org.opensearch.neuralsearch.processor.optimization.LengthBucketedInferenceExecutor;
 import org.opensearch.neuralsearch.processor.rerank.RerankProcessor;
 import org.opensearch.neuralsearch.query.HybridQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
@@ -76,11 +117,13 @@ import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
 import org.opensearch.neuralsearch.query.NeuralKNNQueryBuilder;
 import org.opensearch.neuralsearch.query.ext.RerankSearchExtBuilder;
 import org.opensearch.neuralsearch.rest.RestNeuralStatsAction;
+import org.opensearch.neuralsearch.search.query.HybridCollectorManager;
 import org.opensearch.neuralsearch.search.query.HybridQueryPhaseSearcher;
 import org.opensearch.neuralsearch.transport.NeuralStatsAction;
 import org.opensearch.neuralsearch.transport.NeuralStatsTransportAction;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
 import org.opensearch.neuralsearch.util.PipelineServiceUtil;
+import org.opensearch.neuralsearch.util.RetryUtil;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.IngestPlugin;
@@ -123,6 +166,7 @@ public class NeuralSearch extends Plugin
     private final ScoreNormalizationFactory scoreNormalizationFactory = new ScoreNormalizationFactory();
     private final ScoreCombinationFactory scoreCombinationFactory = new ScoreCombinationFactory();
     private final SemanticHighlighter semanticHighlighter;
+    private SemanticHighlightingActionFilter semanticHighlightingActionFilter;
     public static final String EXPLANATION_RESPONSE_KEY = "explanation_response";
     public static final String NEURAL_BASE_URI = "/_plugins/_neural";
 
@@ -145,6 +189,7 @@ public class NeuralSearch extends Plugin
         final Supplier<RepositoriesService> repositoriesServiceSupplier
     ) {
         NeuralSearchClusterUtil.instance().initialize(clusterService, indexNameExpressionResolver);
+        SemanticFieldConfigCache.instance().initialize(clusterService);
         NeuralQueryBuilder.initialize(clientAccessor);
         NeuralSparseQueryBuilder.initialize(clientAccessor);
         QueryTextExtractorRegistry queryTextExtractorRegistry = new QueryTextExtractorRegistry();
@@ -153,12 +198,26 @@ public class NeuralSearch extends Plugin
             .queryTextExtractorRegistry(queryTextExtractorRegistry)
             .build();
         semanticHighlighter.initialize(semanticHighlighterEngine);
-        HybridQueryExecutor.initialize(threadPool);
+        semanticHighlightingActionFilter = new SemanticHighlightingActionFilter(
+            clusterService,
+            NeuralSearchClusterUtil.instance(),
+            semanticHighlighterEngine
+        );
         normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner());
         settingsAccessor = new NeuralSearchSettingsAccessor(clusterService, environment.settings());
+        HybridQueryExecutor.initialize(threadPool, settingsAccessor);
+        HybridCollectorManager.initialize(settingsAccessor);
         pipelineServiceUtil = new PipelineServiceUtil(clusterService);
         infoStatsManager = new InfoStatsManager(NeuralSearchClusterUtil.instance(), settingsAccessor, pipelineServiceUtil);
         EventStatsManager.instance().initialize(settingsAccessor);
+        QueryInferenceCache.instance().initialize(settingsAccessor);
+        HybridQueryResultCache.instance().initialize(settingsAccessor);
+        IngestInferenceCache.instance().initialize(settingsAccessor);
+        AdaptiveBatchSizer.initialize(settingsAccessor);
+        LengthBucketedInferenceExecutor.initialize(settingsAccessor);
+        RetryUtil.initialize(threadPool, settingsAccessor);
+        InferenceRequestCoalescer.instance().initialize(threadPool, settingsAccessor);
+        InferenceRequestSplitter.initialize(settingsAccessor);
         this.xContentRegistry = xContentRegistry;
         return List.of(clientAccessor, EventStatsManager.instance(), infoStatsManager);
     }
@@ -192,6 +251,11 @@ public class NeuralSearch extends Plugin
         return Arrays.asList(new ActionHandler<>(NeuralStatsAction.INSTANCE, NeuralStatsTransportAction.class));
     }
 
+    @Override
+    public List<ActionFilter> getActionFilters() {
+        return List.of(semanticHighlightingActionFilter);
+    }
+
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
         return List.of(HybridQueryExecutor.getExecutorBuilder(settings));
@@ -246,7 +310,39 @@ public class NeuralSearch extends Plugin
 
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(RERANKER_MAX_DOC_FIELDS, NEURAL_STATS_ENABLED);
+        return List.of(
+            RERANKER_MAX_DOC_FIELDS,
+            NEURAL_STATS_ENABLED,
+            QUERY_INFERENCE_CACHE_ENABLED,
+            QUERY_INFERENCE_CACHE_MAX_ENTRIES,
+            QUERY_INFERENCE_CACHE_MAX_SIZE,
+            QUERY_INFERENCE_CACHE_EXPIRE_AFTER,
+            ML_INFERENCE_RETRY_TIMEOUT,
+            ML_INFERENCE_RETRY_MAX_IN_FLIGHT,
+            INFERENCE_COALESCING_ENABLED,
+            INFERENCE_COALESCING_WINDOW,
+            INFERENCE_COALESCING_MAX_BATCH_SIZE,
+            INGEST_INFERENCE_CACHE_ENABLED,
+            INGEST_INFERENCE_CACHE_MAX_ENTRIES,
+            INGEST_INFERENCE_CACHE_MAX_SIZE,
+            INGEST_INFERENCE_CACHE_EXPIRE_AFTER,
+            ADAPTIVE_BATCH_SIZE_ENABLED,
+            ADAPTIVE_BATCH_SIZE_MAX_BATCH_SIZE,
+            ADAPTIVE_BATCH_SIZE_TARGET_LATENCY,
+            ADAPTIVE_BATCH_SIZE_MAX_CHARS_PER_BATCH,
+            INGEST_INFERENCE_PIPELINING_ENABLED,
+            INGEST_INFERENCE_PIPELINING_BUCKET_SIZE,
+            INGEST_INFERENCE_PIPELINING_MAX_CONCURRENT_BUCKETS,
+            ML_INFERENCE_MAX_ITEMS_PER_CALL,
+            ML_INFERENCE_MAX_CHARS_PER_CALL,
+            ML_INFERENCE_MODEL_MAX_ITEMS_PER_CALL,
+            ML_INFERENCE_MODEL_MAX_CHARS_PER_CALL,
+            HYBRID_CONCURRENT_SUB_QUERY_SCORING_ENABLED,
+            HYBRID_SHARD_SCORE_STATISTICS_ENABLED,
+            HYBRID_PARALLEL_COMBINATION_MIN_HITS_PER_TASK,
+            HYBRID_PAGINATION_CACHE_ENABLED,
+            HYBRID_PAGINATION_CACHE_MAX_SIZE
+        );
     }
 
     @Override
@@ -269,7 +365,9 @@ public class NeuralSearch extends Plugin
             RerankProcessor.TYPE,
             new RerankProcessorFactory(clientAccessor, parameters.searchPipelineService.getClusterService()),
             ExplanationResponseProcessor.TYPE,
-            new ExplanationResponseProcessorFactory()
+            new ExplanationResponseProcessorFactory(),
+            SemanticHighlightingResponseProcessor.TYPE,
+            new SemanticHighlightingResponseProcessorFactory(clientAccessor)
         );
     }
 
@@ -9,20 +9,23 @@ import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldDocs;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.NUM_OF_SCORE_STATISTICS_ELEMENTS;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryDelimiterElement;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryScoreStatisticsElement;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryStartStopElement;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.parseScoreStatisticsElements;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.query.QuerySearchResult;
 
@@ -30,7 +33,6 @@ import org.opensearch.search.query.QuerySearchResult;
  * Class stores collection of TopDocs for each sub query from hybrid query. Collection of results is at shard level. We do store
  * list of TopDocs and list of ScoreDoc as well as total hits for the shard.
  */
-@AllArgsConstructor
 @Getter
 @ToString(includeFieldNames = true)
 @Log4j2
@@ -43,6 +45,21 @@ public class CompoundTopDocs {
     private List<ScoreDoc> scoreDocs;
     @Getter
     private SearchShard searchShard;
+    // statistics of scores of all hits collected by each sub-query on the shard, empty if shard returned all collected hits
+    @Setter
+    private List<SubQueryScoreStatistics> scoreStatistics = List.of();
+
+    public CompoundTopDocs(
+        final TotalHits totalHits,
+        final List<TopDocs> topDocs,
+        final List<ScoreDoc> scoreDocs,
+        final SearchShard searchShard
+    ) {
+        this.totalHits = totalHits;
+        this.topDocs = topDocs;
+        this.scoreDocs = scoreDocs;
+        this.searchShard = searchShard;
+    }
 
     public CompoundTopDocs(
         final TotalHits totalHits,
@@ -83,6 +100,9 @@ public class CompoundTopDocs {
      *  5, 0.65
      *  6, 0.15
      *  0, 9549511920.4881596047
+     *
+     * If shard returns statistics of sub-query scores, delimiter of every sub-query is followed by statistics elements
+     * that are parsed into statistics of the sub-query.
      */
     public CompoundTopDocs(final QuerySearchResult querySearchResult) {
         final TopDocs topDocs = querySearchResult.topDocs().topDocs;
@@ -100,46 +120,56 @@ public class CompoundTopDocs {
             initialize(topDocs.totalHits, new ArrayList<>(), isSortEnabled, searchShard);
             return;
         }
-        // skipping first two elements, it's a start-stop element and delimiter for first series
+        // skipping first two elements, it's a start-stop element and delimiter for first series. Hits of every sub-query
+        // are copied with one array copy of the range between two delimiters, score doc objects are reused as is
         List<TopDocs> topDocsList = new ArrayList<>();
-        List<ScoreDoc> scoreDocList = new ArrayList<>();
-        List<Object> collapseValueList = new ArrayList<>();
+        List<SubQueryScoreStatistics> subQueryScoreStatistics = new ArrayList<>();
+        int subQueryStart = readScoreStatistics(scoreDocs, 2, subQueryScoreStatistics);
         for (int index = 2; index < scoreDocs.length; index++) {
-            // getting first element of score's series
             ScoreDoc scoreDoc = scoreDocs[index];
-            if (isHybridQueryDelimiterElement(scoreDoc) || isHybridQueryStartStopElement(scoreDoc)) {
-                ScoreDoc[] subQueryScores = scoreDocList.toArray(new ScoreDoc[0]);
-                TotalHits totalHits = new TotalHits(subQueryScores.length, TotalHits.Relation.EQUAL_TO);
-                TopDocs subQueryTopDocs;
-                if (isCollapseEnabled) {
-                    CollapseTopFieldDocs collapseTopFieldDocs = (CollapseTopFieldDocs) topDocs;
-                    subQueryTopDocs = new CollapseTopFieldDocs(
-                        collapseTopFieldDocs.field,
-                        totalHits,
-                        subQueryScores,
-                        collapseTopFieldDocs.fields,
-                        collapseValueList.toArray(new Object[0])
-                    );
-                    collapseValueList.clear();
-                } else if (isSortEnabled) {
-                    subQueryTopDocs = new TopFieldDocs(totalHits, subQueryScores, ((TopFieldDocs) topDocs).fields);
-                } else {
-                    subQueryTopDocs = new TopDocs(totalHits, subQueryScores);
-                }
-                topDocsList.add(subQueryTopDocs);
-                scoreDocList.clear();
+            if (isHybridQueryDelimiterElement(scoreDoc) == false && isHybridQueryStartStopElement(scoreDoc) == false) {
+                continue;
+            }
+            ScoreDoc[] subQueryScores = Arrays.copyOfRange(scoreDocs, subQueryStart, index);
+            TotalHits totalHits = new TotalHits(subQueryScores.length, TotalHits.Relation.EQUAL_TO);
+            TopDocs subQueryTopDocs;
+            if (isCollapseEnabled) {
+                CollapseTopFieldDocs collapseTopFieldDocs = (CollapseTopFieldDocs) topDocs;
+                subQueryTopDocs = new CollapseTopFieldDocs(
+                    collapseTopFieldDocs.field,
+                    totalHits,
+                    subQueryScores,
+                    collapseTopFieldDocs.fields,
+                    Arrays.copyOfRange(collapseTopFieldDocs.collapseValues, subQueryStart, index)
+                );
+            } else if (isSortEnabled) {
+                subQueryTopDocs = new TopFieldDocs(totalHits, subQueryScores, ((TopFieldDocs) topDocs).fields);
             } else {
-                scoreDocList.add(scoreDoc);
-                if (isCollapseEnabled) {
-                    CollapseTopFieldDocs collapseTopFieldDocs = (CollapseTopFieldDocs) topDocs;
-                    collapseValueList.add(collapseTopFieldDocs.collapseValues[index]);
-                }
+                subQueryTopDocs = new TopDocs(totalHits, subQueryScores);
             }
+            topDocsList.add(subQueryTopDocs);
+            subQueryStart = readScoreStatistics(scoreDocs, index + 1, subQueryScoreStatistics);
+            index = subQueryStart - 1;
         }
         initialize(topDocs.totalHits, topDocsList, isSortEnabled, searchShard);
+        if (subQueryScoreStatistics.size() == topDocsList.size()) {
+            scoreStatistics = subQueryScoreStatistics;
+        }
+    }
+
+    private static int readScoreStatistics(
+        final ScoreDoc[] scoreDocs,
+        final int offset,
+        final List<SubQueryScoreStatistics> subQueryScoreStatistics
+    ) {
+        if (offset < scoreDocs.length && isHybridQueryScoreStatisticsElement(scoreDocs[offset])) {
+            subQueryScoreStatistics.add(parseScoreStatisticsElements(scoreDocs, offset));
+            return offset + NUM_OF_SCORE_STATISTICS_ELEMENTS;
+        }
+        return offset;
     }
 
-    private List<ScoreDoc> cloneLargestScoreDocs(final List<TopDocs> docs, boolean isSortEnabled) {
+    private List<ScoreDoc> cloneLargestScoreDocs(final List<TopDocs> docs, final boolean isSortEnabled) {
         if (docs == null) {
             return null;
         }
@@ -155,8 +185,8 @@ public class CompoundTopDocs {
             }
         }
 
-        // do deep copy
-        List<ScoreDoc> scoreDocs = new ArrayList<>();
+        // do deep copy, normalization updates scores of sub-query score docs in place
+        List<ScoreDoc> scoreDocs = new ArrayList<>(maxScoreDocs.length);
         for (ScoreDoc scoreDoc : maxScoreDocs) {
             scoreDocs.add(deepCopyScoreDoc(scoreDoc, isSortEnabled));
         }
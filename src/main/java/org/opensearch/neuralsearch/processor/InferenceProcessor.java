@@ -33,6 +33,7 @@ import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.index.mapper.IndexFieldMapper;
@@ -40,17 +41,22 @@ import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.common.FloatVector;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.processor.optimization.AdaptiveBatchSizer;
 import org.opensearch.neuralsearch.processor.optimization.InferenceFilter;
+import org.opensearch.neuralsearch.processor.optimization.LengthBucketedInferenceExecutor;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 import org.opensearch.neuralsearch.util.TokenWeightUtil;
 import org.opensearch.neuralsearch.util.prune.PruneType;
 import org.opensearch.neuralsearch.util.prune.PruneUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 /**
  * The abstract class for text processing use cases. Users provide a field name map and a model id.
@@ -66,8 +72,15 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
     public static final String ID_FIELD = "_id";
     public static final String SKIP_EXISTING = "skip_existing";
     public static final boolean DEFAULT_SKIP_EXISTING = false;
+    public static final String SKIP_EXISTING_FINGERPRINT = "skip_existing_fingerprint";
+    public static final boolean DEFAULT_SKIP_EXISTING_FINGERPRINT = false;
     private static final BiFunction<Object, Object, Object> REMAPPING_FUNCTION = (v1, v2) -> {
-        if (v1 instanceof Collection && v2 instanceof Collection) {
+        if (v1 instanceof FloatVector vector && v2 instanceof Collection) {
+            // vector holds numbers only, results of any type can be merged into a copy of it
+            List<Object> merged = new ArrayList<>(vector);
+            merged.addAll((Collection) v2);
+            return merged;
+        } else if (v1 instanceof Collection && v2 instanceof Collection) {
             ((Collection) v1).addAll((Collection) v2);
             return v1;
         } else if (v1 instanceof Map && v2 instanceof Map) {
@@ -92,6 +105,7 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     private final Environment environment;
     private final ClusterService clusterService;
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
 
     public InferenceProcessor(
         String tag,
@@ -115,6 +129,7 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         this.mlCommonsClientAccessor = clientAccessor;
         this.environment = environment;
         this.clusterService = clusterService;
+        this.adaptiveBatchSizer = new AdaptiveBatchSizer(batchSize);
     }
 
     private void validateEmbeddingConfiguration(Map<String, Object> fieldMap) {
@@ -181,6 +196,34 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
      */
     abstract void doBatchExecute(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException);
 
+    /**
+     * Cuts the documents into sub-batches of the fixed batch_size, or of a size adapted to the observed inference latency
+     * when adaptive batch sizing is enabled.
+     * @param ingestDocumentWrappers a list of IngestDocuments in a batch.
+     * @param handler a callback handler to handle all processed documents.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (adaptiveBatchSizer.isEnabled() == false) {
+            super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+        adaptiveBatchSizer.batchExecute(ingestDocumentWrappers, this::estimateInferenceTextLength, this::subBatchExecute, handler);
+    }
+
+    // estimates the text length without validating the document, validation happens when the sub-batch is executed
+    private long estimateInferenceTextLength(IngestDocumentWrapper ingestDocumentWrapper) {
+        if (ingestDocumentWrapper.getIngestDocument() == null) {
+            return 0;
+        }
+        Map<String, Object> sourceAndMetadata = ingestDocumentWrapper.getIngestDocument().getSourceAndMetadata();
+        long textLength = 0;
+        for (String field : fieldMap.keySet()) {
+            textLength += AdaptiveBatchSizer.estimateTextLength(sourceAndMetadata.get(field));
+        }
+        return textLength;
+    }
+
     /**
      * This is the function which does actual inference work for subBatchExecute interface.
      * @param ingestDocumentWrappers a list of IngestDocuments in a batch.
@@ -221,12 +264,85 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         Tuple<List<String>, Map<Integer, Integer>> sortedResult = sortByLengthAndReturnOriginalOrder(inferenceList);
         inferenceList = sortedResult.v1();
         Map<Integer, Integer> originalOrder = sortedResult.v2();
-        doBatchExecute(inferenceList, results -> {
+        // texts sorted by length can be sent in length buckets concurrently, results come back in the sorted order
+        LengthBucketedInferenceExecutor.execute(inferenceList, this::doBatchExecuteWithInferenceCache, results -> {
             batchExecuteHandler(results, ingestDocumentWrappers, dataForInferences, originalOrder, handler);
             handler.accept(ingestDocumentWrappers);
         }, exception -> { updateWithExceptions(ingestDocumentWrappers, handler, exception); });
     }
 
+    /**
+     * Invokes doBatchExecute only for texts that are neither cached in {@link IngestInferenceCache} nor duplicates of another
+     * text of the same list, then returns one result per text of the given list in the same order.
+     * @param inferenceList a list of String for inference.
+     * @param handler a callback handler to handle inference results, it receives one result per text of inferenceList.
+     * @param onException an exception callback to handle exception.
+     */
+    @VisibleForTesting
+    void doBatchExecuteWithInferenceCache(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException) {
+        final IngestInferenceCache inferenceCache = IngestInferenceCache.instance();
+        if (inferenceCache.isEnabled(modelId) == false) {
+            doBatchExecute(inferenceList, handler, onException);
+            return;
+        }
+        final String resultType = getInferenceCacheResultType();
+        final Object[] results = new Object[inferenceList.size()];
+        // positions of every text missing in the cache, duplicated texts are sent to the model only once
+        final Map<String, List<Integer>> missingTextPositions = new LinkedHashMap<>();
+        for (int i = 0; i < inferenceList.size(); i++) {
+            final String text = inferenceList.get(i);
+            final List<Integer> positions = missingTextPositions.get(text);
+            if (positions != null) {
+                positions.add(i);
+                inferenceCache.recordDuplicateText();
+                continue;
+            }
+            results[i] = inferenceCache.get(modelId, resultType, text);
+            if (results[i] == null) {
+                missingTextPositions.computeIfAbsent(text, key -> new ArrayList<>()).add(i);
+            }
+        }
+        if (missingTextPositions.isEmpty()) {
+            handler.accept(Arrays.asList(results));
+            return;
+        }
+        final List<String> missingTexts = new ArrayList<>(missingTextPositions.keySet());
+        doBatchExecute(missingTexts, missingResults -> {
+            if (missingResults == null || missingResults.size() != missingTexts.size()) {
+                onException.accept(
+                    new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "expected [%d] inference results but got [%d]",
+                            missingTexts.size(),
+                            missingResults == null ? 0 : missingResults.size()
+                        )
+                    )
+                );
+                return;
+            }
+            for (int i = 0; i < missingTexts.size(); i++) {
+                final Object result = missingResults.get(i);
+                inferenceCache.put(modelId, resultType, missingTexts.get(i), result);
+                final List<Integer> positions = missingTextPositions.get(missingTexts.get(i));
+                results[positions.getFirst()] = result;
+                for (int j = 1; j < positions.size(); j++) {
+                    results[positions.get(j)] = IngestInferenceCache.copyOf(result);
+                }
+            }
+            handler.accept(Arrays.asList(results));
+        }, onException);
+    }
+
+    /**
+     * Type of the results produced by doBatchExecute, used to namespace them in {@link IngestInferenceCache}. Processors
+     * that post-process model output depending on their configuration must include that configuration in the type.
+     * @return type of the inference results
+     */
+    protected String getInferenceCacheResultType() {
+        return getType();
+    }
+
     private void batchExecuteHandler(
         List<?> results,
         List<IngestDocumentWrapper> ingestDocumentWrappers,
@@ -452,17 +568,54 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         nlpResult.forEach(ingestDocument::setFieldValue);
     }
 
+    /**
+     * Selects the inference filter for the index of the document, texts are compared by content when the index doesn't map
+     * the fingerprint fields
+     * @param inferenceFilter inference filter of the processor
+     * @param index index of the document, can be null
+     * */
+    protected InferenceFilter getInferenceFilter(InferenceFilter inferenceFilter, Object index) {
+        IndexMetadata indexMetadata = Objects.isNull(index) ? null : clusterService.state().metadata().index(index.toString());
+        return inferenceFilter.forIndex(indexMetadata);
+    }
+
+    /**
+     * Selects the inference filter for documents of a sub-batch, existing documents are fetched with one request, so texts
+     * of all documents are compared by content when the index of any document doesn't map the fingerprint fields
+     * @param inferenceFilter inference filter of the processor
+     * @param dataForInferences, list of data for inferences
+     * */
+    protected InferenceFilter getInferenceFilter(InferenceFilter inferenceFilter, List<DataForInference> dataForInferences) {
+        for (DataForInference dataForInference : dataForInferences) {
+            Object index = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(INDEX_FIELD);
+            InferenceFilter indexInferenceFilter = getInferenceFilter(inferenceFilter, index);
+            if (indexInferenceFilter != inferenceFilter) {
+                return indexInferenceFilter;
+            }
+        }
+        return inferenceFilter;
+    }
+
     /**
      * This method creates a MultiGetRequest from a list of ingest documents to be fetched for comparison
      * @param dataForInferences, list of data for inferences
      * */
     protected MultiGetRequest buildMultiGetRequest(List<DataForInference> dataForInferences) {
+        return buildMultiGetRequest(dataForInferences, null);
+    }
+
+    /**
+     * This method creates a MultiGetRequest from a list of ingest documents to be fetched for comparison
+     * @param dataForInferences, list of data for inferences
+     * @param fetchSourceContext, source fields to fetch, null to fetch the whole source
+     * */
+    protected MultiGetRequest buildMultiGetRequest(List<DataForInference> dataForInferences, FetchSourceContext fetchSourceContext) {
         MultiGetRequest multiGetRequest = new MultiGetRequest();
         for (DataForInference dataForInference : dataForInferences) {
             Object index = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(INDEX_FIELD);
             Object id = dataForInference.getIngestDocumentWrapper().getIngestDocument().getSourceAndMetadata().get(ID_FIELD);
             if (Objects.nonNull(index) && Objects.nonNull(id)) {
-                multiGetRequest.add(index.toString(), id.toString());
+                multiGetRequest.add(new MultiGetRequest.Item(index.toString(), id.toString()).fetchSourceContext(fetchSourceContext));
             }
         }
         return multiGetRequest;
@@ -7,11 +7,13 @@ package org.opensearch.neuralsearch.processor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.lucene.search.ScoreDoc;
@@ -34,14 +36,17 @@ import org.opensearch.neuralsearch.processor.explain.ExplanationPayload;
 import org.opensearch.neuralsearch.processor.normalization.ScoreNormalizer;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
+import org.opensearch.search.pipeline.ProcessorExecutionDetail;
 import org.opensearch.search.query.QuerySearchResult;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import static org.opensearch.neuralsearch.plugin.NeuralSearch.EXPLANATION_RESPONSE_KEY;
+import static org.opensearch.neuralsearch.processor.util.ShardSliceUtils.processShardSlices;
 import static org.opensearch.neuralsearch.search.util.HybridSearchSortUtil.evaluateSortCriteria;
 
 /**
@@ -51,6 +56,12 @@ import static org.opensearch.neuralsearch.search.util.HybridSearchSortUtil.evalu
 @AllArgsConstructor
 @Log4j2
 public class NormalizationProcessorWorkflow {
+    private static final String PROFILE_TYPE = "NormalizationProcessorWorkflow";
+    private static final String NORMALIZATION_TECHNIQUE = "normalization";
+    private static final String COMBINATION_TECHNIQUE = "combination";
+    private static final String NORMALIZE_TIME = "normalize_time_in_nanos";
+    private static final String COMBINE_TIME = "combine_time_in_nanos";
+    private static final String UPDATE_TIME = "update_time_in_nanos";
 
     private final ScoreNormalizer scoreNormalizer;
     private final ScoreCombiner scoreCombiner;
@@ -80,7 +91,9 @@ public class NormalizationProcessorWorkflow {
 
         // normalize
         log.debug("Do score normalization");
+        final long normalizeStartTime = System.nanoTime();
         scoreNormalizer.normalizeScores(normalizeScoresDTO);
+        final long normalizeTime = System.nanoTime() - normalizeStartTime;
 
         CombineScoresDto combineScoresDTO = CombineScoresDto.builder()
             .queryTopDocs(queryTopDocs)
@@ -93,10 +106,13 @@ public class NormalizationProcessorWorkflow {
 
         // combine
         log.debug("Do score combination");
+        final long combineStartTime = System.nanoTime();
         scoreCombiner.combineScores(combineScoresDTO);
+        final long combineTime = System.nanoTime() - combineStartTime;
 
         // post-process data
         log.debug("Post-process query results after score normalization and combination");
+        final long updateStartTime = System.nanoTime();
         updateOriginalQueryResults(combineScoresDTO, fetchSearchResultOptional.isPresent());
         updateOriginalFetchResults(
             querySearchResults,
@@ -104,6 +120,44 @@ public class NormalizationProcessorWorkflow {
             unprocessedDocIds,
             combineScoresDTO.getFromValueForSingleShard()
         );
+        final long updateTime = System.nanoTime() - updateStartTime;
+
+        profile(request, normalizeTime, combineTime, updateTime);
+    }
+
+    /**
+     * Reports time spent in steps of this workflow when the search is profiled. Normalization runs on the coordinator once for
+     * all shards, so the timings are added to the processor results of the search pipeline rather than to the query profile of
+     * any shard
+     */
+    private void profile(
+        final NormalizationProcessorWorkflowExecuteRequest request,
+        final long normalizeTime,
+        final long combineTime,
+        final long updateTime
+    ) {
+        final PipelineProcessingContext pipelineProcessingContext = request.getPipelineProcessingContext();
+        if (Objects.isNull(pipelineProcessingContext) || isProfiled(request.getSearchPhaseContext()) == false) {
+            return;
+        }
+        Map<String, Object> breakdown = new LinkedHashMap<>();
+        breakdown.put(NORMALIZATION_TECHNIQUE, request.getNormalizationTechnique().techniqueName());
+        breakdown.put(COMBINATION_TECHNIQUE, request.getCombinationTechnique().techniqueName());
+        breakdown.put(NORMALIZE_TIME, normalizeTime);
+        breakdown.put(COMBINE_TIME, combineTime);
+        breakdown.put(UPDATE_TIME, updateTime);
+        ProcessorExecutionDetail processorExecutionDetail = new ProcessorExecutionDetail(PROFILE_TYPE);
+        processorExecutionDetail.addTook(TimeUnit.NANOSECONDS.toMillis(normalizeTime + combineTime + updateTime));
+        processorExecutionDetail.addOutput(breakdown);
+        pipelineProcessingContext.addProcessorExecutionDetail(processorExecutionDetail);
+    }
+
+    private boolean isProfiled(final SearchPhaseContext searchPhaseContext) {
+        if (Objects.isNull(searchPhaseContext) || Objects.isNull(searchPhaseContext.getRequest())) {
+            return false;
+        }
+        final SearchSourceBuilder source = searchPhaseContext.getRequest().source();
+        return Objects.nonNull(source) && source.profile();
     }
 
     private boolean getIsSingleShard(final NormalizationProcessorWorkflowExecuteRequest request) {
@@ -229,21 +283,15 @@ public class NormalizationProcessorWorkflow {
 
             totalScoreDocsCount = collapseExecutor.executeCollapse(collapseDTO);
         } else {
-            for (int shardIndex = 0; shardIndex < querySearchResults.size(); shardIndex++) {
-                QuerySearchResult querySearchResult = querySearchResults.get(shardIndex);
-                CompoundTopDocs updatedTopDocs = queryTopDocs.get(shardIndex);
+            for (CompoundTopDocs updatedTopDocs : queryTopDocs) {
                 totalScoreDocsCount += updatedTopDocs.getScoreDocs().size();
-                TopDocsAndMaxScore updatedTopDocsAndMaxScore = new TopDocsAndMaxScore(
-                    buildTopDocs(updatedTopDocs, sort),
-                    NormalizationProcessorWorkflowUtil.maxScoreForShard(updatedTopDocs, sort != null)
-                );
-                // Fetch Phase had ran before the normalization phase, therefore update the from value in result of each shard.
-                // This will ensure the trimming of the search results.
-                if (isFetchPhaseExecuted) {
-                    querySearchResult.from(combineScoresDTO.getFromValueForSingleShard());
-                }
-                querySearchResult.topDocs(updatedTopDocsAndMaxScore, querySearchResult.sortValueFormats());
             }
+            // results of every shard are updated independently, for many hits slices of shards are updated in parallel
+            processShardSlices(
+                querySearchResults.size(),
+                shardIndex -> queryTopDocs.get(shardIndex).getScoreDocs().size(),
+                (from, to) -> updateOriginalQueryResults(combineScoresDTO, queryTopDocs, isFetchPhaseExecuted, from, to)
+            );
         }
 
         final int from = querySearchResults.get(0).from();
@@ -254,6 +302,31 @@ public class NormalizationProcessorWorkflow {
         }
     }
 
+    private void updateOriginalQueryResults(
+        final CombineScoresDto combineScoresDTO,
+        final List<CompoundTopDocs> queryTopDocs,
+        final boolean isFetchPhaseExecuted,
+        final int fromShardIndex,
+        final int toShardIndex
+    ) {
+        final List<QuerySearchResult> querySearchResults = combineScoresDTO.getQuerySearchResults();
+        final Sort sort = combineScoresDTO.getSort();
+        for (int shardIndex = fromShardIndex; shardIndex < toShardIndex; shardIndex++) {
+            QuerySearchResult querySearchResult = querySearchResults.get(shardIndex);
+            CompoundTopDocs updatedTopDocs = queryTopDocs.get(shardIndex);
+            TopDocsAndMaxScore updatedTopDocsAndMaxScore = new TopDocsAndMaxScore(
+                buildTopDocs(updatedTopDocs, sort),
+                NormalizationProcessorWorkflowUtil.maxScoreForShard(updatedTopDocs, sort != null)
+            );
+            // Fetch Phase had ran before the normalization phase, therefore update the from value in result of each shard.
+            // This will ensure the trimming of the search results.
+            if (isFetchPhaseExecuted) {
+                querySearchResult.from(combineScoresDTO.getFromValueForSingleShard());
+            }
+            querySearchResult.topDocs(updatedTopDocsAndMaxScore, querySearchResult.sortValueFormats());
+        }
+    }
+
     private List<CompoundTopDocs> getCompoundTopDocs(CombineScoresDto combineScoresDTO, List<QuerySearchResult> querySearchResults) {
         final List<CompoundTopDocs> queryTopDocs = combineScoresDTO.getQueryTopDocs();
         if (querySearchResults.size() != queryTopDocs.size()) {
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.processor;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
@@ -22,6 +23,7 @@ import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.optimization.InferenceFilter;
 import org.opensearch.neuralsearch.processor.optimization.TextEmbeddingInferenceFilter;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
@@ -89,18 +91,23 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         // if skipExisting flag is turned on, eligible inference texts will be compared and filtered after embeddings are copied
         Object index = ingestDocument.getSourceAndMetadata().get(INDEX_FIELD);
         Object id = ingestDocument.getSourceAndMetadata().get(ID_FIELD);
+        InferenceFilter inferenceFilter = getInferenceFilter(textEmbeddingInferenceFilter, index);
+        inferenceFilter.writeFingerprints(ingestDocument.getSourceAndMetadata());
         if (Objects.isNull(index) || Objects.isNull(id)) {
             generateAndSetMapInference(ingestDocument, processMap, inferenceList, pruneType, pruneRatio, handler);
             return;
         }
-        openSearchClient.execute(GetAction.INSTANCE, new GetRequest(index.toString(), id.toString()), ActionListener.wrap(response -> {
+        GetRequest getRequest = new GetRequest(index.toString(), id.toString()).fetchSourceContext(
+            inferenceFilter.getExistingDocumentFetchSourceContext()
+        );
+        openSearchClient.execute(GetAction.INSTANCE, getRequest, ActionListener.wrap(response -> {
             final Map<String, Object> existingDocument = response.getSourceAsMap();
             if (existingDocument == null || existingDocument.isEmpty()) {
                 generateAndSetMapInference(ingestDocument, processMap, inferenceList, pruneType, pruneRatio, handler);
                 return;
             }
             // filter given ProcessMap by comparing existing document with ingestDocument
-            Map<String, Object> filteredProcessMap = textEmbeddingInferenceFilter.filterAndCopyExistingEmbeddings(
+            Map<String, Object> filteredProcessMap = inferenceFilter.filterAndCopyExistingEmbeddings(
                 existingDocument,
                 ingestDocument.getSourceAndMetadata(),
                 processMap
@@ -132,6 +139,12 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         );
     }
 
+    @Override
+    protected String getInferenceCacheResultType() {
+        // cached sparse vectors are already pruned
+        return String.format(Locale.ROOT, "%s_%s_%s", TYPE, pruneType, pruneRatio);
+    }
+
     @Override
     public void subBatchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
         EventStatsManager.increment(EventStatName.SPARSE_ENCODING_PROCESSOR_EXECUTIONS);
@@ -153,9 +166,14 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
             }
             // skipExisting flag is turned on, eligible inference texts in dataForInferences will be compared and filtered after embeddings
             // are copied
+            InferenceFilter inferenceFilter = getInferenceFilter(textEmbeddingInferenceFilter, dataForInferences);
+            for (DataForInference dataForInference : dataForInferences) {
+                IngestDocument ingestDocument = dataForInference.getIngestDocumentWrapper().getIngestDocument();
+                inferenceFilter.writeFingerprints(ingestDocument.getSourceAndMetadata());
+            }
             openSearchClient.execute(
                 MultiGetAction.INSTANCE,
-                buildMultiGetRequest(dataForInferences),
+                buildMultiGetRequest(dataForInferences, inferenceFilter.getExistingDocumentFetchSourceContext()),
                 ActionListener.wrap(
                     response -> reuseOrGenerateEmbedding(
                         response,
@@ -163,7 +181,7 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
                         inferenceList,
                         dataForInferences,
                         handler,
-                        textEmbeddingInferenceFilter
+                        inferenceFilter
                     ),
                     e -> {
                         // When exception is thrown in for MultiGetAction, set exception to all ingestDocumentWrappers
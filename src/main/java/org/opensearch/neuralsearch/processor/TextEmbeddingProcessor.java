@@ -22,6 +22,7 @@ import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.processor.optimization.InferenceFilter;
 import org.opensearch.neuralsearch.processor.optimization.TextEmbeddingInferenceFilter;
 import org.opensearch.transport.client.OpenSearchClient;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
@@ -76,13 +77,18 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
         // if skipExisting flag is turned on, eligible inference texts will be compared and filtered after embeddings are copied
         Object index = ingestDocument.getSourceAndMetadata().get(INDEX_FIELD);
         Object id = ingestDocument.getSourceAndMetadata().get(ID_FIELD);
+        InferenceFilter inferenceFilter = getInferenceFilter(textEmbeddingInferenceFilter, index);
+        inferenceFilter.writeFingerprints(ingestDocument.getSourceAndMetadata());
         if (Objects.isNull(index) || Objects.isNull(id)) {
             generateAndSetInference(ingestDocument, processMap, inferenceList, handler);
             return;
         }
+        GetRequest getRequest = new GetRequest(index.toString(), id.toString()).fetchSourceContext(
+            inferenceFilter.getExistingDocumentFetchSourceContext()
+        );
         openSearchClient.execute(
             GetAction.INSTANCE,
-            new GetRequest(index.toString(), id.toString()),
+            getRequest,
             ActionListener.wrap(
                 response -> reuseOrGenerateEmbedding(
                     response,
@@ -90,7 +96,7 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
                     processMap,
                     inferenceList,
                     handler,
-                    textEmbeddingInferenceFilter
+                    inferenceFilter
                 ),
                 e -> {
                     handler.accept(null, e);
@@ -128,10 +134,15 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
             }
             // skipExisting flag is turned on, eligible inference texts in dataForInferences will be compared and filtered after embeddings
             // are copied
+            InferenceFilter inferenceFilter = getInferenceFilter(textEmbeddingInferenceFilter, dataForInferences);
+            for (DataForInference dataForInference : dataForInferences) {
+                IngestDocument ingestDocument = dataForInference.getIngestDocumentWrapper().getIngestDocument();
+                inferenceFilter.writeFingerprints(ingestDocument.getSourceAndMetadata());
+            }
             EventStatsManager.increment(EventStatName.SKIP_EXISTING_EXECUTIONS);
             openSearchClient.execute(
                 MultiGetAction.INSTANCE,
-                buildMultiGetRequest(dataForInferences),
+                buildMultiGetRequest(dataForInferences, inferenceFilter.getExistingDocumentFetchSourceContext()),
                 ActionListener.wrap(
                     response -> reuseOrGenerateEmbedding(
                         response,
@@ -139,7 +150,7 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
                         inferenceList,
                         dataForInferences,
                         handler,
-                        textEmbeddingInferenceFilter
+                        inferenceFilter
                     ),
                     e -> {
                         // When exception is thrown in for MultiGetAction, set exception to all ingestDocumentWrappers
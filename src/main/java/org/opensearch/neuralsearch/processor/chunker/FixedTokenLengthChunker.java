@@ -4,16 +4,22 @@
  */
 package org.opensearch.neuralsearch.processor.chunker;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
 import java.util.Locale;
 import java.util.Map;
 import java.util.List;
 import java.util.Set;
 import java.util.ArrayList;
 
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.index.analysis.AnalysisRegistry;
-import org.opensearch.action.admin.indices.analyze.AnalyzeAction;
-import org.opensearch.action.admin.indices.analyze.AnalyzeAction.AnalyzeToken;
-import static org.opensearch.action.admin.indices.analyze.TransportAnalyzeAction.analyze;
+import org.opensearch.index.analysis.NameOrDefinition;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseStringWithDefault;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseDoubleWithDefault;
@@ -21,8 +27,11 @@ import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterPars
 
 /**
  * The implementation {@link Chunker} for fixed token length algorithm.
+ * Passage boundaries are emitted while the content is tokenized, only the start offsets of the passages in progress are kept.
+ * The analyzer of the tokenizer is built once and closed with the chunker. Ingest processors have no close hook, so it is also
+ * closed once the chunker is no longer reachable, e.g. after the pipeline of its processor is replaced or deleted.
  */
-public final class FixedTokenLengthChunker extends Chunker {
+public final class FixedTokenLengthChunker extends Chunker implements Closeable {
 
     /** The identifier for the fixed token length chunking algorithm. */
     public static final String ALGORITHM_NAME = "fixed_token_length";
@@ -47,6 +56,9 @@ public final class FixedTokenLengthChunker extends Chunker {
     private static final double DEFAULT_OVERLAP_RATE = 0.0;
     private static final String DEFAULT_TOKENIZER = "standard";
 
+    // closes the analyzers of chunkers that are no longer reachable
+    private static final Cleaner CLEANER = Cleaner.create();
+
     // parameter restrictions
     private static final double OVERLAP_RATE_LOWER_BOUND = 0.0;
     private static final double OVERLAP_RATE_UPPER_BOUND = 0.5;
@@ -65,6 +77,9 @@ public final class FixedTokenLengthChunker extends Chunker {
     private String tokenizer;
     private double overlapRate;
     private final AnalysisRegistry analysisRegistry;
+    // analyzer of the tokenizer, built on first use and reused across calls
+    private final AnalyzerHolder analyzerHolder = new AnalyzerHolder();
+    private final Cleaner.Cleanable cleanable;
 
     /**
      * Constructor that initializes the fixed token length chunker with the specified parameters.
@@ -73,6 +88,7 @@ public final class FixedTokenLengthChunker extends Chunker {
     public FixedTokenLengthChunker(final Map<String, Object> parameters) {
         parseParameters(parameters);
         this.analysisRegistry = (AnalysisRegistry) parameters.get(ANALYSIS_REGISTRY_FIELD);
+        this.cleanable = CLEANER.register(this, analyzerHolder);
     }
 
     /**
@@ -135,54 +151,109 @@ public final class FixedTokenLengthChunker extends Chunker {
         int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
         int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
 
-        List<AnalyzeToken> tokens = tokenize(content, tokenizer, maxTokenCount);
         List<String> chunkResult = new ArrayList<>();
-
-        int startTokenIndex = 0;
-        int startContentPosition, endContentPosition;
         int overlapTokenNumber = (int) Math.floor(tokenLimit * overlapRate);
+        int stepTokenNumber = tokenLimit - overlapTokenNumber;
+        // start offsets of the passages that started and have not ended yet, indexed by passage number
+        int[] passageStartOffsets = new int[tokenLimit / stepTokenNumber + 1];
+        // the earliest passage that has not ended yet
+        int passageNumber = 0;
+        int tokenCount = 0;
 
-        while (startTokenIndex < tokens.size()) {
-            if (startTokenIndex == 0) {
-                // include all characters till the start if no previous passage
-                startContentPosition = 0;
-            } else {
-                startContentPosition = tokens.get(startTokenIndex).getStartOffset();
-            }
-            if (Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
-                // include all characters till the end if exceeds max chunk limit
-                chunkResult.add(content.substring(startContentPosition));
-                break;
+        try (TokenStream tokenStream = getAnalyzer().tokenStream(null, content)) {
+            OffsetAttribute offsetAttribute = tokenStream.addAttribute(OffsetAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                int tokenIndex = tokenCount++;
+                if (tokenCount > maxTokenCount) {
+                    throw new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "The number of tokens produced by calling _analyze has exceeded the allowed maximum of [%d]. "
+                                + "This limit can be set by changing the [index.analyze.max_token_count] index level setting.",
+                            maxTokenCount
+                        )
+                    );
+                }
+                int startOffset = offsetAttribute.startOffset();
+                if (tokenIndex % stepTokenNumber == 0) {
+                    // include all characters till the start if no previous passage
+                    int passageStartOffset = tokenIndex == 0 ? 0 : startOffset;
+                    passageStartOffsets[(tokenIndex / stepTokenNumber) % passageStartOffsets.length] = passageStartOffset;
+                }
+                if (tokenIndex == 0 && Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
+                    // include all characters till the end if exceeds max chunk limit
+                    chunkResult.add(content);
+                    tokenStream.end();
+                    return chunkResult;
+                }
+                if (tokenIndex == passageNumber * stepTokenNumber + tokenLimit) {
+                    // include gap characters between two passages
+                    int passageStartOffset = passageStartOffsets[passageNumber % passageStartOffsets.length];
+                    chunkResult.add(content.substring(passageStartOffset, startOffset));
+                    passageNumber++;
+                    if (Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
+                        // include all characters till the end if exceeds max chunk limit, the rest is not tokenized
+                        chunkResult.add(content.substring(passageStartOffsets[passageNumber % passageStartOffsets.length]));
+                        tokenStream.end();
+                        return chunkResult;
+                    }
+                }
             }
-            if (startTokenIndex + tokenLimit >= tokens.size()) {
-                // include all characters till the end if no next passage
-                endContentPosition = content.length();
-                chunkResult.add(content.substring(startContentPosition, endContentPosition));
-                break;
-            } else {
-                // include gap characters between two passages
-                endContentPosition = tokens.get(startTokenIndex + tokenLimit).getStartOffset();
-                chunkResult.add(content.substring(startContentPosition, endContentPosition));
-            }
-            startTokenIndex += tokenLimit - overlapTokenNumber;
+            tokenStream.end();
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format(Locale.ROOT, "analyzer %s throws exception: %s", tokenizer, e.getMessage()), e);
+        }
+        if (tokenCount > 0) {
+            // include all characters till the end if no next passage
+            chunkResult.add(content.substring(passageStartOffsets[passageNumber % passageStartOffsets.length]));
         }
         return chunkResult;
     }
 
-    private List<AnalyzeToken> tokenize(final String content, final String tokenizer, final int maxTokenCount) {
-        AnalyzeAction.Request analyzeRequest = new AnalyzeAction.Request();
-        analyzeRequest.text(content);
-        analyzeRequest.tokenizer(tokenizer);
-        try {
-            AnalyzeAction.Response analyzeResponse = analyze(analyzeRequest, analysisRegistry, null, maxTokenCount);
-            return analyzeResponse.getTokens();
-        } catch (Exception e) {
-            throw new IllegalStateException(String.format(Locale.ROOT, "analyzer %s throws exception: %s", tokenizer, e.getMessage()), e);
+    private Analyzer getAnalyzer() throws IOException {
+        Analyzer analyzer = analyzerHolder.analyzer;
+        if (analyzer == null) {
+            synchronized (analyzerHolder) {
+                if (analyzerHolder.closed) {
+                    throw new AlreadyClosedException("fixed token length chunker is closed");
+                }
+                analyzer = analyzerHolder.analyzer;
+                if (analyzer == null) {
+                    // the same analyzer the _analyze API builds for a tokenizer without index
+                    analyzer = analysisRegistry.buildCustomAnalyzer(null, false, new NameOrDefinition(tokenizer), List.of(), List.of());
+                    analyzerHolder.analyzer = analyzer;
+                }
+            }
         }
+        return analyzer;
+    }
+
+    /**
+     * Closes the analyzer of the tokenizer, the chunker can't be used afterwards
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
     }
 
     @Override
     public String getAlgorithmName() {
         return ALGORITHM_NAME;
     }
+
+    /**
+     * Holds the analyzer apart from the chunker, so that the cleaner doesn't keep the chunker reachable
+     */
+    private static final class AnalyzerHolder implements Runnable {
+        private volatile Analyzer analyzer;
+        private boolean closed;
+
+        @Override
+        public synchronized void run() {
+            closed = true;
+            IOUtils.closeWhileHandlingException(analyzer);
+            analyzer = null;
+        }
+    }
 }
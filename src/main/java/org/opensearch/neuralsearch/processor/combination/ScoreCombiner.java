@@ -5,17 +5,13 @@
 package org.opensearch.neuralsearch.processor.combination;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.Objects;
 import java.util.Comparator;
-import java.util.LinkedHashSet;
-
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.TopDocs;
@@ -26,6 +22,7 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.neuralsearch.processor.CompoundTopDocs;
 
 import lombok.extern.log4j.Log4j2;
@@ -33,6 +30,8 @@ import org.opensearch.neuralsearch.processor.SearchShard;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 
+import static org.opensearch.neuralsearch.processor.util.ShardSliceUtils.processShardSlices;
+
 /**
  * Abstracts combination of scores in query search results.
  */
@@ -58,13 +57,14 @@ public class ScoreCombiner {
     /**
      * Performs score combination based on input combination technique. Mutates input object by updating combined scores
      * Main steps we're doing for combination:
-     * - create map of normalized scores per doc id
-     * - using normalized scores create another map of combined scores per doc id
+     * - collect normalized scores of every doc id into primitive arrays sorted by doc id
+     * - using normalized scores calculate combined score of every doc id
      * - count max number of hits among sub-queries
      * - sort documents by scores and take first "max number" of docs
      * - update query search results with normalized scores
      * Different score combination techniques are different in step 2, where we create map of "doc id" - "combined score",
      * other steps are same for all techniques.
+     * Shards are combined independently, for results with many hits slices of shards are combined in parallel.
      *
      * @param combineScoresDTO   contains details of query top docs, score combination technique and sort is enabled or disabled.
      */
@@ -74,41 +74,56 @@ public class ScoreCombiner {
         ScoreCombinationTechnique scoreCombinationTechnique = combineScoresDTO.getScoreCombinationTechnique();
         Sort sort = combineScoresDTO.getSort();
         boolean isSingleShard = combineScoresDTO.isSingleShard();
-        combineScoresDTO.getQueryTopDocs()
-            .forEach(compoundQueryTopDocs -> combineShardScores(scoreCombinationTechnique, compoundQueryTopDocs, sort, isSingleShard));
+        List<CompoundTopDocs> queryTopDocs = combineScoresDTO.getQueryTopDocs();
+        processShardSlices(queryTopDocs.size(), shardIndex -> getNumOfHits(queryTopDocs.get(shardIndex)), (from, to) -> {
+            // arrays with scores are reused for all shards of the slice
+            ShardScores shardScores = new ShardScores();
+            for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs.subList(from, to)) {
+                combineShardScores(scoreCombinationTechnique, compoundQueryTopDocs, sort, isSingleShard, shardScores);
+            }
+        });
+    }
+
+    private long getNumOfHits(final CompoundTopDocs compoundQueryTopDocs) {
+        if (Objects.isNull(compoundQueryTopDocs)) {
+            return 0;
+        }
+        long numOfHits = 0;
+        for (TopDocs topDocs : compoundQueryTopDocs.getTopDocs()) {
+            numOfHits += topDocs.scoreDocs.length;
+        }
+        return numOfHits;
     }
 
     private void combineShardScores(
         final ScoreCombinationTechnique scoreCombinationTechnique,
         final CompoundTopDocs compoundQueryTopDocs,
         final Sort sort,
-        final boolean isSingleShard
+        final boolean isSingleShard,
+        final ShardScores shardScores
     ) {
         if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTotalHits().value() == 0) {
             return;
         }
         List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
 
-        // - create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(topDocsPerSubQuery);
+        // - collect normalized scores results returned from the single shard
+        shardScores.collectNormalizedScores(topDocsPerSubQuery);
 
-        // - create map of combined scores per doc id
-        Map<Integer, Float> combinedNormalizedScoresByDocId = combineScoresAndGetCombinedNormalizedScoresPerDocument(
-            normalizedScoresPerDoc,
-            scoreCombinationTechnique
-        );
+        // - combine scores per doc id
+        shardScores.combine(scoreCombinationTechnique);
 
         // - sort documents by scores and take first "max number" of docs
         // create a collection of doc ids that are sorted by their combined scores
-        Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
+        int[] sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, shardScores);
 
         // - update query search results with combined scores
         updateQueryTopDocsWithCombinedScores(
             compoundQueryTopDocs,
             topDocsPerSubQuery,
-            combinedNormalizedScoresByDocId,
+            shardScores,
             sortedDocsIds,
-            getDocIdSortFieldsMap(compoundQueryTopDocs, combinedNormalizedScoresByDocId, sort),
+            getDocIdSortFields(compoundQueryTopDocs, shardScores, sort),
             sort,
             isSingleShard
         );
@@ -150,65 +165,52 @@ public class ScoreCombiner {
 
     /**
      * @param compoundTopDocs top docs that represent on shard
-     * @param combinedNormalizedScoresByDocId docId to normalized scores map
+     * @param shardScores normalized and combined scores of docs of the shard
      * @param sort sort criteria
-     * @return map of docId and sort fields if sorting is enabled.
+     * @return sort fields of every doc by position of the doc in shard scores if sorting is enabled.
      */
-    private Map<Integer, Object[]> getDocIdSortFieldsMap(
-        final CompoundTopDocs compoundTopDocs,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Sort sort
-    ) {
+    private Object[][] getDocIdSortFields(final CompoundTopDocs compoundTopDocs, final ShardScores shardScores, final Sort sort) {
         // If sort is null then no sort fields present therefore return null.
         if (sort == null) {
             return null;
         }
         // we're merging docs with normalized and combined scores. we need to have only maxHits results
-        Map<Integer, Object[]> docIdSortFieldMap = new HashMap<>();
+        Object[][] docIdSortFields = new Object[shardScores.getNumOfDocs()][];
         final List<TopDocs> topFieldDocs = compoundTopDocs.getTopDocs();
         final boolean isSortByScore = isSortOrderByScore(sort);
         final boolean isCollapseEnabled = topFieldDocs.getFirst() instanceof CollapseTopFieldDocs;
         for (TopDocs topDocs : topFieldDocs) {
             for (int scoreDocIndex = 0; scoreDocIndex < topDocs.scoreDocs.length; scoreDocIndex++) {
                 FieldDoc fieldDoc = (FieldDoc) topDocs.scoreDocs[scoreDocIndex];
+                int docIndex = shardScores.indexOf(fieldDoc.doc);
 
-                if (docIdSortFieldMap.get(fieldDoc.doc) == null) {
+                if (docIdSortFields[docIndex] == null) {
                     // If sort by score then replace sort field value with normalized score.
                     // If collapse is enabled, then we append the collapse value to the end of the sort fields
                     // in order to more easily access it later.
                     if (isSortByScore) {
-                        docIdSortFieldMap.put(
-                            fieldDoc.doc,
-                            isCollapseEnabled
-                                ? new Object[] {
-                                    combinedNormalizedScoresByDocId.get(fieldDoc.doc),
-                                    ((CollapseTopFieldDocs) topDocs).collapseValues[scoreDocIndex] }
-                                : new Object[] { combinedNormalizedScoresByDocId.get(fieldDoc.doc) }
-                        );
+                        docIdSortFields[docIndex] = isCollapseEnabled
+                            ? new Object[] {
+                                shardScores.getCombinedScore(fieldDoc.doc),
+                                ((CollapseTopFieldDocs) topDocs).collapseValues[scoreDocIndex] }
+                            : new Object[] { shardScores.getCombinedScore(fieldDoc.doc) };
                     } else {
                         if (isCollapseEnabled) {
                             Object[] fields = new Object[fieldDoc.fields.length + 1];
                             System.arraycopy(fieldDoc.fields, 0, fields, 0, fieldDoc.fields.length);
                             fields[fieldDoc.fields.length] = ((CollapseTopFieldDocs) topDocs).collapseValues[scoreDocIndex];
-                            docIdSortFieldMap.put(fieldDoc.doc, fields);
+                            docIdSortFields[docIndex] = fields;
                         } else {
-                            docIdSortFieldMap.put(fieldDoc.doc, fieldDoc.fields);
+                            docIdSortFields[docIndex] = fieldDoc.fields;
                         }
                     }
                 }
             }
         }
-        return docIdSortFieldMap;
-    }
-
-    private List<Integer> getSortedDocIds(final Map<Integer, Float> combinedNormalizedScoresByDocId) {
-        // we're merging docs with normalized and combined scores. we need to have only maxHits results
-        List<Integer> sortedDocsIds = new ArrayList<>(combinedNormalizedScoresByDocId.keySet());
-        sortedDocsIds.sort((a, b) -> Float.compare(combinedNormalizedScoresByDocId.get(b), combinedNormalizedScoresByDocId.get(a)));
-        return sortedDocsIds;
+        return docIdSortFields;
     }
 
-    private Set<Integer> getSortedDocIdsBySortCriteria(final List<TopFieldDocs> topFieldDocs, final Sort sort) {
+    private int[] getSortedDocIdsBySortCriteria(final List<TopFieldDocs> topFieldDocs, final Sort sort, final ShardScores shardScores) {
         if (Objects.isNull(topFieldDocs)) {
             throw new IllegalArgumentException("topFieldDocs cannot be null when sorting is enabled.");
         }
@@ -233,19 +235,23 @@ public class ScoreCombiner {
         final TopDocs sortedTopDocs = TopDocs.merge(sort, 0, size, topFieldDocs.toArray(new TopFieldDocs[0]), SORTING_TIE_BREAKER);
 
         // Remove duplicates from the sorted top docs.
-        Set<Integer> uniqueDocIds = new LinkedHashSet<>();
+        FixedBitSet uniqueDocs = new FixedBitSet(shardScores.getNumOfDocs());
+        int[] uniqueDocIds = new int[shardScores.getNumOfDocs()];
+        int numOfUniqueDocIds = 0;
         for (ScoreDoc scoreDoc : sortedTopDocs.scoreDocs) {
-            uniqueDocIds.add(scoreDoc.doc);
+            if (uniqueDocs.getAndSet(shardScores.indexOf(scoreDoc.doc)) == false) {
+                uniqueDocIds[numOfUniqueDocIds++] = scoreDoc.doc;
+            }
         }
-        return uniqueDocIds;
+        return Arrays.copyOf(uniqueDocIds, numOfUniqueDocIds);
     }
 
     private List<ScoreDoc> getCombinedScoreDocs(
         final CompoundTopDocs compoundQueryTopDocs,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Collection<Integer> sortedScores,
+        final ShardScores shardScores,
+        final int[] sortedDocIds,
         final long maxHits,
-        final Map<Integer, Object[]> docIdSortFieldMap,
+        final Object[][] docIdSortFields,
         final Sort sort,
         final boolean isSingleShard
     ) {
@@ -256,14 +262,10 @@ public class ScoreCombiner {
         if (!compoundQueryTopDocs.getScoreDocs().isEmpty()) {
             shardId = compoundQueryTopDocs.getScoreDocs().get(0).shardIndex;
         }
-        List<ScoreDoc> scoreDocs = new ArrayList<>();
-        int hitCount = 0;
-        for (Integer docId : sortedScores) {
-            if (hitCount == maxHits) {
-                break;
-            }
-            scoreDocs.add(getScoreDoc(sort, docId, shardId, combinedNormalizedScoresByDocId, docIdSortFieldMap, isSingleShard));
-            hitCount++;
+        int numOfHits = (int) Math.min(maxHits, sortedDocIds.length);
+        List<ScoreDoc> scoreDocs = new ArrayList<>(numOfHits);
+        for (int hit = 0; hit < numOfHits; hit++) {
+            scoreDocs.add(getScoreDoc(sort, sortedDocIds[hit], shardId, shardScores, docIdSortFields, isSingleShard));
         }
         return scoreDocs;
     }
@@ -272,53 +274,28 @@ public class ScoreCombiner {
         final Sort sort,
         final int docId,
         final int shardId,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Map<Integer, Object[]> docIdSortFieldMap,
+        final ShardScores shardScores,
+        final Object[][] docIdSortFields,
         final boolean isSingleShard
     ) {
         final boolean isSortEnabled = sort != null;
         final boolean isSortByScore = isSortOrderByScore(sort);
         // Case when sort is enabled on single shard and sorting is not done on score field
         if (isSortEnabled && isSortByScore == false && isSingleShard) {
-            return new FieldDoc(docId, Float.NaN, docIdSortFieldMap.get(docId), shardId);
-        }
-        if (isSortEnabled && docIdSortFieldMap != null) {
-            return new FieldDoc(docId, combinedNormalizedScoresByDocId.get(docId), docIdSortFieldMap.get(docId), shardId);
+            return new FieldDoc(docId, Float.NaN, docIdSortFields[shardScores.indexOf(docId)], shardId);
         }
-        return new ScoreDoc(docId, combinedNormalizedScoresByDocId.get(docId), shardId);
-    }
-
-    public Map<Integer, float[]> getNormalizedScoresPerDocument(final List<TopDocs> topDocsPerSubQuery) {
-        Map<Integer, float[]> normalizedScoresPerDoc = new HashMap<>();
-        for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-            TopDocs topDocs = topDocsPerSubQuery.get(j);
-            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                normalizedScoresPerDoc.computeIfAbsent(scoreDoc.doc, key -> {
-                    float[] scores = new float[topDocsPerSubQuery.size()];
-                    // we initialize with -1.0, as after normalization it's possible that score is 0.0
-                    return scores;
-                });
-                normalizedScoresPerDoc.get(scoreDoc.doc)[j] = scoreDoc.score;
-            }
+        if (isSortEnabled && docIdSortFields != null) {
+            return new FieldDoc(docId, shardScores.getCombinedScore(docId), docIdSortFields[shardScores.indexOf(docId)], shardId);
         }
-        return normalizedScoresPerDoc;
-    }
-
-    private Map<Integer, Float> combineScoresAndGetCombinedNormalizedScoresPerDocument(
-        final Map<Integer, float[]> normalizedScoresPerDocument,
-        final ScoreCombinationTechnique scoreCombinationTechnique
-    ) {
-        return normalizedScoresPerDocument.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        return new ScoreDoc(docId, shardScores.getCombinedScore(docId), shardId);
     }
 
     private void updateQueryTopDocsWithCombinedScores(
         final CompoundTopDocs compoundQueryTopDocs,
         final List<TopDocs> topDocsPerSubQuery,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId,
-        final Collection<Integer> sortedScores,
-        Map<Integer, Object[]> docIdSortFieldMap,
+        final ShardScores shardScores,
+        final int[] sortedDocIds,
+        final Object[][] docIdSortFields,
         final Sort sort,
         final boolean isSingleShard
     ) {
@@ -326,15 +303,7 @@ public class ScoreCombiner {
         long maxHits = compoundQueryTopDocs.getTotalHits().value();
         // - update query search results with normalized scores
         compoundQueryTopDocs.setScoreDocs(
-            getCombinedScoreDocs(
-                compoundQueryTopDocs,
-                combinedNormalizedScoresByDocId,
-                sortedScores,
-                maxHits,
-                docIdSortFieldMap,
-                sort,
-                isSingleShard
-            )
+            getCombinedScoreDocs(compoundQueryTopDocs, shardScores, sortedDocIds, maxHits, docIdSortFields, sort, isSingleShard)
         );
         compoundQueryTopDocs.setTotalHits(getTotalHits(topDocsPerSubQuery, maxHits));
     }
@@ -378,14 +347,13 @@ public class ScoreCombiner {
         if (Objects.isNull(compoundQueryTopDocs) || compoundQueryTopDocs.getTotalHits().value() == 0) {
             return List.of();
         }
-        // create map of normalized scores results returned from the single shard
-        Map<Integer, float[]> normalizedScoresPerDoc = getNormalizedScoresPerDocument(compoundQueryTopDocs.getTopDocs());
+        // collect normalized scores results returned from the single shard
+        ShardScores shardScores = new ShardScores();
+        shardScores.collectNormalizedScores(compoundQueryTopDocs.getTopDocs());
         // combine scores
-        Map<Integer, Float> combinedNormalizedScoresByDocId = normalizedScoresPerDoc.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, entry -> scoreCombinationTechnique.combine(entry.getValue())));
+        shardScores.combine(scoreCombinationTechnique);
         // sort combined scores as per sorting criteria - either score desc or field sorting
-        Collection<Integer> sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, combinedNormalizedScoresByDocId);
+        int[] sortedDocsIds = getSortedDocsIds(compoundQueryTopDocs, sort, shardScores);
 
         List<ExplanationDetails> listOfExplanations = new ArrayList<>();
         String combinationDescription = String.format(
@@ -396,25 +364,18 @@ public class ScoreCombiner {
         for (int docId : sortedDocsIds) {
             ExplanationDetails explanation = new ExplanationDetails(
                 docId,
-                List.of(Pair.of(combinedNormalizedScoresByDocId.get(docId), combinationDescription))
+                List.of(Pair.of(shardScores.getCombinedScore(docId), combinationDescription))
             );
             listOfExplanations.add(explanation);
         }
         return listOfExplanations;
     }
 
-    private Collection<Integer> getSortedDocsIds(
-        final CompoundTopDocs compoundQueryTopDocs,
-        final Sort sort,
-        final Map<Integer, Float> combinedNormalizedScoresByDocId
-    ) {
-        Collection<Integer> sortedDocsIds;
+    private int[] getSortedDocsIds(final CompoundTopDocs compoundQueryTopDocs, final Sort sort, final ShardScores shardScores) {
         if (sort != null) {
             List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            sortedDocsIds = getSortedDocIdsBySortCriteria(getTopFieldDocs(sort, topDocsPerSubQuery), sort);
-        } else {
-            sortedDocsIds = getSortedDocIds(combinedNormalizedScoresByDocId);
+            return getSortedDocIdsBySortCriteria(getTopFieldDocs(sort, topDocsPerSubQuery), sort, shardScores);
         }
-        return sortedDocsIds;
+        return shardScores.getDocIdsSortedByCombinedScore();
     }
 }
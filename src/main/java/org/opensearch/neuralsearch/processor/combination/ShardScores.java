@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.NumericUtils;
+
+/**
+ * Normalized scores of sub-queries and combined scores of docs from a single shard. Doc ids are kept in a primitive array
+ * sorted by doc id and scores of a doc are found by binary search, so neither doc ids nor scores are boxed. Arrays only grow,
+ * one instance is reused for all shards of a search request.
+ */
+final class ShardScores {
+    private int[] docIds = new int[0];
+    // normalized scores of all sub-queries of a doc are next to each other, score of a sub-query that doesn't match the doc is 0
+    private float[] normalizedScores = new float[0];
+    private float[] combinedScores = new float[0];
+    private long[] sortKeys = new long[0];
+    private int numOfDocs;
+    private int numOfSubQueries;
+
+    /**
+     * Collects normalized scores of sub-queries from a single shard, replaces scores of the previous shard
+     * @param topDocsPerSubQuery top docs of every sub-query, doc ids may repeat for each sub-query results
+     */
+    void collectNormalizedScores(final List<TopDocs> topDocsPerSubQuery) {
+        numOfSubQueries = topDocsPerSubQuery.size();
+        int numOfScoreDocs = 0;
+        for (TopDocs topDocs : topDocsPerSubQuery) {
+            numOfScoreDocs += topDocs.scoreDocs.length;
+        }
+        docIds = ArrayUtil.grow(docIds, numOfScoreDocs);
+        int index = 0;
+        for (TopDocs topDocs : topDocsPerSubQuery) {
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                docIds[index++] = scoreDoc.doc;
+            }
+        }
+        Arrays.sort(docIds, 0, numOfScoreDocs);
+        numOfDocs = 0;
+        for (int i = 0; i < numOfScoreDocs; i++) {
+            if (numOfDocs == 0 || docIds[numOfDocs - 1] != docIds[i]) {
+                docIds[numOfDocs++] = docIds[i];
+            }
+        }
+
+        normalizedScores = ArrayUtil.grow(normalizedScores, numOfDocs * numOfSubQueries);
+        Arrays.fill(normalizedScores, 0, numOfDocs * numOfSubQueries, 0.0f);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                normalizedScores[indexOf(scoreDoc.doc) * numOfSubQueries + subQueryIndex] = scoreDoc.score;
+            }
+        }
+    }
+
+    /**
+     * Combines normalized scores of every doc into a single score
+     * @param scoreCombinationTechnique technique to combine scores of sub-queries
+     */
+    void combine(final ScoreCombinationTechnique scoreCombinationTechnique) {
+        combinedScores = ArrayUtil.grow(combinedScores, numOfDocs);
+        final float[] scores = new float[numOfSubQueries];
+        for (int index = 0; index < numOfDocs; index++) {
+            System.arraycopy(normalizedScores, index * numOfSubQueries, scores, 0, numOfSubQueries);
+            combinedScores[index] = scoreCombinationTechnique.combine(scores);
+        }
+    }
+
+    int getNumOfDocs() {
+        return numOfDocs;
+    }
+
+    /**
+     * Position of the doc among collected docs
+     * @param docId doc id
+     * @return position of the doc, or a negative number if the doc has not been collected
+     */
+    int indexOf(final int docId) {
+        return Arrays.binarySearch(docIds, 0, numOfDocs, docId);
+    }
+
+    float getCombinedScore(final int docId) {
+        return combinedScores[indexOf(docId)];
+    }
+
+    /**
+     * Doc ids sorted by combined score in descending order, docs with equal scores are sorted by doc id
+     * @return array of doc ids
+     */
+    int[] getDocIdsSortedByCombinedScore() {
+        // sort key has inverted score in high bits and position of the doc in low bits, so sorting keys in ascending order
+        // sorts docs by score in descending order
+        sortKeys = ArrayUtil.grow(sortKeys, numOfDocs);
+        for (int index = 0; index < numOfDocs; index++) {
+            sortKeys[index] = ((long) ~NumericUtils.floatToSortableInt(combinedScores[index]) << 32) | index;
+        }
+        Arrays.sort(sortKeys, 0, numOfDocs);
+        final int[] sortedDocIds = new int[numOfDocs];
+        for (int i = 0; i < numOfDocs; i++) {
+            sortedDocIds[i] = docIds[(int) sortKeys[i]];
+        }
+        return sortedDocIds;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.factory;
+
+import lombok.AllArgsConstructor;
+import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.neuralsearch.highlight.SemanticHighlighterEngine;
+import org.opensearch.neuralsearch.highlight.extractor.QueryBuilderTextExtractor;
+import org.opensearch.neuralsearch.highlight.extractor.QueryTextExtractorRegistry;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.highlight.SemanticHighlightingResponseProcessor;
+import org.opensearch.search.pipeline.Processor;
+import org.opensearch.search.pipeline.SearchResponseProcessor;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.opensearch.neuralsearch.processor.highlight.SemanticHighlightingResponseProcessor.TYPE;
+
+/**
+ * Factory for creating SemanticHighlightingResponseProcessor
+ */
+@AllArgsConstructor
+public class SemanticHighlightingResponseProcessorFactory implements Processor.Factory<SearchResponseProcessor> {
+
+    public static final String MAX_CONCURRENT_INFERENCES_FIELD = "max_concurrent_inferences";
+    public static final int DEFAULT_MAX_CONCURRENT_INFERENCES = 10;
+
+    private final MLCommonsClientAccessor clientAccessor;
+
+    @Override
+    public SearchResponseProcessor create(
+        final Map<String, Processor.Factory<SearchResponseProcessor>> processorFactories,
+        final String tag,
+        final String description,
+        final boolean ignoreFailure,
+        final Map<String, Object> config,
+        final Processor.PipelineContext pipelineContext
+    ) {
+        int maxConcurrentInferences = ConfigurationUtils.readIntProperty(
+            TYPE,
+            tag,
+            config,
+            MAX_CONCURRENT_INFERENCES_FIELD,
+            DEFAULT_MAX_CONCURRENT_INFERENCES
+        );
+        if (maxConcurrentInferences <= 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "[%s] must be a positive integer, but was [%d]",
+                    MAX_CONCURRENT_INFERENCES_FIELD,
+                    maxConcurrentInferences
+                )
+            );
+        }
+        SemanticHighlighterEngine semanticHighlighterEngine = SemanticHighlighterEngine.builder()
+            .mlCommonsClient(clientAccessor)
+            .queryTextExtractorRegistry(new QueryTextExtractorRegistry())
+            .build();
+        return new SemanticHighlightingResponseProcessor(
+            description,
+            tag,
+            ignoreFailure,
+            maxConcurrentInferences,
+            semanticHighlighterEngine,
+            new QueryBuilderTextExtractor()
+        );
+    }
+}
@@ -14,6 +14,8 @@ import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.MODEL
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD_MAP_FIELD;
 import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.TYPE;
 import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.SKIP_EXISTING;
+import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.SKIP_EXISTING_FINGERPRINT;
+import static org.opensearch.neuralsearch.processor.SparseEncodingProcessor.DEFAULT_SKIP_EXISTING_FINGERPRINT;
 
 import java.util.Locale;
 import java.util.Map;
@@ -58,6 +60,16 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
         boolean skipExisting = readBooleanProperty(TYPE, tag, config, SKIP_EXISTING, DEFAULT_SKIP_EXISTING);
+        boolean skipExistingFingerprint = readBooleanProperty(
+            TYPE,
+            tag,
+            config,
+            SKIP_EXISTING_FINGERPRINT,
+            DEFAULT_SKIP_EXISTING_FINGERPRINT
+        );
+        if (skipExistingFingerprint && skipExisting == false) {
+            throw new IllegalArgumentException("skip_existing_fingerprint is only supported when skip_existing is true");
+        }
         // if the field is miss, will return PruneType.None
         PruneType pruneType = PruneType.fromString(readOptionalStringProperty(TYPE, tag, config, PruneUtils.PRUNE_TYPE_FIELD));
         float pruneRatio = 0;
@@ -88,7 +100,7 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
             modelId,
             fieldMap,
             skipExisting,
-            skipExisting ? new TextEmbeddingInferenceFilter(fieldMap) : null,
+            skipExisting ? new TextEmbeddingInferenceFilter(fieldMap, skipExistingFingerprint, modelId) : null,
             pruneType,
             pruneRatio,
             openSearchClient,
@@ -8,6 +8,8 @@ import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
 import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.SKIP_EXISTING;
+import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.SKIP_EXISTING_FINGERPRINT;
+import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.DEFAULT_SKIP_EXISTING_FINGERPRINT;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.DEFAULT_SKIP_EXISTING;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.TYPE;
 import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.MODEL_ID_FIELD;
@@ -54,6 +56,16 @@ public final class TextEmbeddingProcessorFactory extends AbstractBatchingProcess
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
         boolean skipExisting = readBooleanProperty(TYPE, tag, config, SKIP_EXISTING, DEFAULT_SKIP_EXISTING);
+        boolean skipExistingFingerprint = readBooleanProperty(
+            TYPE,
+            tag,
+            config,
+            SKIP_EXISTING_FINGERPRINT,
+            DEFAULT_SKIP_EXISTING_FINGERPRINT
+        );
+        if (skipExistingFingerprint && skipExisting == false) {
+            throw new IllegalArgumentException("skip_existing_fingerprint is only supported when skip_existing is true");
+        }
         return new TextEmbeddingProcessor(
             tag,
             description,
@@ -61,7 +73,7 @@ public final class TextEmbeddingProcessorFactory extends AbstractBatchingProcess
             modelId,
             fieldMap,
             skipExisting,
-            skipExisting ? new TextEmbeddingInferenceFilter(fieldMap) : null,
+            skipExisting ? new TextEmbeddingInferenceFilter(fieldMap, skipExistingFingerprint, modelId) : null,
             openSearchClient,
             clientAccessor,
             environment,
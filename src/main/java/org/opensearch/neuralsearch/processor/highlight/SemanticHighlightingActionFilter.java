@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.highlight;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.ActionFilter;
+import org.opensearch.action.support.ActionFilterChain;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.neuralsearch.highlight.SemanticHighlighterEngine;
+import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.search.pipeline.PipelineConfiguration;
+import org.opensearch.search.pipeline.SearchPipelineService;
+import org.opensearch.tasks.Task;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Rejects search requests that highlight semantic fields with the batch_inference option when their search pipeline has no
+ * {@link SemanticHighlightingResponseProcessor}. These fields are skipped in the fetch phase, so they would silently come back
+ * without highlights. The pipeline is resolved the same way the search pipeline service does: the inline pipeline, the
+ * pipeline of the request, or the default pipeline of the index when the request targets a single index.
+ */
+@Log4j2
+@AllArgsConstructor
+public class SemanticHighlightingActionFilter implements ActionFilter {
+
+    private static final String RESPONSE_PROCESSORS_FIELD = "response_processors";
+
+    private final ClusterService clusterService;
+    private final NeuralSearchClusterUtil neuralSearchClusterUtil;
+    private final SemanticHighlighterEngine semanticHighlighterEngine;
+
+    @Override
+    public int order() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public <Request extends ActionRequest, Response extends ActionResponse> void apply(
+        final Task task,
+        final String action,
+        final Request request,
+        final ActionListener<Response> listener,
+        final ActionFilterChain<Request, Response> chain
+    ) {
+        if (SearchAction.NAME.equals(action) && request instanceof SearchRequest searchRequest) {
+            try {
+                validate(searchRequest);
+            } catch (IllegalArgumentException e) {
+                listener.onFailure(e);
+                return;
+            }
+        }
+        chain.proceed(task, action, request, listener);
+    }
+
+    private void validate(final SearchRequest searchRequest) {
+        if (SemanticHighlightingResponseProcessor.hasBatchInferenceFields(searchRequest.source(), semanticHighlighterEngine) == false) {
+            return;
+        }
+        Map<String, Object> pipelineConfig;
+        try {
+            pipelineConfig = resolvePipelineConfig(searchRequest);
+        } catch (Exception e) {
+            // the search reports unknown indices and pipelines
+            log.debug("Failed to resolve the search pipeline of the request", e);
+            return;
+        }
+        if (pipelineConfig == null || hasSemanticHighlightingProcessor(pipelineConfig) == false) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "semantic highlighting with [batch_inference] requires the [%s] response processor in the search pipeline",
+                    SemanticHighlightingResponseProcessor.TYPE
+                )
+            );
+        }
+    }
+
+    private Map<String, Object> resolvePipelineConfig(final SearchRequest searchRequest) {
+        if (searchRequest.source().searchPipelineSource() != null) {
+            return searchRequest.source().searchPipelineSource();
+        }
+        String pipelineId = searchRequest.pipeline();
+        if (pipelineId == null) {
+            List<IndexMetadata> indexMetadataList = neuralSearchClusterUtil.getIndexMetadataList(searchRequest);
+            if (indexMetadataList.size() != 1) {
+                return null;
+            }
+            pipelineId = IndexSettings.DEFAULT_SEARCH_PIPELINE.get(indexMetadataList.get(0).getSettings());
+        }
+        if (SearchPipelineService.NOOP_PIPELINE_ID.equals(pipelineId)) {
+            return null;
+        }
+        List<PipelineConfiguration> pipelines = SearchPipelineService.getPipelines(clusterService.state(), pipelineId);
+        if (pipelines.isEmpty()) {
+            throw new IllegalStateException(String.format(Locale.ROOT, "search pipeline [%s] is not defined", pipelineId));
+        }
+        return pipelines.get(0).getConfigAsMap();
+    }
+
+    private boolean hasSemanticHighlightingProcessor(final Map<String, Object> pipelineConfig) {
+        if (pipelineConfig.get(RESPONSE_PROCESSORS_FIELD) instanceof List<?> responseProcessors) {
+            return responseProcessors.stream()
+                .anyMatch(
+                    processor -> processor instanceof Map<?, ?> processorConfig
+                        && processorConfig.containsKey(SemanticHighlightingResponseProcessor.TYPE)
+                );
+        }
+        return false;
+    }
+}
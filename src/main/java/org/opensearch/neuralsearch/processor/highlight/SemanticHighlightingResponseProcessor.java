@@ -0,0 +1,293 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.highlight;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.text.Text;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.neuralsearch.highlight.SemanticHighlighter;
+import org.opensearch.neuralsearch.highlight.SemanticHighlighterEngine;
+import org.opensearch.neuralsearch.highlight.extractor.QueryBuilderTextExtractor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightField;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
+import org.opensearch.search.pipeline.SearchResponseProcessor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Search response processor that applies semantic highlighting to the fields with the batch_inference option. Highlighting
+ * of these fields is skipped in the fetch phase, where the semantic highlighter blocks a search thread on one model call per
+ * hit and field. This processor gathers every (question, context) pair of the response instead and sends their inference
+ * concurrently without blocking, with at most max_concurrent_inferences calls in flight. Search requests with such fields are
+ * rejected by {@link SemanticHighlightingActionFilter} unless this processor is in their search pipeline.
+ */
+@Log4j2
+@Getter
+@AllArgsConstructor
+public class SemanticHighlightingResponseProcessor implements SearchResponseProcessor {
+
+    public static final String TYPE = "semantic_highlighting";
+    // same defaults as the highlight builder applies in the fetch phase
+    private static final String[] DEFAULT_PRE_TAGS = new String[] { "<em>" };
+    private static final String[] DEFAULT_POST_TAGS = new String[] { "</em>" };
+
+    private final String description;
+    private final String tag;
+    private final boolean ignoreFailure;
+    private final int maxConcurrentInferences;
+    private final SemanticHighlighterEngine semanticHighlighterEngine;
+    private final QueryBuilderTextExtractor queryBuilderTextExtractor;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public SearchResponse processResponse(final SearchRequest request, final SearchResponse response) {
+        throw new UnsupportedOperationException("Use asyncProcessResponse unless you can guarantee to not deadlock yourself");
+    }
+
+    @Override
+    public void processResponseAsync(
+        final SearchRequest request,
+        final SearchResponse response,
+        final PipelineProcessingContext ctx,
+        final ActionListener<SearchResponse> responseListener
+    ) {
+        try {
+            List<HighlightTask> highlightTasks = createHighlightTasks(request, response);
+            if (highlightTasks.isEmpty()) {
+                responseListener.onResponse(response);
+                return;
+            }
+            new BatchExecution(highlightTasks, response, responseListener).start();
+        } catch (Exception e) {
+            responseListener.onFailure(e);
+        }
+    }
+
+    private List<HighlightTask> createHighlightTasks(final SearchRequest request, final SearchResponse response) {
+        SearchSourceBuilder source = request.source();
+        if (source == null || source.highlighter() == null || response.getHits() == null) {
+            return List.of();
+        }
+        List<HighlightFieldSpec> fieldSpecs = createHighlightFieldSpecs(source);
+        List<HighlightTask> highlightTasks = new ArrayList<>();
+        if (fieldSpecs.isEmpty()) {
+            return highlightTasks;
+        }
+        for (SearchHit hit : response.getHits().getHits()) {
+            if (hit.hasSource() == false) {
+                continue;
+            }
+            Map<String, Object> sourceAsMap = hit.getSourceAsMap();
+            for (HighlightFieldSpec fieldSpec : fieldSpecs) {
+                // documents without text in the field have nothing to highlight
+                if (XContentMapValues.extractValue(fieldSpec.fieldName(), sourceAsMap) instanceof String fieldText
+                    && fieldText.isEmpty() == false) {
+                    highlightTasks.add(new HighlightTask(hit, fieldSpec, fieldText));
+                }
+            }
+        }
+        return highlightTasks;
+    }
+
+    private List<HighlightFieldSpec> createHighlightFieldSpecs(final SearchSourceBuilder source) {
+        HighlightBuilder highlightBuilder = source.highlighter();
+        List<HighlightFieldSpec> fieldSpecs = new ArrayList<>();
+        for (HighlightBuilder.Field field : highlightBuilder.fields()) {
+            Map<String, Object> options = getHighlightOptions(highlightBuilder, field);
+            if (isBatchInferenceField(highlightBuilder, field, options, semanticHighlighterEngine) == false) {
+                continue;
+            }
+            String modelId = semanticHighlighterEngine.getModelId(options);
+            QueryBuilder query = valueOrDefault(field.highlightQuery(), valueOrDefault(highlightBuilder.highlightQuery(), source.query()));
+            String queryText = queryBuilderTextExtractor.extractQueryText(query, field.name());
+            if (queryText == null || queryText.isEmpty()) {
+                log.warn("No query text found for field {}", field.name());
+                continue;
+            }
+            String[] preTags = valueOrDefault(field.preTags(), valueOrDefault(highlightBuilder.preTags(), DEFAULT_PRE_TAGS));
+            String[] postTags = valueOrDefault(field.postTags(), valueOrDefault(highlightBuilder.postTags(), DEFAULT_POST_TAGS));
+            fieldSpecs.add(new HighlightFieldSpec(field.name(), modelId, queryText, preTags[0], postTags[0]));
+        }
+        return fieldSpecs;
+    }
+
+    /**
+     * Checks whether the request has semantic highlight fields with the batch_inference option, which are only highlighted
+     * when this processor is in the search pipeline of the request
+     *
+     * @param source source of the search request, can be null
+     * @param semanticHighlighterEngine engine that parses the highlight options
+     * @return true if any field is highlighted by this processor
+     */
+    static boolean hasBatchInferenceFields(final SearchSourceBuilder source, final SemanticHighlighterEngine semanticHighlighterEngine) {
+        if (source == null || source.highlighter() == null) {
+            return false;
+        }
+        HighlightBuilder highlightBuilder = source.highlighter();
+        for (HighlightBuilder.Field field : highlightBuilder.fields()) {
+            if (isBatchInferenceField(highlightBuilder, field, getHighlightOptions(highlightBuilder, field), semanticHighlighterEngine)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBatchInferenceField(
+        final HighlightBuilder highlightBuilder,
+        final HighlightBuilder.Field field,
+        final Map<String, Object> options,
+        final SemanticHighlighterEngine semanticHighlighterEngine
+    ) {
+        return SemanticHighlighter.NAME.equals(valueOrDefault(field.highlighterType(), highlightBuilder.highlighterType()))
+            && semanticHighlighterEngine.isBatchInference(options);
+    }
+
+    private static Map<String, Object> getHighlightOptions(final HighlightBuilder highlightBuilder, final HighlightBuilder.Field field) {
+        Map<String, Object> options = new HashMap<>();
+        if (highlightBuilder.options() != null) {
+            options.putAll(highlightBuilder.options());
+        }
+        if (field.options() != null) {
+            options.putAll(field.options());
+        }
+        return options;
+    }
+
+    private static <T> T valueOrDefault(final T value, final T defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * A highlighted field of the request, with the options resolved from the field and the global highlight options
+     */
+    private record HighlightFieldSpec(String fieldName, String modelId, String queryText, String preTag, String postTag) {
+    }
+
+    /**
+     * A (question, context) pair to send to the model, one per field and hit
+     */
+    private record HighlightTask(SearchHit hit, HighlightFieldSpec fieldSpec, String fieldText) {
+    }
+
+    /**
+     * Sends the inference of the highlight tasks with bounded concurrency, and applies the highlights to the hits once every
+     * task has completed. The response listener is called once, with the first failure if any task fails.
+     */
+    private class BatchExecution {
+        private final List<HighlightTask> highlightTasks;
+        private final SearchResponse response;
+        private final ActionListener<SearchResponse> responseListener;
+        private final String[] highlightedTexts;
+        private final AtomicInteger nextTask = new AtomicInteger();
+        private final AtomicInteger remainingTasks;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final long startTimeInNanos = System.nanoTime();
+
+        private BatchExecution(
+            final List<HighlightTask> highlightTasks,
+            final SearchResponse response,
+            final ActionListener<SearchResponse> responseListener
+        ) {
+            this.highlightTasks = highlightTasks;
+            this.response = response;
+            this.responseListener = responseListener;
+            this.highlightedTexts = new String[highlightTasks.size()];
+            this.remainingTasks = new AtomicInteger(highlightTasks.size());
+        }
+
+        private void start() {
+            for (int i = 0; i < Math.min(maxConcurrentInferences, highlightTasks.size()); i++) {
+                executeNextTask();
+            }
+        }
+
+        private void executeNextTask() {
+            final int taskIndex = nextTask.getAndIncrement();
+            if (taskIndex >= highlightTasks.size() || done.get()) {
+                return;
+            }
+            final HighlightTask task = highlightTasks.get(taskIndex);
+            final HighlightFieldSpec fieldSpec = task.fieldSpec();
+            try {
+                semanticHighlighterEngine.getHighlightedSentences(
+                    fieldSpec.modelId(),
+                    fieldSpec.queryText(),
+                    task.fieldText(),
+                    fieldSpec.preTag(),
+                    fieldSpec.postTag(),
+                    ActionListener.wrap(highlightedText -> {
+                        highlightedTexts[taskIndex] = highlightedText;
+                        if (remainingTasks.decrementAndGet() == 0) {
+                            complete();
+                            return;
+                        }
+                        executeNextTask();
+                    }, this::fail)
+                );
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        private void complete() {
+            try {
+                applyHighlights();
+            } catch (Exception e) {
+                fail(e);
+                return;
+            }
+            if (done.compareAndSet(false, true)) {
+                responseListener.onResponse(response);
+            }
+        }
+
+        private void applyHighlights() {
+            for (int i = 0; i < highlightTasks.size(); i++) {
+                String fieldName = highlightTasks.get(i).fieldSpec().fieldName();
+                String highlightedText = highlightedTexts[i];
+                if (highlightedText == null || highlightedText.isEmpty()) {
+                    log.warn("No highlighted text found for field {}", fieldName);
+                    continue;
+                }
+                SearchHit hit = highlightTasks.get(i).hit();
+                Map<String, HighlightField> highlightFields = new HashMap<>(hit.getHighlightFields());
+                highlightFields.put(fieldName, new HighlightField(fieldName, new Text[] { new Text(highlightedText) }));
+                hit.highlightFields(highlightFields);
+            }
+            long latencyInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+            EventStatsManager.add(EventStatName.SEMANTIC_HIGHLIGHTING_REQUEST_COUNT, highlightTasks.size());
+            EventStatsManager.increment(EventStatName.SEMANTIC_HIGHLIGHTING_BATCH_REQUEST_COUNT);
+            EventStatsManager.add(EventStatName.SEMANTIC_HIGHLIGHTING_BATCH_LATENCY_MILLIS, latencyInMillis);
+            log.debug("Semantic highlighting of [{}] fields took [{}] ms", highlightTasks.size(), latencyInMillis);
+        }
+
+        private void fail(final Exception e) {
+            if (done.compareAndSet(false, true)) {
+                responseListener.onFailure(e);
+            }
+        }
+    }
+}
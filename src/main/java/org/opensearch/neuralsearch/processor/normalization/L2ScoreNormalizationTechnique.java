@@ -4,7 +4,6 @@
  */
 package org.opensearch.neuralsearch.processor.normalization;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -23,7 +22,6 @@ import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 
 import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
-import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
 
 /**
  * Abstracts normalization of scores based on L2 method
@@ -53,7 +51,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
     public void normalize(final NormalizeScoresDTO normalizeScoresDTO) {
         List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
         // get l2 norms for each sub-query
-        List<Float> normsPerSubquery = getL2Norm(queryTopDocs);
+        float[] normsPerSubquery = getL2Norm(queryTopDocs);
 
         // do normalization using actual score and l2 norm
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -64,7 +62,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(scoreDoc.score, normsPerSubquery.get(j));
+                    scoreDoc.score = normalizeSingleScore(scoreDoc.score, normsPerSubquery[j]);
                 }
             }
         }
@@ -83,7 +81,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
     @Override
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(List<CompoundTopDocs> queryTopDocs) {
         Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
-        List<Float> normsPerSubquery = getL2Norm(queryTopDocs);
+        float[] normsPerSubquery = getL2Norm(queryTopDocs);
 
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
             if (Objects.isNull(compoundQueryTopDocs)) {
@@ -95,7 +93,7 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(subQueryIndex);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
                     DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, compoundQueryTopDocs.getSearchShard());
-                    float normalizedScore = normalizeSingleScore(scoreDoc.score, normsPerSubquery.get(subQueryIndex));
+                    float normalizedScore = normalizeSingleScore(scoreDoc.score, normsPerSubquery[subQueryIndex]);
                     ScoreNormalizationUtil.setNormalizedScore(
                         normalizedScores,
                         docIdAtSearchShard,
@@ -110,32 +108,16 @@ public class L2ScoreNormalizationTechnique implements ScoreNormalizationTechniqu
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private List<Float> getL2Norm(final List<CompoundTopDocs> queryTopDocs) {
+    private float[] getL2Norm(final List<CompoundTopDocs> queryTopDocs) {
         // find any non-empty compound top docs, it's either empty if shard does not have any results for all of sub-queries,
         // or it has results for all the sub-queries. In edge case of shard having results only for one sub-query, there will be TopDocs for
         // rest of sub-queries with zero total hits
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-        float[] l2Norms = new float[numOfSubqueries];
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            int bound = topDocsPerSubQuery.size();
-            for (int index = 0; index < bound; index++) {
-                for (ScoreDoc scoreDocs : topDocsPerSubQuery.get(index).scoreDocs) {
-                    l2Norms[index] += scoreDocs.score * scoreDocs.score;
-                }
-            }
-        }
+        ScoreStatistics statistics = ScoreStatistics.collect(queryTopDocs);
+        float[] l2Norms = new float[statistics.getNumOfSubQueries()];
         for (int index = 0; index < l2Norms.length; index++) {
-            l2Norms[index] = (float) Math.sqrt(l2Norms[index]);
-        }
-        List<Float> l2NormList = new ArrayList<>();
-        for (int index = 0; index < numOfSubqueries; index++) {
-            l2NormList.add(l2Norms[index]);
+            l2Norms[index] = statistics.getL2Norm(index);
         }
-        return l2NormList;
+        return l2Norms;
     }
 
     private float normalizeSingleScore(final float score, final float l2Norm) {
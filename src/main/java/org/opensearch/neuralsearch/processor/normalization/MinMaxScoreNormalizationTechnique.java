@@ -32,7 +32,6 @@ import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 
 import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
-import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
 import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
 
 /**
@@ -119,11 +118,16 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
     }
 
     private MinMaxScores getMinMaxScoresResult(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-        // get min scores for each sub query
-        float[] minScoresPerSubquery = getMinScores(queryTopDocs, numOfSubqueries);
-        // get max scores for each sub query
-        float[] maxScoresPerSubquery = getMaxScores(queryTopDocs, numOfSubqueries);
+        // min and max scores of every sub-query are collected in a single pass
+        ScoreStatistics statistics = ScoreStatistics.collect(queryTopDocs);
+        int numOfSubqueries = statistics.getNumOfSubQueries();
+        float[] minScoresPerSubquery = new float[numOfSubqueries];
+        float[] maxScoresPerSubquery = new float[numOfSubqueries];
+        for (int j = 0; j < numOfSubqueries; j++) {
+            minScoresPerSubquery[j] = statistics.getMinScore(j);
+            // max score is never below the smallest positive float, same as for sub-queries without results
+            maxScoresPerSubquery[j] = Math.max(statistics.getMaxScore(j), Float.MIN_VALUE);
+        }
         return new MinMaxScores(minScoresPerSubquery, maxScoresPerSubquery);
     }
 
@@ -178,48 +182,6 @@ public class MinMaxScoreNormalizationTechnique implements ScoreNormalizationTech
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private float[] getMaxScores(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        float[] maxScores = new float[numOfSubqueries];
-        Arrays.fill(maxScores, Float.MIN_VALUE);
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                maxScores[j] = Math.max(
-                    maxScores[j],
-                    Arrays.stream(topDocsPerSubQuery.get(j).scoreDocs)
-                        .map(scoreDoc -> scoreDoc.score)
-                        .max(Float::compare)
-                        .orElse(Float.MIN_VALUE)
-                );
-            }
-        }
-        return maxScores;
-    }
-
-    private float[] getMinScores(final List<CompoundTopDocs> queryTopDocs, final int numOfScores) {
-        float[] minScores = new float[numOfScores];
-        Arrays.fill(minScores, Float.MAX_VALUE);
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
-                minScores[j] = Math.min(
-                    minScores[j],
-                    Arrays.stream(topDocsPerSubQuery.get(j).scoreDocs)
-                        .map(scoreDoc -> scoreDoc.score)
-                        .min(Float::compare)
-                        .orElse(Float.MAX_VALUE)
-                );
-            }
-        }
-        return minScores;
-    }
-
     private float normalizeSingleScore(final float score, final float minScore, final float maxScore, final LowerBound lowerBound) {
         // edge case when there is only one score and min and max scores are same
         if (Floats.compare(maxScore, minScore) == 0 && Floats.compare(maxScore, score) == 0) {
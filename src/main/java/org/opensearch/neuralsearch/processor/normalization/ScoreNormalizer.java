@@ -28,6 +28,18 @@ public class ScoreNormalizer {
         final ScoreNormalizationTechnique scoreNormalizationTechnique = normalizeScoresDTO.getNormalizationTechnique();
         if (canQueryResultsBeNormalized(queryTopDocs)) {
             scoreNormalizationTechnique.normalize(normalizeScoresDTO);
+            clearShardScoreStatistics(queryTopDocs);
+        }
+    }
+
+    /**
+     * Scores are normalized in place, statistics of raw scores collected by shards don't describe them anymore
+     */
+    private void clearShardScoreStatistics(final List<CompoundTopDocs> queryTopDocs) {
+        for (CompoundTopDocs compoundTopDocs : queryTopDocs) {
+            if (Objects.nonNull(compoundTopDocs)) {
+                compoundTopDocs.setScoreStatistics(List.of());
+            }
         }
     }
 
@@ -47,7 +59,9 @@ public class ScoreNormalizer {
         final ExplainableTechnique scoreNormalizationTechnique
     ) {
         if (canQueryResultsBeNormalized(queryTopDocs)) {
-            return scoreNormalizationTechnique.explain(queryTopDocs);
+            Map<DocIdAtSearchShard, ExplanationDetails> explanations = scoreNormalizationTechnique.explain(queryTopDocs);
+            clearShardScoreStatistics(queryTopDocs);
+            return explanations;
         }
         return Map.of();
     }
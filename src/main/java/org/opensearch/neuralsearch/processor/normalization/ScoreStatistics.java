@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
+
+import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
+
+/**
+ * Statistics of scores of every sub-query across all shards, gathered in a single pass over query results. Mean and variance
+ * are accumulated with Welford's online algorithm, so no score is stored and extra memory depends only on number of sub-queries.
+ * Partial statistics collected by a shard are merged as a whole instead of scores returned by the shard.
+ */
+final class ScoreStatistics {
+    private final int[] counts;
+    private final float[] minScores;
+    private final float[] maxScores;
+    private final double[] means;
+    // sum of squared differences from the current mean
+    private final double[] m2s;
+    private final double[] sumsOfSquares;
+
+    private ScoreStatistics(final int numOfSubQueries) {
+        counts = new int[numOfSubQueries];
+        minScores = new float[numOfSubQueries];
+        maxScores = new float[numOfSubQueries];
+        means = new double[numOfSubQueries];
+        m2s = new double[numOfSubQueries];
+        sumsOfSquares = new double[numOfSubQueries];
+        Arrays.fill(minScores, Float.MAX_VALUE);
+        Arrays.fill(maxScores, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Collects statistics of scores for each sub-query
+     * @param queryTopDocs query results from multiple shards and multiple sub-queries, at least one shard must have results
+     * @return statistics of scores per sub-query
+     */
+    static ScoreStatistics collect(final List<CompoundTopDocs> queryTopDocs) {
+        final ScoreStatistics statistics = new ScoreStatistics(getNumOfSubqueries(queryTopDocs));
+        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
+            if (Objects.isNull(compoundQueryTopDocs)) {
+                continue;
+            }
+            final List<SubQueryScoreStatistics> shardScoreStatistics = compoundQueryTopDocs.getScoreStatistics();
+            if (shardScoreStatistics.isEmpty() == false) {
+                for (int subQueryIndex = 0; subQueryIndex < shardScoreStatistics.size(); subQueryIndex++) {
+                    statistics.merge(subQueryIndex, shardScoreStatistics.get(subQueryIndex));
+                }
+                continue;
+            }
+            final List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
+            for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
+                for (ScoreDoc scoreDoc : topDocsPerSubQuery.get(subQueryIndex).scoreDocs) {
+                    statistics.add(subQueryIndex, scoreDoc.score);
+                }
+            }
+        }
+        return statistics;
+    }
+
+    private void add(final int subQueryIndex, final float score) {
+        final int count = ++counts[subQueryIndex];
+        minScores[subQueryIndex] = Math.min(minScores[subQueryIndex], score);
+        maxScores[subQueryIndex] = Math.max(maxScores[subQueryIndex], score);
+        final double delta = score - means[subQueryIndex];
+        means[subQueryIndex] += delta / count;
+        m2s[subQueryIndex] += delta * (score - means[subQueryIndex]);
+        sumsOfSquares[subQueryIndex] += (double) score * score;
+    }
+
+    /**
+     * Merge partial statistics of a shard, mean and variance are combined with the parallel variant of Welford's algorithm
+     */
+    private void merge(final int subQueryIndex, final SubQueryScoreStatistics shardStatistics) {
+        final int shardCount = shardStatistics.getCount();
+        if (shardCount == 0) {
+            return;
+        }
+        final double shardMean = shardStatistics.getSum() / shardCount;
+        final double shardM2 = Math.max(0.0, shardStatistics.getSumOfSquares() - shardStatistics.getSum() * shardMean);
+        final int previousCount = counts[subQueryIndex];
+        final int count = previousCount + shardCount;
+        final double delta = shardMean - means[subQueryIndex];
+        counts[subQueryIndex] = count;
+        minScores[subQueryIndex] = Math.min(minScores[subQueryIndex], shardStatistics.getMinScore());
+        maxScores[subQueryIndex] = Math.max(maxScores[subQueryIndex], shardStatistics.getMaxScore());
+        means[subQueryIndex] += delta * shardCount / count;
+        m2s[subQueryIndex] += shardM2 + delta * delta * previousCount * shardCount / count;
+        sumsOfSquares[subQueryIndex] += shardStatistics.getSumOfSquares();
+    }
+
+    int getNumOfSubQueries() {
+        return counts.length;
+    }
+
+    int getCount(final int subQueryIndex) {
+        return counts[subQueryIndex];
+    }
+
+    /**
+     * @return min score of the sub-query, Float.MAX_VALUE if sub-query has no results
+     */
+    float getMinScore(final int subQueryIndex) {
+        return minScores[subQueryIndex];
+    }
+
+    /**
+     * @return max score of the sub-query, -Float.MAX_VALUE if sub-query has no results
+     */
+    float getMaxScore(final int subQueryIndex) {
+        return maxScores[subQueryIndex];
+    }
+
+    float getMean(final int subQueryIndex) {
+        return (float) means[subQueryIndex];
+    }
+
+    /**
+     * Sample standard deviation of scores of the sub-query, 0 if sub-query has a single result
+     */
+    float getStandardDeviation(final int subQueryIndex) {
+        final int count = counts[subQueryIndex];
+        if (count < 2) {
+            return 0.0f;
+        }
+        return (float) Math.sqrt(m2s[subQueryIndex] / (count - 1));
+    }
+
+    /**
+     * Square root of sum of squares of all scores of the sub-query
+     */
+    float getL2Norm(final int subQueryIndex) {
+        return (float) Math.sqrt(sumsOfSquares[subQueryIndex]);
+    }
+}
@@ -15,8 +15,6 @@ import java.util.Locale;
 
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.opensearch.neuralsearch.processor.CompoundTopDocs;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import com.google.common.primitives.Floats;
 import org.opensearch.neuralsearch.processor.explain.DocIdAtSearchShard;
@@ -24,7 +22,6 @@ import org.opensearch.neuralsearch.processor.explain.ExplainableTechnique;
 import org.opensearch.neuralsearch.processor.explain.ExplanationDetails;
 
 import static org.opensearch.neuralsearch.processor.explain.ExplanationUtils.getDocIdAtQueryForNormalization;
-import static org.opensearch.neuralsearch.processor.util.ProcessorUtils.getNumOfSubqueries;
 
 /**
  * Abstracts normalization of scores based on z score method
@@ -44,7 +41,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
      * mean = sum of all scores / number of scores
      * standard_deviation = square root of (sum of all scores - mean) / number of scores
      * Main algorithm steps:
-     * - calculate mean and standard deviation for each sub query
+     * - calculate mean and standard deviation for each sub query in a single pass over all results
      * - iterate over each result and update score as per formula above where "score" is raw score returned by Hybrid query
      *
      * @param normalizeScoresDTO is a data transfer object that contains queryTopDocs
@@ -55,7 +52,8 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
     public void normalize(NormalizeScoresDTO normalizeScoresDTO) {
         List<CompoundTopDocs> queryTopDocs = normalizeScoresDTO.getQueryTopDocs();
 
-        ZScores zscores = getZScoreResults(queryTopDocs);
+        // mean, standard deviation, min and max scores of every sub-query are collected in a single pass
+        ScoreStatistics statistics = ScoreStatistics.collect(queryTopDocs);
 
         // do normalization using actual score and z-scores for corresponding sub query
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -66,13 +64,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
             for (int j = 0; j < topDocsPerSubQuery.size(); j++) {
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(j);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
-                    scoreDoc.score = normalizeSingleScore(
-                        scoreDoc.score,
-                        zscores.stdPerSubquery[j],
-                        zscores.meanPerSubQuery[j],
-                        zscores.maxPerSubQuery[j],
-                        zscores.minPerSubQuery[j]
-                    );
+                    scoreDoc.score = normalizeSingleScore(scoreDoc.score, statistics, j);
                 }
             }
         }
@@ -90,7 +82,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
 
     @Override
     public Map<DocIdAtSearchShard, ExplanationDetails> explain(final List<CompoundTopDocs> queryTopDocs) {
-        ZScoreNormalizationTechnique.ZScores zScores = getZScoreResults(queryTopDocs);
+        ScoreStatistics statistics = ScoreStatistics.collect(queryTopDocs);
 
         Map<DocIdAtSearchShard, List<Float>> normalizedScores = new HashMap<>();
         for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
@@ -103,13 +95,7 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
                 TopDocs subQueryTopDoc = topDocsPerSubQuery.get(subQueryIndex);
                 for (ScoreDoc scoreDoc : subQueryTopDoc.scoreDocs) {
                     DocIdAtSearchShard docIdAtSearchShard = new DocIdAtSearchShard(scoreDoc.doc, compoundQueryTopDocs.getSearchShard());
-                    float normalizedScore = normalizeSingleScore(
-                        scoreDoc.score,
-                        zScores.stdPerSubquery[subQueryIndex],
-                        zScores.meanPerSubQuery[subQueryIndex],
-                        zScores.maxPerSubQuery[subQueryIndex],
-                        zScores.minPerSubQuery[subQueryIndex]
-                    );
+                    float normalizedScore = normalizeSingleScore(scoreDoc.score, statistics, subQueryIndex);
                     ScoreNormalizationUtil.setNormalizedScore(
                         normalizedScores,
                         docIdAtSearchShard,
@@ -124,81 +110,14 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
         return getDocIdAtQueryForNormalization(normalizedScores, this);
     }
 
-    private static float[] calculateMaxScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] maxPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            maxPerSubQuery[i] = (float) statsPerSubquery[i].getMax();
-        }
-
-        return maxPerSubQuery;
-    }
-
-    private static float[] calculateMinScorePerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] minPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            minPerSubQuery[i] = (float) statsPerSubquery[i].getMin();
-        }
-
-        return minPerSubQuery;
-    }
-
-    private static DescriptiveStatistics[] calculateStatsPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = new DescriptiveStatistics[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            statsPerSubquery[i] = new DescriptiveStatistics();
-        }
-
-        for (CompoundTopDocs compoundQueryTopDocs : queryTopDocs) {
-            if (Objects.isNull(compoundQueryTopDocs)) {
-                continue;
-            }
-            List<TopDocs> topDocsPerSubQuery = compoundQueryTopDocs.getTopDocs();
-            for (int subQueryIndex = 0; subQueryIndex < topDocsPerSubQuery.size(); subQueryIndex++) {
-                TopDocs topDocs = topDocsPerSubQuery.get(subQueryIndex);
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    statsPerSubquery[subQueryIndex].addValue(scoreDoc.score);
-                }
-            }
-        }
-
-        return statsPerSubquery;
-    }
-
-    private static float[] calculateMeanPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] meanPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            meanPerSubQuery[i] = (float) statsPerSubquery[i].getMean();
-        }
-
-        return meanPerSubQuery;
-    }
-
-    private static float[] calculateStandardDeviationPerSubquery(final List<CompoundTopDocs> queryTopDocs, final int numOfSubqueries) {
-        DescriptiveStatistics[] statsPerSubquery = calculateStatsPerSubquery(queryTopDocs, numOfSubqueries);
-
-        float[] stdPerSubQuery = new float[numOfSubqueries];
-        for (int i = 0; i < numOfSubqueries; i++) {
-            stdPerSubQuery[i] = (float) statsPerSubquery[i].getStandardDeviation();
-        }
-
-        return stdPerSubQuery;
-    }
-
-    private ZScores getZScoreResults(final List<CompoundTopDocs> queryTopDocs) {
-        int numOfSubqueries = getNumOfSubqueries(queryTopDocs);
-
-        // to be done for each subquery
-        float[] maxPerSubquery = calculateMaxScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] minPerSubquery = calculateMinScorePerSubquery(queryTopDocs, numOfSubqueries);
-        float[] meanPerSubQuery = calculateMeanPerSubquery(queryTopDocs, numOfSubqueries);
-        float[] stdPerSubquery = calculateStandardDeviationPerSubquery(queryTopDocs, numOfSubqueries);
-        return new ZScores(meanPerSubQuery, stdPerSubquery, maxPerSubquery, minPerSubquery);
+    private static float normalizeSingleScore(final float score, final ScoreStatistics statistics, final int subQueryIndex) {
+        return normalizeSingleScore(
+            score,
+            statistics.getStandardDeviation(subQueryIndex),
+            statistics.getMean(subQueryIndex),
+            statistics.getMaxScore(subQueryIndex),
+            statistics.getMinScore(subQueryIndex)
+        );
     }
 
     private static float normalizeSingleScore(
@@ -220,10 +139,4 @@ public class ZScoreNormalizationTechnique implements ScoreNormalizationTechnique
 
         return normalizedScore <= 0.0f ? MIN_SCORE : normalizedScore;
     }
-
-    /**
-     * Record to hold mean, std dev, max and min scores for each sub query
-     */
-    private record ZScores(float[] meanPerSubQuery, float[] stdPerSubquery, float[] maxPerSubQuery, float[] minPerSubQuery) {
-    }
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Adapts the size of the sub-batches a batching ingest processor sends to its model. The sub-batch size starts from the
+ * batch_size of the processor, grows by one document after every full sub-batch that completes within the target latency,
+ * and shrinks multiplicatively when a sub-batch exceeds the target latency or most of its documents fail. Sub-batches are
+ * additionally cut on a character budget, derived from the observed inference latency per character, so that batches of long
+ * texts are split before they run into timeouts. Adaptive sizing is applied only when enabled through
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#ADAPTIVE_BATCH_SIZE_ENABLED}.
+ */
+@Log4j2
+public class AdaptiveBatchSizer {
+    // share of documents of a sub-batch that must fail for the sub-batch to be considered failed
+    private static final double FAILED_BATCH_RATIO = 0.5;
+    // a sub-batch over the target latency or a failed sub-batch at most halves the batch size
+    private static final double MIN_DECREASE_FACTOR = 0.5;
+    // weight of the latest sub-batch in the moving average of the inference latency per character
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+    private static volatile NeuralSearchSettingsAccessor settingsAccessor;
+
+    private final LongSupplier nanoTime;
+    private int currentBatchSize;
+    private double nanosPerChar;
+
+    /**
+     * Initializes the accessor of adaptive batch size settings shared by every processor
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public static void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        AdaptiveBatchSizer.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * @param batchSize batch size configured for the processor, used as the initial sub-batch size
+     */
+    public AdaptiveBatchSizer(final int batchSize) {
+        this(batchSize, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    AdaptiveBatchSizer(final int batchSize, final LongSupplier nanoTime) {
+        this.currentBatchSize = Math.max(1, batchSize);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return true if sub-batch sizes should be adapted
+     */
+    public boolean isEnabled() {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor != null && accessor.isAdaptiveBatchSizeEnabled();
+    }
+
+    /**
+     * @return size the next sub-batches are cut to, bounded by the configured maximum batch size
+     */
+    public synchronized int getCurrentBatchSize() {
+        return Math.min(currentBatchSize, settingsAccessor.getAdaptiveBatchSizeMaxBatchSize());
+    }
+
+    /**
+     * Cuts the documents into sub-batches sized by the current batch size and character budget, executes every sub-batch and
+     * adapts the batch size from the latency and failures observed for each of them. The handler is called once every document
+     * has been processed, in the same way as {@link org.opensearch.ingest.AbstractBatchingProcessor#batchExecute}.
+     *
+     * @param ingestDocumentWrappers documents to process
+     * @param textLengthEstimator estimates the number of characters of a document sent for inference
+     * @param subBatchExecutor processes one sub-batch and calls its handler with the processed documents
+     * @param handler handler of all processed documents
+     */
+    public void batchExecute(
+        final List<IngestDocumentWrapper> ingestDocumentWrappers,
+        final ToLongFunction<IngestDocumentWrapper> textLengthEstimator,
+        final BiConsumer<List<IngestDocumentWrapper>, Consumer<List<IngestDocumentWrapper>>> subBatchExecutor,
+        final Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        final long[] textLengths = new long[ingestDocumentWrappers.size()];
+        for (int i = 0; i < textLengths.length; i++) {
+            textLengths[i] = textLengthEstimator.applyAsLong(ingestDocumentWrappers.get(i));
+        }
+        final List<Integer> subBatchEnds = cutBatches(textLengths);
+        final AtomicInteger remainingDocCount = new AtomicInteger(ingestDocumentWrappers.size());
+        final List<IngestDocumentWrapper> allResults = Collections.synchronizedList(new ArrayList<>());
+        int start = 0;
+        for (int end : subBatchEnds) {
+            final List<IngestDocumentWrapper> subBatch = ingestDocumentWrappers.subList(start, end);
+            long subBatchTextLength = 0;
+            for (int i = start; i < end; i++) {
+                subBatchTextLength += textLengths[i];
+            }
+            final long textLength = subBatchTextLength;
+            final int previouslyFailedDocCount = countFailedDocs(subBatch);
+            final long startTimeInNanos = nanoTime.getAsLong();
+            subBatchExecutor.accept(subBatch, results -> {
+                onSubBatchComplete(
+                    subBatch.size(),
+                    textLength,
+                    nanoTime.getAsLong() - startTimeInNanos,
+                    countFailedDocs(results) - previouslyFailedDocCount
+                );
+                allResults.addAll(results);
+                if (remainingDocCount.addAndGet(-results.size()) == 0) {
+                    handler.accept(allResults);
+                }
+            });
+            start = end;
+        }
+    }
+
+    /**
+     * Estimates the number of characters of text in a value of an ingest document, strings nested in maps and lists are counted
+     * @param value value of a field of an ingest document
+     * @return number of characters of text in the value
+     */
+    public static long estimateTextLength(final Object value) {
+        if (value instanceof String text) {
+            return text.length();
+        }
+        final Collection<?> values;
+        if (value instanceof Map<?, ?> map) {
+            values = map.values();
+        } else if (value instanceof Collection<?> collection) {
+            values = collection;
+        } else {
+            return 0;
+        }
+        long textLength = 0;
+        for (Object nestedValue : values) {
+            textLength += estimateTextLength(nestedValue);
+        }
+        return textLength;
+    }
+
+    /**
+     * @return exclusive end index of every sub-batch
+     */
+    @VisibleForTesting
+    List<Integer> cutBatches(final long[] textLengths) {
+        final int batchSize;
+        final long charBudget;
+        synchronized (this) {
+            batchSize = getCurrentBatchSize();
+            charBudget = getCharBudget();
+        }
+        final List<Integer> subBatchEnds = new ArrayList<>();
+        int docCount = 0;
+        long textLength = 0;
+        for (int i = 0; i < textLengths.length; i++) {
+            // a document longer than the budget is sent alone
+            if (docCount > 0 && (docCount >= batchSize || textLength + textLengths[i] > charBudget)) {
+                subBatchEnds.add(i);
+                docCount = 0;
+                textLength = 0;
+            }
+            docCount++;
+            textLength += textLengths[i];
+        }
+        subBatchEnds.add(textLengths.length);
+        return subBatchEnds;
+    }
+
+    @VisibleForTesting
+    synchronized void onSubBatchComplete(final int docCount, final long textLength, final long latencyInNanos, final int failedDocCount) {
+        final long targetLatencyInNanos = settingsAccessor.getAdaptiveBatchSizeTargetLatency().nanos();
+        final int batchSize = getCurrentBatchSize();
+        if (failedDocCount > docCount * FAILED_BATCH_RATIO) {
+            decrease(batchSize, MIN_DECREASE_FACTOR);
+            return;
+        }
+        if (textLength > 0) {
+            final double observedNanosPerChar = (double) latencyInNanos / textLength;
+            nanosPerChar = nanosPerChar == 0
+                ? observedNanosPerChar
+                : LATENCY_SMOOTHING_FACTOR * observedNanosPerChar + (1 - LATENCY_SMOOTHING_FACTOR) * nanosPerChar;
+        }
+        if (latencyInNanos > targetLatencyInNanos) {
+            decrease(batchSize, Math.max(MIN_DECREASE_FACTOR, (double) targetLatencyInNanos / latencyInNanos));
+        } else if (docCount >= batchSize && batchSize < settingsAccessor.getAdaptiveBatchSizeMaxBatchSize()) {
+            // only a full sub-batch shows the model can take more documents
+            currentBatchSize = batchSize + 1;
+            EventStatsManager.increment(EventStatName.ADAPTIVE_BATCH_SIZE_INCREASES);
+        }
+    }
+
+    private void decrease(final int batchSize, final double factor) {
+        final int newBatchSize = Math.max(1, (int) (batchSize * factor));
+        if (newBatchSize < batchSize) {
+            log.debug("Decreasing ingest sub-batch size from [{}] to [{}]", batchSize, newBatchSize);
+            EventStatsManager.increment(EventStatName.ADAPTIVE_BATCH_SIZE_DECREASES);
+        }
+        currentBatchSize = newBatchSize;
+    }
+
+    private long getCharBudget() {
+        final int maxCharsPerBatch = settingsAccessor.getAdaptiveBatchSizeMaxCharsPerBatch();
+        long charBudget = maxCharsPerBatch > 0 ? maxCharsPerBatch : Long.MAX_VALUE;
+        if (nanosPerChar > 0) {
+            charBudget = Math.min(charBudget, (long) (settingsAccessor.getAdaptiveBatchSizeTargetLatency().nanos() / nanosPerChar));
+        }
+        return Math.max(1, charBudget);
+    }
+
+    private static int countFailedDocs(final List<IngestDocumentWrapper> ingestDocumentWrappers) {
+        int failedDocCount = 0;
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            if (ingestDocumentWrapper.getException() != null) {
+                failedDocCount++;
+            }
+        }
+        return failedDocCount;
+    }
+}
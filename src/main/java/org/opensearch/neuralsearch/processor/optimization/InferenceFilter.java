@@ -5,7 +5,13 @@
 package org.opensearch.neuralsearch.processor.optimization;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.index.Index;
+import org.opensearch.neuralsearch.cache.BoundedLruCache;
 import org.opensearch.neuralsearch.processor.util.ProcessorUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
 import java.util.ArrayList;
@@ -33,11 +39,138 @@ public abstract class InferenceFilter {
      */
     protected Map<String, String> reversedFieldMap;
 
+    /**
+     * Whether texts are compared by their fingerprint stored next to the embedding instead of by content
+     */
+    protected final boolean fingerprintEnabled;
+
+    /**
+     * Id of the model embeddings are generated with, part of the fingerprints of the texts
+     */
+    protected final String modelId;
+
+    private static final int MAX_FINGERPRINT_MAPPING_ENTRIES = 1024;
+
+    /**
+     * Whether the fingerprint fields are mapped in an index, keyed by index name and uuid and refreshed when the mapping
+     * changes. Entries of deleted indices are never read again and are evicted as least recently used ones.
+     */
+    private final BoundedLruCache<Index, FingerprintMapping> fingerprintMappings = new BoundedLruCache<>(
+        MAX_FINGERPRINT_MAPPING_ENTRIES,
+        Long.MAX_VALUE,
+        0,
+        (index, fingerprintMapping) -> 0L,
+        System::nanoTime,
+        () -> {}
+    );
+
     /**
      * Constructs an InferenceFilter instance and initializes the reversed field map.
      */
     public InferenceFilter(Map<String, Object> fieldMap) {
+        this(fieldMap, false, null);
+    }
+
+    /**
+     * Constructs an InferenceFilter instance that compares texts by fingerprint when fingerprintEnabled is true.
+     */
+    public InferenceFilter(Map<String, Object> fieldMap, boolean fingerprintEnabled, String modelId) {
         this.reversedFieldMap = ProcessorDocumentUtils.flattenAndFlip(fieldMap);
+        this.fingerprintEnabled = fingerprintEnabled;
+        this.modelId = modelId;
+    }
+
+    /**
+     * Filter that compares texts of documents by content, used for indices that don't map the fingerprint fields
+     */
+    protected abstract InferenceFilter contentFilter();
+
+    /**
+     * Fingerprint fields are written to the document source, so they are only used for indices that map all of them. Other
+     * indices would map them dynamically as user fields or reject documents with a strict mapping.
+     *
+     * @param indexMetadata metadata of the index the documents are ingested to, null if it is unknown
+     * @return this filter if fingerprints can be used for the index, otherwise a filter that compares texts by content
+     */
+    public InferenceFilter forIndex(final IndexMetadata indexMetadata) {
+        if (fingerprintEnabled == false) {
+            return this;
+        }
+        if (indexMetadata == null) {
+            return contentFilter();
+        }
+        final long mappingVersion = indexMetadata.getMappingVersion();
+        final Index index = indexMetadata.getIndex();
+        FingerprintMapping fingerprintMapping = fingerprintMappings.get(index);
+        if (fingerprintMapping == null || fingerprintMapping.mappingVersion() != mappingVersion) {
+            // concurrent ingests may check the same mapping twice, result is the same for the same mapping version
+            fingerprintMapping = new FingerprintMapping(mappingVersion, isFingerprintMapped(index.getName(), indexMetadata.mapping()));
+            fingerprintMappings.put(index, fingerprintMapping);
+        }
+        return fingerprintMapping.mapped() ? this : contentFilter();
+    }
+
+    private boolean isFingerprintMapped(final String index, final MappingMetadata mappingMetadata) {
+        final Map<String, Object> mapping = mappingMetadata == null ? Map.of() : mappingMetadata.sourceAsMap();
+        for (Map.Entry<String, String> entry : reversedFieldMap.entrySet()) {
+            if (InferenceFingerprint.isMapped(mapping, entry.getKey(), entry.getValue()) == false) {
+                log.warn(
+                    "skip_existing_fingerprint is ignored for index [{}], field [{}] is not mapped. Texts are compared by content",
+                    index,
+                    InferenceFingerprint.fieldPath(entry.getKey())
+                );
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stores the fingerprints of the texts of the new document next to their embeddings, it is a no-op unless fingerprints are
+     * enabled. Fingerprints depend only on the texts, so they are valid whether embeddings are copied or generated.
+     *
+     * @param sourceAndMetadataMap The metadata map of the new document
+     */
+    public void writeFingerprints(Map<String, Object> sourceAndMetadataMap) {
+        if (fingerprintEnabled == false) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : reversedFieldMap.entrySet()) {
+            InferenceFingerprint.write(sourceAndMetadataMap, entry.getKey(), entry.getValue(), modelId);
+        }
+    }
+
+    /**
+     * Existing documents are compared by fingerprint, so only embeddings and fingerprints have to be fetched.
+     *
+     * @return source fields to fetch existing documents with, or null to fetch the whole source
+     */
+    public FetchSourceContext getExistingDocumentFetchSourceContext() {
+        if (fingerprintEnabled == false) {
+            return null;
+        }
+        List<String> includes = new ArrayList<>();
+        for (String embeddingKey : reversedFieldMap.keySet()) {
+            includes.add(embeddingKey);
+            includes.add(InferenceFingerprint.fieldPath(embeddingKey));
+        }
+        return new FetchSourceContext(true, includes.toArray(new String[0]), Strings.EMPTY_ARRAY);
+    }
+
+    /**
+     * @param embeddingKey The dot-notation path for the embedding field
+     * @return The dot-notation path of the value in the existing document compared with the value to be processed
+     */
+    protected String getComparisonPath(String embeddingKey) {
+        return fingerprintEnabled ? InferenceFingerprint.fieldPath(embeddingKey) : reversedFieldMap.get(embeddingKey);
+    }
+
+    /**
+     * @param processValue The value to be checked for potential embedding reuse
+     * @return The value compared with the value at the comparison path of the existing document
+     */
+    protected Object toComparableValue(Object processValue) {
+        return fingerprintEnabled ? InferenceFingerprint.of(modelId, processValue) : processValue;
     }
 
     /**
@@ -186,7 +319,7 @@ public abstract class InferenceFilter {
         Map<String, Object> sourceAndMetadataMap,
         Map<String, Object> existingSourceAndMetadataMap
     ) {
-        String textKey = reversedFieldMap.get(embeddingKey);
+        String textKey = getComparisonPath(embeddingKey);
         Optional<Object> existingListOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, textKey);
         Optional<Object> embeddingListOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, embeddingKey);
         if (existingListOptional.isPresent() == false || embeddingListOptional.isPresent() == false) {
@@ -252,4 +385,7 @@ public abstract class InferenceFilter {
         }
         return filteredList;
     }
+
+    private record FingerprintMapping(long mappingVersion, boolean mapped) {
+    }
 }
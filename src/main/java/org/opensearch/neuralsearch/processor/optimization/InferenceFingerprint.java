@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.neuralsearch.processor.util.ProcessorUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Content fingerprints of the texts embeddings are generated from. When skip_existing_fingerprint is enabled, inference
+ * processors store the fingerprint of every text next to its embedding, in a field named after the embedding field with the
+ * {@link #FIELD_SUFFIX} suffix, so that existing documents can be fetched without their texts and compared by fingerprint.
+ * Fingerprint fields are part of the document source, so they are only written to indices that map them explicitly, see
+ * {@link #isMapped(Map, String, String)}. A fingerprint is the 64-bit murmur3 hash of the model id and the text, embeddings
+ * are regenerated when the model changes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InferenceFingerprint {
+    public static final String FIELD_SUFFIX = "_fingerprint";
+    private static final long HASH_SEED = 0;
+    private static final char MODEL_ID_SEPARATOR = '\u0000';
+
+    /**
+     * @param embeddingKey dot-notation path of the embedding field
+     * @return dot-notation path of the fingerprint field of the embedding
+     */
+    public static String fieldPath(final String embeddingKey) {
+        return embeddingKey + FIELD_SUFFIX;
+    }
+
+    /**
+     * Computes the fingerprint of a text, or of every text of a list in the same order
+     * @param modelId id of the model embeddings are generated with
+     * @param value text or list of texts
+     * @return fingerprint of the text, list of fingerprints with null for elements that are not texts, or null for other values
+     */
+    public static Object of(final String modelId, final Object value) {
+        if (value instanceof String text) {
+            return of(modelId, text);
+        }
+        if (value instanceof List<?> list) {
+            final List<Object> fingerprints = new ArrayList<>(list.size());
+            for (Object item : list) {
+                fingerprints.add(item instanceof String text ? of(modelId, text) : null);
+            }
+            return fingerprints;
+        }
+        return null;
+    }
+
+    private static String of(final String modelId, final String text) {
+        final byte[] bytes = (modelId + MODEL_ID_SEPARATOR + text).getBytes(StandardCharsets.UTF_8);
+        final MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, HASH_SEED, new MurmurHash3.Hash128());
+        return String.format(Locale.ROOT, "%016x", hash.h1);
+    }
+
+    /**
+     * Stores the fingerprints of the texts at textKey next to the embedding field, in every object of the path when it goes
+     * through lists. Fingerprints are only stored when the text and the embedding share the same parent object.
+     *
+     * @param sourceAndMetadataMap source of the document
+     * @param embeddingKey dot-notation path of the embedding field
+     * @param textKey dot-notation path of the text field
+     * @param modelId id of the model embeddings are generated with
+     */
+    public static void write(
+        final Map<String, Object> sourceAndMetadataMap,
+        final String embeddingKey,
+        final String textKey,
+        final String modelId
+    ) {
+        if (isWritten(embeddingKey, textKey) == false) {
+            return;
+        }
+        final String[] embeddingKeys = embeddingKey.split("\\.");
+        write(sourceAndMetadataMap, textKey.split("\\."), 0, fieldPath(embeddingKeys[embeddingKeys.length - 1]), modelId);
+    }
+
+    /**
+     * Checks whether the fingerprint field of the embedding is mapped, fingerprints are not written for unmapped fields so
+     * they are never added to the mapping dynamically or rejected by strict mappings. Fingerprints are only compared, a
+     * mapping like {@code {"type": "keyword", "index": false, "doc_values": false}} keeps them out of the index.
+     *
+     * @param mapping source of the index mapping
+     * @param embeddingKey dot-notation path of the embedding field
+     * @param textKey dot-notation path of the text field
+     * @return true if the fingerprint field is mapped or no fingerprint is written for the embedding
+     */
+    public static boolean isMapped(final Map<String, Object> mapping, final String embeddingKey, final String textKey) {
+        if (isWritten(embeddingKey, textKey) == false) {
+            return true;
+        }
+        Object properties = mapping.get("properties");
+        final String[] fieldNames = fieldPath(embeddingKey).split("\\.");
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (properties instanceof Map == false) {
+                return false;
+            }
+            final Object field = ProcessorUtils.unsafeCastToObjectMap(properties).get(fieldNames[i]);
+            if (field instanceof Map == false) {
+                return false;
+            }
+            properties = ProcessorUtils.unsafeCastToObjectMap(field).get("properties");
+        }
+        return true;
+    }
+
+    /**
+     * Fingerprints are only written when the text and the embedding share the same parent object
+     */
+    private static boolean isWritten(final String embeddingKey, final String textKey) {
+        final String[] textKeys = textKey.split("\\.");
+        final String[] embeddingKeys = embeddingKey.split("\\.");
+        if (textKeys.length != embeddingKeys.length) {
+            return false;
+        }
+        for (int i = 0; i < textKeys.length - 1; i++) {
+            if (textKeys[i].equals(embeddingKeys[i]) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void write(
+        final Object current,
+        final String[] textKeys,
+        final int depth,
+        final String fingerprintField,
+        final String modelId
+    ) {
+        if (current instanceof List<?> list) {
+            for (Object item : list) {
+                write(item, textKeys, depth, fingerprintField, modelId);
+            }
+            return;
+        }
+        if (current instanceof Map == false) {
+            return;
+        }
+        final Map<String, Object> map = ProcessorUtils.unsafeCastToObjectMap(current);
+        if (depth < textKeys.length - 1) {
+            write(map.get(textKeys[depth]), textKeys, depth + 1, fingerprintField, modelId);
+            return;
+        }
+        final Object fingerprint = of(modelId, map.get(textKeys[depth]));
+        if (fingerprint != null) {
+            map.put(fingerprintField, fingerprint);
+        }
+    }
+}
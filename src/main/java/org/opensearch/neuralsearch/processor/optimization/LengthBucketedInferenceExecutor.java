@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Splits an inference list sorted by text length into buckets of similar length and sends the buckets to the model
+ * concurrently, with a bounded number of buckets in flight. Results are stitched back in the order of the inference list,
+ * so a slow bucket of long texts no longer delays the round-trip of short ones behind it in a single predict call. The
+ * inference list is sent as a single call unless pipelining is enabled through
+ * {@link org.opensearch.neuralsearch.settings.NeuralSearchSettings#INGEST_INFERENCE_PIPELINING_ENABLED}.
+ */
+@Log4j2
+public final class LengthBucketedInferenceExecutor {
+    private static volatile NeuralSearchSettingsAccessor settingsAccessor;
+
+    private LengthBucketedInferenceExecutor() {}
+
+    /**
+     * Sends inference for a list of texts and returns one result per text
+     */
+    @FunctionalInterface
+    public interface BatchInference {
+        /**
+         * @param inferenceList a list of String for inference.
+         * @param handler a callback handler to handle inference results, it receives one result per text of inferenceList.
+         * @param onException an exception callback to handle exception.
+         */
+        void execute(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException);
+    }
+
+    /**
+     * Initializes the accessor of pipelining settings
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public static void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        LengthBucketedInferenceExecutor.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Executes inference of the texts, in length buckets sent concurrently when pipelining is enabled
+     * @param sortedInferenceList a list of String for inference sorted by length
+     * @param batchInference sends inference for one bucket
+     * @param handler a callback handler to handle inference results, it receives one result per text of sortedInferenceList.
+     * @param onException an exception callback to handle exception, it is called at most once.
+     */
+    public static void execute(
+        final List<String> sortedInferenceList,
+        final BatchInference batchInference,
+        final Consumer<List<?>> handler,
+        final Consumer<Exception> onException
+    ) {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        if (accessor == null
+            || accessor.isIngestInferencePipeliningEnabled() == false
+            || sortedInferenceList.size() <= accessor.getIngestInferencePipeliningBucketSize()) {
+            batchInference.execute(sortedInferenceList, handler, onException);
+            return;
+        }
+        new BucketedExecution(
+            sortedInferenceList,
+            accessor.getIngestInferencePipeliningBucketSize(),
+            batchInference,
+            handler,
+            onException
+        ).start(accessor.getIngestInferencePipeliningMaxConcurrentBuckets());
+    }
+
+    private static class BucketedExecution {
+        private final List<String> inferenceList;
+        private final int bucketSize;
+        private final int bucketCount;
+        private final BatchInference batchInference;
+        private final Consumer<List<?>> handler;
+        private final Consumer<Exception> onException;
+        private final Object[] results;
+        private final AtomicInteger nextBucket = new AtomicInteger();
+        private final AtomicInteger remainingBuckets;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private BucketedExecution(
+            final List<String> inferenceList,
+            final int bucketSize,
+            final BatchInference batchInference,
+            final Consumer<List<?>> handler,
+            final Consumer<Exception> onException
+        ) {
+            this.inferenceList = inferenceList;
+            this.bucketSize = bucketSize;
+            this.bucketCount = (inferenceList.size() + bucketSize - 1) / bucketSize;
+            this.batchInference = batchInference;
+            this.handler = handler;
+            this.onException = onException;
+            this.results = new Object[inferenceList.size()];
+            this.remainingBuckets = new AtomicInteger(bucketCount);
+        }
+
+        private void start(final int maxConcurrentBuckets) {
+            for (int i = 0; i < Math.min(maxConcurrentBuckets, bucketCount); i++) {
+                executeNextBucket();
+            }
+        }
+
+        private void executeNextBucket() {
+            final int bucket = nextBucket.getAndIncrement();
+            if (bucket >= bucketCount || failed.get()) {
+                return;
+            }
+            final int from = bucket * bucketSize;
+            final int to = Math.min(from + bucketSize, inferenceList.size());
+            final List<String> bucketTexts = inferenceList.subList(from, to);
+            final long startTimeInNanos = System.nanoTime();
+            try {
+                batchInference.execute(bucketTexts, bucketResults -> {
+                    recordLatency(bucket, bucketTexts, startTimeInNanos);
+                    if (bucketResults == null || bucketResults.size() != bucketTexts.size()) {
+                        fail(
+                            new IllegalStateException(
+                                String.format(
+                                    Locale.ROOT,
+                                    "expected [%d] inference results but got [%d]",
+                                    bucketTexts.size(),
+                                    bucketResults == null ? 0 : bucketResults.size()
+                                )
+                            )
+                        );
+                        return;
+                    }
+                    for (int i = 0; i < bucketResults.size(); i++) {
+                        results[from + i] = bucketResults.get(i);
+                    }
+                    if (remainingBuckets.decrementAndGet() == 0) {
+                        handler.accept(new ArrayList<>(Arrays.asList(results)));
+                        return;
+                    }
+                    executeNextBucket();
+                }, this::fail);
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        private void fail(final Exception e) {
+            if (failed.compareAndSet(false, true)) {
+                onException.accept(e);
+            }
+        }
+
+        private void recordLatency(final int bucket, final List<String> bucketTexts, final long startTimeInNanos) {
+            final long latencyInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+            EventStatsManager.increment(EventStatName.INGEST_INFERENCE_PIPELINED_BUCKETS);
+            EventStatsManager.add(EventStatName.INGEST_INFERENCE_PIPELINED_BUCKET_LATENCY_MILLIS, latencyInMillis);
+            log.debug(
+                "Inference bucket [{}] of [{}] with [{}] texts of up to [{}] characters took [{}] ms",
+                bucket + 1,
+                bucketCount,
+                bucketTexts.size(),
+                bucketTexts.getLast().length(),
+                latencyInMillis
+            );
+        }
+    }
+}
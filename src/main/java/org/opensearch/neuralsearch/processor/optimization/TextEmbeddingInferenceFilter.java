@@ -20,11 +20,27 @@ import java.util.Optional;
  */
 @Log4j2
 public class TextEmbeddingInferenceFilter extends InferenceFilter {
+    private final TextEmbeddingInferenceFilter contentFilter;
+
     /**
      * Constructs a TextEmbeddingInferenceFilter instance with the specified field map.
      */
     public TextEmbeddingInferenceFilter(Map<String, Object> fieldMap) {
         super(fieldMap);
+        this.contentFilter = this;
+    }
+
+    /**
+     * Constructs a TextEmbeddingInferenceFilter instance that compares texts by fingerprint when fingerprintEnabled is true.
+     */
+    public TextEmbeddingInferenceFilter(Map<String, Object> fieldMap, boolean fingerprintEnabled, String modelId) {
+        super(fieldMap, fingerprintEnabled, modelId);
+        this.contentFilter = fingerprintEnabled ? new TextEmbeddingInferenceFilter(fieldMap) : this;
+    }
+
+    @Override
+    protected InferenceFilter contentFilter() {
+        return contentFilter;
     }
 
     /**
@@ -42,7 +58,7 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         Map<String, Object> existingSourceAndMetadataMap,
         int index
     ) {
-        String textPath = reversedFieldMap.get(embeddingKey);
+        String textPath = getComparisonPath(embeddingKey);
         Optional<Object> existingValueOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, textPath);
         Optional<Object> embeddingValueOptional = ProcessorUtils.getValueFromSource(existingSourceAndMetadataMap, embeddingKey);
         if (existingValueOptional.isPresent() && embeddingValueOptional.isPresent()) {
@@ -74,7 +90,7 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         Map<String, Object> sourceAndMetadataMap,
         int index
     ) {
-        if (Objects.equals(existingValue, processValue)) {
+        if (Objects.equals(existingValue, toComparableValue(processValue))) {
             ProcessorUtils.setValueToSource(sourceAndMetadataMap, embeddingKey, embeddingValue, index);
             // if successfully copied, return null to be filtered out from process map
             return null;
@@ -96,7 +112,7 @@ public class TextEmbeddingInferenceFilter extends InferenceFilter {
         List<Object> embeddingList,
         Map<String, Object> sourceAndMetadataMap
     ) {
-        if (Objects.equals(processList, existingList)) {
+        if (Objects.equals(toComparableValue(processList), existingList)) {
             ProcessorUtils.setValueToSource(sourceAndMetadataMap, embeddingKey, embeddingList);
             // if successfully copied, return null to be filtered out from process map
             return null;
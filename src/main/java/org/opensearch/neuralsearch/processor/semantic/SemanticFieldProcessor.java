@@ -15,11 +15,13 @@ import org.opensearch.ingest.AbstractBatchingSystemProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.processor.chunker.Chunker;
 import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
 import org.opensearch.neuralsearch.processor.dto.SemanticFieldInfo;
+import org.opensearch.neuralsearch.processor.optimization.AdaptiveBatchSizer;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 import org.opensearch.neuralsearch.util.TokenWeightUtil;
@@ -79,8 +81,12 @@ public class SemanticFieldProcessor extends AbstractBatchingSystemProcessor {
     private final ClusterService clusterService;
 
     private final Chunker defaultTextChunker;
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
 
     private final static float DEFAULT_PRUNE_RATIO = 0.1f;
+    // embeddings are cached before pruning so the same entries serve every prune configuration
+    private final static String DENSE_EMBEDDING_CACHE_RESULT_TYPE = "semantic_field_dense";
+    private final static String SPARSE_EMBEDDING_CACHE_RESULT_TYPE = "semantic_field_sparse";
 
     public SemanticFieldProcessor(
         @Nullable final String tag,
@@ -98,6 +104,7 @@ public class SemanticFieldProcessor extends AbstractBatchingSystemProcessor {
         this.environment = environment;
         this.clusterService = clusterService;
         this.defaultTextChunker = defaultTextChunker;
+        this.adaptiveBatchSizer = new AdaptiveBatchSizer(batchSize);
     }
 
     /**
@@ -392,6 +399,37 @@ public class SemanticFieldProcessor extends AbstractBatchingSystemProcessor {
         }
     }
 
+    /**
+     * Cuts the documents into sub-batches of the fixed batch size, or of a size adapted to the observed inference latency
+     * when adaptive batch sizing is enabled.
+     * @param ingestDocumentWrappers a list of IngestDocuments in a batch.
+     * @param handler a callback handler to handle all processed documents.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (adaptiveBatchSizer.isEnabled() == false) {
+            super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+        adaptiveBatchSizer.batchExecute(ingestDocumentWrappers, this::estimateSemanticTextLength, this::subBatchExecute, handler);
+    }
+
+    // estimates the text length of the semantic fields, invalid documents are reported when the sub-batch is executed
+    private long estimateSemanticTextLength(@NonNull final IngestDocumentWrapper ingestDocumentWrapper) {
+        if (ingestDocumentWrapper.getIngestDocument() == null) {
+            return 0;
+        }
+        try {
+            long textLength = 0;
+            for (SemanticFieldInfo semanticFieldInfo : getSemanticFieldInfo(ingestDocumentWrapper.getIngestDocument())) {
+                textLength += semanticFieldInfo.getValue().length();
+            }
+            return textLength;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
     @Override
     public void subBatchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
         EventStatsManager.increment(EventStatName.SEMANTIC_FIELD_PROCESSOR_EXECUTIONS);
@@ -501,11 +539,28 @@ public class SemanticFieldProcessor extends AbstractBatchingSystemProcessor {
     ) {
         final AtomicInteger counter = new AtomicInteger(modelIdToRawDataMap.size());
         final Map<Pair<String, String>, Pair<Object, Exception>> modelIdValueToEmbeddingMap = new ConcurrentHashMap<>();
+        final IngestInferenceCache inferenceCache = IngestInferenceCache.instance();
 
         for (final Map.Entry<String, Set<String>> entry : modelIdToRawDataMap.entrySet()) {
             final String modelId = entry.getKey();
             final boolean isDenseModel = isDenseModel(modelIdToModelTypeMap.get(modelId));
-            final List<String> values = new ArrayList<>(entry.getValue());
+            final String resultType = isDenseModel ? DENSE_EMBEDDING_CACHE_RESULT_TYPE : SPARSE_EMBEDDING_CACHE_RESULT_TYPE;
+            // only the values whose embedding is not cached yet are sent to the model
+            final List<String> values = new ArrayList<>();
+            for (String value : entry.getValue()) {
+                final Object cachedEmbedding = inferenceCache.get(modelId, resultType, value);
+                if (cachedEmbedding == null) {
+                    values.add(value);
+                } else {
+                    modelIdValueToEmbeddingMap.put(Pair.of(modelId, value), Pair.of(cachedEmbedding, null));
+                }
+            }
+            if (values.isEmpty()) {
+                if (counter.decrementAndGet() == 0) {
+                    onComplete.accept(modelIdValueToEmbeddingMap);
+                }
+                continue;
+            }
 
             final TextInferenceRequest textInferenceRequest = TextInferenceRequest.builder().inputTexts(values).modelId(modelId).build();
 
@@ -515,6 +570,7 @@ public class SemanticFieldProcessor extends AbstractBatchingSystemProcessor {
                     formattedEmbeddings = TokenWeightUtil.fetchListOfTokenWeightMap((List<Map<String, ?>>) embeddings);
                 }
                 for (int i = 0; i < values.size(); i++) {
+                    inferenceCache.put(modelId, resultType, values.get(i), formattedEmbeddings.get(i));
                     modelIdValueToEmbeddingMap.put(Pair.of(modelId, values.get(i)), Pair.of(formattedEmbeddings.get(i), null));
                 }
                 if (counter.decrementAndGet() == 0) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.IntToLongFunction;
+
+import org.apache.lucene.search.TaskExecutor;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utility class to process results of shards on the coordinator node in parallel. Shards are split into slices of
+ * consecutive shards with at least minimum number of hits each, every slice is processed as a separate task.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardSliceUtils {
+
+    /**
+     * Processor of a range of shards
+     */
+    @FunctionalInterface
+    public interface ShardSliceProcessor {
+        /**
+         * @param from index of the first shard of the slice, inclusive
+         * @param to index of the last shard of the slice, exclusive
+         */
+        void process(int from, int to);
+    }
+
+    /**
+     * Process shards in slices on the hybrid query executor, threshold is defined by the cluster setting
+     * @param numOfShards number of shards
+     * @param numOfHits number of hits of the shard by shard index
+     * @param processor processor of a slice of shards, must only modify results of shards of the slice
+     */
+    public static void processShardSlices(final int numOfShards, final IntToLongFunction numOfHits, final ShardSliceProcessor processor) {
+        processShardSlices(
+            numOfShards,
+            numOfHits,
+            processor,
+            HybridQueryExecutor.getParallelCombinationMinHitsPerTask(),
+            HybridQueryExecutor.getExecutor()
+        );
+    }
+
+    /**
+     * Process shards in slices, slices run as tasks of the executor. Processing stays on the calling thread if there is only
+     * one slice.
+     * @param numOfShards number of shards
+     * @param numOfHits number of hits of the shard by shard index
+     * @param processor processor of a slice of shards, must only modify results of shards of the slice
+     * @param minHitsPerSlice minimum number of hits in a slice, 0 means all shards are in a single slice
+     * @param taskExecutor executor for tasks
+     */
+    public static void processShardSlices(
+        final int numOfShards,
+        final IntToLongFunction numOfHits,
+        final ShardSliceProcessor processor,
+        final int minHitsPerSlice,
+        final TaskExecutor taskExecutor
+    ) {
+        final List<int[]> slices = getShardSlices(numOfShards, numOfHits, minHitsPerSlice);
+        if (slices.size() == 1) {
+            processor.process(0, numOfShards);
+            return;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<>(slices.size());
+        for (int[] slice : slices) {
+            tasks.add(() -> {
+                processor.process(slice[0], slice[1]);
+                return null;
+            });
+        }
+        try {
+            taskExecutor.invokeAll(tasks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Split shards into ranges of consecutive shards, every range except the last one has at least minHitsPerSlice hits.
+     * Hits of the last range are added to the previous range if there are not enough of them.
+     * @return list of [from, to) ranges of shard indexes
+     */
+    static List<int[]> getShardSlices(final int numOfShards, final IntToLongFunction numOfHits, final int minHitsPerSlice) {
+        final List<int[]> slices = new ArrayList<>();
+        if (minHitsPerSlice <= 0 || numOfShards < 2) {
+            slices.add(new int[] { 0, numOfShards });
+            return slices;
+        }
+        int sliceStart = 0;
+        long sliceHits = 0;
+        for (int shardIndex = 0; shardIndex < numOfShards; shardIndex++) {
+            sliceHits += numOfHits.applyAsLong(shardIndex);
+            if (sliceHits >= minHitsPerSlice) {
+                slices.add(new int[] { sliceStart, shardIndex + 1 });
+                sliceStart = shardIndex + 1;
+                sliceHits = 0;
+            }
+        }
+        if (sliceStart < numOfShards) {
+            if (slices.isEmpty()) {
+                slices.add(new int[] { sliceStart, numOfShards });
+            } else {
+                slices.getLast()[1] = numOfShards;
+            }
+        }
+        return slices;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.lucene.search.ConjunctionUtils;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
+
+/**
+ * Scorer of a hybrid sub-query that only matches documents of the filter shared by all sub-queries. The filter is
+ * evaluated once per segment into a bit set, every sub-query scorer is intersected with its own iterator over that set.
+ * Scores are the scores of the sub-query scorer.
+ */
+final class FilteredSubQueryScorer extends Scorer {
+
+    private final Scorer in;
+    private final DocIdSetIterator conjunction;
+    private final TwoPhaseIterator twoPhaseIterator;
+
+    private FilteredSubQueryScorer(final Scorer in, final BitSet filterBits) {
+        this.in = in;
+        final List<DocIdSetIterator> iterators = new ArrayList<>();
+        final List<TwoPhaseIterator> twoPhaseIterators = new ArrayList<>();
+        iterators.add(new BitSetIterator(filterBits, filterBits.approximateCardinality()));
+        final TwoPhaseIterator inTwoPhaseIterator = in.twoPhaseIterator();
+        if (Objects.isNull(inTwoPhaseIterator)) {
+            iterators.add(in.iterator());
+        } else {
+            twoPhaseIterators.add(inTwoPhaseIterator);
+        }
+        this.conjunction = ConjunctionUtils.createConjunction(iterators, twoPhaseIterators);
+        this.twoPhaseIterator = TwoPhaseIterator.unwrap(conjunction);
+    }
+
+    /**
+     * Intersect scorer of the sub-query with the filter
+     * @param scorer scorer of the sub-query, may be null if sub-query has no matches in the segment
+     * @param filterBits documents of the segment that match the filter, null if there is no filter
+     * @return filtered scorer, or the scorer itself if there is nothing to filter
+     */
+    static Scorer wrap(final Scorer scorer, final BitSet filterBits) {
+        if (Objects.isNull(scorer) || Objects.isNull(filterBits)) {
+            return scorer;
+        }
+        return new FilteredSubQueryScorer(scorer, filterBits);
+    }
+
+    /**
+     * Intersect scorers built by the sub-query scorer supplier with the filter
+     * @param scorerSupplier scorer supplier of the sub-query, may be null if sub-query has no matches in the segment
+     * @param filterBits documents of the segment that match the filter, null if there is no filter
+     * @return filtered scorer supplier, or the scorer supplier itself if there is nothing to filter
+     */
+    static ScorerSupplier wrap(final ScorerSupplier scorerSupplier, final BitSet filterBits) {
+        if (Objects.isNull(scorerSupplier) || Objects.isNull(filterBits)) {
+            return scorerSupplier;
+        }
+        final long filterCost = filterBits.approximateCardinality();
+        return new ScorerSupplier() {
+            @Override
+            public Scorer get(long leadCost) throws IOException {
+                return new FilteredSubQueryScorer(scorerSupplier.get(Math.min(leadCost, filterCost)), filterBits);
+            }
+
+            @Override
+            public long cost() {
+                return Math.min(scorerSupplier.cost(), filterCost);
+            }
+
+            @Override
+            public void setTopLevelScoringClause() throws IOException {
+                scorerSupplier.setTopLevelScoringClause();
+            }
+        };
+    }
+
+    @Override
+    public int docID() {
+        return conjunction.docID();
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return conjunction;
+    }
+
+    @Override
+    public TwoPhaseIterator twoPhaseIterator() {
+        return twoPhaseIterator;
+    }
+
+    @Override
+    public float score() throws IOException {
+        return in.score();
+    }
+
+    @Override
+    public int advanceShallow(int target) throws IOException {
+        return in.advanceShallow(target);
+    }
+
+    @Override
+    public float getMaxScore(int upTo) throws IOException {
+        return in.getMaxScore(upTo);
+    }
+
+    @Override
+    public void setMinCompetitiveScore(float minScore) throws IOException {
+        in.setMinCompetitiveScore(minScore);
+    }
+
+    @Override
+    public Collection<ChildScorable> getChildren() {
+        return List.of(new ChildScorable(in, "MUST"));
+    }
+}
@@ -9,27 +9,49 @@ import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.IOSupplier;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
- * Bulk scorer for hybrid query
+ * Bulk scorer for hybrid query. When top scores are needed, min competitive score of each sub query is passed to its scorer,
+ * and blocks of docs whose max score is not competitive for the sub query are skipped without being scored.
+ * Sub queries are scored one after another for each window of docs, or concurrently for a chunk of several windows when
+ * an executor for sub queries is provided. In the latter case every sub query scores the chunk into its own buffers, which
+ * are merged window by window before collecting, so scoring time of the chunk is close to that of the slowest sub query.
+ * Lucene iterators must be consumed by the thread that created them, so each task creates the scorer of its sub query for
+ * the chunk and drops it when the chunk is scored, and live docs are applied by the calling thread when chunks are merged.
+ * When the collector passes a time budget of sub queries to the scorer, a sub query is not scored for the following windows
+ * or chunks once the budget is used up.
  */
 public class HybridBulkScorer extends BulkScorer {
     private static final int SHIFT = 12;
     private static final int WINDOW_SIZE = 1 << SHIFT;
     private static final int MASK = WINDOW_SIZE - 1;
+    // number of windows in a chunk scored concurrently, larger chunks mean less synchronization but more memory per sub query
+    private static final int CHUNK_SHIFT = SHIFT + 3;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
 
     private final long cost;
     private final Scorer[] scorers;
     @Getter
     private final HybridSubQueryScorer hybridSubQueryScorer;
     private final boolean needsScores;
+    private final boolean pruneNonCompetitiveDocs;
+    // min competitive score last passed to each sub query scorer
+    private final float[] minCompetitiveScores;
+    // last doc id of the current block and the max score in that block for each sub query scorer
+    private final int[] blockUpTo;
+    private final float[] blockMaxScores;
     @Getter
     private final FixedBitSet matching;
     @Getter
@@ -38,6 +60,12 @@ public class HybridBulkScorer extends BulkScorer {
     @Getter
     private final int maxDoc;
     private int[] docIds;
+    // executor and per sub query buffers for concurrent scoring, null when sub queries are scored one after another
+    private final TaskExecutor subQueryExecutor;
+    // suppliers that create a new scorer of each sub query for every chunk
+    private final List<IOSupplier<Scorer>> scorerSuppliers;
+    private final FixedBitSet[] chunkMatching;
+    private final float[][] chunkScores;
 
     /**
      * Constructor for HybridBulkScorer
@@ -46,26 +74,112 @@ public class HybridBulkScorer extends BulkScorer {
      * @param maxDoc maximum document id
      */
     public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, int maxDoc) {
-        long cost = 0;
-        int numOfQueries = scorers.size();
-        this.scorers = new Scorer[numOfQueries];
-        for (int subQueryIndex = 0; subQueryIndex < numOfQueries; subQueryIndex++) {
-            Scorer scorer = scorers.get(subQueryIndex);
-            if (Objects.isNull(scorer)) {
-                continue;
+        this(scorers, needsScores, false, maxDoc);
+    }
+
+    /**
+     * Constructor for HybridBulkScorer
+     * @param scorers list of scorers for each sub query
+     * @param needsScores whether the scorer needs scores
+     * @param pruneNonCompetitiveDocs whether docs that are not competitive for a sub query can be skipped, requires scorers
+     *                                created for top scores
+     * @param maxDoc maximum document id
+     */
+    public HybridBulkScorer(List<Scorer> scorers, boolean needsScores, boolean pruneNonCompetitiveDocs, int maxDoc) {
+        this(scorers.toArray(new Scorer[0]), null, getCost(scorers), needsScores, pruneNonCompetitiveDocs, maxDoc, null);
+    }
+
+    /**
+     * Constructor for HybridBulkScorer that scores sub queries concurrently. Scorers of sub queries are created by the
+     * suppliers on the thread that scores a chunk, or once by the calling thread if there is nothing to run concurrently
+     * @param scorerSuppliers suppliers of a new scorer for each sub query, null if the sub query has no matching docs
+     * @param cost cost of the hybrid query in the segment
+     * @param needsScores whether the scorer needs scores
+     * @param pruneNonCompetitiveDocs whether docs that are not competitive for a sub query can be skipped, requires scorers
+     *                                created for top scores
+     * @param maxDoc maximum document id
+     * @param subQueryExecutor executor to score sub queries concurrently, sub queries are scored one after another if null
+     * @throws IOException if a scorer cannot be created
+     */
+    public HybridBulkScorer(
+        List<IOSupplier<Scorer>> scorerSuppliers,
+        long cost,
+        boolean needsScores,
+        boolean pruneNonCompetitiveDocs,
+        int maxDoc,
+        TaskExecutor subQueryExecutor
+    ) throws IOException {
+        this(
+            new Scorer[scorerSuppliers.size()],
+            canScoreConcurrently(scorerSuppliers, subQueryExecutor) ? scorerSuppliers : null,
+            cost,
+            needsScores,
+            pruneNonCompetitiveDocs,
+            maxDoc,
+            canScoreConcurrently(scorerSuppliers, subQueryExecutor) ? subQueryExecutor : null
+        );
+        if (Objects.isNull(this.subQueryExecutor)) {
+            for (int subQueryIndex = 0; subQueryIndex < scorerSuppliers.size(); subQueryIndex++) {
+                IOSupplier<Scorer> scorerSupplier = scorerSuppliers.get(subQueryIndex);
+                this.scorers[subQueryIndex] = Objects.isNull(scorerSupplier) ? null : scorerSupplier.get();
             }
-            cost += scorer.iterator().cost();
-            this.scorers[subQueryIndex] = scorer;
         }
+    }
+
+    private HybridBulkScorer(
+        Scorer[] scorers,
+        List<IOSupplier<Scorer>> scorerSuppliers,
+        long cost,
+        boolean needsScores,
+        boolean pruneNonCompetitiveDocs,
+        int maxDoc,
+        TaskExecutor subQueryExecutor
+    ) {
+        int numOfQueries = scorers.length;
+        this.scorers = scorers;
+        this.scorerSuppliers = scorerSuppliers;
         this.cost = cost;
         this.hybridSubQueryScorer = new HybridSubQueryScorer(numOfQueries);
         this.needsScores = needsScores;
+        this.pruneNonCompetitiveDocs = needsScores && pruneNonCompetitiveDocs;
+        this.minCompetitiveScores = new float[numOfQueries];
+        this.blockUpTo = new int[numOfQueries];
+        Arrays.fill(blockUpTo, -1);
+        this.blockMaxScores = new float[numOfQueries];
         this.matching = new FixedBitSet(WINDOW_SIZE);
-        this.windowScores = new float[this.scorers.length][WINDOW_SIZE];
+        this.windowScores = new float[numOfQueries][WINDOW_SIZE];
         this.maxDoc = maxDoc;
         this.hybridQueryDocIdStream = new HybridQueryDocIdStream(this);
         this.docIds = new int[numOfQueries];
         Arrays.fill(docIds, DocIdSetIterator.NO_MORE_DOCS);
+        this.subQueryExecutor = subQueryExecutor;
+        this.chunkMatching = Objects.isNull(subQueryExecutor) ? null : new FixedBitSet[numOfQueries];
+        this.chunkScores = Objects.isNull(subQueryExecutor) ? null : new float[numOfQueries][];
+        if (Objects.nonNull(subQueryExecutor)) {
+            for (int subQueryIndex = 0; subQueryIndex < numOfQueries; subQueryIndex++) {
+                if (Objects.nonNull(scorerSuppliers.get(subQueryIndex))) {
+                    chunkMatching[subQueryIndex] = new FixedBitSet(CHUNK_SIZE);
+                    chunkScores[subQueryIndex] = new float[CHUNK_SIZE];
+                    // scorer is not created yet, scoring of the sub query starts from the min doc id of the range
+                    docIds[subQueryIndex] = -1;
+                }
+            }
+        }
+    }
+
+    private static long getCost(List<Scorer> scorers) {
+        long cost = 0;
+        for (Scorer scorer : scorers) {
+            if (Objects.nonNull(scorer)) {
+                cost += scorer.iterator().cost();
+            }
+        }
+        return cost;
+    }
+
+    private static boolean canScoreConcurrently(List<IOSupplier<Scorer>> scorerSuppliers, TaskExecutor subQueryExecutor) {
+        // there is nothing to run concurrently with a single sub query
+        return Objects.nonNull(subQueryExecutor) && scorerSuppliers.stream().filter(Objects::nonNull).count() > 1;
     }
 
     @Override
@@ -73,25 +187,28 @@ public class HybridBulkScorer extends BulkScorer {
         collector.setScorer(hybridSubQueryScorer);
         // making sure we are not going over the global limit defined by maxDoc
         max = Math.min(max, maxDoc);
-        // advance all scorers to the segment's minimum doc id
-        advance(min, scorers);
-        while (allDocIdsUsed(docIds, max) == false) {
-            scoreWindow(collector, acceptDocs, min, max, docIds);
+        if (Objects.isNull(subQueryExecutor)) {
+            // advance all scorers to the segment's minimum doc id
+            advance(min, scorers);
+            while (allDocIdsUsed(docIds, max) == false) {
+                scoreWindow(collector, acceptDocs, min, max, docIds);
+            }
+        } else {
+            // scorers are created per chunk, doc ids of sub queries are the lowest doc ids they can match
+            for (int subQueryIndex = 0; subQueryIndex < docIds.length; subQueryIndex++) {
+                docIds[subQueryIndex] = Math.max(docIds[subQueryIndex], min);
+            }
+            while (allDocIdsUsed(docIds, max) == false) {
+                scoreChunk(collector, acceptDocs, min, max);
+            }
         }
         return getNextDocIdCandidate(docIds);
     }
 
     private void scoreWindow(LeafCollector collector, Bits acceptDocs, int min, int max, int[] docIds) throws IOException {
-        // find the first document ID below the maximum threshold to establish the next scoring window boundary
-        int topDoc = -1;
-        for (int docId : docIds) {
-            if (docId < max) {
-                topDoc = docId;
-                break;
-            }
-        }
-
-        final int windowBase = topDoc & ~MASK; // take the next match (at random) and find the window where it belongs
+        // the lowest doc id that is not scored yet establishes the next scoring window boundary, starting the window
+        // from a higher doc id would skip docs of sub queries that are behind
+        final int windowBase = getMinDocId(docIds) & ~MASK;
         final int windowMin = Math.max(min, windowBase);
         final int windowMax = Math.min(max, windowBase + WINDOW_SIZE);
         // collect doc ids and scores for this window using leaf collector
@@ -122,28 +239,7 @@ public class HybridBulkScorer extends BulkScorer {
             if (Objects.isNull(scorers[subQueryIndex]) || docIds[subQueryIndex] >= max) {
                 continue;
             }
-            DocIdSetIterator it = scorers[subQueryIndex].iterator();
-            int doc = docIds[subQueryIndex];
-            if (doc < windowMin) {
-                doc = it.advance(windowMin);
-            }
-            while (doc < windowMax) {
-                if (Objects.isNull(acceptDocs) || acceptDocs.get(doc)) {
-                    int d = doc & MASK;
-                    if (needsScores) {
-                        float score = scorers[subQueryIndex].score();
-                        // collect score only in case it's gt competitive score
-                        if (score > hybridSubQueryScorer.getMinScores()[subQueryIndex]) {
-                            matching.set(d);
-                            windowScores[subQueryIndex][d] = score;
-                        }
-                    } else {
-                        matching.set(d);
-                    }
-                }
-                doc = it.nextDoc();
-            }
-            docIds[subQueryIndex] = doc;
+            scoreSubQuery(subQueryIndex, acceptDocs, windowMin, windowMax, windowBase, matching, windowScores[subQueryIndex]);
         }
 
         hybridQueryDocIdStream.setBase(windowBase);
@@ -152,6 +248,201 @@ public class HybridBulkScorer extends BulkScorer {
         resetWindowState();
     }
 
+    /**
+     * Score the chunk of docs with every sub query concurrently, then collect the chunk window by window. Live docs are
+     * checked by the calling thread when the chunk is merged, as they must not be read by executor threads
+     * @param collector leaf collector for the segment
+     * @param acceptDocs bitset with live docs
+     * @param min min doc id
+     * @param max max doc id
+     * @throws IOException
+     */
+    private void scoreChunk(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+        final int chunkBase = getMinDocId(docIds) & ~CHUNK_MASK;
+        final int chunkMin = Math.max(min, chunkBase);
+        final int chunkMax = Math.min(max, chunkBase + CHUNK_SIZE);
+        final List<Callable<Void>> subQueryTasks = new ArrayList<>();
+        for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
+            if (Objects.isNull(chunkMatching[subQueryIndex]) || docIds[subQueryIndex] >= chunkMax) {
+                continue;
+            }
+            final int index = subQueryIndex;
+            subQueryTasks.add(() -> {
+                scoreSubQueryChunk(index, chunkMin, chunkMax, chunkBase);
+                return null;
+            });
+        }
+        subQueryExecutor.invokeAll(subQueryTasks);
+
+        final long[] matchingBits = matching.getBits();
+        for (int windowBase = chunkBase; windowBase < chunkMax; windowBase += WINDOW_SIZE) {
+            final int windowOffset = windowBase - chunkBase;
+            for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
+                if (Objects.isNull(chunkMatching[subQueryIndex])) {
+                    continue;
+                }
+                final long[] subQueryBits = chunkMatching[subQueryIndex].getBits();
+                final int wordOffset = windowOffset >> 6;
+                for (int word = 0; word < matchingBits.length; word++) {
+                    matchingBits[word] |= subQueryBits[wordOffset + word];
+                }
+                System.arraycopy(chunkScores[subQueryIndex], windowOffset, windowScores[subQueryIndex], 0, WINDOW_SIZE);
+            }
+            if (Objects.nonNull(acceptDocs)) {
+                clearDeletedDocs(acceptDocs, windowBase);
+            }
+            if (matching.scanIsEmpty() == false) {
+                hybridQueryDocIdStream.setBase(windowBase);
+                collector.collect(hybridQueryDocIdStream);
+                resetWindowState();
+            }
+        }
+        resetChunkState();
+    }
+
+    /**
+     * Create the scorer of the sub query and score the chunk with it. The scorer is only used by the thread that runs this
+     * method, and docs are scored regardless of live docs
+     * @param subQueryIndex index of the sub query
+     * @param chunkMin min doc id of the chunk
+     * @param chunkMax max doc id of the chunk, exclusive
+     * @param chunkBase doc id that corresponds to the first bit and score of chunk buffers
+     * @throws IOException
+     */
+    private void scoreSubQueryChunk(int subQueryIndex, int chunkMin, int chunkMax, int chunkBase) throws IOException {
+        Scorer scorer = scorerSuppliers.get(subQueryIndex).get();
+        if (Objects.isNull(scorer)) {
+            docIds[subQueryIndex] = DocIdSetIterator.NO_MORE_DOCS;
+            return;
+        }
+        scorers[subQueryIndex] = scorer;
+        minCompetitiveScores[subQueryIndex] = 0.0f;
+        blockUpTo[subQueryIndex] = -1;
+        try {
+            scoreSubQuery(subQueryIndex, null, chunkMin, chunkMax, chunkBase, chunkMatching[subQueryIndex], chunkScores[subQueryIndex]);
+        } finally {
+            scorers[subQueryIndex] = null;
+        }
+    }
+
+    /**
+     * Clear docs of the window that are deleted
+     */
+    private void clearDeletedDocs(Bits acceptDocs, int windowBase) {
+        for (int i = matching.nextSetBit(0); i != DocIdSetIterator.NO_MORE_DOCS; i = i + 1 < WINDOW_SIZE
+            ? matching.nextSetBit(i + 1)
+            : DocIdSetIterator.NO_MORE_DOCS) {
+            if (acceptDocs.get(windowBase + i) == false) {
+                matching.clear(i);
+            }
+        }
+    }
+
+    /**
+     * Score docs of the sub query from the range, and keep matching docs and their scores relative to the base doc id
+     * @param subQueryIndex index of the sub query
+     * @param acceptDocs bitset with live docs
+     * @param rangeMin min doc id of the range
+     * @param rangeMax max doc id of the range, exclusive
+     * @param base doc id that corresponds to the first bit and score
+     * @param matchingDocs bitset of matching docs
+     * @param scores scores of matching docs
+     * @throws IOException
+     */
+    private void scoreSubQuery(
+        int subQueryIndex,
+        Bits acceptDocs,
+        int rangeMin,
+        int rangeMax,
+        int base,
+        FixedBitSet matchingDocs,
+        float[] scores
+    ) throws IOException {
+        final HybridSubQueryTimeBudget subQueryTimeBudget = hybridSubQueryScorer.getSubQueryTimeBudget();
+        if (Objects.nonNull(subQueryTimeBudget) && subQueryTimeBudget.isUsedUp()) {
+            // hits collected so far are all this sub query returns
+            subQueryTimeBudget.stop(subQueryIndex);
+            docIds[subQueryIndex] = DocIdSetIterator.NO_MORE_DOCS;
+            return;
+        }
+        scoreSubQueryRange(subQueryIndex, acceptDocs, rangeMin, rangeMax, base, matchingDocs, scores);
+    }
+
+    private void scoreSubQueryRange(
+        int subQueryIndex,
+        Bits acceptDocs,
+        int rangeMin,
+        int rangeMax,
+        int base,
+        FixedBitSet matchingDocs,
+        float[] scores
+    ) throws IOException {
+        DocIdSetIterator it = scorers[subQueryIndex].iterator();
+        // a scorer created for the chunk is not positioned yet, its first doc can't be lower than the doc id of the sub query
+        int doc = it.docID();
+        int target = Math.max(rangeMin, docIds[subQueryIndex]);
+        if (doc < target) {
+            doc = it.advance(target);
+        }
+        float minScore = updateMinCompetitiveScore(subQueryIndex);
+        while (doc < rangeMax) {
+            if (minScore > 0 && isCompetitiveBlock(subQueryIndex, doc, minScore) == false) {
+                // no doc of the block can enter top docs of this sub query, continue from the next block
+                doc = blockUpTo[subQueryIndex] >= DocIdSetIterator.NO_MORE_DOCS - 1
+                    ? DocIdSetIterator.NO_MORE_DOCS
+                    : it.advance(blockUpTo[subQueryIndex] + 1);
+                continue;
+            }
+            if (Objects.isNull(acceptDocs) || acceptDocs.get(doc)) {
+                int d = doc - base;
+                if (needsScores) {
+                    float score = scorers[subQueryIndex].score();
+                    // collect score only in case it's gt competitive score
+                    if (score > hybridSubQueryScorer.getMinScores()[subQueryIndex]) {
+                        matchingDocs.set(d);
+                        scores[d] = score;
+                    }
+                } else {
+                    matchingDocs.set(d);
+                }
+            }
+            doc = it.nextDoc();
+        }
+        docIds[subQueryIndex] = doc;
+    }
+
+    /**
+     * Pass min competitive score of the sub query, as set by the collector, to the sub query scorer so that it can skip
+     * non-competitive docs. The collector sets it only once the total hits threshold is reached, until then it is 0 and
+     * every doc is scored and counted.
+     * @return min competitive score of the sub query, or 0 if docs cannot be pruned
+     */
+    private float updateMinCompetitiveScore(int subQueryIndex) throws IOException {
+        if (pruneNonCompetitiveDocs == false) {
+            return 0.0f;
+        }
+        float minScore = hybridSubQueryScorer.getMinScores()[subQueryIndex];
+        if (minScore > minCompetitiveScores[subQueryIndex]) {
+            scorers[subQueryIndex].setMinCompetitiveScore(minScore);
+            minCompetitiveScores[subQueryIndex] = minScore;
+        }
+        return minScore;
+    }
+
+    /**
+     * Check if the block of docs that contains the doc has max score greater than the min competitive score of the sub query.
+     * Block boundaries and max score are computed once per block
+     */
+    private boolean isCompetitiveBlock(int subQueryIndex, int doc, float minScore) throws IOException {
+        if (doc > blockUpTo[subQueryIndex]) {
+            Scorer scorer = scorers[subQueryIndex];
+            int upTo = scorer.advanceShallow(doc);
+            blockUpTo[subQueryIndex] = upTo;
+            blockMaxScores[subQueryIndex] = scorer.getMaxScore(upTo);
+        }
+        return blockMaxScores[subQueryIndex] > minScore;
+    }
+
     /**
      * Advance all scorers to the next document that is >= min
      */
@@ -178,6 +469,14 @@ public class HybridBulkScorer extends BulkScorer {
         return true;
     }
 
+    private int getMinDocId(final int[] docsIds) {
+        int minDoc = DocIdSetIterator.NO_MORE_DOCS;
+        for (int doc : docsIds) {
+            minDoc = Math.min(minDoc, doc);
+        }
+        return minDoc;
+    }
+
     private int getNextDocIdCandidate(final int[] docsIds) {
         int nextDoc = -1;
         for (int doc : docsIds) {
@@ -199,6 +498,18 @@ public class HybridBulkScorer extends BulkScorer {
         }
     }
 
+    /**
+     * Reset the buffers of sub queries for the next chunk of documents
+     */
+    private void resetChunkState() {
+        for (int subQueryIndex = 0; subQueryIndex < scorers.length; subQueryIndex++) {
+            if (Objects.nonNull(chunkMatching[subQueryIndex])) {
+                chunkMatching[subQueryIndex].clear();
+                Arrays.fill(chunkScores[subQueryIndex], 0.0f);
+            }
+        }
+    }
+
     @Override
     public long cost() {
         return cost;
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
@@ -36,6 +37,8 @@ public final class HybridQuery extends Query implements Iterable<Query> {
 
     private final List<Query> subQueries;
     private final HybridQueryContext queryContext;
+    // non-scoring clauses shared by all sub-queries, null if sub-queries are not filtered
+    private final Query filterQuery;
 
     /**
      * Create new instance of hybrid query object based on collection of sub queries and filter query
@@ -53,10 +56,12 @@ public final class HybridQuery extends Query implements Iterable<Query> {
     }
 
     /**
-     * Create new instance of hybrid query object based on collection of sub queries and boolean clauses that are used as filters for each sub-query
-     * @param subQueries
-     * @param hybridQueryContext
-     * @param booleanClauses
+     * Create new instance of hybrid query object based on collection of sub queries and boolean clauses that are used as filters for each sub-query.
+     * If all clauses are non-scoring (filter or must_not) they are combined into a single filter that is evaluated once per segment
+     * and shared by all sub-queries, otherwise every sub-query is wrapped into a bool query with the clauses.
+     * @param subQueries collection of queries that are executed individually and contribute to a final list of combined scores
+     * @param hybridQueryContext context of the hybrid query
+     * @param booleanClauses list of clauses that are applied to each sub query. If this is null sub queries will be executed as is
      */
     public HybridQuery(
         final Collection<Query> subQueries,
@@ -73,19 +78,30 @@ public final class HybridQuery extends Query implements Iterable<Query> {
         }
         if (Objects.isNull(booleanClauses) || booleanClauses.isEmpty()) {
             this.subQueries = new ArrayList<>(subQueries);
+            this.filterQuery = null;
+        } else if (booleanClauses.stream().noneMatch(BooleanClause::isScoring)) {
+            this.subQueries = new ArrayList<>(subQueries);
+            this.filterQuery = buildFilterQuery(booleanClauses);
         } else {
             List<Query> modifiedSubQueries = new ArrayList<>();
             for (Query subQuery : subQueries) {
                 BooleanQuery.Builder builder = new BooleanQuery.Builder();
                 builder.add(subQuery, BooleanClause.Occur.MUST);
-                booleanClauses.forEach(filterQuery -> builder.add(booleanClauses));
+                booleanClauses.forEach(builder::add);
                 modifiedSubQueries.add(builder.build());
             }
             this.subQueries = modifiedSubQueries;
+            this.filterQuery = null;
         }
         this.queryContext = hybridQueryContext;
     }
 
+    private HybridQuery(final List<Query> subQueries, final HybridQueryContext hybridQueryContext, final Query filterQuery) {
+        this.subQueries = subQueries;
+        this.queryContext = hybridQueryContext;
+        this.filterQuery = filterQuery;
+    }
+
     public HybridQuery(final Collection<Query> subQueries, final HybridQueryContext hybridQueryContext) {
         this(subQueries, List.of(), hybridQueryContext);
     }
@@ -123,6 +139,9 @@ public final class HybridQuery extends Query implements Iterable<Query> {
             }
         }
         buffer.append(")");
+        if (Objects.nonNull(filterQuery)) {
+            buffer.append(" #(").append(filterQuery.toString(field)).append(")");
+        }
         return buffer.toString();
     }
 
@@ -155,7 +174,17 @@ public final class HybridQuery extends Query implements Iterable<Query> {
             return super.rewrite(indexSearcher);
         }
         final List<Query> rewrittenSubQueries = manager.getQueriesAfterRewrite(collectors);
-        return new HybridQuery(rewrittenSubQueries, queryContext);
+        return new HybridQuery(rewrittenSubQueries, queryContext, filterQuery);
+    }
+
+    private static Query buildFilterQuery(final List<BooleanClause> booleanClauses) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        booleanClauses.forEach(builder::add);
+        if (booleanClauses.stream().noneMatch(clause -> clause.occur() == BooleanClause.Occur.FILTER)) {
+            // bool query with must_not clauses only doesn't match any document
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
     }
 
     private Void rewriteQuery(Query query, HybridQueryExecutorCollector<IndexSearcher, Map.Entry<Query, Boolean>> collector) {
@@ -186,6 +215,9 @@ public final class HybridQuery extends Query implements Iterable<Query> {
         for (Query q : subQueries) {
             q.visit(v);
         }
+        if (Objects.nonNull(filterQuery)) {
+            filterQuery.visit(queryVisitor.getSubVisitor(BooleanClause.Occur.FILTER, this));
+        }
     }
 
     /**
@@ -199,7 +231,7 @@ public final class HybridQuery extends Query implements Iterable<Query> {
     }
 
     private boolean equalsTo(HybridQuery other) {
-        return Objects.equals(subQueries, other.subQueries);
+        return Objects.equals(subQueries, other.subQueries) && Objects.equals(filterQuery, other.filterQuery);
     }
 
     /**
@@ -210,6 +242,7 @@ public final class HybridQuery extends Query implements Iterable<Query> {
     public int hashCode() {
         int h = classHash();
         h = 31 * h + Objects.hashCode(subQueries);
+        h = 31 * h + Objects.hashCode(filterQuery);
         return h;
     }
 
@@ -217,6 +250,14 @@ public final class HybridQuery extends Query implements Iterable<Query> {
         return Collections.unmodifiableCollection(subQueries);
     }
 
+    /**
+     * Returns filter that is shared by all sub-queries
+     * @return filter query or null if sub-queries are not filtered
+     */
+    public Query getFilterQuery() {
+        return filterQuery;
+    }
+
     public HybridQueryContext getQueryContext() {
         return queryContext;
     }
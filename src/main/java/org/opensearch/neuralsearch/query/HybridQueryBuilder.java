@@ -19,6 +19,7 @@ import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -27,13 +28,16 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.QueryShardException;
 import org.opensearch.index.query.QueryBuilderVisitor;
+import org.opensearch.knn.index.query.KNNQueryBuilder;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -42,7 +46,9 @@ import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 
+import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForFilterInHybridQuery;
 import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery;
+import static org.opensearch.neuralsearch.common.MinClusterVersionUtil.isClusterOnOrAfterMinReqVersionForSubQueryTimeoutInHybridQuery;
 
 /**
  * Class abstract creation of a Query type "hybrid". Hybrid query will allow execution of multiple sub-queries and
@@ -59,11 +65,20 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
     private static final ParseField QUERIES_FIELD = new ParseField("queries");
     private static final ParseField FILTER_FIELD = new ParseField("filter");
     private static final ParseField PAGINATION_DEPTH_FIELD = new ParseField("pagination_depth");
+    private static final ParseField SUB_QUERY_TIMEOUT_FIELD = new ParseField("sub_query_timeout");
 
     private final List<QueryBuilder> queries = new ArrayList<>();
 
     private Integer paginationDepth;
 
+    // time budget of every sub-query on a shard, sub-query that runs out of it returns hits collected so far
+    private TimeValue subQueryTimeout;
+
+    // filter shared by all sub-queries, it's evaluated once per segment on the shard. Sub-queries that run k-NN search have
+    // it pushed down as well because k-NN needs the filter during the search to return k matching documents
+    @Setter(AccessLevel.NONE)
+    private QueryBuilder filter;
+
     public static final int MAX_NUMBER_OF_SUB_QUERIES = 5;
     private static final int LOWER_BOUND_OF_PAGINATION_DEPTH = 0;
 
@@ -73,6 +88,12 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery()) {
             paginationDepth = in.readOptionalInt();
         }
+        if (isClusterOnOrAfterMinReqVersionForSubQueryTimeoutInHybridQuery()) {
+            subQueryTimeout = in.readOptionalTimeValue();
+        }
+        if (isClusterOnOrAfterMinReqVersionForFilterInHybridQuery()) {
+            filter = in.readOptionalNamedWriteable(QueryBuilder.class);
+        }
     }
 
     /**
@@ -82,10 +103,27 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
      */
     @Override
     protected void doWriteTo(StreamOutput out) throws IOException {
-        writeQueries(out, queries);
+        final boolean isFilterSupported = isClusterOnOrAfterMinReqVersionForFilterInHybridQuery();
+        // nodes that don't know about the shared filter expect it to be pushed down to every sub-query
+        writeQueries(out, isFilterSupported ? queries : getQueriesWithFilter());
         if (isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery()) {
             out.writeOptionalInt(paginationDepth);
         }
+        if (isClusterOnOrAfterMinReqVersionForSubQueryTimeoutInHybridQuery()) {
+            out.writeOptionalTimeValue(subQueryTimeout);
+        }
+        if (isFilterSupported) {
+            out.writeOptionalNamedWriteable(filter);
+        }
+    }
+
+    private List<QueryBuilder> getQueriesWithFilter() {
+        if (Objects.isNull(filter)) {
+            return queries;
+        }
+        return queries.stream()
+            .map(query -> isKNNQuery(query) ? query : new BoolQueryBuilder().must(query).filter(filter))
+            .collect(Collectors.toList());
     }
 
     /**
@@ -97,14 +135,14 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (queryBuilder == null) {
             throw new IllegalArgumentException(String.format(Locale.ROOT, "inner %s query clause cannot be null", NAME));
         }
-        queries.add(queryBuilder);
+        queries.add(Objects.nonNull(filter) && isKNNQuery(queryBuilder) ? queryBuilder.filter(filter) : queryBuilder);
         return this;
     }
 
     /**
      * Function to support filter on HybridQueryBuilder filter.
      * If the filter is null, then we do nothing and return.
-     * Otherwise, we push down the filter to queries list.
+     * Otherwise, the filter is added to the filter shared by all sub-queries, and pushed down to k-NN sub-queries.
      * @param filter the filter parameter
      * @return HybridQueryBuilder itself
      */
@@ -115,12 +153,25 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         ListIterator<QueryBuilder> iterator = queries.listIterator();
         while (iterator.hasNext()) {
             QueryBuilder query = iterator.next();
-            // set the query again because query.filter(filter) can return new query.
-            iterator.set(query.filter(filter));
+            if (isKNNQuery(query)) {
+                // set the query again because query.filter(filter) can return new query.
+                iterator.set(query.filter(filter));
+            }
         }
+        this.filter = Objects.isNull(this.filter) ? filter : new BoolQueryBuilder().filter(this.filter).filter(filter);
         return this;
     }
 
+    /**
+     * Sub-queries that run k-NN search need the filter to be applied during the search, filtering their results afterwards
+     * can leave less than k documents
+     */
+    private static boolean isKNNQuery(final QueryBuilder queryBuilder) {
+        return queryBuilder instanceof NeuralQueryBuilder
+            || queryBuilder instanceof NeuralKNNQueryBuilder
+            || queryBuilder instanceof KNNQueryBuilder;
+    }
+
     /**
      * Create builder object with a content of this hybrid query
      * @param builder
@@ -139,6 +190,12 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (Objects.nonNull(paginationDepth)) {
             builder.field(PAGINATION_DEPTH_FIELD.getPreferredName(), paginationDepth);
         }
+        if (Objects.nonNull(subQueryTimeout)) {
+            builder.field(SUB_QUERY_TIMEOUT_FIELD.getPreferredName(), subQueryTimeout.getStringRep());
+        }
+        if (Objects.nonNull(filter)) {
+            builder.field(FILTER_FIELD.getPreferredName(), filter);
+        }
         printBoostAndQueryName(builder);
         builder.endObject();
     }
@@ -156,8 +213,16 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             return Queries.newMatchNoDocsQuery(String.format(Locale.ROOT, "no clauses for %s query", NAME));
         }
         validatePaginationDepth(paginationDepth, queryShardContext);
-        HybridQueryContext hybridQueryContext = HybridQueryContext.builder().paginationDepth(paginationDepth).build();
-        return new HybridQuery(queryCollection, hybridQueryContext);
+        validateSubQueryTimeout(subQueryTimeout);
+        HybridQueryContext hybridQueryContext = HybridQueryContext.builder()
+            .paginationDepth(paginationDepth)
+            .subQueryTimeout(subQueryTimeout)
+            .build();
+        final Query filterQuery = Objects.isNull(filter) ? null : filter.rewrite(queryShardContext).toQuery(queryShardContext);
+        if (Objects.isNull(filterQuery)) {
+            return new HybridQuery(queryCollection, hybridQueryContext);
+        }
+        return new HybridQuery(queryCollection, List.of(filterQuery), hybridQueryContext);
     }
 
     /**
@@ -198,6 +263,7 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         float boost = AbstractQueryBuilder.DEFAULT_BOOST;
 
         Integer paginationDepth = null;
+        TimeValue subQueryTimeout = null;
         final List<QueryBuilder> queries = new ArrayList<>();
         QueryBuilder filter = null;
         String queryName = null;
@@ -250,6 +316,8 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
                     queryName = parser.text();
                 } else if (PAGINATION_DEPTH_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     paginationDepth = parser.intValue();
+                } else if (SUB_QUERY_TIMEOUT_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    subQueryTimeout = TimeValue.parseTimeValue(parser.text(), SUB_QUERY_TIMEOUT_FIELD.getPreferredName());
                 } else {
                     log.error(String.format(Locale.ROOT, "[%s] query does not support [%s]", NAME, currentFieldName));
                     throw new ParsingException(
@@ -273,14 +341,13 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery()) {
             compoundQueryBuilder.paginationDepth(paginationDepth);
         }
+        if (isClusterOnOrAfterMinReqVersionForSubQueryTimeoutInHybridQuery()) {
+            compoundQueryBuilder.subQueryTimeout(subQueryTimeout);
+        }
 
         boolean hasInnerHits = false;
         for (QueryBuilder query : queries) {
-            if (filter == null) {
-                compoundQueryBuilder.add(query);
-            } else {
-                compoundQueryBuilder.add(query.filter(filter));
-            }
+            compoundQueryBuilder.add(query);
 
             // Check if children have inner hits for stats
             if (hasInnerHits == false) {
@@ -290,9 +357,12 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             }
         }
 
+        compoundQueryBuilder.filter(filter);
+
         boolean hasFilter = filter != null;
         boolean hasPagination = paginationDepth != null;
-        updateQueryStats(hasFilter, hasPagination, hasInnerHits);
+        boolean hasSubQueryTimeout = subQueryTimeout != null;
+        updateQueryStats(hasFilter, hasPagination, hasSubQueryTimeout, hasInnerHits);
         return compoundQueryBuilder;
     }
 
@@ -306,12 +376,22 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
             }
             newBuilder.add(result);
         }
+        if (Objects.nonNull(filter)) {
+            QueryBuilder rewrittenFilter = filter.rewrite(queryShardContext);
+            if (rewrittenFilter != filter) {
+                changed = true;
+            }
+            newBuilder.filter = rewrittenFilter;
+        }
         if (changed) {
             newBuilder.queryName(queryName);
             newBuilder.boost(boost);
             if (isClusterOnOrAfterMinReqVersionForPaginationInHybridQuery()) {
                 newBuilder.paginationDepth(paginationDepth);
             }
+            if (isClusterOnOrAfterMinReqVersionForSubQueryTimeoutInHybridQuery()) {
+                newBuilder.subQueryTimeout(subQueryTimeout);
+            }
             return newBuilder;
         } else {
             return this;
@@ -334,6 +414,8 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         EqualsBuilder equalsBuilder = new EqualsBuilder();
         equalsBuilder.append(queries, obj.queries);
         equalsBuilder.append(paginationDepth, obj.paginationDepth);
+        equalsBuilder.append(subQueryTimeout, obj.subQueryTimeout);
+        equalsBuilder.append(filter, obj.filter);
         return equalsBuilder.isEquals();
     }
 
@@ -343,7 +425,7 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
      */
     @Override
     protected int doHashCode() {
-        return Objects.hash(queries, paginationDepth);
+        return Objects.hash(queries, paginationDepth, subQueryTimeout, filter);
     }
 
     /**
@@ -409,6 +491,9 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         for (QueryBuilder subQueryBuilder : queries) {
             subQueryBuilder.visit(subVisitor);
         }
+        if (Objects.nonNull(filter)) {
+            filter.visit(visitor.getChildVisitor(Occur.FILTER));
+        }
     }
 
     /**
@@ -424,9 +509,20 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         for (QueryBuilder queryBuilder : queries) {
             InnerHitContextBuilder.extractInnerHits(queryBuilder, innerHits);
         }
+        if (Objects.nonNull(filter)) {
+            InnerHitContextBuilder.extractInnerHits(filter, innerHits);
+        }
+    }
+
+    private static void validateSubQueryTimeout(final TimeValue subQueryTimeout) {
+        if (Objects.nonNull(subQueryTimeout) && subQueryTimeout.nanos() <= 0) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "%s should be greater than 0", SUB_QUERY_TIMEOUT_FIELD.getPreferredName())
+            );
+        }
     }
 
-    private static void updateQueryStats(boolean hasFilter, boolean hasPagination, boolean hasInnerHits) {
+    private static void updateQueryStats(boolean hasFilter, boolean hasPagination, boolean hasSubQueryTimeout, boolean hasInnerHits) {
         EventStatsManager.increment(EventStatName.HYBRID_QUERY_REQUESTS);
         if (hasFilter) {
             EventStatsManager.increment(EventStatName.HYBRID_QUERY_FILTER_REQUESTS);
@@ -434,6 +530,9 @@ public final class HybridQueryBuilder extends AbstractQueryBuilder<HybridQueryBu
         if (hasPagination) {
             EventStatsManager.increment(EventStatName.HYBRID_QUERY_PAGINATION_REQUESTS);
         }
+        if (hasSubQueryTimeout) {
+            EventStatsManager.increment(EventStatName.HYBRID_QUERY_SUB_QUERY_TIMEOUT_REQUESTS);
+        }
         if (hasInnerHits) {
             EventStatsManager.increment(EventStatName.HYBRID_QUERY_INNER_HITS_REQUESTS);
         }
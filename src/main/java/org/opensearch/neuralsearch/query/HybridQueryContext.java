@@ -4,14 +4,24 @@
  */
 package org.opensearch.neuralsearch.query;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import org.opensearch.common.unit.TimeValue;
 
 /**
  * Class that holds the low level information of hybrid query in the form of context
  */
 @Builder
 @Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class HybridQueryContext {
     private Integer paginationDepth;
+    // time budget of sub-queries on the shard, null if sub-queries are not time limited
+    private TimeValue subQueryTimeout;
+
+    HybridQueryContext(final Integer paginationDepth) {
+        this(paginationDepth, null);
+    }
 }
@@ -18,6 +18,7 @@ import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.neuralsearch.search.HybridDisiWrapper;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,10 +39,12 @@ public class HybridQueryScorer extends Scorer {
 
     private final DisiPriorityQueue subScorersPQ;
 
-    private final DocIdSetIterator approximation;
+    private final HybridSubqueriesDISIApproximation approximation;
     private final HybridScoreBlockBoundaryPropagator disjunctionBlockPropagator;
     private final TwoPhase twoPhase;
     private final int numSubqueries;
+    // sub-query scores of the current doc for collectors, when docs are iterated by this scorer and not by HybridBulkScorer
+    private final HybridSubQueryScorer currentDocSubQueryScorer;
 
     public HybridQueryScorer(final List<Scorer> subScorers) throws IOException {
         this(subScorers, ScoreMode.TOP_SCORES);
@@ -84,8 +87,9 @@ public class HybridQueryScorer extends Scorer {
             twoPhase = null;
         } else {
             final float matchCost = sumMatchCost / sumApproxCost;
-            twoPhase = new TwoPhase(approximation, matchCost, subScorersPQ, needsScores);
+            twoPhase = new TwoPhase(approximation, matchCost, numSubqueries, needsScores);
         }
+        this.currentDocSubQueryScorer = new CurrentDocSubQueryScorer();
     }
 
     @Override
@@ -121,7 +125,7 @@ public class HybridQueryScorer extends Scorer {
 
     DisiWrapper getSubMatches() throws IOException {
         if (twoPhase == null) {
-            return subScorersPQ.topList();
+            return approximation.topList();
         } else {
             return twoPhase.getSubMatches();
         }
@@ -184,7 +188,7 @@ public class HybridQueryScorer extends Scorer {
         if (subScorersPQ.size() == 0) {
             return DocIdSetIterator.NO_MORE_DOCS;
         }
-        return subScorersPQ.top().doc;
+        return approximation.docID();
     }
 
     private List<HybridDisiWrapper> initializeSubScorersList() {
@@ -203,15 +207,53 @@ public class HybridQueryScorer extends Scorer {
         return hybridDisiWrappers;
     }
 
+    /**
+     * Returns sub-query scorers matching the current doc, preceded by the scorer of sub-query scores of the current doc. Hybrid
+     * collectors look for the latter in the scorer hierarchy, so they can collect docs iterated by this scorer. This is the
+     * case when the query is profiled, as the profiler scores docs one by one and skips {@link HybridBulkScorer}.
+     */
     @Override
     public Collection<ChildScorable> getChildren() throws IOException {
         ArrayList<ChildScorable> children = new ArrayList<>();
+        children.add(new ChildScorable(currentDocSubQueryScorer, "HYBRID"));
         for (DisiWrapper scorer = getSubMatches(); scorer != null; scorer = scorer.next) {
             children.add(new ChildScorable(scorer.scorer, "SHOULD"));
         }
         return children;
     }
 
+    /**
+     * Scorer of sub-query scores of the current doc, the scores are read from sub-query scorers on every call
+     */
+    private final class CurrentDocSubQueryScorer extends HybridSubQueryScorer {
+
+        private CurrentDocSubQueryScorer() {
+            super(numSubqueries);
+        }
+
+        @Override
+        public float[] getSubQueryScores() {
+            resetScores();
+            float[] subQueryScores = super.getSubQueryScores();
+            try {
+                for (DisiWrapper disiWrapper = getSubMatches(); disiWrapper != null; disiWrapper = disiWrapper.next) {
+                    if (disiWrapper.scorer.docID() == DocIdSetIterator.NO_MORE_DOCS) {
+                        continue;
+                    }
+                    subQueryScores[((HybridDisiWrapper) disiWrapper).getSubQueryIndex()] = disiWrapper.scorer.score();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return subQueryScores;
+        }
+
+        @Override
+        public float score() throws IOException {
+            return HybridQueryScorer.this.score();
+        }
+    }
+
     /**
      *  Object returned by {@link Scorer#twoPhaseIterator()} to provide an approximation of a {@link DocIdSetIterator}.
      *  After calling {@link DocIdSetIterator#nextDoc()} or {@link DocIdSetIterator#advance(int)} on the iterator
@@ -225,14 +267,19 @@ public class HybridQueryScorer extends Scorer {
         DisiWrapper verifiedMatches;
         // priority queue of approximations on the current doc that have not been verified yet
         final PriorityQueue<DisiWrapper> unverifiedMatches;
-        DisiPriorityQueue subScorers;
+        final HybridSubqueriesDISIApproximation subScorers;
         boolean needsScores;
 
-        private TwoPhase(DocIdSetIterator approximation, float matchCost, DisiPriorityQueue subScorers, boolean needsScores) {
+        private TwoPhase(
+            final HybridSubqueriesDISIApproximation approximation,
+            final float matchCost,
+            final int numSubqueries,
+            final boolean needsScores
+        ) {
             super(approximation);
             this.matchCost = matchCost;
-            this.subScorers = subScorers;
-            unverifiedMatches = new PriorityQueue<>(subScorers.size()) {
+            this.subScorers = approximation;
+            unverifiedMatches = new PriorityQueue<>(numSubqueries) {
                 @Override
                 protected boolean lessThan(DisiWrapper a, DisiWrapper b) {
                     return a.matchCost < b.matchCost;
@@ -303,7 +350,7 @@ public class HybridQueryScorer extends Scorer {
      * sub iterators that return empty results
      */
     static class HybridSubqueriesDISIApproximation extends DocIdSetIterator {
-        final DocIdSetIterator docIdSetIterator;
+        final DisjunctionDISIApproximation docIdSetIterator;
         final DisiPriorityQueue subIterators;
 
         public HybridSubqueriesDISIApproximation(
@@ -319,6 +366,17 @@ public class HybridQueryScorer extends Scorer {
             return docIdSetIterator.cost();
         }
 
+        /**
+         * @return list of sub iterators positioned on the current doc, the disjunction keeps its own queue of sub iterators
+         * so the queue passed to this iterator is not positioned on the current doc
+         */
+        DisiWrapper topList() throws IOException {
+            if (subIterators.size() == 0) {
+                return null;
+            }
+            return docIdSetIterator.topList();
+        }
+
         @Override
         public int docID() {
             if (subIterators.size() == 0) {
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Matches;
@@ -21,6 +22,8 @@ import org.apache.lucene.search.MatchesUtils;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutorCollector;
 import org.opensearch.neuralsearch.executors.HybridQueryScoreSupplierCollectorManager;
@@ -36,6 +39,8 @@ public final class HybridQueryWeight extends Weight {
     @Getter(AccessLevel.PACKAGE)
     private final List<Weight> weights;
     private final ScoreMode scoreMode;
+    // weight of the filter shared by all sub-queries, null if sub-queries are not filtered
+    private final Weight filterWeight;
 
     /**
      * Construct the Weight for this Query searched by searcher. Recursively construct subquery weights.
@@ -50,6 +55,10 @@ public final class HybridQueryWeight extends Weight {
             }
         }).collect(Collectors.toList());
         this.scoreMode = scoreMode;
+        // filter doesn't contribute to scores, so it can be served from the query cache
+        this.filterWeight = Objects.isNull(hybridQuery.getFilterQuery())
+            ? null
+            : searcher.createWeight(searcher.rewrite(hybridQuery.getFilterQuery()), ScoreMode.COMPLETE_NO_SCORES, 1.0f);
     }
 
     /**
@@ -62,6 +71,9 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public Matches matches(LeafReaderContext context, int doc) throws IOException {
+        if (Objects.nonNull(filterWeight) && Objects.isNull(filterWeight.matches(context, doc))) {
+            return null;
+        }
         List<Matches> mis = weights.stream().map(weight -> {
             try {
                 return weight.matches(context, doc);
@@ -75,10 +87,18 @@ public final class HybridQueryWeight extends Weight {
     /**
      * Returns {@link HybridScorerSupplier} which contains list of {@link ScorerSupplier} from its
      * sub queries. Here, add score supplier from individual sub query is parallelized and finally
-     * {@link HybridScorerSupplier} is created with list of {@link ScorerSupplier}
+     * {@link HybridScorerSupplier} is created with list of {@link ScorerSupplier}. If sub-queries share a filter it is
+     * evaluated once for the segment, and scorers of all sub-queries are intersected with the matching documents.
      */
     @Override
     public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+        BitSet filterBits = null;
+        if (Objects.nonNull(filterWeight)) {
+            filterBits = getFilterBits(context);
+            if (Objects.isNull(filterBits)) {
+                return null;
+            }
+        }
         HybridQueryScoreSupplierCollectorManager manager = new HybridQueryScoreSupplierCollectorManager(context);
         List<Callable<Void>> scoreSupplierTasks = new ArrayList<>();
         List<HybridQueryExecutorCollector<LeafReaderContext, ScorerSupplier>> collectors = new ArrayList<>();
@@ -92,7 +112,31 @@ public final class HybridQueryWeight extends Weight {
         if (scorerSuppliers.isEmpty()) {
             return null;
         }
-        return new HybridScorerSupplier(scorerSuppliers, this, scoreMode, context);
+        if (Objects.isNull(filterBits)) {
+            return new HybridScorerSupplier(scorerSuppliers, this, scoreMode, context);
+        }
+        final List<ScorerSupplier> filteredScorerSuppliers = new ArrayList<>(scorerSuppliers.size());
+        for (ScorerSupplier scorerSupplier : scorerSuppliers) {
+            filteredScorerSuppliers.add(FilteredSubQueryScorer.wrap(scorerSupplier, filterBits));
+        }
+        return new HybridScorerSupplier(filteredScorerSuppliers, this, scoreMode, context, filterBits);
+    }
+
+    /**
+     * Evaluate the shared filter for the segment. Filter that is cached by the query cache as a bit set is used as is,
+     * otherwise matching documents are collected into a new bit set.
+     * @return documents of the segment that match the filter, null if there are no such documents
+     */
+    private BitSet getFilterBits(LeafReaderContext context) throws IOException {
+        final ScorerSupplier filterScorerSupplier = filterWeight.scorerSupplier(context);
+        if (Objects.isNull(filterScorerSupplier)) {
+            return null;
+        }
+        final DocIdSetIterator filterIterator = filterScorerSupplier.get(Long.MAX_VALUE).iterator();
+        if (filterIterator instanceof BitSetIterator bitSetIterator && bitSetIterator.docID() == -1) {
+            return bitSetIterator.getBitSet();
+        }
+        return BitSet.of(filterIterator, context.reader().maxDoc());
     }
 
     private Void addScoreSupplier(Weight weight, HybridQueryExecutorCollector<LeafReaderContext, ScorerSupplier> collector) {
@@ -118,7 +162,7 @@ public final class HybridQueryWeight extends Weight {
             // this situation should never happen, but in case it do such query will not be cached
             return false;
         }
-        return weights.stream().allMatch(w -> w.isCacheable(ctx));
+        return weights.stream().allMatch(w -> w.isCacheable(ctx)) && (Objects.isNull(filterWeight) || filterWeight.isCacheable(ctx));
     }
 
     /**
@@ -130,6 +174,12 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+        if (Objects.nonNull(filterWeight)) {
+            Explanation filterExplanation = filterWeight.explain(context, doc);
+            if (filterExplanation.isMatch() == false) {
+                return Explanation.noMatch("no match on filter", filterExplanation);
+            }
+        }
         boolean match = false;
         double max = 0;
         List<Explanation> subsOnNoMatch = new ArrayList<>();
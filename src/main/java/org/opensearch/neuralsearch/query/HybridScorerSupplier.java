@@ -5,13 +5,15 @@
 package org.opensearch.neuralsearch.query;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.IOSupplier;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -21,7 +23,6 @@ import java.util.Objects;
 /**
  * This class is responsible for creating a HybridScorer based on the provided list of ScorerSupplier objects.
  */
-@RequiredArgsConstructor
 public class HybridScorerSupplier extends ScorerSupplier {
 
     private long cost = -1;
@@ -30,6 +31,38 @@ public class HybridScorerSupplier extends ScorerSupplier {
     private final HybridQueryWeight weight;
     private final ScoreMode scoreMode;
     private final LeafReaderContext context;
+    // documents of the segment that match the filter shared by sub-queries, null if sub-queries are not filtered
+    private final BitSet filterBits;
+
+    public HybridScorerSupplier(
+        final List<ScorerSupplier> scorerSuppliers,
+        final HybridQueryWeight weight,
+        final ScoreMode scoreMode,
+        final LeafReaderContext context
+    ) {
+        this(scorerSuppliers, weight, scoreMode, context, null);
+    }
+
+    /**
+     * @param scorerSuppliers scorer suppliers of sub-queries, already intersected with the filter
+     * @param weight weight of the hybrid query
+     * @param scoreMode score mode
+     * @param context segment context
+     * @param filterBits documents of the segment that match the filter shared by sub-queries, null if there is no filter
+     */
+    public HybridScorerSupplier(
+        final List<ScorerSupplier> scorerSuppliers,
+        final HybridQueryWeight weight,
+        final ScoreMode scoreMode,
+        final LeafReaderContext context,
+        final BitSet filterBits
+    ) {
+        this.scorerSuppliers = scorerSuppliers;
+        this.weight = weight;
+        this.scoreMode = scoreMode;
+        this.context = context;
+        this.filterBits = filterBits;
+    }
 
     @Override
     public Scorer get(long leadCost) throws IOException {
@@ -71,11 +104,41 @@ public class HybridScorerSupplier extends ScorerSupplier {
 
     @Override
     public BulkScorer bulkScorer() throws IOException {
+        if (HybridQueryExecutor.isConcurrentSubQueryScoringEnabled()) {
+            return concurrentBulkScorer();
+        }
         List<Scorer> scorers = new ArrayList<>();
         for (Weight weight : weight.getWeights()) {
             Scorer scorer = weight.scorer(context);
-            scorers.add(scorer);
+            scorers.add(FilteredSubQueryScorer.wrap(scorer, filterBits));
+        }
+        // sub query scorers can only skip non-competitive docs when they are created for top scores
+        return new HybridBulkScorer(scorers, scoreMode.needsScores(), scoreMode == ScoreMode.TOP_SCORES, context.reader().maxDoc());
+    }
+
+    /**
+     * Bulk scorer that scores sub-queries concurrently. Scorers of sub-queries are created by the threads that use them,
+     * as Lucene iterators must not be passed between threads
+     */
+    private BulkScorer concurrentBulkScorer() throws IOException {
+        List<IOSupplier<Scorer>> subQueryScorerSuppliers = new ArrayList<>();
+        List<Weight> weights = weight.getWeights();
+        for (int subQueryIndex = 0; subQueryIndex < weights.size(); subQueryIndex++) {
+            Weight subQueryWeight = weights.get(subQueryIndex);
+            if (Objects.isNull(scorerSuppliers.get(subQueryIndex))) {
+                // sub-query has no matching docs in the segment
+                subQueryScorerSuppliers.add(null);
+            } else {
+                subQueryScorerSuppliers.add(() -> FilteredSubQueryScorer.wrap(subQueryWeight.scorer(context), filterBits));
+            }
         }
-        return new HybridBulkScorer(scorers, scoreMode.needsScores(), context.reader().maxDoc());
+        return new HybridBulkScorer(
+            subQueryScorerSuppliers,
+            cost(),
+            scoreMode.needsScores(),
+            scoreMode == ScoreMode.TOP_SCORES,
+            context.reader().maxDoc(),
+            HybridQueryExecutor.getExecutor()
+        );
     }
 }
@@ -19,6 +19,8 @@ public class HybridSubQueryScorer extends Scorable {
     private final float[] subQueryScores;
     // array of min competitive scores, score is shard level
     private final float[] minScores;
+    // time budget of sub-queries set by the collector, null if sub-queries are not time limited
+    private HybridSubQueryTimeBudget subQueryTimeBudget;
 
     public HybridSubQueryScorer(int numOfSubQueries) {
         this.minScores = new float[numOfSubQueries];
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.unit.TimeValue;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Time budget of sub-queries of a hybrid query executed on a shard. The budget is wall time measured from the start of the
+ * query on the shard, and it's shared by all segments and slices. A sub-query that still has documents to score once the budget
+ * is used up stops collecting, and only hits collected until then are returned for it. The budget is checked before every
+ * window of documents, so a sub-query can exceed it by the time needed to score one window.
+ * One instance is created per request by the collector manager, collectors pass it to the hybrid scorer.
+ */
+public class HybridSubQueryTimeBudget {
+    @Getter
+    private final TimeValue timeout;
+    private final long timeoutInNanos;
+    private final long startTime;
+    private final LongSupplier nanoTimeSupplier;
+    // sub-queries that stopped before scoring all their documents, set by slices of concurrent segment search
+    private final AtomicIntegerArray stoppedSubQueries;
+
+    /**
+     * Start the budget
+     * @param timeout time budget of sub-queries
+     * @param numberOfSubQueries number of sub-queries of the hybrid query
+     */
+    public HybridSubQueryTimeBudget(@NonNull final TimeValue timeout, final int numberOfSubQueries) {
+        this(timeout, numberOfSubQueries, System::nanoTime);
+    }
+
+    HybridSubQueryTimeBudget(@NonNull final TimeValue timeout, final int numberOfSubQueries, @NonNull final LongSupplier nanoTimeSupplier) {
+        this.timeout = timeout;
+        this.timeoutInNanos = timeout.nanos();
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.startTime = nanoTimeSupplier.getAsLong();
+        this.stoppedSubQueries = new AtomicIntegerArray(numberOfSubQueries);
+    }
+
+    /**
+     * @return true if the time passed since the start of the query is over the budget
+     */
+    public boolean isUsedUp() {
+        return nanoTimeSupplier.getAsLong() - startTime >= timeoutInNanos;
+    }
+
+    /**
+     * Record that the sub-query stopped collecting because the budget is used up
+     * @param subQueryIndex index of the sub-query
+     */
+    public void stop(final int subQueryIndex) {
+        stoppedSubQueries.set(subQueryIndex, 1);
+    }
+
+    /**
+     * @param subQueryIndex index of the sub-query
+     * @return true if the sub-query stopped collecting before scoring all its documents
+     */
+    public boolean isStopped(final int subQueryIndex) {
+        return stoppedSubQueries.get(subQueryIndex) == 1;
+    }
+
+    /**
+     * @return true if any sub-query stopped collecting, and results of the hybrid query are partial
+     */
+    public boolean hasStoppedSubQueries() {
+        for (int subQueryIndex = 0; subQueryIndex < stoppedSubQueries.length(); subQueryIndex++) {
+            if (isStopped(subQueryIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -33,7 +33,6 @@ import static org.opensearch.neuralsearch.util.NeuralQueryValidationUtil.validat
 import static org.opensearch.neuralsearch.util.NeuralQueryValidationUtil.validateNeuralQueryForSemanticDense;
 import static org.opensearch.neuralsearch.util.NeuralQueryValidationUtil.validateNeuralQueryForSemanticSparse;
 import static org.opensearch.neuralsearch.util.NeuralQueryValidationUtil.validateTargetFieldConfig;
-import static org.opensearch.neuralsearch.util.SemanticMappingUtils.getIndexToTargetFieldConfigMapFromIndexMetadata;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -79,6 +78,8 @@ import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.query.parser.MethodParametersParser;
 import org.opensearch.knn.index.query.parser.RescoreParser;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
+import org.opensearch.neuralsearch.cache.QueryInferenceCache;
+import org.opensearch.neuralsearch.cache.SemanticFieldConfigCache;
 import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
 import org.opensearch.neuralsearch.mapper.SemanticFieldMapper;
 import org.opensearch.neuralsearch.query.dto.NeuralQueryBuildStage;
@@ -764,10 +765,8 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
 
     private Map<String, NeuralQueryTargetFieldConfig> getIndexToTargetFieldConfigMap(@NonNull final IndicesRequest searchRequest) {
         final List<IndexMetadata> targetIndexMetadataList = NeuralSearchClusterUtil.instance().getIndexMetadataList(searchRequest);
-        final Map<String, NeuralQueryTargetFieldConfig> indexToTargetFieldConfigMap = getIndexToTargetFieldConfigMapFromIndexMetadata(
-            fieldName,
-            targetIndexMetadataList
-        );
+        final Map<String, NeuralQueryTargetFieldConfig> indexToTargetFieldConfigMap = SemanticFieldConfigCache.instance()
+            .getIndexToTargetFieldConfigMap(fieldName, targetIndexMetadataList);
         validateTargetFieldConfig(fieldName, indexToTargetFieldConfigMap);
         return indexToTargetFieldConfigMap;
     }
@@ -822,15 +821,7 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             inferenceInput.put(INPUT_IMAGE, queryImage());
         }
 
-        queryRewriteContext.registerAsyncAction(
-            ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
-                MapInferenceRequest.builder().modelId(modelId()).inputObjects(inferenceInput).build(),
-                ActionListener.wrap(floatList -> {
-                    vectorSetOnce.set(vectorAsListToArray(floatList));
-                    actionListener.onResponse(null);
-                }, actionListener::onFailure)
-            ))
-        );
+        registerDenseModelInference(modelId(), inferenceInput, vectorSetOnce, queryRewriteContext);
 
         return neuralQueryBuilder;
     }
@@ -1030,6 +1021,11 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         for (String modelId : modelIds) {
             final SetOnce<Map<String, Float>> setOnce = new SetOnce<>();
             modelIdToQueryTokensSupplierMap.put(modelId, setOnce::get);
+            final Map<String, Float> cachedQueryTokens = QueryInferenceCache.instance().getSparseVector(modelId, queryText);
+            if (cachedQueryTokens != null) {
+                setOnce.set(cachedQueryTokens);
+                continue;
+            }
             queryRewriteContext.registerAsyncAction(
                 ((client, actionListener) -> ML_CLIENT.inferenceSentencesWithMapResult(
                     TextInferenceRequest.builder().modelId(modelId).inputTexts(List.of(queryText)).build(),
@@ -1037,6 +1033,7 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
                         final Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
                         // Currently we don't support NeuralSparseTwoPhaseProcessor which can be supported
                         // in the future.
+                        QueryInferenceCache.instance().putSparseVector(modelId, queryText, queryTokens);
                         setOnce.set(queryTokens);
                         actionListener.onResponse(null);
                     }, actionListener::onFailure)
@@ -1050,16 +1047,36 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         for (String modelId : modelIds) {
             final SetOnce<float[]> vectorSetOnce = new SetOnce<>();
             modelIdToVectorSupplierMap.put(modelId, vectorSetOnce::get);
-            queryRewriteContext.registerAsyncAction(
-                ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
-                    MapInferenceRequest.builder().modelId(modelId).inputObjects(inferenceInput).build(),
-                    ActionListener.wrap(floatList -> {
-                        vectorSetOnce.set(vectorAsListToArray(floatList));
-                        actionListener.onResponse(null);
-                    }, actionListener::onFailure)
-                ))
-            );
+            registerDenseModelInference(modelId, inferenceInput, vectorSetOnce, queryRewriteContext);
+        }
+    }
+
+    /**
+     * Sets the query vector from the query inference cache if present, otherwise registers an async action to
+     * generate it with the dense model and populate the cache.
+     */
+    private void registerDenseModelInference(
+        final String modelId,
+        @NonNull final Map<String, String> inferenceInput,
+        @NonNull final SetOnce<float[]> vectorSetOnce,
+        @NonNull final QueryRewriteContext queryRewriteContext
+    ) {
+        final float[] cachedVector = QueryInferenceCache.instance().getDenseVector(modelId, queryText(), queryImage());
+        if (cachedVector != null) {
+            vectorSetOnce.set(cachedVector);
+            return;
         }
+        queryRewriteContext.registerAsyncAction(
+            ((client, actionListener) -> ML_CLIENT.inferenceSentencesMap(
+                MapInferenceRequest.builder().modelId(modelId).inputObjects(inferenceInput).build(),
+                ActionListener.wrap(floatList -> {
+                    final float[] vector = vectorAsListToArray(floatList);
+                    QueryInferenceCache.instance().putDenseVector(modelId, queryText(), queryImage(), vector);
+                    vectorSetOnce.set(vector);
+                    actionListener.onResponse(null);
+                }, actionListener::onFailure)
+            ))
+        );
     }
 
     private Map<String, String> getInferenceInputForDenseModel() {
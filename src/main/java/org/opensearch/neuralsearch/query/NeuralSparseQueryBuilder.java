@@ -28,6 +28,7 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.neuralsearch.cache.QueryInferenceCache;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.stats.events.EventStatName;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
@@ -378,7 +379,12 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
 
         validateForRewrite(queryText, modelId);
         SetOnce<Map<String, Float>> queryTokensSetOnce = new SetOnce<>();
-        queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        Map<String, Float> cachedQueryTokens = QueryInferenceCache.instance().getSparseVector(modelId(), queryText);
+        if (Objects.nonNull(cachedQueryTokens)) {
+            setQueryTokens(queryTokensSetOnce, cachedQueryTokens);
+        } else {
+            queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        }
         return new NeuralSparseQueryBuilder().fieldName(fieldName)
             .queryText(queryText)
             .modelId(modelId)
@@ -425,23 +431,28 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             TextInferenceRequest.builder().modelId(modelId()).inputTexts(List.of(queryText)).build(),
             ActionListener.wrap(mapResultList -> {
                 Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
-                if (Objects.nonNull(neuralSparseQueryTwoPhaseInfo)
-                    && NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE.equals(neuralSparseQueryTwoPhaseInfo.getStatus())) {
-                    Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
-                        neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
-                        neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
-                        queryTokens
-                    );
-                    setOnce.set(splitQueryTokens.v1());
-                    twoPhaseSharedQueryToken = splitQueryTokens.v2();
-                } else {
-                    setOnce.set(queryTokens);
-                }
+                QueryInferenceCache.instance().putSparseVector(modelId(), queryText, queryTokens);
+                setQueryTokens(setOnce, queryTokens);
                 actionListener.onResponse(null);
             }, actionListener::onFailure)
         ));
     }
 
+    private void setQueryTokens(SetOnce<Map<String, Float>> setOnce, Map<String, Float> queryTokens) {
+        if (Objects.nonNull(neuralSparseQueryTwoPhaseInfo)
+            && NeuralSparseQueryTwoPhaseInfo.TwoPhaseStatus.PHASE_ONE.equals(neuralSparseQueryTwoPhaseInfo.getStatus())) {
+            Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = PruneUtils.splitSparseVector(
+                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneType(),
+                neuralSparseQueryTwoPhaseInfo.getTwoPhasePruneRatio(),
+                queryTokens
+            );
+            setOnce.set(splitQueryTokens.v1());
+            twoPhaseSharedQueryToken = splitQueryTokens.v2();
+        } else {
+            setOnce.set(queryTokens);
+        }
+    }
+
     Map<String, Float> getQueryTokens(QueryShardContext context) {
         // There can be certain cases that we can use the queryTokensSupplier directly:
         // 1. If the raw query tokens are provided through the query.
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.search;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.lucene.search.ScoreMode;
 
@@ -12,10 +13,13 @@ import lombok.Getter;
 
 /**
  *  Abstracts algorithm that allows early termination for the search flow if number of hits reached
- *  certain treshold
+ *  certain treshold. One checker is shared by collectors of all slices of concurrent segment search, so hits are counted
+ *  with a thread safe counter, same as in the global hits threshold checker of Lucene
  */
 public class HitsThresholdChecker {
-    private int hitCount;
+    private final LongAdder hitCount = new LongAdder();
+    // threshold can't become unreached once reached, flag saves summing the counter on every check after that
+    private volatile boolean thresholdReached;
     @Getter
     private final int totalHitsThreshold;
 
@@ -27,11 +31,14 @@ public class HitsThresholdChecker {
     }
 
     public void incrementHitCount() {
-        ++hitCount;
+        hitCount.increment();
     }
 
     public boolean isThresholdReached() {
-        return hitCount >= getTotalHitsThreshold();
+        if (thresholdReached == false) {
+            thresholdReached = hitCount.sum() >= getTotalHitsThreshold();
+        }
+        return thresholdReached;
     }
 
     public ScoreMode scoreMode() {
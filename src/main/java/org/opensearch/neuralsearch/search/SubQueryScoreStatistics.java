@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Partial statistics of scores of a single hybrid sub-query collected on a shard. Statistics of all shards are merged
+ * on the coordinator, that gives exact min, max, mean, standard deviation and L2 norm of sub-query scores even when shard
+ * returns only part of collected hits.
+ */
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public class SubQueryScoreStatistics {
+    private final int count;
+    private final float minScore;
+    private final float maxScore;
+    private final double sum;
+    private final double sumOfSquares;
+
+    /**
+     * Collect statistics of scores from the range of score docs
+     * @param scoreDocs score docs of the sub-query
+     * @param from index of the first score doc, inclusive
+     * @param to index of the last score doc, exclusive
+     * @return statistics of scores
+     */
+    public static SubQueryScoreStatistics of(final ScoreDoc[] scoreDocs, final int from, final int to) {
+        float minScore = Float.MAX_VALUE;
+        float maxScore = -Float.MAX_VALUE;
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int i = from; i < to; i++) {
+            final float score = scoreDocs[i].score;
+            minScore = Math.min(minScore, score);
+            maxScore = Math.max(maxScore, score);
+            sum += score;
+            sumOfSquares += (double) score * score;
+        }
+        return new SubQueryScoreStatistics(to - from, minScore, maxScore, sum, sumOfSquares);
+    }
+}
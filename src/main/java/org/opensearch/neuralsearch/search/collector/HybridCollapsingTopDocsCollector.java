@@ -25,6 +25,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
+import org.opensearch.neuralsearch.query.HybridSubQueryTimeBudget;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 import org.opensearch.neuralsearch.search.lucene.MultiLeafFieldComparator;
 
@@ -59,6 +60,8 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
     @Setter
     TotalHits.Relation totalHitsRelation = TotalHits.Relation.EQUAL_TO;
     private HitsThresholdChecker hitsThresholdChecker;
+    @Setter
+    private HybridSubQueryTimeBudget subQueryTimeBudget;
 
     HybridCollapsingTopDocsCollector(
         GroupSelector<T> groupSelector,
@@ -317,6 +320,11 @@ public class HybridCollapsingTopDocsCollector<T> implements HybridSearchCollecto
                 initializeLeafComparatorsPerSegmentOnceMap = new HashMap<>();
             }
 
+            @Override
+            protected HybridSubQueryTimeBudget getSubQueryTimeBudget() {
+                return subQueryTimeBudget;
+            }
+
             /**
              * Collects a document and processes it based on its group value, scores, and sort.
              *
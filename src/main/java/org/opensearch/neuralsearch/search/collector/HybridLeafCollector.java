@@ -10,6 +10,7 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
+import org.opensearch.neuralsearch.query.HybridSubQueryTimeBudget;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -32,6 +33,16 @@ public abstract class HybridLeafCollector implements LeafCollector {
                 log.error("cannot find scorer of type HybridQueryScorer in a hierarchy of scorer {}", scorer);
             }
         }
+        if (Objects.nonNull(compoundQueryScorer) && Objects.nonNull(getSubQueryTimeBudget())) {
+            compoundQueryScorer.setSubQueryTimeBudget(getSubQueryTimeBudget());
+        }
+    }
+
+    /**
+     * @return time budget of sub-queries of the request, null if sub-queries are not time limited
+     */
+    protected HybridSubQueryTimeBudget getSubQueryTimeBudget() {
+        return null;
     }
 
     private HybridSubQueryScorer getHybridQueryScorer(final Scorable scorer) throws IOException {
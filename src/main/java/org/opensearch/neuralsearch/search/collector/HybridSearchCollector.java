@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.util.List;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.TopDocs;
+import org.opensearch.neuralsearch.query.HybridSubQueryTimeBudget;
 
 /**
  * Common interface class for Hybrid search collectors
@@ -27,4 +28,9 @@ public interface HybridSearchCollector extends Collector {
      * @return maxScore found on a shard
      */
     float getMaxScore();
+
+    /**
+     * @param subQueryTimeBudget time budget of sub-queries of the request, passed to the hybrid scorer of every segment
+     */
+    void setSubQueryTimeBudget(HybridSubQueryTimeBudget subQueryTimeBudget);
 }
@@ -28,6 +28,7 @@ import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.Nullable;
+import org.opensearch.neuralsearch.query.HybridSubQueryTimeBudget;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 import org.opensearch.neuralsearch.search.lucene.MultiLeafFieldComparator;
 
@@ -54,6 +55,8 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
     @Getter
     @Setter
     private TotalHits.Relation totalHitsRelation = TotalHits.Relation.EQUAL_TO;
+    @Setter
+    private HybridSubQueryTimeBudget subQueryTimeBudget;
     /*
       reverseMul is used to set the direction of the sorting when creating comparators.
       In threshold check reverseMul is used in comparison logic.
@@ -138,6 +141,11 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
             this.initializeLeafComparatorsPerSegmentOnce = true;
         }
 
+        @Override
+        protected HybridSubQueryTimeBudget getSubQueryTimeBudget() {
+            return subQueryTimeBudget;
+        }
+
         /*
         Increment total hit count and validate if threshold is reached.
          */
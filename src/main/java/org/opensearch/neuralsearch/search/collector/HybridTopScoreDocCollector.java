@@ -12,22 +12,23 @@ import java.util.Locale;
 import java.util.Objects;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.search.HitQueue;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
-import org.apache.lucene.util.PriorityQueue;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.neuralsearch.query.HybridSubQueryScorer;
+import org.opensearch.neuralsearch.query.HybridSubQueryTimeBudget;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 
 /**
- * Collects the TopDocs after executing hybrid query. Uses HybridQueryTopDocs as DTO to handle each sub query results
+ * Collects the TopDocs after executing hybrid query. Uses HybridQueryTopDocs as DTO to handle each sub query results.
+ * Top docs of each sub query are kept in a primitive heap, so collecting a hit does not allocate
  */
 @Log4j2
 public class HybridTopScoreDocCollector implements HybridSearchCollector {
@@ -39,9 +40,11 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
     private int totalHits;
     private int[] collectedHitsPerSubQuery;
     private final int numOfHits;
-    private List<PriorityQueue<ScoreDoc>> compoundScores;
+    private TopScoreDocHeap[] compoundScores;
     @Getter
     private float maxScore = 0.0f;
+    @Setter
+    private HybridSubQueryTimeBudget subQueryTimeBudget;
 
     public HybridTopScoreDocCollector(int numHits, HitsThresholdChecker hitsThresholdChecker) {
         numOfHits = numHits;
@@ -68,12 +71,12 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             return new ArrayList<>();
         }
         final List<TopDocs> topDocs = new ArrayList<>();
-        for (int i = 0; i < compoundScores.size(); i++) {
+        for (int i = 0; i < compoundScores.length; i++) {
             topDocs.add(
                 topDocsPerQuery(
                     0,
-                    Math.min(collectedHitsPerSubQuery[i], compoundScores.get(i).size()),
-                    compoundScores.get(i),
+                    Math.min(collectedHitsPerSubQuery[i], compoundScores[i].size()),
+                    compoundScores[i],
                     collectedHitsPerSubQuery[i]
                 )
             );
@@ -81,7 +84,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         return topDocs;
     }
 
-    private TopDocs topDocsPerQuery(int start, int howMany, PriorityQueue<ScoreDoc> pq, int totalHits) {
+    private TopDocs topDocsPerQuery(int start, int howMany, TopScoreDocHeap pq, int totalHits) {
         if (howMany < 0) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "Number of hits requested must be greater than 0 but value was %d", howMany)
@@ -107,7 +110,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         return new TopDocs(new TotalHits(totalHits, totalHitsRelation), results);
     }
 
-    protected void populateResults(ScoreDoc[] results, int howMany, PriorityQueue<ScoreDoc> pq) {
+    protected void populateResults(ScoreDoc[] results, int howMany, TopScoreDocHeap pq) {
         for (int i = howMany - 1; i >= 0 && pq.size() > 0; i--) {
             // adding to array if index is within [0..array_length - 1]
             if (i < results.length) {
@@ -121,6 +124,8 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
      */
     protected class HybridTopScoreLeafCollector extends HybridLeafCollector {
         float[] minScoreThresholds;
+        // lowest score in the full queue of each sub query, published as min competitive score once total hits threshold is reached
+        float[] competitiveScores;
 
         @Override
         public void setScorer(Scorable scorer) throws IOException {
@@ -128,9 +133,15 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             if (Objects.isNull(minScoreThresholds)) {
                 minScoreThresholds = new float[getCompoundQueryScorer().getNumOfSubQueries()];
                 Arrays.fill(minScoreThresholds, Float.MIN_VALUE);
+                competitiveScores = new float[getCompoundQueryScorer().getNumOfSubQueries()];
             }
         }
 
+        @Override
+        protected HybridSubQueryTimeBudget getSubQueryTimeBudget() {
+            return subQueryTimeBudget;
+        }
+
         @Override
         public void collect(int doc) throws IOException {
             HybridSubQueryScorer compoundQueryScorer = getCompoundQueryScorer();
@@ -140,6 +151,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
             ensureSubQueryScoreQueues();
             // Increment total hit count which represents unique doc found on the shard
             totalHits++;
+            hitsThresholdChecker.incrementHitCount();
             float[] scores = compoundQueryScorer.getSubQueryScores();
             int docWithBase = doc + docBase;
             for (int subQueryIndex = 0; subQueryIndex < scores.length; subQueryIndex++) {
@@ -152,21 +164,30 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
                     totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
                 }
                 collectedHitsPerSubQuery[subQueryIndex]++;
-                PriorityQueue<ScoreDoc> pq = compoundScores.get(subQueryIndex);
-                ScoreDoc currentDoc = new ScoreDoc(docWithBase, score);
-                maxScore = Math.max(currentDoc.score, maxScore);
+                maxScore = Math.max(score, maxScore);
                 // this way we're inserting into heap and do nothing else unless we reach the capacity
                 // after that we pull out the lowest score element on each insert
-                ScoreDoc evictedScoreDoc = pq.insertWithOverflow(currentDoc);
-                if (Objects.nonNull(evictedScoreDoc)) {
-                    float newThresholdScore = evictedScoreDoc.score;
+                float newThresholdScore = compoundScores[subQueryIndex].insertWithOverflow(docWithBase, score);
+                if (Float.isNaN(newThresholdScore) == false) {
                     minScoreThresholds[subQueryIndex] = Math.max(minScoreThresholds[subQueryIndex], newThresholdScore);
-                    compoundQueryScorer.getMinScores()[subQueryIndex] = Math.max(
-                        compoundQueryScorer.getMinScores()[subQueryIndex],
-                        newThresholdScore
-                    );
+                    competitiveScores[subQueryIndex] = Math.max(competitiveScores[subQueryIndex], newThresholdScore);
                 }
             }
+            updateMinCompetitiveScores(compoundQueryScorer);
+        }
+
+        /**
+         * Docs below the min competitive score of every sub query are skipped by the scorer and not counted, so min scores
+         * are published only after the total hits threshold is reached, same as Lucene's top score doc collector does
+         */
+        private void updateMinCompetitiveScores(final HybridSubQueryScorer compoundQueryScorer) {
+            if (hitsThresholdChecker.isThresholdReached() == false) {
+                return;
+            }
+            float[] minScores = compoundQueryScorer.getMinScores();
+            for (int subQueryIndex = 0; subQueryIndex < minScores.length; subQueryIndex++) {
+                minScores[subQueryIndex] = Math.max(minScores[subQueryIndex], competitiveScores[subQueryIndex]);
+            }
         }
 
         private boolean isNonCompetitiveScore(float score, int subQueryIndex) {
@@ -178,9 +199,9 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
          */
         private void ensureSubQueryScoreQueues() {
             if (Objects.isNull(compoundScores)) {
-                compoundScores = new ArrayList<>(compoundQueryScorer.getNumOfSubQueries());
-                for (int i = 0; i < compoundQueryScorer.getNumOfSubQueries(); i++) {
-                    compoundScores.add(new HitQueue(numOfHits, false));
+                compoundScores = new TopScoreDocHeap[compoundQueryScorer.getNumOfSubQueries()];
+                for (int i = 0; i < compoundScores.length; i++) {
+                    compoundScores[i] = new TopScoreDocHeap(numOfHits);
                 }
                 collectedHitsPerSubQuery = new int[compoundQueryScorer.getNumOfSubQueries()];
             }
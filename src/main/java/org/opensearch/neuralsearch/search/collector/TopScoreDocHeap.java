@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Bounded min-heap of the top scoring docs of one sub-query. Doc ids and scores are kept in parallel primitive arrays,
+ * so that collecting a hit does not allocate a {@link ScoreDoc}. Docs are ordered the same way as in
+ * {@link org.apache.lucene.search.HitQueue}: the least competitive doc, the one with the lowest score and the highest doc id
+ * among equal scores, is at the top of the heap.
+ */
+final class TopScoreDocHeap {
+    // heap is 1-based, same as in lucene PriorityQueue, so that children of slot i are 2i and 2i+1
+    private final int[] docs;
+    private final float[] scores;
+    private final int capacity;
+    private int size;
+
+    TopScoreDocHeap(final int capacity) {
+        this.capacity = capacity;
+        this.docs = new int[capacity + 1];
+        this.scores = new float[capacity + 1];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the doc to the heap if the heap is not full or if the doc is more competitive than the least competitive doc
+     * in the heap, which is evicted then
+     * @param doc doc id
+     * @param score score of the doc
+     * @return score of the doc that did not fit into the heap, either the evicted doc or the given doc, or NaN if the heap was not full
+     */
+    float insertWithOverflow(final int doc, final float score) {
+        if (size < capacity) {
+            size++;
+            docs[size] = doc;
+            scores[size] = score;
+            upHeap(size);
+            return Float.NaN;
+        }
+        if (size > 0 && lessThan(docs[1], scores[1], doc, score)) {
+            float evictedScore = scores[1];
+            docs[1] = doc;
+            scores[1] = score;
+            downHeap();
+            return evictedScore;
+        }
+        return score;
+    }
+
+    /**
+     * Removes the least competitive doc from the heap
+     * @return the removed doc, or null if the heap is empty
+     */
+    ScoreDoc pop() {
+        if (size == 0) {
+            return null;
+        }
+        ScoreDoc scoreDoc = new ScoreDoc(docs[1], scores[1]);
+        docs[1] = docs[size];
+        scores[1] = scores[size];
+        size--;
+        downHeap();
+        return scoreDoc;
+    }
+
+    private void upHeap(int slot) {
+        final int doc = docs[slot];
+        final float score = scores[slot];
+        int parent = slot >>> 1;
+        while (parent > 0 && lessThan(doc, score, docs[parent], scores[parent])) {
+            docs[slot] = docs[parent];
+            scores[slot] = scores[parent];
+            slot = parent;
+            parent = slot >>> 1;
+        }
+        docs[slot] = doc;
+        scores[slot] = score;
+    }
+
+    private void downHeap() {
+        int slot = 1;
+        final int doc = docs[slot];
+        final float score = scores[slot];
+        int child = smallerChild(slot);
+        while (child <= size && lessThan(docs[child], scores[child], doc, score)) {
+            docs[slot] = docs[child];
+            scores[slot] = scores[child];
+            slot = child;
+            child = smallerChild(slot);
+        }
+        docs[slot] = doc;
+        scores[slot] = score;
+    }
+
+    private int smallerChild(final int slot) {
+        int left = slot << 1;
+        int right = left + 1;
+        if (right <= size && lessThan(docs[right], scores[right], docs[left], scores[left])) {
+            return right;
+        }
+        return left;
+    }
+
+    private static boolean lessThan(final int docA, final float scoreA, final int docB, final float scoreB) {
+        if (scoreA == scoreB) {
+            return docA > docB;
+        }
+        return scoreA < scoreB;
+    }
+}
@@ -25,8 +25,12 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.search.FilteredCollector;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.neuralsearch.cache.HybridQueryResultCache;
 import org.opensearch.neuralsearch.query.HybridQuery;
+import org.opensearch.neuralsearch.query.HybridSubQueryTimeBudget;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
 import org.opensearch.neuralsearch.search.collector.HybridCollapsingTopDocsCollector;
 import org.opensearch.neuralsearch.search.collector.HybridCollectorFactory;
 import org.opensearch.neuralsearch.search.collector.HybridCollectorFactoryDTO;
@@ -34,6 +38,7 @@ import org.opensearch.neuralsearch.search.collector.HybridSearchCollector;
 import org.opensearch.neuralsearch.search.collector.HybridTopFieldDocSortCollector;
 import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.collapse.CollapseContext;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
@@ -43,6 +48,9 @@ import org.opensearch.search.query.ReduceableSearchResult;
 import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.neuralsearch.search.query.exception.HybridSearchRescoreQueryException;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -61,6 +69,8 @@ import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUt
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocStartStopElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocDelimiterElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createSortFieldsForDelimiterResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createScoreStatisticsElementsForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQuerySpecialElement;
 import static org.opensearch.neuralsearch.util.HybridQueryUtil.isHybridQueryWrappedInBooleanQuery;
 
 /**
@@ -83,6 +93,18 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
     private final FieldDoc after;
     private final SearchContext searchContext;
     private final CollapseContext collapseContext;
+    // time budget of sub-queries, null if sub-queries are not time limited
+    @Nullable
+    private final HybridSubQueryTimeBudget subQueryTimeBudget;
+    // set only for requests which results can be served from the hybrid query result cache
+    @Nullable
+    private IndexReader.CacheHelper readerCacheHelper;
+    @Nullable
+    private HybridQueryResultCache.CacheKey resultCacheKey;
+    @Nullable
+    private List<TopDocsAndMaxScore> cachedTopDocsAndMaxScores;
+
+    private static volatile NeuralSearchSettingsAccessor settingsAccessor;
 
     private final Set<Class<?>> VALID_COLLECTOR_TYPES = Set.of(
         HybridTopScoreDocCollector.class,
@@ -90,6 +112,14 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         HybridCollapsingTopDocsCollector.class
     );
 
+    /**
+     * Initialize settings used by collector managers of hybrid query
+     * @param settingsAccessor settings accessor singleton instance
+     */
+    public static void initialize(final NeuralSearchSettingsAccessor settingsAccessor) {
+        HybridCollectorManager.settingsAccessor = settingsAccessor;
+    }
+
     /**
      * Create new instance of HybridCollectorManager depending on the concurrent search beeing enabled or disabled.
      * @param searchContext
@@ -132,7 +162,7 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
             filteringWeight = searcher.createWeight(searcher.rewrite(filterQuery), ScoreMode.COMPLETE_NO_SCORES, boostFactor);
         }
 
-        return searchContext.shouldUseConcurrentSearch()
+        final HybridCollectorManager hybridCollectorManager = searchContext.shouldUseConcurrentSearch()
             ? new HybridCollectorConcurrentSearchManager(
                 numDocs,
                 new HitsThresholdChecker(Math.max(numDocs, searchContext.trackTotalHitsUpTo())),
@@ -147,11 +177,68 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
                 filteringWeight,
                 searchContext
             );
+        hybridCollectorManager.lookupCachedResults(searchContext, trackTotalHitsUpTo);
+        return hybridCollectorManager;
+    }
+
+    /**
+     * Time budget of sub-queries starts with the collector manager, which is created at the start of the query phase on the shard
+     * @return time budget of sub-queries of this request, null if sub-queries are not time limited
+     */
+    private static HybridSubQueryTimeBudget createSubQueryTimeBudget(final SearchContext searchContext) {
+        final HybridQuery hybridQuery = unwrapHybridQuery(searchContext);
+        final TimeValue subQueryTimeout = hybridQuery.getQueryContext().getSubQueryTimeout();
+        return Objects.isNull(subQueryTimeout) ? null : new HybridSubQueryTimeBudget(subQueryTimeout, hybridQuery.getSubQueries().size());
+    }
+
+    /**
+     * Get results of the same hybrid query collected before with the same index reader. Only results of requests that
+     * collect plain top hits by score for pagination_depth are cached, they don't depend on from and size of the request.
+     */
+    private void lookupCachedResults(final SearchContext searchContext, final int trackTotalHitsUpTo) {
+        if (isResultCacheable(searchContext) == false) {
+            return;
+        }
+        readerCacheHelper = searchContext.searcher().getIndexReader().getReaderCacheHelper();
+        if (Objects.isNull(readerCacheHelper)) {
+            return;
+        }
+        resultCacheKey = new HybridQueryResultCache.CacheKey(
+            readerCacheHelper.getKey(),
+            searchContext.query(),
+            unwrapHybridQuery(searchContext).getQueryContext().getPaginationDepth(),
+            trackTotalHitsUpTo
+        );
+        cachedTopDocsAndMaxScores = HybridQueryResultCache.instance().get(resultCacheKey);
+    }
+
+    private static boolean isResultCacheable(final SearchContext searchContext) {
+        final boolean hasTimeout = searchContext.timeout() != null && searchContext.timeout().equals(SearchService.NO_TIMEOUT) == false;
+        final List<RescoreContext> rescoreContexts = searchContext.rescore();
+        return HybridQueryResultCache.instance().isEnabled()
+            && Objects.nonNull(unwrapHybridQuery(searchContext).getQueryContext().getPaginationDepth())
+            && Objects.isNull(searchContext.sort())
+            && Objects.isNull(searchContext.collapse())
+            && Objects.isNull(searchContext.searchAfter())
+            && (Objects.isNull(rescoreContexts) || rescoreContexts.isEmpty())
+            && Objects.isNull(searchContext.parsedPostFilter())
+            && Objects.isNull(searchContext.aggregations())
+            && Objects.isNull(searchContext.minimumScore())
+            && Objects.isNull(searchContext.getProfilers())
+            && searchContext.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && hasTimeout == false;
+    }
+
+    /**
+     * @return true if results of the hybrid query are served from the cache and the query doesn't need to be executed
+     */
+    public boolean hasCachedResults() {
+        return Objects.nonNull(cachedTopDocsAndMaxScores);
     }
 
     @Override
     public Collector newCollector() {
-        Collector hybridCollector = HybridCollectorFactory.createCollector(
+        HybridSearchCollector hybridCollector = (HybridSearchCollector) HybridCollectorFactory.createCollector(
             HybridCollectorFactoryDTO.builder()
                 .collapseContext(collapseContext)
                 .sortAndFormats(sortAndFormats)
@@ -161,6 +248,7 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
                 .after(after)
                 .build()
         );
+        hybridCollector.setSubQueryTimeBudget(subQueryTimeBudget);
         // Check if filterWeight is present. If it is present then return wrap Hybrid Sort collector object underneath the FilteredCollector
         // object and return it.
         return Objects.nonNull(filterWeight) ? new FilteredCollector(hybridCollector, filterWeight) : hybridCollector;
@@ -178,29 +266,42 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
      */
     @Override
     public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        if (hasCachedResults()) {
+            final List<TopDocsAndMaxScore> topDocsAndMaxScores = cachedTopDocsAndMaxScores;
+            return (QuerySearchResult result) -> reduceCollectorResults(result, topDocsAndMaxScores, getSortValueFormats(sortAndFormats));
+        }
         final List<HybridSearchCollector> hybridSearchCollectors = getHybridSearchCollectors(collectors);
         if (hybridSearchCollectors.isEmpty()) {
             throw new IllegalStateException("cannot collect results of hybrid search query, there are no proper collectors");
         }
-        return reduceSearchResults(getSearchResults(hybridSearchCollectors));
+        return getSearchResult(hybridSearchCollectors);
     }
 
-    private List<ReduceableSearchResult> getSearchResults(final List<HybridSearchCollector> hybridSearchCollectors) throws IOException {
-        List<ReduceableSearchResult> results = new ArrayList<>();
+    private ReduceableSearchResult getSearchResult(final List<HybridSearchCollector> hybridSearchCollectors) throws IOException {
+        List<TopDocsAndMaxScore> topDocsAndMaxScores = new ArrayList<>(hybridSearchCollectors.size());
         DocValueFormat[] docValueFormats = getSortValueFormats(sortAndFormats);
+        boolean isSortEnabled = docValueFormats != null;
+        boolean isCollapseEnabled = false;
         for (HybridSearchCollector collector : hybridSearchCollectors) {
-            boolean isSortEnabled = docValueFormats != null;
-            boolean isCollapseEnabled = collector instanceof HybridCollapsingTopDocsCollector;
-            TopDocsAndMaxScore topDocsAndMaxScore = getTopDocsAndAndMaxScore(collector, isSortEnabled, isCollapseEnabled);
-            results.add(
-                (QuerySearchResult result) -> reduceCollectorResults(
-                    result,
-                    topDocsAndMaxScore,
-                    isCollapseEnabled && isSortEnabled == false ? new DocValueFormat[] { DocValueFormat.RAW } : docValueFormats
-                )
-            );
+            isCollapseEnabled = collector instanceof HybridCollapsingTopDocsCollector;
+            topDocsAndMaxScores.add(getTopDocsAndAndMaxScore(collector, isSortEnabled, isCollapseEnabled));
+        }
+        DocValueFormat[] resultDocValueFormats = isCollapseEnabled && isSortEnabled == false
+            ? new DocValueFormat[] { DocValueFormat.RAW }
+            : docValueFormats;
+        // a sub-query that ran out of its time budget returned only hits collected until then
+        final boolean isPartialResult = Objects.nonNull(subQueryTimeBudget) && subQueryTimeBudget.hasStoppedSubQueries();
+        if (isPartialResult) {
+            EventStatsManager.increment(EventStatName.HYBRID_QUERY_SUB_QUERY_TIMEOUTS);
+        } else if (Objects.nonNull(resultCacheKey)) {
+            HybridQueryResultCache.instance().put(readerCacheHelper, resultCacheKey, topDocsAndMaxScores);
         }
-        return results;
+        return (QuerySearchResult result) -> {
+            reduceCollectorResults(result, topDocsAndMaxScores, resultDocValueFormats);
+            if (isPartialResult) {
+                result.searchTimedOut(true);
+            }
+        };
     }
 
     private TopDocsAndMaxScore getTopDocsAndAndMaxScore(
@@ -402,18 +503,25 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
                 collapseValues.add(0);
                 fieldDocs.addAll(result);
             } else {
-                List<ScoreDoc> result = new ArrayList<>();
-                result.add(createStartStopElementForHybridSearchResults(delimiterDocId));
+                // hits of all sub-queries are copied into one array of final size, start-stop and delimiter elements included
+                int length = 2 + topDocs.size();
+                for (TopDocs topDoc : topDocs) {
+                    if (Objects.nonNull(topDoc) && Objects.nonNull(topDoc.scoreDocs)) {
+                        length += topDoc.scoreDocs.length;
+                    }
+                }
+                scoreDocs = new ScoreDoc[length];
+                int index = 0;
+                scoreDocs[index++] = createStartStopElementForHybridSearchResults(delimiterDocId);
                 for (TopDocs topDoc : topDocs) {
+                    scoreDocs[index++] = createDelimiterElementForHybridSearchResults(delimiterDocId);
                     if (Objects.isNull(topDoc) || Objects.isNull(topDoc.scoreDocs)) {
-                        result.add(createDelimiterElementForHybridSearchResults(delimiterDocId));
                         continue;
                     }
-                    result.add(createDelimiterElementForHybridSearchResults(delimiterDocId));
-                    result.addAll(Arrays.asList(topDoc.scoreDocs));
+                    System.arraycopy(topDoc.scoreDocs, 0, scoreDocs, index, topDoc.scoreDocs.length);
+                    index += topDoc.scoreDocs.length;
                 }
-                result.add(createStartStopElementForHybridSearchResults(delimiterDocId));
-                scoreDocs = result.stream().map(doc -> new ScoreDoc(doc.doc, doc.score, doc.shardIndex)).toArray(ScoreDoc[]::new);
+                scoreDocs[index] = createStartStopElementForHybridSearchResults(delimiterDocId);
             }
         }
         if (isCollapseEnabled) {
@@ -551,40 +659,81 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
 
     private void reduceCollectorResults(
         final QuerySearchResult result,
-        final TopDocsAndMaxScore topDocsAndMaxScore,
+        final List<TopDocsAndMaxScore> topDocsAndMaxScores,
         final DocValueFormat[] docValueFormats
     ) {
-        // this is case of first collector, query result object doesn't have any top docs set, so we can
-        // just set new top docs without merge
+        List<TopDocsAndMaxScore> resultTopDocsAndMaxScores = new ArrayList<>(topDocsAndMaxScores.size() + 1);
         // this call is effectively checking if QuerySearchResult.topDoc is null. using it in such way because
-        // getter throws exception in case topDocs is null
-        if (result.hasConsumedTopDocs()) {
-            result.topDocs(topDocsAndMaxScore, docValueFormats);
-            return;
+        // getter throws exception in case topDocs is null. If top docs are already present in result, we need to merge
+        // results of collectors with what we have
+        if (result.hasConsumedTopDocs() == false) {
+            resultTopDocsAndMaxScores.add(result.topDocs());
         }
-        // in this case top docs are already present in result, and we need to merge next result object with what we have.
-        // if collector doesn't have any hits we can just skip it and save some cycles by not doing merge
-        if (topDocsAndMaxScore.topDocs.totalHits.value() == 0) {
-            return;
+        resultTopDocsAndMaxScores.addAll(topDocsAndMaxScores);
+        // in case of a single collector, query result object doesn't have any top docs set, so we can just set new top docs
+        // without merge. Otherwise results of all collectors are merged at once, collectors without hits are skipped by the merger
+        TopDocsAndMaxScore topDocsAndMaxScore = resultTopDocsAndMaxScores.size() == 1
+            ? resultTopDocsAndMaxScores.getFirst()
+            : topDocsMerger.merge(resultTopDocsAndMaxScores);
+        if (shouldAddScoreStatistics(topDocsAndMaxScore.topDocs)) {
+            topDocsAndMaxScore = new TopDocsAndMaxScore(
+                addScoreStatistics(topDocsAndMaxScore.topDocs, Math.max(0, searchContext.from()) + searchContext.size()),
+                topDocsAndMaxScore.maxScore
+            );
         }
-        // we need to do actual merge because query result and current collector both have some score hits
-        TopDocsAndMaxScore originalTotalDocsAndHits = result.topDocs();
-        TopDocsAndMaxScore mergeTopDocsAndMaxScores = topDocsMerger.merge(originalTotalDocsAndHits, topDocsAndMaxScore);
-        result.topDocs(mergeTopDocsAndMaxScores, docValueFormats);
+        result.topDocs(topDocsAndMaxScore, docValueFormats);
     }
 
     /**
-     * For collection of search results, return a single one that has results from all individual result objects.
-     * @param results collection of search results
-     * @return single search result that represents all results as one object
+     * Statistics of sub-query scores are added only for results sorted by score from one of multiple shards, for a single
+     * shard all collected hits are already local to normalization
      */
-    private ReduceableSearchResult reduceSearchResults(final List<ReduceableSearchResult> results) {
-        return (result) -> {
-            for (ReduceableSearchResult r : results) {
-                // call reduce for results of each single collector, this will update top docs in query result
-                r.reduce(result);
+    private boolean shouldAddScoreStatistics(final TopDocs topDocs) {
+        final NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor != null
+            && accessor.isHybridShardScoreStatisticsEnabled()
+            && searchContext.numberOfShards() > 1
+            && topDocs instanceof TopFieldDocs == false
+            && topDocs.scoreDocs.length > 1;
+    }
+
+    /**
+     * Add statistics of scores of all collected hits after the delimiter of each sub-query, and keep only top hits of each
+     * sub-query. Normalization uses the statistics, so returned hits are normalized as if all collected hits were returned.
+     * Result has following format:
+     * doc_id | magic_number_1
+     * doc_id | magic_number_2
+     * magic_doc_id | count
+     * magic_doc_id | min score
+     * ...
+     * doc_id | score
+     * ...
+     * doc_id | magic_number_2
+     * magic_doc_id | count
+     * ...
+     * doc_id | magic_number_1
+     * @param topDocs merged hybrid query results of the shard
+     * @param depth max number of hits of each sub-query to keep
+     * @return hybrid query results with statistics of sub-query scores
+     */
+    private TopDocs addScoreStatistics(final TopDocs topDocs, final int depth) {
+        final ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        final List<ScoreDoc> result = new ArrayList<>();
+        result.add(scoreDocs[0]);
+        // first two elements are start-stop element and delimiter of the first sub-query
+        int subQueryStart = 2;
+        for (int index = 2; index < scoreDocs.length; index++) {
+            if (isHybridQuerySpecialElement(scoreDocs[index]) == false) {
+                continue;
             }
-        };
+            result.add(scoreDocs[subQueryStart - 1]);
+            SubQueryScoreStatistics statistics = SubQueryScoreStatistics.of(scoreDocs, subQueryStart, index);
+            result.addAll(Arrays.asList(createScoreStatisticsElementsForHybridSearchResults(statistics)));
+            result.addAll(Arrays.asList(scoreDocs).subList(subQueryStart, Math.min(index, subQueryStart + depth)));
+            subQueryStart = index + 1;
+        }
+        result.add(scoreDocs[scoreDocs.length - 1]);
+        return new TopDocs(topDocs.totalHits, result.toArray(new ScoreDoc[0]));
     }
 
     /**
@@ -645,10 +794,11 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
                 trackTotalHitsUpTo,
                 searchContext.sort(),
                 filteringWeight,
-                new TopDocsMerger(searchContext.sort()),
+                new TopDocsMerger(searchContext.sort(), numHits),
                 searchContext.searchAfter(),
                 searchContext,
-                searchContext.collapse()
+                searchContext.collapse(),
+                createSubQueryTimeBudget(searchContext)
             );
             scoreCollector = Objects.requireNonNull(super.newCollector(), "collector for hybrid query cannot be null");
         }
@@ -684,10 +834,11 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
                 trackTotalHitsUpTo,
                 searchContext.sort(),
                 filteringWeight,
-                new TopDocsMerger(searchContext.sort()),
+                new TopDocsMerger(searchContext.sort(), numHits),
                 searchContext.searchAfter(),
                 searchContext,
-                null
+                null,
+                createSubQueryTimeBudget(searchContext)
             );
         }
     }
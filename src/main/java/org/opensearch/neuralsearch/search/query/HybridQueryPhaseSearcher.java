@@ -5,15 +5,17 @@
 package org.opensearch.neuralsearch.search.query;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.DisjunctionMaxQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.settings.Settings;
@@ -27,6 +29,7 @@ import org.opensearch.search.query.QueryCollectorContext;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QueryPhaseSearcher;
 import org.opensearch.search.query.QueryPhaseSearcherWrapper;
+import org.opensearch.search.query.ReduceableSearchResult;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -62,6 +65,10 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
         } else {
             Query hybridQuery = extractHybridQuery(searchContext, query);
             validateHybridQuery((HybridQuery) hybridQuery);
+            if (hasCachedResults(searchContext)) {
+                reduceCachedResults(searchContext);
+                return false;
+            }
             QueryPhaseSearcher queryPhaseSearcher = getQueryPhaseSearcher(searchContext);
             queryPhaseSearcher.searchWith(searchContext, searcher, hybridQuery, collectors, hasFilterCollector, hasTimeout);
             // we decide on rescore later in collector manager
@@ -69,6 +76,23 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
         }
     }
 
+    private boolean hasCachedResults(final SearchContext searchContext) {
+        CollectorManager<?, ReduceableSearchResult> collectorManager = searchContext.queryCollectorManagers()
+            .get(HybridCollectorManager.class);
+        return collectorManager instanceof HybridCollectorManager hybridCollectorManager && hybridCollectorManager.hasCachedResults();
+    }
+
+    /**
+     * Results of the hybrid query are served from the cache, sub-queries are not executed. Without concurrent search the
+     * collector manager is reduced by {@link HybridAggregationProcessor}, otherwise it has to be done here in place of
+     * the concurrent searcher
+     */
+    private void reduceCachedResults(final SearchContext searchContext) throws IOException {
+        if (searchContext.shouldUseConcurrentSearch()) {
+            searchContext.queryCollectorManagers().get(HybridCollectorManager.class).reduce(List.of()).reduce(searchContext.queryResult());
+        }
+    }
+
     private QueryPhaseSearcher getQueryPhaseSearcher(final SearchContext searchContext) {
         return searchContext.shouldUseConcurrentSearch()
             ? concurrentQueryPhaseSearcherWithEmptyCollectorContext
@@ -83,7 +107,11 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
                 throw new IllegalArgumentException("hybrid query must be a top level query and cannot be wrapped into other queries");
             }
             HybridQuery hybridQuery = (HybridQuery) booleanClauses.get(0).query();
-            List<BooleanClause> filterQueries = booleanClauses.stream().skip(1).collect(Collectors.toList());
+            List<BooleanClause> filterQueries = new ArrayList<>(booleanClauses.subList(1, booleanClauses.size()));
+            if (Objects.nonNull(hybridQuery.getFilterQuery())) {
+                // keep the filter of the hybrid query itself
+                filterQueries.add(new BooleanClause(hybridQuery.getFilterQuery(), BooleanClause.Occur.FILTER));
+            }
             HybridQuery hybridQueryWithFilter = new HybridQuery(hybridQuery.getSubQueries(), hybridQuery.getQueryContext(), filterQueries);
             return hybridQueryWithFilter;
         }
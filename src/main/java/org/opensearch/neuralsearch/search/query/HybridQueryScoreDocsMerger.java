@@ -8,8 +8,10 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.util.PriorityQueue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -17,7 +19,7 @@ import java.util.Objects;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryScoreDocElement;
 
 /**
- * Merges two ScoreDoc arrays into one
+ * Merges ScoreDoc arrays of hybrid query results into one
  */
 @NoArgsConstructor(access = AccessLevel.PACKAGE)
 class HybridQueryScoreDocsMerger<T extends ScoreDoc> {
@@ -37,7 +39,26 @@ class HybridQueryScoreDocsMerger<T extends ScoreDoc> {
      * @return merged array of ScoreDocs objects
      */
     public T[] merge(final T[] sourceScoreDocs, final T[] newScoreDocs, final Comparator<T> comparator, final boolean isSortEnabled) {
-        // The length of sourceScoreDocs or newScoreDocs can be 0 in the following conditions
+        return merge(Arrays.asList(sourceScoreDocs, newScoreDocs), comparator, isSortEnabled, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Merge score docs objects of multiple collectors, result ScoreDocs[] object will have at most numHits top hits per sub-query
+     * from all original objects. Hits of every sub-query are merged with a heap over the collectors, and are written into
+     * an array that is allocated once with its final size.
+     * Input and output ScoreDocs are in format that is specific to Hybrid Query. This method should not be used for ScoreDocs from
+     * other query types.
+     * Logic is based on assumption that hits of every sub-query are sorted by score, or by sort criteria if sort is enabled.
+     * Method returns new object and doesn't mutate original ScoreDocs arrays, with the exception of a single non-empty object
+     * that is returned as is.
+     * @param scoreDocsList score docs from query results of collectors, delimiter elements are taken from the first non-empty one
+     * @param comparator comparator to compare the score docs
+     * @param isSortEnabled flag that show if sort is enabled or disabled
+     * @param numHits maximum number of hits to keep per sub-query
+     * @return merged array of ScoreDocs objects
+     */
+    public T[] merge(final List<T[]> scoreDocsList, final Comparator<T> comparator, final boolean isSortEnabled, final int numHits) {
+        // The length of score docs can be 0 in the following conditions
         // 1. When concurrent segment search is enabled then there can be multiple collector instances that can have search results.
         // 2. The total hits count of every collector instance represent the actual count of search results present in the shard
         // irrespective of pagination.
@@ -46,72 +67,121 @@ class HybridQueryScoreDocsMerger<T extends ScoreDoc> {
         // then the newTopFieldDocs method in the HybridCollectorManager will set the fieldDocs as TopFieldDocs(totalHits, new FieldDoc[0],
         // sortFields).
         // In this case the size of fieldDocs is 0 with no delimiters.
-        if (Objects.requireNonNull(sourceScoreDocs, "score docs cannot be null").length == 0) {
-            return newScoreDocs;
+        List<T[]> nonEmptyScoreDocsList = new ArrayList<>(scoreDocsList.size());
+        for (T[] scoreDocs : scoreDocsList) {
+            if (Objects.requireNonNull(scoreDocs, "score docs cannot be null").length > 0) {
+                nonEmptyScoreDocsList.add(scoreDocs);
+            }
         }
-        if (Objects.requireNonNull(newScoreDocs, "score docs cannot be null").length == 0) {
-            return sourceScoreDocs;
+        if (nonEmptyScoreDocsList.isEmpty()) {
+            return scoreDocsList.getFirst();
         }
-        if (sourceScoreDocs.length < MIN_NUMBER_OF_ELEMENTS_IN_SCORE_DOC || newScoreDocs.length < MIN_NUMBER_OF_ELEMENTS_IN_SCORE_DOC) {
-            throw new IllegalArgumentException("cannot merge top docs because it does not have enough elements");
+        if (nonEmptyScoreDocsList.size() == 1) {
+            return nonEmptyScoreDocsList.getFirst();
         }
-        // we overshoot and preallocate more than we need - length of both top docs combined.
-        // we will take only portion of the array at the end
-        List<T> mergedScoreDocs = new ArrayList<>(sourceScoreDocs.length + newScoreDocs.length);
-        int sourcePointer = 0;
-        // mark beginning of hybrid query results by start element
-        mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-        sourcePointer++;
-        // new pointer is set to 1 as we don't care about it start-stop element
-        int newPointer = 1;
-
-        while (sourcePointer < sourceScoreDocs.length - 1 && newPointer < newScoreDocs.length - 1) {
-            // every iteration is for results of one sub-query
-            mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-            sourcePointer++;
-            newPointer++;
-            // simplest case when both arrays have results for sub-query
-            while (sourcePointer < sourceScoreDocs.length
-                && isHybridQueryScoreDocElement(sourceScoreDocs[sourcePointer])
-                && newPointer < newScoreDocs.length
-                && isHybridQueryScoreDocElement(newScoreDocs[newPointer])) {
-                if (compareCondition(sourceScoreDocs[sourcePointer], newScoreDocs[newPointer], comparator, isSortEnabled)) {
-                    mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-                    sourcePointer++;
-                } else {
-                    mergedScoreDocs.add(newScoreDocs[newPointer]);
-                    newPointer++;
+        for (T[] scoreDocs : nonEmptyScoreDocsList) {
+            if (scoreDocs.length < MIN_NUMBER_OF_ELEMENTS_IN_SCORE_DOC) {
+                throw new IllegalArgumentException("cannot merge top docs because it does not have enough elements");
+            }
+        }
+        // boundaries of hits of every sub-query in every score docs object, sub-queries that are missing in some
+        // of the objects are skipped
+        final int numOfScoreDocs = nonEmptyScoreDocsList.size();
+        final int[][] subQueryStarts = new int[numOfScoreDocs][];
+        final int[][] subQueryEnds = new int[numOfScoreDocs][];
+        int numOfSubQueries = Integer.MAX_VALUE;
+        for (int i = 0; i < numOfScoreDocs; i++) {
+            T[] scoreDocs = nonEmptyScoreDocsList.get(i);
+            List<Integer> starts = new ArrayList<>();
+            List<Integer> ends = new ArrayList<>();
+            // pointer is set to 1 as we don't care about start-stop element, every iteration is for results of one sub-query
+            int pointer = 1;
+            while (pointer < scoreDocs.length - 1) {
+                pointer++;
+                starts.add(pointer);
+                while (pointer < scoreDocs.length && isHybridQueryScoreDocElement(scoreDocs[pointer])) {
+                    pointer++;
                 }
+                ends.add(pointer);
             }
-            // at least one object got exhausted at this point, now merge all elements from object that's left
-            while (sourcePointer < sourceScoreDocs.length && isHybridQueryScoreDocElement(sourceScoreDocs[sourcePointer])) {
-                mergedScoreDocs.add(sourceScoreDocs[sourcePointer]);
-                sourcePointer++;
+            subQueryStarts[i] = starts.stream().mapToInt(Integer::intValue).toArray();
+            subQueryEnds[i] = ends.stream().mapToInt(Integer::intValue).toArray();
+            numOfSubQueries = Math.min(numOfSubQueries, starts.size());
+        }
+
+        // allocate the final array upfront: start and stop elements, and delimiter and top hits of every sub-query
+        final int[] numOfHits = new int[numOfSubQueries];
+        int mergedLength = 2 + numOfSubQueries;
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            long totalHits = 0;
+            for (int i = 0; i < numOfScoreDocs; i++) {
+                totalHits += subQueryEnds[i][subQueryIndex] - subQueryStarts[i][subQueryIndex];
+            }
+            numOfHits[subQueryIndex] = (int) Math.min(totalHits, numHits);
+            mergedLength += numOfHits[subQueryIndex];
+        }
+        final T[] mergedScoreDocs = isSortEnabled ? (T[]) new FieldDoc[mergedLength] : (T[]) new ScoreDoc[mergedLength];
+
+        final T[] firstScoreDocs = nonEmptyScoreDocsList.getFirst();
+        int mergedPointer = 0;
+        // mark beginning of hybrid query results by start element
+        mergedScoreDocs[mergedPointer++] = firstScoreDocs[0];
+        final int[] pointers = new int[numOfScoreDocs];
+        final ScoreDocsHeap heap = new ScoreDocsHeap(nonEmptyScoreDocsList, pointers, comparator, isSortEnabled);
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            mergedScoreDocs[mergedPointer++] = firstScoreDocs[subQueryStarts[0][subQueryIndex] - 1];
+            heap.clear();
+            for (int i = 0; i < numOfScoreDocs; i++) {
+                pointers[i] = subQueryStarts[i][subQueryIndex];
+                if (pointers[i] < subQueryEnds[i][subQueryIndex]) {
+                    heap.add(i);
+                }
             }
-            while (newPointer < newScoreDocs.length && isHybridQueryScoreDocElement(newScoreDocs[newPointer])) {
-                mergedScoreDocs.add(newScoreDocs[newPointer]);
-                newPointer++;
+            for (int hit = 0; hit < numOfHits[subQueryIndex]; hit++) {
+                // the top of the heap is the collector with the best current hit, it moves to its next hit or leaves the heap
+                int i = heap.top();
+                mergedScoreDocs[mergedPointer++] = nonEmptyScoreDocsList.get(i)[pointers[i]];
+                pointers[i]++;
+                if (pointers[i] < subQueryEnds[i][subQueryIndex]) {
+                    heap.updateTop();
+                } else {
+                    heap.pop();
+                }
             }
         }
         // mark end of hybrid query results by end element
-        mergedScoreDocs.add(sourceScoreDocs[sourceScoreDocs.length - 1]);
-        if (isSortEnabled) {
-            return mergedScoreDocs.toArray((T[]) new FieldDoc[0]);
-        }
-        return mergedScoreDocs.toArray((T[]) new ScoreDoc[0]);
+        mergedScoreDocs[mergedPointer] = firstScoreDocs[firstScoreDocs.length - 1];
+        return mergedScoreDocs;
     }
 
-    private boolean compareCondition(
-        final ScoreDoc oldScoreDoc,
-        final ScoreDoc secondScoreDoc,
-        final Comparator<T> comparator,
-        final boolean isSortEnabled
-    ) {
-        // If sorting is enabled then compare condition will be different then normal HybridQuery
-        if (isSortEnabled) {
-            return comparator.compare((T) oldScoreDoc, (T) secondScoreDoc) < 0;
-        } else {
-            return comparator.compare((T) oldScoreDoc, (T) secondScoreDoc) >= 0;
+    /**
+     * Heap of indexes of score docs objects ordered by their current hits, hit that comes first in merged results is on top.
+     * For equal hits the object that comes first in the list is on top, same as the source object in a merge of two objects.
+     */
+    private class ScoreDocsHeap extends PriorityQueue<Integer> {
+        private final List<T[]> scoreDocsList;
+        private final int[] pointers;
+        private final Comparator<T> comparator;
+        private final boolean isSortEnabled;
+
+        ScoreDocsHeap(final List<T[]> scoreDocsList, final int[] pointers, final Comparator<T> comparator, final boolean isSortEnabled) {
+            super(scoreDocsList.size());
+            this.scoreDocsList = scoreDocsList;
+            this.pointers = pointers;
+            this.comparator = comparator;
+            this.isSortEnabled = isSortEnabled;
+        }
+
+        @Override
+        protected boolean lessThan(final Integer a, final Integer b) {
+            T scoreDocA = scoreDocsList.get(a)[pointers[a]];
+            T scoreDocB = scoreDocsList.get(b)[pointers[b]];
+            // If sorting is enabled then compare condition will be different then normal HybridQuery
+            int comparison = isSortEnabled ? comparator.compare(scoreDocA, scoreDocB) : comparator.compare(scoreDocB, scoreDocA);
+            if (comparison != 0) {
+                return comparison < 0;
+            }
+            return a < b;
         }
     }
 }
@@ -14,7 +14,10 @@ import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import org.opensearch.search.sort.SortAndFormats;
 
@@ -25,6 +28,7 @@ import org.opensearch.search.sort.SortAndFormats;
 class TopDocsMerger {
     private HybridQueryScoreDocsMerger docsMerger;
     private SortAndFormats sortAndFormats;
+    private int numHits;
     @VisibleForTesting
     protected static Comparator<ScoreDoc> SCORE_DOC_BY_SCORE_COMPARATOR;
     @VisibleForTesting
@@ -35,10 +39,18 @@ class TopDocsMerger {
     };
 
     /**
-     * Uses hybrid query score docs merger to merge internal score docs
+     * Uses hybrid query score docs merger to merge internal score docs, keeps all hits of every sub-query
      */
     TopDocsMerger(final SortAndFormats sortAndFormats) {
+        this(sortAndFormats, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Uses hybrid query score docs merger to merge internal score docs, keeps at most numHits top hits of every sub-query
+     */
+    TopDocsMerger(final SortAndFormats sortAndFormats, final int numHits) {
         this.sortAndFormats = sortAndFormats;
+        this.numHits = numHits;
         if (isSortingEnabled()) {
             docsMerger = new HybridQueryScoreDocsMerger<FieldDoc>();
             FIELD_DOC_BY_SORT_CRITERIA_COMPARATOR = new HybridQueryFieldDocComparator(sortAndFormats.sort.getSort(), MERGING_TIE_BREAKER);
@@ -55,21 +67,38 @@ class TopDocsMerger {
      * @return merged TopDocsAndMaxScore object
      */
     public TopDocsAndMaxScore merge(final TopDocsAndMaxScore source, final TopDocsAndMaxScore newTopDocs) {
-        // we need to check if any of source and destination top docs are empty. This is needed for case when concurrent segment search
+        return merge(Arrays.asList(source, newTopDocs));
+    }
+
+    /**
+     * Merge TopDocs and MaxScore from multiple search queries into a single TopDocsAndMaxScore object in one pass. Hits of every
+     * sub-query are cut to numHits, so the size of merged results doesn't grow with the number of search queries.
+     * @param topDocsAndMaxScores TopDocsAndMaxScore for every query, the first one is treated as the original query
+     * @return merged TopDocsAndMaxScore object
+     */
+    public TopDocsAndMaxScore merge(final List<TopDocsAndMaxScore> topDocsAndMaxScores) {
+        // we need to check if any of top docs are empty. This is needed for case when concurrent segment search
         // is enabled. In such case search is done by multiple workers, and results are saved in multiple doc collectors. Any on those
-        // results can be empty, in such case we can skip actual merge logic and just return result object.
-        if (isEmpty(newTopDocs)) {
-            return source;
+        // results can be empty, in such case we can skip actual merge logic for them.
+        List<TopDocsAndMaxScore> nonEmptyTopDocsAndMaxScores = topDocsAndMaxScores.stream()
+            .filter(topDocsAndMaxScore -> isEmpty(topDocsAndMaxScore) == false)
+            .toList();
+        if (nonEmptyTopDocsAndMaxScores.isEmpty()) {
+            return topDocsAndMaxScores.getFirst();
         }
-        if (isEmpty(source)) {
-            return newTopDocs;
+        if (nonEmptyTopDocsAndMaxScores.size() == 1) {
+            return nonEmptyTopDocsAndMaxScores.getFirst();
         }
-        TotalHits mergedTotalHits = getMergedTotalHits(source, newTopDocs);
-        TopDocsAndMaxScore result = new TopDocsAndMaxScore(
-            getTopDocs(getMergedScoreDocs(source.topDocs.scoreDocs, newTopDocs.topDocs.scoreDocs), mergedTotalHits),
-            Math.max(source.maxScore, newTopDocs.maxScore)
+        List<ScoreDoc[]> scoreDocsList = new ArrayList<>(nonEmptyTopDocsAndMaxScores.size());
+        float maxScore = Float.NEGATIVE_INFINITY;
+        for (TopDocsAndMaxScore topDocsAndMaxScore : nonEmptyTopDocsAndMaxScores) {
+            scoreDocsList.add(topDocsAndMaxScore.topDocs.scoreDocs);
+            maxScore = Math.max(maxScore, topDocsAndMaxScore.maxScore);
+        }
+        return new TopDocsAndMaxScore(
+            getTopDocs(getMergedScoreDocs(scoreDocsList), getMergedTotalHits(nonEmptyTopDocsAndMaxScores)),
+            maxScore
         );
-        return result;
     }
 
     /**
@@ -86,14 +115,18 @@ class TopDocsMerger {
         return false;
     }
 
-    private TotalHits getMergedTotalHits(final TopDocsAndMaxScore source, final TopDocsAndMaxScore newTopDocs) {
-        // merged value is a lower bound - if both are equal_to than merged will also be equal_to,
+    private TotalHits getMergedTotalHits(final List<TopDocsAndMaxScore> topDocsAndMaxScores) {
+        // merged value is a lower bound - if all are equal_to than merged will also be equal_to,
         // otherwise assign greater_than_or_equal
-        TotalHits.Relation mergedHitsRelation = source.topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO
-            || newTopDocs.topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO
-                ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO
-                : TotalHits.Relation.EQUAL_TO;
-        return new TotalHits(source.topDocs.totalHits.value() + newTopDocs.topDocs.totalHits.value(), mergedHitsRelation);
+        long totalHits = 0;
+        TotalHits.Relation mergedHitsRelation = TotalHits.Relation.EQUAL_TO;
+        for (TopDocsAndMaxScore topDocsAndMaxScore : topDocsAndMaxScores) {
+            totalHits += topDocsAndMaxScore.topDocs.totalHits.value();
+            if (topDocsAndMaxScore.topDocs.totalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                mergedHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+        }
+        return new TotalHits(totalHits, mergedHitsRelation);
     }
 
     private TopDocs getTopDocs(ScoreDoc[] mergedScoreDocs, TotalHits mergedTotalHits) {
@@ -103,10 +136,10 @@ class TopDocsMerger {
         return new TopDocs(mergedTotalHits, mergedScoreDocs);
     }
 
-    private ScoreDoc[] getMergedScoreDocs(ScoreDoc[] source, ScoreDoc[] newScoreDocs) {
+    private ScoreDoc[] getMergedScoreDocs(List<ScoreDoc[]> scoreDocsList) {
         // Case 1 when sorting is enabled then below will be the TopDocs format
         // we need to merge hits per individual sub-query
-        // format of results in both new and source TopDocs is following
+        // format of results in all TopDocs is following
         // doc_id | magic_number_1 | [1]
         // doc_id | magic_number_2 | [1]
         // ...
@@ -118,7 +151,7 @@ class TopDocsMerger {
 
         // Case 2 when sorting is disabled then below will be the TopDocs format
         // we need to merge hits per individual sub-query
-        // format of results in both new and source TopDocs is following
+        // format of results in all TopDocs is following
         // doc_id | magic_number_1
         // doc_id | magic_number_2
         // ...
@@ -127,7 +160,7 @@ class TopDocsMerger {
         // doc_id | magic_number_2
         // ...
         // doc_id | magic_number_1
-        return docsMerger.merge(source, newScoreDocs, comparator(), isSortingEnabled());
+        return docsMerger.merge(scoreDocsList, comparator(), isSortingEnabled(), numHits);
     }
 
     private Comparator<? extends ScoreDoc> comparator() {
@@ -11,6 +11,7 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
 
 /**
  * Utility class for handling format of Hybrid Search query results
@@ -20,6 +21,10 @@ public class HybridSearchResultFormatUtil {
     // and OpenSearch convention is that scores are positive numbers
     public static final Float MAGIC_NUMBER_START_STOP = -9549511920.4881596047f;
     public static final Float MAGIC_NUMBER_DELIMITER = -4422440593.9791198149f;
+    // doc id of elements with statistics of sub-query scores, it's never a valid doc id so score of the element carries the value
+    public static final int MAGIC_DOC_ID_SCORE_STATISTICS = Integer.MIN_VALUE;
+    // count, min and max scores, sum and sum of squares of scores, each of sums is split into two floats to keep double precision
+    public static final int NUM_OF_SCORE_STATISTICS_ELEMENTS = 7;
 
     /**
      * Create ScoreDoc object that is a start/stop element in case of hybrid search query results
@@ -57,6 +62,50 @@ public class HybridSearchResultFormatUtil {
         return Objects.nonNull(scoreDoc) && scoreDoc.doc >= 0 && Float.compare(scoreDoc.score, MAGIC_NUMBER_DELIMITER) == 0;
     }
 
+    /**
+     * Create ScoreDoc objects that carry statistics of sub-query scores in hybrid search query results, they follow the
+     * delimiter element of the sub-query
+     * @param statistics statistics of sub-query scores
+     * @return array of statistics elements
+     */
+    public static ScoreDoc[] createScoreStatisticsElementsForHybridSearchResults(final SubQueryScoreStatistics statistics) {
+        final float sumHigh = (float) statistics.getSum();
+        final float sumOfSquaresHigh = (float) statistics.getSumOfSquares();
+        return new ScoreDoc[] {
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, statistics.getCount()),
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, statistics.getMinScore()),
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, statistics.getMaxScore()),
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, sumHigh),
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, (float) (statistics.getSum() - sumHigh)),
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, sumOfSquaresHigh),
+            new ScoreDoc(MAGIC_DOC_ID_SCORE_STATISTICS, (float) (statistics.getSumOfSquares() - sumOfSquaresHigh)) };
+    }
+
+    /**
+     * Read statistics of sub-query scores from statistics elements of hybrid search query results
+     * @param scoreDocs hybrid search query results
+     * @param offset index of the first statistics element
+     * @return statistics of sub-query scores
+     */
+    public static SubQueryScoreStatistics parseScoreStatisticsElements(final ScoreDoc[] scoreDocs, final int offset) {
+        return new SubQueryScoreStatistics(
+            (int) scoreDocs[offset].score,
+            scoreDocs[offset + 1].score,
+            scoreDocs[offset + 2].score,
+            (double) scoreDocs[offset + 3].score + scoreDocs[offset + 4].score,
+            (double) scoreDocs[offset + 5].score + scoreDocs[offset + 6].score
+        );
+    }
+
+    /**
+     * Checking if passed scoreDocs object is an element with statistics of sub-query scores in hybrid query results
+     * @param scoreDoc score doc object to check on
+     * @return true if it is a statistics element
+     */
+    public static boolean isHybridQueryScoreStatisticsElement(final ScoreDoc scoreDoc) {
+        return Objects.nonNull(scoreDoc) && scoreDoc.doc == MAGIC_DOC_ID_SCORE_STATISTICS;
+    }
+
     public static FieldDoc createFieldDocStartStopElementForHybridSearchResults(final int docId, final Object[] fields) {
         return new FieldDoc(docId, MAGIC_NUMBER_START_STOP, fields);
     }
@@ -83,7 +132,8 @@ public class HybridSearchResultFormatUtil {
     }
 
     /**
-     * Checking if passed scoreDocs object is a special element (start/stop or delimiter) in the list of hybrid query result scores
+     * Checking if passed scoreDocs object is a special element (start/stop, delimiter or statistics) in the list of hybrid query
+     * result scores
      * @param scoreDoc score doc object to check on
      * @return true if it is a special element
      */
@@ -91,7 +141,9 @@ public class HybridSearchResultFormatUtil {
         if (Objects.isNull(scoreDoc)) {
             return false;
         }
-        return isHybridQueryStartStopElement(scoreDoc) || isHybridQueryDelimiterElement(scoreDoc);
+        return isHybridQueryStartStopElement(scoreDoc)
+            || isHybridQueryDelimiterElement(scoreDoc)
+            || isHybridQueryScoreStatisticsElement(scoreDoc);
     }
 
     /**
@@ -5,6 +5,9 @@
 package org.opensearch.neuralsearch.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -35,4 +38,333 @@ public final class NeuralSearchSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * Enables or disables the node-local cache of query embeddings produced for neural and neural_sparse queries.
+     * When enabled, repeated queries with the same model id and query input skip the call to ml-commons.
+     */
+    public static final Setting<Boolean> QUERY_INFERENCE_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.query_inference_cache.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of query embeddings kept in the query inference cache on a node.
+     */
+    public static final Setting<Integer> QUERY_INFERENCE_CACHE_MAX_ENTRIES = Setting.intSetting(
+        "plugins.neural_search.query_inference_cache.max_entries",
+        10_000,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum estimated memory footprint of the query inference cache on a node.
+     */
+    public static final Setting<ByteSizeValue> QUERY_INFERENCE_CACHE_MAX_SIZE = Setting.byteSizeSetting(
+        "plugins.neural_search.query_inference_cache.max_size",
+        new ByteSizeValue(32, ByteSizeUnit.MB),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Time after which a cached query embedding expires, counted from the moment it was written to the cache.
+     */
+    public static final Setting<TimeValue> QUERY_INFERENCE_CACHE_EXPIRE_AFTER = Setting.positiveTimeSetting(
+        "plugins.neural_search.query_inference_cache.expire_after",
+        TimeValue.timeValueMinutes(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum time spent retrying a single ml-commons call after retryable failures, counted from the first attempt.
+     * Retries whose backoff would end past this deadline are dropped and the original failure is returned.
+     */
+    public static final Setting<TimeValue> ML_INFERENCE_RETRY_TIMEOUT = Setting.positiveTimeSetting(
+        "plugins.neural_search.ml_inference_retry.timeout",
+        TimeValue.timeValueSeconds(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of ml-commons retries that can be scheduled and waiting for their backoff on a node at the same time.
+     * Retries above this budget are dropped and the original failure is returned.
+     */
+    public static final Setting<Integer> ML_INFERENCE_RETRY_MAX_IN_FLIGHT = Setting.intSetting(
+        "plugins.neural_search.ml_inference_retry.max_in_flight",
+        100,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables coalescing of concurrent single-text ml-commons inference requests that target the same model
+     * into a single batched predict call.
+     */
+    public static final Setting<Boolean> INFERENCE_COALESCING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.inference_coalescing.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum time an inference request waits for other requests to the same model before its batch is dispatched.
+     */
+    public static final Setting<TimeValue> INFERENCE_COALESCING_WINDOW = Setting.positiveTimeSetting(
+        "plugins.neural_search.inference_coalescing.window",
+        TimeValue.timeValueMillis(5),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of input texts in a coalesced batch, the batch is dispatched as soon as it reaches this size.
+     * Requests with more than one input text are never coalesced.
+     */
+    public static final Setting<Integer> INFERENCE_COALESCING_MAX_BATCH_SIZE = Setting.intSetting(
+        "plugins.neural_search.inference_coalescing.max_batch_size",
+        32,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables the node-local cache of inference results produced by ingest processors. When enabled,
+     * texts already embedded by the same model are not sent to the model again, within a batch and across batches.
+     */
+    public static final Setting<Boolean> INGEST_INFERENCE_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.ingest_inference_cache.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of inference results kept in the ingest inference cache on a node.
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_CACHE_MAX_ENTRIES = Setting.intSetting(
+        "plugins.neural_search.ingest_inference_cache.max_entries",
+        100_000,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum estimated memory footprint of the ingest inference cache on a node.
+     */
+    public static final Setting<ByteSizeValue> INGEST_INFERENCE_CACHE_MAX_SIZE = Setting.byteSizeSetting(
+        "plugins.neural_search.ingest_inference_cache.max_size",
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Time after which a cached ingest inference result expires, counted from the moment it was written to the cache.
+     */
+    public static final Setting<TimeValue> INGEST_INFERENCE_CACHE_EXPIRE_AFTER = Setting.positiveTimeSetting(
+        "plugins.neural_search.ingest_inference_cache.expire_after",
+        TimeValue.timeValueHours(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables adaptive sizing of the sub-batches that batching ingest processors send to their models. When enabled,
+     * the batch_size of a processor is only the initial sub-batch size, which then grows or shrinks with the observed inference
+     * latency, failures and text length of the sub-batches.
+     */
+    public static final Setting<Boolean> ADAPTIVE_BATCH_SIZE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.adaptive_batch_size.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of documents in a sub-batch when adaptive batch sizing is enabled.
+     */
+    public static final Setting<Integer> ADAPTIVE_BATCH_SIZE_MAX_BATCH_SIZE = Setting.intSetting(
+        "plugins.neural_search.adaptive_batch_size.max_batch_size",
+        100,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Inference latency a sub-batch should stay within when adaptive batch sizing is enabled.
+     */
+    public static final Setting<TimeValue> ADAPTIVE_BATCH_SIZE_TARGET_LATENCY = Setting.positiveTimeSetting(
+        "plugins.neural_search.adaptive_batch_size.target_latency",
+        TimeValue.timeValueSeconds(2),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of characters of text in a sub-batch when adaptive batch sizing is enabled, 0 means the sub-batches are
+     * only limited by the character budget derived from the observed inference latency.
+     */
+    public static final Setting<Integer> ADAPTIVE_BATCH_SIZE_MAX_CHARS_PER_BATCH = Setting.intSetting(
+        "plugins.neural_search.adaptive_batch_size.max_chars_per_batch",
+        0,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables concurrent inference of length buckets in ingest processors. When enabled, the texts of a sub-batch
+     * are sorted by length, split into buckets and the buckets are sent to the model concurrently.
+     */
+    public static final Setting<Boolean> INGEST_INFERENCE_PIPELINING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.ingest_inference_pipelining.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of texts in a length bucket sent to the model in one call.
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_PIPELINING_BUCKET_SIZE = Setting.intSetting(
+        "plugins.neural_search.ingest_inference_pipelining.bucket_size",
+        16,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of length buckets of a sub-batch sent to the model at the same time.
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_PIPELINING_MAX_CONCURRENT_BUCKETS = Setting.intSetting(
+        "plugins.neural_search.ingest_inference_pipelining.max_concurrent_buckets",
+        4,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Default maximum number of input texts sent to a model in one predict call, larger requests are split into several
+     * calls that run concurrently and whose results are merged. 0 means no limit.
+     */
+    public static final Setting<Integer> ML_INFERENCE_MAX_ITEMS_PER_CALL = Setting.intSetting(
+        "plugins.neural_search.ml_inference.max_items_per_call",
+        0,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Default maximum number of characters of input texts sent to a model in one predict call, larger requests are split
+     * into several calls that run concurrently and whose results are merged. 0 means no limit.
+     */
+    public static final Setting<Integer> ML_INFERENCE_MAX_CHARS_PER_CALL = Setting.intSetting(
+        "plugins.neural_search.ml_inference.max_chars_per_call",
+        0,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of input texts sent in one predict call to the model whose id is the namespace of the setting, e.g.
+     * plugins.neural_search.ml_inference.model.my_model_id.max_items_per_call. It overrides the default limit, 0 means the
+     * default limit applies.
+     */
+    public static final Setting.AffixSetting<Integer> ML_INFERENCE_MODEL_MAX_ITEMS_PER_CALL = Setting.affixKeySetting(
+        "plugins.neural_search.ml_inference.model.",
+        "max_items_per_call",
+        key -> Setting.intSetting(key, 0, 0, Setting.Property.NodeScope, Setting.Property.Dynamic)
+    );
+
+    /**
+     * Maximum number of characters of input texts sent in one predict call to the model whose id is the namespace of the
+     * setting, e.g. plugins.neural_search.ml_inference.model.my_model_id.max_chars_per_call. It overrides the default limit,
+     * 0 means the default limit applies.
+     */
+    public static final Setting.AffixSetting<Integer> ML_INFERENCE_MODEL_MAX_CHARS_PER_CALL = Setting.affixKeySetting(
+        "plugins.neural_search.ml_inference.model.",
+        "max_chars_per_call",
+        key -> Setting.intSetting(key, 0, 0, Setting.Property.NodeScope, Setting.Property.Dynamic)
+    );
+
+    /**
+     * Enables or disables concurrent scoring of hybrid query sub-queries within a segment. When enabled, the doc stream of
+     * each sub-query is scored on the hybrid query executor and sub-query results are merged before they are collected.
+     */
+    public static final Setting<Boolean> HYBRID_CONCURRENT_SUB_QUERY_SCORING_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_search.concurrent_sub_query_scoring.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables statistics of hybrid sub-query scores on shards. When enabled, each shard of a multi-shard search
+     * sorted by score returns min, max, count, sum and sum of squares of scores of all hits collected for a sub-query, and only
+     * from + size top hits of the sub-query instead of all hits up to pagination_depth.
+     * Min-max, L2 and z-score normalization use the statistics, so every returned score is normalized exactly as with all hits.
+     * Combination has a bounded error: a doc that a shard did not return for a sub-query is combined as if it didn't match the
+     * sub-query, while its normalized score of the sub-query is at most the one of the last hit the shard returned for it.
+     * With arithmetic mean the combined score of such doc is lower by at most the weighted mean of these scores of missing
+     * sub-queries, with RRF by at most 1 / (rank_constant + from + size + 1) for every missing sub-query.
+     */
+    public static final Setting<Boolean> HYBRID_SHARD_SCORE_STATISTICS_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_search.shard_score_statistics.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Minimum number of hits of hybrid sub-queries that a single task combines on the coordinator node. Combination of
+     * shard results and update of query results are split into tasks by shards and run on the hybrid query executor when
+     * results have at least twice this number of hits, smaller results are processed on the calling thread. 0 disables
+     * parallel processing.
+     */
+    public static final Setting<Integer> HYBRID_PARALLEL_COMBINATION_MIN_HITS_PER_TASK = Setting.intSetting(
+        "plugins.neural_search.hybrid_search.parallel_combination.min_hits_per_task",
+        10_000,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Enables or disables the shard-level cache of hybrid query results for pagination. When enabled, top hits of all
+     * sub-queries collected for a request with pagination_depth are cached per index reader, and following pages of the
+     * same query on the same reader skip execution of sub-queries. Entries of a reader are dropped once the reader is
+     * closed after a refresh. The cache is keyed by the reader and must not be enabled with document level security.
+     */
+    public static final Setting<Boolean> HYBRID_PAGINATION_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.hybrid_search.pagination_cache.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum estimated memory footprint of the hybrid query pagination cache on a node.
+     */
+    public static final Setting<ByteSizeValue> HYBRID_PAGINATION_CACHE_MAX_SIZE = Setting.byteSizeSetting(
+        "plugins.neural_search.hybrid_search.pagination_cache.max_size",
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
 }
@@ -4,9 +4,17 @@
  */
 package org.opensearch.neuralsearch.settings;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import lombok.Getter;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.cache.HybridQueryResultCache;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
+import org.opensearch.neuralsearch.cache.QueryInferenceCache;
 import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 
 /**
@@ -15,6 +23,62 @@ import org.opensearch.neuralsearch.stats.events.EventStatsManager;
 public class NeuralSearchSettingsAccessor {
     @Getter
     private volatile boolean isStatsEnabled;
+    @Getter
+    private volatile boolean isQueryInferenceCacheEnabled;
+    @Getter
+    private volatile int queryInferenceCacheMaxEntries;
+    @Getter
+    private volatile ByteSizeValue queryInferenceCacheMaxSize;
+    @Getter
+    private volatile TimeValue queryInferenceCacheExpireAfter;
+    @Getter
+    private volatile TimeValue mlInferenceRetryTimeout;
+    @Getter
+    private volatile int mlInferenceRetryMaxInFlight;
+    @Getter
+    private volatile boolean isInferenceCoalescingEnabled;
+    @Getter
+    private volatile TimeValue inferenceCoalescingWindow;
+    @Getter
+    private volatile int inferenceCoalescingMaxBatchSize;
+    @Getter
+    private volatile boolean isIngestInferenceCacheEnabled;
+    @Getter
+    private volatile int ingestInferenceCacheMaxEntries;
+    @Getter
+    private volatile ByteSizeValue ingestInferenceCacheMaxSize;
+    @Getter
+    private volatile TimeValue ingestInferenceCacheExpireAfter;
+    @Getter
+    private volatile boolean isAdaptiveBatchSizeEnabled;
+    @Getter
+    private volatile int adaptiveBatchSizeMaxBatchSize;
+    @Getter
+    private volatile TimeValue adaptiveBatchSizeTargetLatency;
+    @Getter
+    private volatile int adaptiveBatchSizeMaxCharsPerBatch;
+    @Getter
+    private volatile boolean isIngestInferencePipeliningEnabled;
+    @Getter
+    private volatile int ingestInferencePipeliningBucketSize;
+    @Getter
+    private volatile int ingestInferencePipeliningMaxConcurrentBuckets;
+    @Getter
+    private volatile int mlInferenceMaxItemsPerCall;
+    @Getter
+    private volatile int mlInferenceMaxCharsPerCall;
+    @Getter
+    private volatile boolean isHybridConcurrentSubQueryScoringEnabled;
+    @Getter
+    private volatile boolean isHybridShardScoreStatisticsEnabled;
+    @Getter
+    private volatile int hybridParallelCombinationMinHitsPerTask;
+    @Getter
+    private volatile boolean isHybridPaginationCacheEnabled;
+    @Getter
+    private volatile ByteSizeValue hybridPaginationCacheMaxSize;
+    private final Map<String, Integer> mlInferenceMaxItemsPerCallByModel = new ConcurrentHashMap<>();
+    private final Map<String, Integer> mlInferenceMaxCharsPerCallByModel = new ConcurrentHashMap<>();
 
     /**
      * Constructor, registers callbacks to update settings
@@ -23,9 +87,67 @@ public class NeuralSearchSettingsAccessor {
      */
     public NeuralSearchSettingsAccessor(ClusterService clusterService, Settings settings) {
         isStatsEnabled = NeuralSearchSettings.NEURAL_STATS_ENABLED.get(settings);
+        isQueryInferenceCacheEnabled = NeuralSearchSettings.QUERY_INFERENCE_CACHE_ENABLED.get(settings);
+        queryInferenceCacheMaxEntries = NeuralSearchSettings.QUERY_INFERENCE_CACHE_MAX_ENTRIES.get(settings);
+        queryInferenceCacheMaxSize = NeuralSearchSettings.QUERY_INFERENCE_CACHE_MAX_SIZE.get(settings);
+        queryInferenceCacheExpireAfter = NeuralSearchSettings.QUERY_INFERENCE_CACHE_EXPIRE_AFTER.get(settings);
+        mlInferenceRetryTimeout = NeuralSearchSettings.ML_INFERENCE_RETRY_TIMEOUT.get(settings);
+        mlInferenceRetryMaxInFlight = NeuralSearchSettings.ML_INFERENCE_RETRY_MAX_IN_FLIGHT.get(settings);
+        isInferenceCoalescingEnabled = NeuralSearchSettings.INFERENCE_COALESCING_ENABLED.get(settings);
+        inferenceCoalescingWindow = NeuralSearchSettings.INFERENCE_COALESCING_WINDOW.get(settings);
+        inferenceCoalescingMaxBatchSize = NeuralSearchSettings.INFERENCE_COALESCING_MAX_BATCH_SIZE.get(settings);
+        isIngestInferenceCacheEnabled = NeuralSearchSettings.INGEST_INFERENCE_CACHE_ENABLED.get(settings);
+        ingestInferenceCacheMaxEntries = NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_ENTRIES.get(settings);
+        ingestInferenceCacheMaxSize = NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_SIZE.get(settings);
+        ingestInferenceCacheExpireAfter = NeuralSearchSettings.INGEST_INFERENCE_CACHE_EXPIRE_AFTER.get(settings);
+        isAdaptiveBatchSizeEnabled = NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_ENABLED.get(settings);
+        adaptiveBatchSizeMaxBatchSize = NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_MAX_BATCH_SIZE.get(settings);
+        adaptiveBatchSizeTargetLatency = NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_TARGET_LATENCY.get(settings);
+        adaptiveBatchSizeMaxCharsPerBatch = NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_MAX_CHARS_PER_BATCH.get(settings);
+        isIngestInferencePipeliningEnabled = NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_ENABLED.get(settings);
+        ingestInferencePipeliningBucketSize = NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_BUCKET_SIZE.get(settings);
+        ingestInferencePipeliningMaxConcurrentBuckets = NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_MAX_CONCURRENT_BUCKETS.get(
+            settings
+        );
+        mlInferenceMaxItemsPerCall = NeuralSearchSettings.ML_INFERENCE_MAX_ITEMS_PER_CALL.get(settings);
+        mlInferenceMaxCharsPerCall = NeuralSearchSettings.ML_INFERENCE_MAX_CHARS_PER_CALL.get(settings);
+        isHybridConcurrentSubQueryScoringEnabled = NeuralSearchSettings.HYBRID_CONCURRENT_SUB_QUERY_SCORING_ENABLED.get(settings);
+        isHybridShardScoreStatisticsEnabled = NeuralSearchSettings.HYBRID_SHARD_SCORE_STATISTICS_ENABLED.get(settings);
+        hybridParallelCombinationMinHitsPerTask = NeuralSearchSettings.HYBRID_PARALLEL_COMBINATION_MIN_HITS_PER_TASK.get(settings);
+        isHybridPaginationCacheEnabled = NeuralSearchSettings.HYBRID_PAGINATION_CACHE_ENABLED.get(settings);
+        hybridPaginationCacheMaxSize = NeuralSearchSettings.HYBRID_PAGINATION_CACHE_MAX_SIZE.get(settings);
+        NeuralSearchSettings.ML_INFERENCE_MODEL_MAX_ITEMS_PER_CALL.getAsMap(settings)
+            .forEach((modelId, value) -> updateModelLimit(mlInferenceMaxItemsPerCallByModel, modelId, value));
+        NeuralSearchSettings.ML_INFERENCE_MODEL_MAX_CHARS_PER_CALL.getAsMap(settings)
+            .forEach((modelId, value) -> updateModelLimit(mlInferenceMaxCharsPerCallByModel, modelId, value));
         registerSettingsCallbacks(clusterService);
     }
 
+    /**
+     * @param modelId id of the model
+     * @return maximum number of input texts sent to the model in one predict call, 0 means no limit
+     */
+    public int getMlInferenceMaxItemsPerCall(final String modelId) {
+        return mlInferenceMaxItemsPerCallByModel.getOrDefault(modelId, mlInferenceMaxItemsPerCall);
+    }
+
+    /**
+     * @param modelId id of the model
+     * @return maximum number of characters of input texts sent to the model in one predict call, 0 means no limit
+     */
+    public int getMlInferenceMaxCharsPerCall(final String modelId) {
+        return mlInferenceMaxCharsPerCallByModel.getOrDefault(modelId, mlInferenceMaxCharsPerCall);
+    }
+
+    private static void updateModelLimit(final Map<String, Integer> limitByModel, final String modelId, final int limit) {
+        // a limit of 0 removes the override of the model, the default limit applies again
+        if (limit > 0) {
+            limitByModel.put(modelId, limit);
+        } else {
+            limitByModel.remove(modelId);
+        }
+    }
+
     private void registerSettingsCallbacks(ClusterService clusterService) {
         clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.NEURAL_STATS_ENABLED, value -> {
             // If stats are being toggled off, clear and reset all stats
@@ -34,5 +156,130 @@ public class NeuralSearchSettingsAccessor {
             }
             isStatsEnabled = value;
         });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.QUERY_INFERENCE_CACHE_ENABLED, value -> {
+            // If the cache is being toggled off, drop cached embeddings so stale entries are not served once it is re-enabled
+            if (isQueryInferenceCacheEnabled && (value == false)) {
+                QueryInferenceCache.instance().invalidateAll();
+            }
+            isQueryInferenceCacheEnabled = value;
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.QUERY_INFERENCE_CACHE_MAX_ENTRIES, value -> {
+            queryInferenceCacheMaxEntries = value;
+            QueryInferenceCache.instance().updateLimits(this);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.QUERY_INFERENCE_CACHE_MAX_SIZE, value -> {
+            queryInferenceCacheMaxSize = value;
+            QueryInferenceCache.instance().updateLimits(this);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.QUERY_INFERENCE_CACHE_EXPIRE_AFTER, value -> {
+            queryInferenceCacheExpireAfter = value;
+            QueryInferenceCache.instance().updateLimits(this);
+        });
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.ML_INFERENCE_RETRY_TIMEOUT, value -> mlInferenceRetryTimeout = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.ML_INFERENCE_RETRY_MAX_IN_FLIGHT, value -> mlInferenceRetryMaxInFlight = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.INFERENCE_COALESCING_ENABLED, value -> isInferenceCoalescingEnabled = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.INFERENCE_COALESCING_WINDOW, value -> inferenceCoalescingWindow = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INFERENCE_COALESCING_MAX_BATCH_SIZE,
+                value -> inferenceCoalescingMaxBatchSize = value
+            );
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.INGEST_INFERENCE_CACHE_ENABLED, value -> {
+            // If the cache is being toggled off, drop cached results so stale entries are not served once it is re-enabled
+            if (isIngestInferenceCacheEnabled && (value == false)) {
+                IngestInferenceCache.instance().invalidateAll();
+            }
+            isIngestInferenceCacheEnabled = value;
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_ENTRIES, value -> {
+            ingestInferenceCacheMaxEntries = value;
+            IngestInferenceCache.instance().updateLimits(this);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.INGEST_INFERENCE_CACHE_MAX_SIZE, value -> {
+            ingestInferenceCacheMaxSize = value;
+            IngestInferenceCache.instance().updateLimits(this);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.INGEST_INFERENCE_CACHE_EXPIRE_AFTER, value -> {
+            ingestInferenceCacheExpireAfter = value;
+            IngestInferenceCache.instance().updateLimits(this);
+        });
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_ENABLED, value -> isAdaptiveBatchSizeEnabled = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_MAX_BATCH_SIZE,
+                value -> adaptiveBatchSizeMaxBatchSize = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_TARGET_LATENCY,
+                value -> adaptiveBatchSizeTargetLatency = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.ADAPTIVE_BATCH_SIZE_MAX_CHARS_PER_BATCH,
+                value -> adaptiveBatchSizeMaxCharsPerBatch = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_ENABLED,
+                value -> isIngestInferencePipeliningEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_BUCKET_SIZE,
+                value -> ingestInferencePipeliningBucketSize = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.INGEST_INFERENCE_PIPELINING_MAX_CONCURRENT_BUCKETS,
+                value -> ingestInferencePipeliningMaxConcurrentBuckets = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.ML_INFERENCE_MAX_ITEMS_PER_CALL, value -> mlInferenceMaxItemsPerCall = value);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(NeuralSearchSettings.ML_INFERENCE_MAX_CHARS_PER_CALL, value -> mlInferenceMaxCharsPerCall = value);
+        clusterService.getClusterSettings()
+            .addAffixUpdateConsumer(
+                NeuralSearchSettings.ML_INFERENCE_MODEL_MAX_ITEMS_PER_CALL,
+                (modelId, value) -> updateModelLimit(mlInferenceMaxItemsPerCallByModel, modelId, value),
+                (modelId, value) -> {}
+            );
+        clusterService.getClusterSettings()
+            .addAffixUpdateConsumer(
+                NeuralSearchSettings.ML_INFERENCE_MODEL_MAX_CHARS_PER_CALL,
+                (modelId, value) -> updateModelLimit(mlInferenceMaxCharsPerCallByModel, modelId, value),
+                (modelId, value) -> {}
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_CONCURRENT_SUB_QUERY_SCORING_ENABLED,
+                value -> isHybridConcurrentSubQueryScoringEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_SHARD_SCORE_STATISTICS_ENABLED,
+                value -> isHybridShardScoreStatisticsEnabled = value
+            );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                NeuralSearchSettings.HYBRID_PARALLEL_COMBINATION_MIN_HITS_PER_TASK,
+                value -> hybridParallelCombinationMinHitsPerTask = value
+            );
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.HYBRID_PAGINATION_CACHE_ENABLED, value -> {
+            // If the cache is being toggled off, drop cached results so they don't take memory while the cache is not used
+            if (isHybridPaginationCacheEnabled && (value == false)) {
+                HybridQueryResultCache.instance().invalidateAll();
+            }
+            isHybridPaginationCacheEnabled = value;
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(NeuralSearchSettings.HYBRID_PAGINATION_CACHE_MAX_SIZE, value -> {
+            hybridPaginationCacheMaxSize = value;
+            HybridQueryResultCache.instance().updateLimits(this);
+        });
     }
 }
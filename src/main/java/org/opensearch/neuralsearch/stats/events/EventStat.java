@@ -27,6 +27,12 @@ public interface EventStat {
      */
     void increment();
 
+    /**
+     * Increments the stat by the given amount
+     * @param value amount to add, must not be negative
+     */
+    void add(long value);
+
     /**
      * Resets the stat value
      */
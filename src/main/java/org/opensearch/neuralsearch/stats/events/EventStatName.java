@@ -230,7 +230,163 @@ public enum EventStatName implements StatName {
         Version.V_3_1_0
     ),
     /** Tracks executions of the ML reranking processor */
-    RERANK_ML_PROCESSOR_EXECUTIONS("rerank_ml_executions", "processors.search", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),;
+    RERANK_ML_PROCESSOR_EXECUTIONS("rerank_ml_executions", "processors.search", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
+    /** Counts query embeddings served from the query inference cache */
+    QUERY_INFERENCE_CACHE_HITS(
+        "query_inference_cache_hits",
+        "query.inference_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts query embedding lookups that missed the query inference cache */
+    QUERY_INFERENCE_CACHE_MISSES(
+        "query_inference_cache_misses",
+        "query.inference_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts query embeddings evicted from the query inference cache because of size limits or expiration */
+    QUERY_INFERENCE_CACHE_EVICTIONS(
+        "query_inference_cache_evictions",
+        "query.inference_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts retries of ml-commons calls scheduled after a retryable failure */
+    ML_INFERENCE_RETRIES_ISSUED("ml_inference_retries_issued", "ml_inference", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
+    /** Counts retries of ml-commons calls dropped because of the request deadline or the node retry budget */
+    ML_INFERENCE_RETRIES_DROPPED(
+        "ml_inference_retries_dropped",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts batched predict calls dispatched by the inference request coalescer */
+    ML_INFERENCE_COALESCED_BATCHES(
+        "ml_inference_coalesced_batches",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts inference requests merged into coalesced batches, divided by batches it gives the average batch size */
+    ML_INFERENCE_COALESCED_REQUESTS(
+        "ml_inference_coalesced_requests",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Total time in milliseconds coalesced requests waited before their batch was dispatched */
+    ML_INFERENCE_COALESCING_QUEUE_TIME_MILLIS(
+        "ml_inference_coalescing_queue_time_millis",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts ingest texts whose inference result was served from the ingest inference cache or deduplicated in a batch */
+    INGEST_INFERENCE_CACHE_HITS(
+        "ingest_inference_cache_hits",
+        "processors.ingest.inference_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts ingest texts that missed the ingest inference cache */
+    INGEST_INFERENCE_CACHE_MISSES(
+        "ingest_inference_cache_misses",
+        "processors.ingest.inference_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts inference results evicted from the ingest inference cache because of size limits or expiration */
+    INGEST_INFERENCE_CACHE_EVICTIONS(
+        "ingest_inference_cache_evictions",
+        "processors.ingest.inference_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts increases of the sub-batch size of ingest processors with adaptive batch sizing */
+    ADAPTIVE_BATCH_SIZE_INCREASES(
+        "adaptive_batch_size_increases",
+        "processors.ingest.adaptive_batch_size",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts decreases of the sub-batch size of ingest processors with adaptive batch sizing */
+    ADAPTIVE_BATCH_SIZE_DECREASES(
+        "adaptive_batch_size_decreases",
+        "processors.ingest.adaptive_batch_size",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts length buckets sent concurrently to the model by ingest processors */
+    INGEST_INFERENCE_PIPELINED_BUCKETS(
+        "ingest_inference_pipelined_buckets",
+        "processors.ingest.inference_pipelining",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Sums the inference latency of length buckets, in milliseconds, divide by the bucket count for the average */
+    INGEST_INFERENCE_PIPELINED_BUCKET_LATENCY_MILLIS(
+        "ingest_inference_pipelined_bucket_latency_millis",
+        "processors.ingest.inference_pipelining",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts inference requests split into several predict calls because they exceeded the per-call limits of their model */
+    ML_INFERENCE_SPLIT_REQUESTS(
+        "ml_inference_split_requests",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts predict calls sent for split inference requests, divided by split requests it gives the average number of calls */
+    ML_INFERENCE_SPLIT_PIECES(
+        "ml_inference_split_pieces",
+        "ml_inference",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts search responses highlighted by the semantic highlighting response processor */
+    SEMANTIC_HIGHLIGHTING_BATCH_REQUEST_COUNT(
+        "semantic_highlighting_batch_request_count",
+        "semantic_highlighting",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Sums the time spent highlighting search responses, in milliseconds, divide by the batch request count for the average */
+    SEMANTIC_HIGHLIGHTING_BATCH_LATENCY_MILLIS(
+        "semantic_highlighting_batch_latency_millis",
+        "semantic_highlighting",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts hybrid query executions on shards served from the hybrid query pagination cache */
+    HYBRID_PAGINATION_CACHE_HITS(
+        "hybrid_pagination_cache_hits",
+        "query.hybrid_pagination_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts cacheable hybrid query executions on shards that missed the hybrid query pagination cache */
+    HYBRID_PAGINATION_CACHE_MISSES(
+        "hybrid_pagination_cache_misses",
+        "query.hybrid_pagination_cache",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts hybrid query requests with sub-query timeout */
+    HYBRID_QUERY_SUB_QUERY_TIMEOUT_REQUESTS(
+        "hybrid_query_with_sub_query_timeout_requests",
+        "query.hybrid",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),
+    /** Counts hybrid query executions on shards that returned partial results because a sub-query timed out */
+    HYBRID_QUERY_SUB_QUERY_TIMEOUTS(
+        "hybrid_query_sub_query_timeouts",
+        "query.hybrid",
+        EventStatType.TIMESTAMPED_EVENT_COUNTER,
+        Version.V_3_1_0
+    ),;
 
     private final String nameString;
     private final String path;
@@ -43,6 +43,16 @@ public class EventStatsManager {
         instance().inc(eventStatName);
     }
 
+    /**
+     * Static helper to add an amount to the counter of a specified event statistic
+     *
+     * @param eventStatName The name of the event stat to add to
+     * @param value The amount to add
+     */
+    public static void add(EventStatName eventStatName, long value) {
+        instance().addValue(eventStatName, value);
+    }
+
     /**
      * Initializes dependencies for the EventStats manager
      * @param settingsAccessor
@@ -62,6 +72,18 @@ public class EventStatsManager {
         }
     }
 
+    /**
+     *  Instance level method to add an amount to the counter for a specified event statistic.
+     *
+     * @param eventStatName The name of the event stat to add to
+     * @param value The amount to add
+     */
+    public void addValue(EventStatName eventStatName, long value) {
+        if (settingsAccessor.isStatsEnabled()) {
+            eventStatName.getEventStat().add(value);
+        }
+    }
+
     /**
      * Retrieves snapshots of specified event statistics.
      *
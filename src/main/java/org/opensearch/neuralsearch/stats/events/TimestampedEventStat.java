@@ -55,15 +55,23 @@ public class TimestampedEventStat implements EventStat {
      * Increments the counter
      */
     public void increment() {
-        totalCounter.increment();
+        add(1);
+    }
+
+    /**
+     * Increments the counter by the given amount, used by stats that accumulate quantities such as sizes or durations
+     * @param value amount to add
+     */
+    public void add(long value) {
+        totalCounter.add(value);
         lastEventTimestamp = getCurrentTimeInMillis();
-        incrementCurrentBucket();
+        addToCurrentBucket(value);
     }
 
     /**
      * Helper to increment the current bucket based on system time
      */
-    private void incrementCurrentBucket() {
+    private void addToCurrentBucket(long value) {
         long now = getCurrentTimeInMillis();
 
         // Align current time to current minute
@@ -79,7 +87,7 @@ public class TimestampedEventStat implements EventStat {
         if (bucketTimestamp != currentBucketTime && bucket.timestamp.compareAndSet(bucketTimestamp, currentBucketTime)) {
             bucket.count.reset();
         }
-        bucket.count.add(1);
+        bucket.count.add(value);
     }
 
     /**
@@ -5,16 +5,31 @@
 package org.opensearch.neuralsearch.util;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettings;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeDisconnectedException;
 import org.opensearch.transport.NodeNotConnectedException;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import org.opensearch.common.Randomness;
 
+/**
+ * Retries ml-commons calls that failed because of transient connection issues. Retries are scheduled on the
+ * {@link ThreadPool} scheduler with exponential backoff instead of blocking the thread that delivered the failure,
+ * and are bounded by a per-request deadline and by a node-wide budget of retries waiting for their backoff.
+ */
 @Log4j2
 public class RetryUtil {
 
@@ -24,27 +39,91 @@ public class RetryUtil {
         NodeNotConnectedException.class,
         NodeDisconnectedException.class
     );
+    private static final AtomicInteger RETRIES_IN_FLIGHT = new AtomicInteger();
+
+    private static volatile ThreadPool threadPool;
+    private static volatile NeuralSearchSettingsAccessor settingsAccessor;
+
+    /**
+     * Initializes the thread pool used to schedule retries and the accessor of retry settings
+     * @param threadPool OpenSearch's thread pool instance, retries run inline without backoff when it is null
+     * @param settingsAccessor settings accessor singleton instance, default settings are used when it is null
+     */
+    public static void initialize(final ThreadPool threadPool, final NeuralSearchSettingsAccessor settingsAccessor) {
+        RetryUtil.threadPool = threadPool;
+        RetryUtil.settingsAccessor = settingsAccessor;
+        RETRIES_IN_FLIGHT.set(0);
+    }
 
     /**
      * Handle retry or failure based on the exception and retry time
      * @param e Exception
      * @param retryTime Retry time
+     * @param startTimeInNanos time of the first attempt of the request as returned by {@link System#nanoTime()}
      * @param retryAction Action to retry
      * @param listener Listener to handle success or failure
      */
-    public static void handleRetryOrFailure(Exception e, int retryTime, Runnable retryAction, ActionListener<?> listener) {
-        if (shouldRetry(e, retryTime)) {
-            long backoffTime = calculateBackoffTime(retryTime);
-            log.warn("Retrying connection for ML inference due to [{}] after [{}ms]", e.getMessage(), backoffTime, e);
+    public static void handleRetryOrFailure(
+        final Exception e,
+        final int retryTime,
+        final long startTimeInNanos,
+        final Runnable retryAction,
+        final ActionListener<?> listener
+    ) {
+        if (shouldRetry(e, retryTime) == false) {
+            listener.onFailure(e);
+            return;
+        }
+        long backoffTime = calculateBackoffTime(retryTime);
+        if (isWithinDeadline(startTimeInNanos, backoffTime) == false) {
+            log.warn("Dropping retry of ML inference after [{}] retries, request deadline would be exceeded", retryTime);
+            EventStatsManager.increment(EventStatName.ML_INFERENCE_RETRIES_DROPPED);
+            listener.onFailure(e);
+            return;
+        }
+        if (tryAcquireRetryPermit() == false) {
+            log.warn("Dropping retry of ML inference, limit of [{}] retries in flight reached", getMaxRetriesInFlight());
+            EventStatsManager.increment(EventStatName.ML_INFERENCE_RETRIES_DROPPED);
+            listener.onFailure(e);
+            return;
+        }
+        EventStatsManager.increment(EventStatName.ML_INFERENCE_RETRIES_ISSUED);
+        log.warn("Retrying connection for ML inference due to [{}] after [{}ms]", e.getMessage(), backoffTime, e);
+        scheduleRetry(e, backoffTime, retryAction, listener);
+    }
+
+    @VisibleForTesting
+    static int getRetriesInFlight() {
+        return RETRIES_IN_FLIGHT.get();
+    }
+
+    private static void scheduleRetry(
+        final Exception e,
+        final long backoffTime,
+        final Runnable retryAction,
+        final ActionListener<?> listener
+    ) {
+        final ThreadPool currentThreadPool = threadPool;
+        final Runnable releasingRetryAction = () -> {
+            RETRIES_IN_FLIGHT.decrementAndGet();
             try {
-                Thread.sleep(backoffTime);
-            } catch (InterruptedException interruptedException) {
-                Thread.currentThread().interrupt();
-                listener.onFailure(interruptedException);
-                return;
+                retryAction.run();
+            } catch (Exception retryException) {
+                listener.onFailure(retryException);
             }
-            retryAction.run();
-        } else {
+        };
+        if (currentThreadPool == null) {
+            // no scheduler available, e.g. before the plugin components are created, run the retry on the calling thread
+            releasingRetryAction.run();
+            return;
+        }
+        try {
+            currentThreadPool.schedule(releasingRetryAction, TimeValue.timeValueMillis(backoffTime), ThreadPool.Names.GENERIC);
+        } catch (Exception scheduleException) {
+            // scheduler rejected the task, e.g. the node is shutting down, release the permit and report the original failure
+            RETRIES_IN_FLIGHT.decrementAndGet();
+            log.warn("Failed to schedule retry of ML inference", scheduleException);
+            EventStatsManager.increment(EventStatName.ML_INFERENCE_RETRIES_DROPPED);
             listener.onFailure(e);
         }
     }
@@ -57,6 +136,38 @@ public class RetryUtil {
         return RETRYABLE_EXCEPTIONS.stream().anyMatch(x -> ExceptionUtils.indexOfThrowable(e, x) != -1);
     }
 
+    private static boolean isWithinDeadline(final long startTimeInNanos, final long backoffTime) {
+        long elapsedAfterBackoffNanos = System.nanoTime() - startTimeInNanos + TimeUnit.MILLISECONDS.toNanos(backoffTime);
+        return elapsedAfterBackoffNanos <= getRetryTimeout().nanos();
+    }
+
+    private static boolean tryAcquireRetryPermit() {
+        final int maxRetriesInFlight = getMaxRetriesInFlight();
+        while (true) {
+            int current = RETRIES_IN_FLIGHT.get();
+            if (current >= maxRetriesInFlight) {
+                return false;
+            }
+            if (RETRIES_IN_FLIGHT.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static TimeValue getRetryTimeout() {
+        NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor == null
+            ? NeuralSearchSettings.ML_INFERENCE_RETRY_TIMEOUT.getDefault(Settings.EMPTY)
+            : accessor.getMlInferenceRetryTimeout();
+    }
+
+    private static int getMaxRetriesInFlight() {
+        NeuralSearchSettingsAccessor accessor = settingsAccessor;
+        return accessor == null
+            ? NeuralSearchSettings.ML_INFERENCE_RETRY_MAX_IN_FLIGHT.getDefault(Settings.EMPTY)
+            : accessor.getMlInferenceRetryMaxInFlight();
+    }
+
     private static long calculateBackoffTime(int retryTime) {
         long backoffTime = DEFAULT_BASE_DELAY_MS * (1L << retryTime); // Exponential backoff
         long jitter = Randomness.get().nextLong(10, 50); // Add jitter between 10ms and 50ms
@@ -320,75 +320,84 @@ public class SemanticMappingUtils {
             if (indexMetadata == null) {
                 continue;
             }
-            final MappingMetadata mappingMetadata = indexMetadata.mapping();
-            final NeuralQueryTargetFieldConfig.NeuralQueryTargetFieldConfigBuilder targetFieldConfigBuilder = NeuralQueryTargetFieldConfig
-                .builder();
-            if (mappingMetadata == null) {
-                indexToTargetFieldConfigMap.put(
-                    indexMetadata.getIndex().toString(),
-                    targetFieldConfigBuilder.isUnmappedField(true).build()
-                );
-                continue;
-            }
-            final Map<String, Object> mappings = mappingMetadata.sourceAsMap();
-            final Map<String, Object> targetFieldConfig = SemanticMappingUtils.getFieldConfigByPath(mappings, fieldName);
-            if (targetFieldConfig == null) {
-                indexToTargetFieldConfigMap.put(
-                    indexMetadata.getIndex().toString(),
-                    targetFieldConfigBuilder.isUnmappedField(true).build()
-                );
-                continue;
+            indexToTargetFieldConfigMap.put(
+                indexMetadata.getIndex().toString(),
+                getTargetFieldConfigFromIndexMetadata(fieldName, indexMetadata)
+            );
+        }
+
+        return indexToTargetFieldConfigMap;
+    }
+
+    /**
+     * Extract the target field config from the mapping of a single index based on the field name. The mapping source
+     * is decompressed and parsed on every call.
+     * @param fieldName full path to the target field
+     * @param indexMetadata metadata of the target index
+     * @return target field config
+     */
+    public static NeuralQueryTargetFieldConfig getTargetFieldConfigFromIndexMetadata(
+        @NonNull final String fieldName,
+        @NonNull final IndexMetadata indexMetadata
+    ) {
+        final MappingMetadata mappingMetadata = indexMetadata.mapping();
+        final NeuralQueryTargetFieldConfig.NeuralQueryTargetFieldConfigBuilder targetFieldConfigBuilder = NeuralQueryTargetFieldConfig
+            .builder();
+        if (mappingMetadata == null) {
+            return targetFieldConfigBuilder.isUnmappedField(true).build();
+        }
+        final Map<String, Object> mappings = mappingMetadata.sourceAsMap();
+        final Map<String, Object> targetFieldConfig = SemanticMappingUtils.getFieldConfigByPath(mappings, fieldName);
+        if (targetFieldConfig == null) {
+            return targetFieldConfigBuilder.isUnmappedField(true).build();
+        }
+        targetFieldConfigBuilder.isUnmappedField(false);
+        final Object targetFieldTypeObject = targetFieldConfig.get(TYPE);
+        if (!(targetFieldTypeObject instanceof String targetFieldType)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Failed to process the neural query against the field [%s] because it is an object field.",
+                    fieldName
+                )
+            );
+        }
+
+        if (SemanticFieldMapper.CONTENT_TYPE.equals(targetFieldType)) {
+            final Map<String, Object> embeddingFieldConfig = getSemanticEmbeddingFieldConfig(
+                fieldName,
+                targetFieldConfig,
+                mappings,
+                targetFieldConfigBuilder
+            );
+            final String embeddingFieldType = (String) embeddingFieldConfig.get(TYPE);
+            String semanticFieldSearchAnalyzer = null;
+            if (targetFieldConfig.containsKey(SEMANTIC_FIELD_SEARCH_ANALYZER)) {
+                semanticFieldSearchAnalyzer = (String) targetFieldConfig.get(SEMANTIC_FIELD_SEARCH_ANALYZER);
             }
-            targetFieldConfigBuilder.isUnmappedField(false);
-            final Object targetFieldTypeObject = targetFieldConfig.get(TYPE);
-            if (!(targetFieldTypeObject instanceof String targetFieldType)) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        Locale.ROOT,
-                        "Failed to process the neural query against the field [%s] because it is an object field.",
-                        fieldName
-                    )
-                );
+            // If we have search model id we should use it otherwise fall back to use the model id.
+            String searchModelId = (String) targetFieldConfig.get(MODEL_ID);
+            if (targetFieldConfig.containsKey(SEARCH_MODEL_ID)) {
+                searchModelId = (String) targetFieldConfig.get(SEARCH_MODEL_ID);
             }
-
-            if (SemanticFieldMapper.CONTENT_TYPE.equals(targetFieldType)) {
-                final Map<String, Object> embeddingFieldConfig = getSemanticEmbeddingFieldConfig(
+            targetFieldConfigBuilder.embeddingFieldType(embeddingFieldType);
+            targetFieldConfigBuilder.searchModelId(searchModelId);
+            targetFieldConfigBuilder.isSemanticField(Boolean.TRUE);
+            targetFieldConfigBuilder.semanticFieldSearchAnalyzer(semanticFieldSearchAnalyzer);
+        } else if (KNNVectorFieldMapper.CONTENT_TYPE.equals(targetFieldType)) {
+            targetFieldConfigBuilder.isSemanticField(Boolean.FALSE);
+            targetFieldConfigBuilder.embeddingFieldType(targetFieldType);
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Failed to process the neural query against the field %s because its type is not supported. It should be one of [%s]",
                     fieldName,
-                    targetFieldConfig,
-                    mappings,
-                    targetFieldConfigBuilder
-                );
-                final String embeddingFieldType = (String) embeddingFieldConfig.get(TYPE);
-                String semanticFieldSearchAnalyzer = null;
-                if (targetFieldConfig.containsKey(SEMANTIC_FIELD_SEARCH_ANALYZER)) {
-                    semanticFieldSearchAnalyzer = (String) targetFieldConfig.get(SEMANTIC_FIELD_SEARCH_ANALYZER);
-                }
-                // If we have search model id we should use it otherwise fall back to use the model id.
-                String searchModelId = (String) targetFieldConfig.get(MODEL_ID);
-                if (targetFieldConfig.containsKey(SEARCH_MODEL_ID)) {
-                    searchModelId = (String) targetFieldConfig.get(SEARCH_MODEL_ID);
-                }
-                targetFieldConfigBuilder.embeddingFieldType(embeddingFieldType);
-                targetFieldConfigBuilder.searchModelId(searchModelId);
-                targetFieldConfigBuilder.isSemanticField(Boolean.TRUE);
-                targetFieldConfigBuilder.semanticFieldSearchAnalyzer(semanticFieldSearchAnalyzer);
-            } else if (KNNVectorFieldMapper.CONTENT_TYPE.equals(targetFieldType)) {
-                targetFieldConfigBuilder.isSemanticField(Boolean.FALSE);
-                targetFieldConfigBuilder.embeddingFieldType(targetFieldType);
-            } else {
-                throw new IllegalArgumentException(
-                    String.format(
-                        Locale.ROOT,
-                        "Failed to process the neural query against the field %s because its type is not supported. It should be one of [%s]",
-                        fieldName,
-                        String.join(",", SUPPORTED_TARGET_FIELD_TYPES)
-                    )
-                );
-            }
-            indexToTargetFieldConfigMap.put(indexMetadata.getIndex().toString(), targetFieldConfigBuilder.build());
+                    String.join(",", SUPPORTED_TARGET_FIELD_TYPES)
+                )
+            );
         }
-
-        return indexToTargetFieldConfigMap;
+        return targetFieldConfigBuilder.build();
     }
 
     private static Map<String, Object> getSemanticEmbeddingFieldConfig(
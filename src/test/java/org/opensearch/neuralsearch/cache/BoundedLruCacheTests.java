@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BoundedLruCacheTests extends OpenSearchTestCase {
+
+    private final AtomicLong nanoTime = new AtomicLong(0);
+    private final AtomicInteger evictions = new AtomicInteger(0);
+
+    public void testGet_whenKeyAbsent_thenReturnNull() {
+        BoundedLruCache<String, String> cache = createCache(10, 1000, 0);
+
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.count());
+    }
+
+    public void testPut_whenMaxEntriesExceeded_thenEvictLeastRecentlyUsed() {
+        BoundedLruCache<String, String> cache = createCache(2, 1000, 0);
+
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        // touch key1 so key2 becomes the least recently used entry
+        assertEquals("value1", cache.get("key1"));
+        cache.put("key3", "value3");
+
+        assertEquals(2, cache.count());
+        assertEquals("value1", cache.get("key1"));
+        assertNull(cache.get("key2"));
+        assertEquals("value3", cache.get("key3"));
+        assertEquals(1, evictions.get());
+    }
+
+    public void testPut_whenMaxWeightExceeded_thenEvictUntilFits() {
+        BoundedLruCache<String, String> cache = createCache(10, 12, 0);
+
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.put("c", "cccc");
+        assertEquals(12, cache.weightInBytes());
+
+        cache.put("d", "dddddddd");
+
+        assertEquals(2, cache.count());
+        assertEquals(12, cache.weightInBytes());
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(2, evictions.get());
+    }
+
+    public void testPut_whenValueHeavierThanLimit_thenSkip() {
+        BoundedLruCache<String, String> cache = createCache(10, 4, 0);
+
+        cache.put("key", "too long");
+
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weightInBytes());
+        assertEquals(0, evictions.get());
+    }
+
+    public void testPut_whenKeyExists_thenReplaceAndUpdateWeight() {
+        BoundedLruCache<String, String> cache = createCache(10, 100, 0);
+
+        cache.put("key", "value");
+        cache.put("key", "longer value");
+
+        assertEquals(1, cache.count());
+        assertEquals("longer value".length(), cache.weightInBytes());
+        assertEquals("longer value", cache.get("key"));
+    }
+
+    public void testGet_whenEntryExpired_thenReturnNullAndCountEviction() {
+        BoundedLruCache<String, String> cache = createCache(10, 100, 100);
+
+        cache.put("key", "value");
+        nanoTime.set(99);
+        assertEquals("value", cache.get("key"));
+        nanoTime.set(100);
+        assertNull(cache.get("key"));
+
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weightInBytes());
+        assertEquals(1, evictions.get());
+    }
+
+    public void testSetLimits_whenLimitsShrink_thenEvictImmediately() {
+        BoundedLruCache<String, String> cache = createCache(10, 100, 0);
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        cache.put("key3", "value3");
+
+        cache.setLimits(1, 100, 0);
+
+        assertEquals(1, cache.count());
+        assertEquals("value3", cache.get("key3"));
+        assertEquals(2, evictions.get());
+    }
+
+    public void testSetLimits_whenMaxEntriesZero_thenDisableCaching() {
+        BoundedLruCache<String, String> cache = createCache(10, 100, 0);
+        cache.setLimits(0, 100, 0);
+
+        cache.put("key", "value");
+
+        assertEquals(0, cache.count());
+        assertNull(cache.get("key"));
+    }
+
+    public void testInvalidateAll_thenClearWithoutEvictions() {
+        BoundedLruCache<String, String> cache = createCache(10, 100, 0);
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weightInBytes());
+        assertEquals(0, evictions.get());
+    }
+
+    public void testInvalidateIf_thenRemoveMatchingKeysWithoutEvictions() {
+        BoundedLruCache<String, String> cache = createCache(10, 100, 0);
+        cache.put("index1_key1", "value1");
+        cache.put("index1_key2", "value2");
+        cache.put("index2_key1", "value");
+
+        cache.invalidateIf(key -> key.startsWith("index1_"));
+
+        assertEquals(1, cache.count());
+        assertEquals(5, cache.weightInBytes());
+        assertEquals("value", cache.get("index2_key1"));
+        assertEquals(0, evictions.get());
+    }
+
+    private BoundedLruCache<String, String> createCache(int maxEntries, long maxWeight, long expireAfterNanos) {
+        return new BoundedLruCache<>(
+            maxEntries,
+            maxWeight,
+            expireAfterNanos,
+            (key, value) -> value.length(),
+            nanoTime::get,
+            evictions::incrementAndGet
+        );
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class HybridQueryResultCacheTests extends OpenSearchTestCase {
+    private static final int PAGINATION_DEPTH = 10;
+    private static final int TRACK_TOTAL_HITS_UP_TO = 10000;
+
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private Directory directory;
+    private IndexWriter writer;
+
+    @Before
+    @SneakyThrows
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridPaginationCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getHybridPaginationCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        HybridQueryResultCache.instance().initialize(settingsAccessor);
+        directory = new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig());
+        writer.addDocument(new Document());
+        writer.commit();
+    }
+
+    @After
+    @SneakyThrows
+    public void resetCache() {
+        HybridQueryResultCache.instance().initialize(null);
+        writer.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testGet_whenCached_thenReturnCopy() {
+        try (IndexReader reader = DirectoryReader.open(directory)) {
+            HybridQueryResultCache.CacheKey key = createKey(reader, "hello", PAGINATION_DEPTH);
+            List<TopDocsAndMaxScore> results = createResults();
+            HybridQueryResultCache.instance().put(reader.getReaderCacheHelper(), key, results);
+            results.get(0).topDocs.scoreDocs[0].score = 100.0f;
+
+            List<TopDocsAndMaxScore> cachedResults = HybridQueryResultCache.instance().get(key);
+            assertEquals(1, cachedResults.size());
+            assertEquals(0.5f, cachedResults.get(0).maxScore, 0.0f);
+            assertEquals(2, cachedResults.get(0).topDocs.totalHits.value());
+            assertEquals(0.5f, cachedResults.get(0).topDocs.scoreDocs[0].score, 0.0f);
+            cachedResults.get(0).topDocs.scoreDocs[1].score = 100.0f;
+            // results are served for an equal key
+            assertEquals(
+                0.2f,
+                HybridQueryResultCache.instance().get(createKey(reader, "hello", PAGINATION_DEPTH)).get(0).topDocs.scoreDocs[1].score,
+                0.0f
+            );
+            assertEquals(2, getStatValue(EventStatName.HYBRID_PAGINATION_CACHE_HITS));
+        }
+    }
+
+    @SneakyThrows
+    public void testGet_whenQueryOrPaginationDepthDiffers_thenMiss() {
+        try (IndexReader reader = DirectoryReader.open(directory)) {
+            putResults(reader, "hello");
+
+            assertNull(HybridQueryResultCache.instance().get(createKey(reader, "world", PAGINATION_DEPTH)));
+            assertNull(HybridQueryResultCache.instance().get(createKey(reader, "hello", PAGINATION_DEPTH + 1)));
+            assertEquals(2, getStatValue(EventStatName.HYBRID_PAGINATION_CACHE_MISSES));
+        }
+    }
+
+    @SneakyThrows
+    public void testPut_whenReaderClosed_thenEntriesOfReaderDropped() {
+        IndexReader reader = DirectoryReader.open(directory);
+        writer.addDocument(new Document());
+        writer.commit();
+        try (IndexReader newReader = DirectoryReader.open(directory)) {
+            putResults(reader, "hello");
+            putResults(reader, "world");
+            putResults(newReader, "hello");
+            assertEquals(3, HybridQueryResultCache.instance().count());
+
+            reader.close();
+
+            assertEquals(1, HybridQueryResultCache.instance().count());
+            assertNotNull(HybridQueryResultCache.instance().get(createKey(newReader, "hello", PAGINATION_DEPTH)));
+        }
+        assertEquals(0, HybridQueryResultCache.instance().count());
+    }
+
+    @SneakyThrows
+    public void testPut_whenMaxSizeExceeded_thenEvict() {
+        when(settingsAccessor.getHybridPaginationCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.KB));
+        HybridQueryResultCache.instance().updateLimits(settingsAccessor);
+        try (IndexReader reader = DirectoryReader.open(directory)) {
+            // queries that don't report their size are estimated to take 1kb
+            putResults(reader, "hello");
+
+            assertEquals(0, HybridQueryResultCache.instance().count());
+        }
+    }
+
+    @SneakyThrows
+    public void testCache_whenDisabled_thenNoop() {
+        when(settingsAccessor.isHybridPaginationCacheEnabled()).thenReturn(false);
+        try (IndexReader reader = DirectoryReader.open(directory)) {
+            HybridQueryResultCache.CacheKey key = createKey(reader, "hello", PAGINATION_DEPTH);
+            HybridQueryResultCache.instance().put(reader.getReaderCacheHelper(), key, createResults());
+
+            assertFalse(HybridQueryResultCache.instance().isEnabled());
+            assertEquals(0, HybridQueryResultCache.instance().count());
+            assertNull(HybridQueryResultCache.instance().get(key));
+            assertEquals(0, getStatValue(EventStatName.HYBRID_PAGINATION_CACHE_MISSES));
+        }
+    }
+
+    private void putResults(IndexReader reader, String text) {
+        HybridQueryResultCache.instance().put(reader.getReaderCacheHelper(), createKey(reader, text, PAGINATION_DEPTH), createResults());
+    }
+
+    private HybridQueryResultCache.CacheKey createKey(IndexReader reader, String text, int paginationDepth) {
+        return new HybridQueryResultCache.CacheKey(
+            reader.getReaderCacheHelper().getKey(),
+            new TermQuery(new Term("field", text)),
+            paginationDepth,
+            TRACK_TOTAL_HITS_UP_TO
+        );
+    }
+
+    private List<TopDocsAndMaxScore> createResults() {
+        TopDocs topDocs = new TopDocs(
+            new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+            new ScoreDoc[] { new ScoreDoc(0, 0.5f), new ScoreDoc(1, 0.2f) }
+        );
+        return List.of(new TopDocsAndMaxScore(topDocs, 0.5f));
+    }
+
+    private long getStatValue(EventStatName statName) {
+        return EventStatsManager.instance().getTimestampedEventStatSnapshots(EnumSet.of(statName)).get(statName).getValue();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.common.FloatVector;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class IngestInferenceCacheTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final String RESULT_TYPE = "text_embedding";
+    private static final String TEXT = "hello world";
+
+    private NeuralSearchSettingsAccessor settingsAccessor;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isIngestInferenceCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getIngestInferenceCacheMaxEntries()).thenReturn(2);
+        when(settingsAccessor.getIngestInferenceCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        when(settingsAccessor.getIngestInferenceCacheExpireAfter()).thenReturn(TimeValue.timeValueMinutes(10));
+        IngestInferenceCache.instance().initialize(settingsAccessor);
+    }
+
+    @After
+    public void resetCache() {
+        IngestInferenceCache.instance().initialize(null);
+    }
+
+    public void testGet_whenCached_thenReturnCopy() {
+        List<Float> vector = new ArrayList<>(List.of(1.0f, 2.0f));
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, vector);
+        vector.set(0, 100.0f);
+
+        @SuppressWarnings("unchecked")
+        List<Float> cachedVector = (List<Float>) IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, TEXT);
+        assertEquals(List.of(1.0f, 2.0f), cachedVector);
+        cachedVector.set(1, 100.0f);
+        assertEquals(List.of(1.0f, 2.0f), IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, TEXT));
+        assertEquals(2, getStatValue(EventStatName.INGEST_INFERENCE_CACHE_HITS));
+    }
+
+    public void testGet_whenFloatVectorCached_thenReturnCopy() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.0f, 2.0f });
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, vector);
+        vector.set(0, 100.0f);
+
+        FloatVector cachedVector = (FloatVector) IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, TEXT);
+        assertEquals(List.of(1.0f, 2.0f), cachedVector);
+        cachedVector.set(1, 100.0f);
+        assertEquals(List.of(1.0f, 2.0f), IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, TEXT));
+    }
+
+    public void testGet_whenKeyDiffers_thenMiss() {
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, List.of(1.0f));
+
+        assertNull(IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, "other text"));
+        assertNull(IngestInferenceCache.instance().get(MODEL_ID, "sparse_encoding", TEXT));
+        assertNull(IngestInferenceCache.instance().get("other_model", RESULT_TYPE, TEXT));
+        assertEquals(3, getStatValue(EventStatName.INGEST_INFERENCE_CACHE_MISSES));
+    }
+
+    public void testPut_whenSparseVector_thenCached() {
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, Map.of("hello", 1.0f));
+
+        assertEquals(Map.of("hello", 1.0f), IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, TEXT));
+    }
+
+    public void testPut_whenResultNotListOrMap_thenNotCached() {
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, "result");
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, null);
+
+        assertEquals(0, IngestInferenceCache.instance().count());
+    }
+
+    public void testPut_whenMaxEntriesExceeded_thenEvict() {
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, "text 1", List.of(1.0f));
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, "text 2", List.of(2.0f));
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, "text 3", List.of(3.0f));
+
+        assertEquals(2, IngestInferenceCache.instance().count());
+        assertNull(IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, "text 1"));
+        assertEquals(1, getStatValue(EventStatName.INGEST_INFERENCE_CACHE_EVICTIONS));
+    }
+
+    public void testCache_whenDisabled_thenNoop() {
+        when(settingsAccessor.isIngestInferenceCacheEnabled()).thenReturn(false);
+
+        IngestInferenceCache.instance().put(MODEL_ID, RESULT_TYPE, TEXT, List.of(1.0f));
+
+        assertFalse(IngestInferenceCache.instance().isEnabled(MODEL_ID));
+        assertEquals(0, IngestInferenceCache.instance().count());
+        assertNull(IngestInferenceCache.instance().get(MODEL_ID, RESULT_TYPE, TEXT));
+        assertEquals(0, getStatValue(EventStatName.INGEST_INFERENCE_CACHE_MISSES));
+    }
+
+    public void testRecordDuplicateText_thenCountedAsHit() {
+        IngestInferenceCache.instance().recordDuplicateText();
+
+        assertEquals(1, getStatValue(EventStatName.INGEST_INFERENCE_CACHE_HITS));
+    }
+
+    private long getStatValue(EventStatName statName) {
+        return EventStatsManager.instance().getTimestampedEventStatSnapshots(EnumSet.of(statName)).get(statName).getValue();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class QueryInferenceCacheTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final String QUERY_TEXT = "hello world";
+    private static final String QUERY_IMAGE = "base64image";
+
+    private NeuralSearchSettingsAccessor settingsAccessor;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isQueryInferenceCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getQueryInferenceCacheMaxEntries()).thenReturn(2);
+        when(settingsAccessor.getQueryInferenceCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        when(settingsAccessor.getQueryInferenceCacheExpireAfter()).thenReturn(TimeValue.timeValueMinutes(10));
+        QueryInferenceCache.instance().initialize(settingsAccessor);
+    }
+
+    @After
+    public void resetCache() {
+        QueryInferenceCache.instance().initialize(null);
+    }
+
+    public void testDenseVector_whenCached_thenReturnCopy() {
+        float[] vector = new float[] { 1.0f, 2.0f, 3.0f };
+        QueryInferenceCache.instance().putDenseVector(MODEL_ID, QUERY_TEXT, QUERY_IMAGE, vector);
+        vector[0] = 100.0f;
+
+        float[] cachedVector = QueryInferenceCache.instance().getDenseVector(MODEL_ID, QUERY_TEXT, QUERY_IMAGE);
+        assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f }, cachedVector, 0.0f);
+        cachedVector[1] = 100.0f;
+        assertArrayEquals(
+            new float[] { 1.0f, 2.0f, 3.0f },
+            QueryInferenceCache.instance().getDenseVector(MODEL_ID, QUERY_TEXT, QUERY_IMAGE),
+            0.0f
+        );
+        assertEquals(2, getStatValue(EventStatName.QUERY_INFERENCE_CACHE_HITS));
+    }
+
+    public void testDenseVector_whenInputDiffers_thenMiss() {
+        QueryInferenceCache.instance().putDenseVector(MODEL_ID, QUERY_TEXT, QUERY_IMAGE, new float[] { 1.0f });
+
+        assertNull(QueryInferenceCache.instance().getDenseVector(MODEL_ID, QUERY_TEXT, null));
+        assertNull(QueryInferenceCache.instance().getDenseVector(MODEL_ID, "other text", QUERY_IMAGE));
+        assertNull(QueryInferenceCache.instance().getDenseVector("other_model", QUERY_TEXT, QUERY_IMAGE));
+        assertEquals(3, getStatValue(EventStatName.QUERY_INFERENCE_CACHE_MISSES));
+    }
+
+    public void testSparseVector_whenCached_thenReturnCopy() {
+        QueryInferenceCache.instance().putSparseVector(MODEL_ID, QUERY_TEXT, Map.of("hello", 1.0f, "world", 2.0f));
+
+        Map<String, Float> queryTokens = QueryInferenceCache.instance().getSparseVector(MODEL_ID, QUERY_TEXT);
+        assertEquals(Map.of("hello", 1.0f, "world", 2.0f), queryTokens);
+        queryTokens.remove("hello");
+        assertEquals(Map.of("hello", 1.0f, "world", 2.0f), QueryInferenceCache.instance().getSparseVector(MODEL_ID, QUERY_TEXT));
+        // dense and sparse embeddings of the same input do not collide
+        assertNull(QueryInferenceCache.instance().getDenseVector(MODEL_ID, QUERY_TEXT, null));
+    }
+
+    public void testPut_whenMaxEntriesExceeded_thenEvict() {
+        QueryInferenceCache.instance().putDenseVector(MODEL_ID, "text 1", null, new float[] { 1.0f });
+        QueryInferenceCache.instance().putDenseVector(MODEL_ID, "text 2", null, new float[] { 2.0f });
+        QueryInferenceCache.instance().putDenseVector(MODEL_ID, "text 3", null, new float[] { 3.0f });
+
+        assertEquals(2, QueryInferenceCache.instance().count());
+        assertNull(QueryInferenceCache.instance().getDenseVector(MODEL_ID, "text 1", null));
+        assertEquals(1, getStatValue(EventStatName.QUERY_INFERENCE_CACHE_EVICTIONS));
+    }
+
+    public void testCache_whenDisabled_thenNoop() {
+        when(settingsAccessor.isQueryInferenceCacheEnabled()).thenReturn(false);
+
+        QueryInferenceCache.instance().putDenseVector(MODEL_ID, QUERY_TEXT, null, new float[] { 1.0f });
+
+        assertEquals(0, QueryInferenceCache.instance().count());
+        assertNull(QueryInferenceCache.instance().getDenseVector(MODEL_ID, QUERY_TEXT, null));
+        assertEquals(0, getStatValue(EventStatName.QUERY_INFERENCE_CACHE_MISSES));
+    }
+
+    public void testCache_whenModelIdNull_thenNoop() {
+        QueryInferenceCache.instance().putSparseVector(null, QUERY_TEXT, Map.of("hello", 1.0f));
+
+        assertEquals(0, QueryInferenceCache.instance().count());
+        assertNull(QueryInferenceCache.instance().getSparseVector(null, QUERY_TEXT));
+    }
+
+    private long getStatValue(EventStatName statName) {
+        return EventStatsManager.instance().getTimestampedEventStatSnapshots(EnumSet.of(statName)).get(statName).getValue();
+    }
+}
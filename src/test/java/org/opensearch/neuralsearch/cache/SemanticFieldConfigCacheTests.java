@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.neuralsearch.query.dto.NeuralQueryTargetFieldConfig;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SemanticFieldConfigCacheTests extends OpenSearchTestCase {
+    private static final String KNN_MAPPING = "{\"properties\":{\"embedding\":{\"type\":\"knn_vector\",\"dimension\":3}}}";
+    private static final String SEMANTIC_MAPPING =
+        "{\"properties\":{\"embedding\":{\"type\":\"semantic\",\"model_id\":\"model\"},"
+            + "\"embedding_semantic_info\":{\"properties\":{\"embedding\":{\"type\":\"knn_vector\",\"dimension\":3}}}}}";
+
+    public void testGetTargetFieldConfig_whenNotInitialized_thenMappingParsedOnEveryCall() {
+        SemanticFieldConfigCache cache = new SemanticFieldConfigCache();
+        IndexMetadata indexMetadata = createIndexMetadata("index", "uuid", KNN_MAPPING, 1);
+
+        NeuralQueryTargetFieldConfig config = cache.getTargetFieldConfig("embedding", indexMetadata);
+
+        assertFalse(config.getIsSemanticField());
+        assertEquals("knn_vector", config.getEmbeddingFieldType());
+        assertNotSame(config, cache.getTargetFieldConfig("embedding", indexMetadata));
+        assertEquals(0, cache.count());
+    }
+
+    public void testGetTargetFieldConfig_whenSameMappingVersion_thenCachedConfigReturned() {
+        SemanticFieldConfigCache cache = new SemanticFieldConfigCache();
+        ClusterService clusterService = mock(ClusterService.class);
+        cache.initialize(clusterService);
+        verify(clusterService).addListener(cache);
+        IndexMetadata indexMetadata = createIndexMetadata("index", "uuid", KNN_MAPPING, 1);
+
+        NeuralQueryTargetFieldConfig config = cache.getTargetFieldConfig("embedding", indexMetadata);
+        assertSame(config, cache.getTargetFieldConfig("embedding", indexMetadata));
+        NeuralQueryTargetFieldConfig unmappedConfig = cache.getTargetFieldConfig("unknown", indexMetadata);
+        assertTrue(unmappedConfig.getIsUnmappedField());
+        assertEquals(2, cache.count());
+
+        // new mapping version of the index replaces all configs of the previous version
+        IndexMetadata updatedIndexMetadata = createIndexMetadata("index", "uuid", SEMANTIC_MAPPING, 2);
+        NeuralQueryTargetFieldConfig updatedConfig = cache.getTargetFieldConfig("embedding", updatedIndexMetadata);
+        assertTrue(updatedConfig.getIsSemanticField());
+        assertEquals("model", updatedConfig.getSearchModelId());
+        assertEquals("embedding_semantic_info.embedding", updatedConfig.getEmbeddingFieldPath());
+        assertEquals(1, cache.count());
+
+        // request with older metadata doesn't replace configs of the newer mapping
+        assertFalse(cache.getTargetFieldConfig("embedding", indexMetadata).getIsSemanticField());
+        assertSame(updatedConfig, cache.getTargetFieldConfig("embedding", updatedIndexMetadata));
+    }
+
+    public void testGetIndexToTargetFieldConfigMap_whenMultipleIndices_thenConfigPerIndex() {
+        SemanticFieldConfigCache cache = new SemanticFieldConfigCache();
+        cache.initialize(mock(ClusterService.class));
+        IndexMetadata knnIndexMetadata = createIndexMetadata("knn-index", "uuid1", KNN_MAPPING, 1);
+        IndexMetadata semanticIndexMetadata = createIndexMetadata("semantic-index", "uuid2", SEMANTIC_MAPPING, 1);
+
+        Map<String, NeuralQueryTargetFieldConfig> configs = cache.getIndexToTargetFieldConfigMap(
+            "embedding",
+            Arrays.asList(knnIndexMetadata, null, semanticIndexMetadata)
+        );
+
+        assertEquals(2, configs.size());
+        assertFalse(configs.get(knnIndexMetadata.getIndex().toString()).getIsSemanticField());
+        assertTrue(configs.get(semanticIndexMetadata.getIndex().toString()).getIsSemanticField());
+        assertEquals(2, cache.count());
+    }
+
+    public void testGetTargetFieldConfig_whenInvalidMapping_thenExceptionNotCached() {
+        SemanticFieldConfigCache cache = new SemanticFieldConfigCache();
+        cache.initialize(mock(ClusterService.class));
+        IndexMetadata indexMetadata = createIndexMetadata("index", "uuid", "{\"properties\":{\"text\":{\"type\":\"text\"}}}", 1);
+
+        expectThrows(IllegalArgumentException.class, () -> cache.getTargetFieldConfig("text", indexMetadata));
+        expectThrows(IllegalArgumentException.class, () -> cache.getTargetFieldConfig("text", indexMetadata));
+        assertEquals(0, cache.count());
+    }
+
+    public void testClusterChanged_whenIndexDeletedOrMappingUpdated_thenConfigsDropped() {
+        SemanticFieldConfigCache cache = new SemanticFieldConfigCache();
+        cache.initialize(mock(ClusterService.class));
+        IndexMetadata unchangedIndexMetadata = createIndexMetadata("unchanged", "uuid1", KNN_MAPPING, 1);
+        IndexMetadata updatedIndexMetadata = createIndexMetadata("updated", "uuid2", KNN_MAPPING, 1);
+        IndexMetadata deletedIndexMetadata = createIndexMetadata("deleted", "uuid3", KNN_MAPPING, 1);
+        IndexMetadata recreatedIndexMetadata = createIndexMetadata("recreated", "uuid4", KNN_MAPPING, 1);
+        cache.getIndexToTargetFieldConfigMap(
+            "embedding",
+            List.of(unchangedIndexMetadata, updatedIndexMetadata, deletedIndexMetadata, recreatedIndexMetadata)
+        );
+        assertEquals(4, cache.count());
+
+        ClusterState previousState = createClusterState(
+            unchangedIndexMetadata,
+            updatedIndexMetadata,
+            deletedIndexMetadata,
+            recreatedIndexMetadata
+        );
+        ClusterState state = createClusterState(
+            unchangedIndexMetadata,
+            createIndexMetadata("updated", "uuid2", SEMANTIC_MAPPING, 2),
+            createIndexMetadata("recreated", "uuid5", KNN_MAPPING, 1)
+        );
+        cache.clusterChanged(new ClusterChangedEvent("test", state, previousState));
+
+        assertEquals(1, cache.count());
+        NeuralQueryTargetFieldConfig config = cache.getTargetFieldConfig("embedding", unchangedIndexMetadata);
+        assertSame(config, cache.getTargetFieldConfig("embedding", unchangedIndexMetadata));
+        assertEquals(1, cache.count());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+    }
+
+    @SneakyThrows
+    private IndexMetadata createIndexMetadata(String indexName, String uuid, String mapping, long mappingVersion) {
+        return IndexMetadata.builder(indexName)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, uuid)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            )
+            .putMapping(mapping)
+            .mappingVersion(mappingVersion)
+            .build();
+    }
+
+    private ClusterState createClusterState(IndexMetadata... indexMetadataList) {
+        Metadata.Builder metadata = Metadata.builder();
+        for (IndexMetadata indexMetadata : indexMetadataList) {
+            metadata.put(indexMetadata, false);
+        }
+        return ClusterState.builder(new ClusterName("test")).metadata(metadata).build();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.common;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FloatVectorTests extends OpenSearchTestCase {
+
+    public void testOf_whenNumbers_thenFloatValues() {
+        FloatVector vector = FloatVector.of(new Number[] { 1.5f, 2.5d, 3 });
+
+        assertEquals(3, vector.size());
+        assertEquals(2.5f, vector.getFloat(1), 0.0f);
+        assertEquals(List.of(1.5f, 2.5f, 3.0f), vector);
+        assertEquals(List.of(1.5f, 2.5f, 3.0f).hashCode(), vector.hashCode());
+    }
+
+    public void testToFloatArray_thenReturnCopy() {
+        float[] values = new float[] { 1.0f, 2.0f };
+        FloatVector vector = FloatVector.wrap(values);
+
+        float[] copy = vector.toFloatArray();
+        copy[0] = 100.0f;
+
+        assertEquals(1.0f, vector.getFloat(0), 0.0f);
+    }
+
+    public void testModify_thenUpdateValues() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.0f, 2.0f });
+
+        assertEquals(1.0f, vector.set(0, 5), 0.0f);
+        vector.addAll(List.of(3.0f, 4.0d));
+        vector.add(0, 0.5f);
+        assertEquals(2.0f, vector.remove(2), 0.0f);
+
+        assertEquals(List.of(0.5f, 5.0f, 3.0f, 4.0f), vector);
+        assertArrayEquals(new float[] { 0.5f, 5.0f, 3.0f, 4.0f }, vector.toFloatArray(), 0.0f);
+        expectThrows(IndexOutOfBoundsException.class, () -> vector.get(4));
+    }
+
+    public void testCopy_thenIndependentOfOriginal() {
+        FloatVector vector = FloatVector.wrap(new float[] { 1.0f, 2.0f });
+
+        FloatVector copy = vector.copy();
+        copy.set(0, 100.0f);
+
+        assertEquals(List.of(1.0f, 2.0f), vector);
+        assertEquals(List.of(100.0f, 2.0f), copy);
+    }
+
+    public void testToXContent_thenSameAsBoxedList() throws IOException {
+        XContentBuilder primitive = XContentFactory.jsonBuilder().map(Map.of("embedding", FloatVector.wrap(new float[] { 0.1f, 2.0f })));
+        XContentBuilder boxed = XContentFactory.jsonBuilder().map(Map.of("embedding", List.of(0.1f, 2.0f)));
+
+        assertEquals(boxed.toString(), primitive.toString());
+    }
+}
@@ -25,4 +25,12 @@ public class VectorUtilTests extends OpenSearchTestCase {
         assertEquals(0, vectorAsArray_withNoElements.length);
     }
 
+    public void testVectorAsListToArray_whenFloatVector_thenCopyOfValues() {
+        float[] values = new float[] { 1.3f, 2.5f, 3.5f };
+        float[] vectorAsArray = VectorUtil.vectorAsListToArray(FloatVector.wrap(values));
+
+        assertArrayEquals(values, vectorAsArray, 0.0f);
+        assertNotSame(values, vectorAsArray);
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.highlight;
+
+import org.apache.lucene.search.join.ScoreMode;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.neuralsearch.highlight.extractor.QueryBuilderTextExtractor;
+import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+import org.opensearch.neuralsearch.query.NeuralQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils.setUpClusterService;
+
+/**
+ * Tests for the extraction of query text from query builders
+ */
+public class QueryBuilderTextExtractorTests extends OpenSearchTestCase {
+
+    private static final String TEST_FIELD = "test_field";
+
+    private final QueryBuilderTextExtractor extractor = new QueryBuilderTextExtractor();
+
+    public void testExtractQueryText_whenNeuralQuery_thenQueryText() {
+        setUpClusterService();
+        NeuralQueryBuilder neuralQueryBuilder = NeuralQueryBuilder.builder()
+            .fieldName("embedding")
+            .queryText("semantic query")
+            .modelId("model_id")
+            .k(5)
+            .build();
+
+        assertEquals("semantic query", extractor.extractQueryText(neuralQueryBuilder, TEST_FIELD));
+    }
+
+    public void testExtractQueryText_whenTermOrMatchQuery_thenOnlyTextOfHighlightedField() {
+        assertEquals("term", extractor.extractQueryText(QueryBuilders.termQuery(TEST_FIELD, "term"), TEST_FIELD));
+        assertEquals("", extractor.extractQueryText(QueryBuilders.termQuery("other_field", "term"), TEST_FIELD));
+        assertEquals("match text", extractor.extractQueryText(QueryBuilders.matchQuery(TEST_FIELD, "match text"), TEST_FIELD));
+    }
+
+    public void testExtractQueryText_whenBoolQuery_thenSkipMustNot() {
+        BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery()
+            .must(QueryBuilders.termQuery(TEST_FIELD, "term1"))
+            .should(QueryBuilders.matchQuery(TEST_FIELD, "term2"))
+            .mustNot(QueryBuilders.termQuery(TEST_FIELD, "excluded"));
+
+        assertEquals("term1 term2", extractor.extractQueryText(boolQueryBuilder, TEST_FIELD));
+    }
+
+    public void testExtractQueryText_whenHybridAndNestedQuery_thenDistinctSubQueryTexts() {
+        HybridQueryBuilder hybridQueryBuilder = new HybridQueryBuilder();
+        hybridQueryBuilder.add(QueryBuilders.matchQuery(TEST_FIELD, "query text"));
+        hybridQueryBuilder.add(QueryBuilders.nestedQuery("nested", QueryBuilders.termQuery(TEST_FIELD, "query text"), ScoreMode.Avg));
+        hybridQueryBuilder.add(QueryBuilders.termQuery(TEST_FIELD, "other"));
+
+        assertEquals("query text other", extractor.extractQueryText(hybridQueryBuilder, TEST_FIELD));
+    }
+
+    public void testExtractQueryText_whenUnsupportedOrNullQuery_thenNull() {
+        assertNull(extractor.extractQueryText(QueryBuilders.matchAllQuery(), TEST_FIELD));
+        assertNull(extractor.extractQueryText(null, TEST_FIELD));
+    }
+}
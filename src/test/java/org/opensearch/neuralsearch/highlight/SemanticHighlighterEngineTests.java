@@ -330,4 +330,57 @@ public class SemanticHighlighterEngineTests extends OpenSearchTestCase {
         );
         assertFalse("Should not contain previous highlighting tags", result.contains("<mark>") || result.contains("</mark>"));
     }
+
+    public void testIsBatchInference() {
+        assertFalse(highlighterEngine.isBatchInference(new HashMap<>()));
+        assertFalse(highlighterEngine.isBatchInference(null));
+        assertTrue(highlighterEngine.isBatchInference(Map.of("batch_inference", true)));
+        assertFalse(highlighterEngine.isBatchInference(Map.of("batch_inference", false)));
+
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> highlighterEngine.isBatchInference(Map.of("batch_inference", "yes"))
+        );
+        assertEquals("batch_inference must be a boolean, but was String", exception.getMessage());
+    }
+
+    public void testGetHighlightedSentencesAsync() {
+        List<String> results = new ArrayList<>();
+
+        highlighterEngine.getHighlightedSentences(
+            MODEL_ID,
+            TEST_QUERY,
+            TEST_CONTENT,
+            "<em>",
+            "</em>",
+            ActionListener.wrap(results::add, e -> fail("unexpected failure"))
+        );
+
+        assertEquals(List.of("<em>This is a </em>test content. For highlighting purposes. With multiple sentences."), results);
+    }
+
+    public void testGetHighlightedSentencesAsyncWithInferenceFailure() {
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, Object>>> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("model failure"));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentenceHighlighting(any(SentenceHighlightingRequest.class), any());
+        List<Exception> exceptions = new ArrayList<>();
+
+        highlighterEngine.getHighlightedSentences(
+            MODEL_ID,
+            TEST_QUERY,
+            TEST_CONTENT,
+            "<em>",
+            "</em>",
+            ActionListener.wrap(result -> fail("unexpected result"), exceptions::add)
+        );
+
+        assertEquals(1, exceptions.size());
+        assertTrue(exceptions.getFirst() instanceof OpenSearchException);
+        assertEquals(
+            String.format(Locale.ROOT, "Error during sentence highlighting inference from model [%s]", MODEL_ID),
+            exceptions.getFirst().getMessage()
+        );
+    }
 }
@@ -35,6 +35,8 @@ import java.util.Map;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -170,6 +172,15 @@ public class SemanticHighlighterTests extends OpenSearchTestCase {
         assertTrue(exception.getMessage().contains("model_id"));
     }
 
+    public void testHighlightWithBatchInference_thenSkipInference() {
+        TermQuery termQuery = new TermQuery(new Term(TEST_FIELD, "test"));
+        FieldHighlightContext context = createHighlightContext(TEST_CONTENT, termQuery);
+        context.field.fieldOptions().options().put("batch_inference", true);
+
+        assertNull("Highlighting is left to the response processor", highlighter.highlight(context));
+        verify(mlCommonsClientAccessor, never()).inferenceSentenceHighlighting(any(), any());
+    }
+
     public void testHighlightWithNeuralKNNQuery() {
         String queryText = "semantic query";
         NeuralKNNQuery neuralQuery = new NeuralKNNQuery(new TermQuery(new Term(TEST_FIELD, "dummy")), queryText);
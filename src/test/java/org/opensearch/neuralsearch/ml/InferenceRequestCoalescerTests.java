@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class InferenceRequestCoalescerTests extends OpenSearchTestCase {
+    private static final InferenceRequestCoalescer.BatchKey BATCH_KEY = new InferenceRequestCoalescer.BatchKey(
+        "text_embedding_vector",
+        "model_id",
+        null,
+        null
+    );
+
+    private ThreadPool threadPool;
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private List<List<String>> dispatchedInputs;
+    private List<ActionListener<List<String>>> dispatchedListeners;
+    private BiConsumer<List<String>, ActionListener<List<String>>> dispatcher;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        threadPool = mock(ThreadPool.class);
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isInferenceCoalescingEnabled()).thenReturn(true);
+        when(settingsAccessor.getInferenceCoalescingWindow()).thenReturn(TimeValue.timeValueMillis(5));
+        when(settingsAccessor.getInferenceCoalescingMaxBatchSize()).thenReturn(3);
+        dispatchedInputs = new ArrayList<>();
+        dispatchedListeners = new ArrayList<>();
+        dispatcher = (inputTexts, listener) -> {
+            dispatchedInputs.add(inputTexts);
+            dispatchedListeners.add(listener);
+        };
+        InferenceRequestCoalescer.instance().initialize(threadPool, settingsAccessor);
+    }
+
+    @After
+    public void resetCoalescer() {
+        InferenceRequestCoalescer.instance().initialize(null, null);
+    }
+
+    public void testSubmit_whenDisabled_thenDispatchRightAway() {
+        when(settingsAccessor.isInferenceCoalescingEnabled()).thenReturn(false);
+        ActionListener<List<String>> listener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), listener, dispatcher, (results, count) -> results);
+
+        assertEquals(List.of(List.of("a")), dispatchedInputs);
+        assertSame(listener, dispatchedListeners.getFirst());
+        verifyNoInteractions(threadPool);
+    }
+
+    public void testSubmit_whenRequestHasMultipleTexts_thenDispatchRightAway() {
+        ActionListener<List<String>> listener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a", "b"), listener, dispatcher, (results, count) -> results);
+
+        assertEquals(List.of(List.of("a", "b")), dispatchedInputs);
+        assertEquals(0, InferenceRequestCoalescer.instance().pendingBatchCount());
+        verifyNoInteractions(threadPool);
+    }
+
+    public void testSubmit_whenRequestAsLargeAsBatch_thenDispatchRightAway() {
+        when(settingsAccessor.getInferenceCoalescingMaxBatchSize()).thenReturn(1);
+        ActionListener<List<String>> listener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), listener, dispatcher, (results, count) -> results);
+
+        assertEquals(List.of(List.of("a")), dispatchedInputs);
+        verifyNoInteractions(threadPool);
+    }
+
+    public void testSubmit_whenWindowElapses_thenDispatchOneBatchAndFanOutResults() {
+        ActionListener<List<String>> firstListener = mockListener();
+        ActionListener<List<String>> secondListener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), firstListener, dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("b"), secondListener, dispatcher, (results, count) -> results);
+
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), eq(TimeValue.timeValueMillis(5)), eq(ThreadPool.Names.GENERIC));
+        assertTrue(dispatchedInputs.isEmpty());
+        assertEquals(1, InferenceRequestCoalescer.instance().pendingBatchCount());
+
+        flushCaptor.getValue().run();
+
+        assertEquals(List.of(List.of("a", "b")), dispatchedInputs);
+        assertEquals(0, InferenceRequestCoalescer.instance().pendingBatchCount());
+        dispatchedListeners.getFirst().onResponse(List.of("result_a", "result_b"));
+        verify(firstListener).onResponse(List.of("result_a"));
+        verify(secondListener).onResponse(List.of("result_b"));
+        assertEquals(1, EventStatName.ML_INFERENCE_COALESCED_BATCHES.getEventStat().getValue());
+        assertEquals(2, EventStatName.ML_INFERENCE_COALESCED_REQUESTS.getEventStat().getValue());
+    }
+
+    public void testSubmit_whenBatchFull_thenDispatchWithoutWaitingForWindow() {
+        ActionListener<List<String>> firstListener = mockListener();
+        ActionListener<List<String>> secondListener = mockListener();
+        ActionListener<List<String>> thirdListener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), firstListener, dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("b"), secondListener, dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("c"), thirdListener, dispatcher, (results, count) -> results);
+
+        assertEquals(List.of(List.of("a", "b", "c")), dispatchedInputs);
+        dispatchedListeners.getFirst().onResponse(List.of("result_a", "result_b", "result_c"));
+        verify(firstListener).onResponse(List.of("result_a"));
+        verify(secondListener).onResponse(List.of("result_b"));
+        verify(thirdListener).onResponse(List.of("result_c"));
+
+        // the scheduled flush finds nothing to dispatch
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+        flushCaptor.getValue().run();
+        assertEquals(1, dispatchedInputs.size());
+    }
+
+    public void testSubmit_whenListenerFailsToHandleResponse_thenNotifyOnceAndContinueFanOut() {
+        ActionListener<List<String>> firstListener = mockListener();
+        ActionListener<List<String>> secondListener = mockListener();
+        doThrow(new IllegalStateException("listener failure")).when(firstListener).onResponse(any());
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), firstListener, dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("b"), secondListener, dispatcher, (results, count) -> results);
+        flushPendingBatch();
+        dispatchedListeners.getFirst().onResponse(List.of("result_a", "result_b"));
+
+        verify(firstListener).onResponse(List.of("result_a"));
+        verify(firstListener, never()).onFailure(any());
+        verify(secondListener).onResponse(List.of("result_b"));
+        verify(secondListener, never()).onFailure(any());
+    }
+
+    public void testSubmit_whenDifferentKeys_thenNotCoalesced() {
+        InferenceRequestCoalescer.BatchKey otherKey = new InferenceRequestCoalescer.BatchKey("text_embedding_vector", "other", null, null);
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), mockListener(), dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(otherKey, List.of("b"), mockListener(), dispatcher, (results, count) -> results);
+
+        assertEquals(2, InferenceRequestCoalescer.instance().pendingBatchCount());
+    }
+
+    public void testSubmit_whenBatchFails_thenFailAllListeners() {
+        ActionListener<List<String>> firstListener = mockListener();
+        ActionListener<List<String>> secondListener = mockListener();
+        RuntimeException exception = new RuntimeException("model failure");
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), firstListener, dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("b"), secondListener, dispatcher, (results, count) -> results);
+        flushPendingBatch();
+        dispatchedListeners.getFirst().onFailure(exception);
+
+        verify(firstListener).onFailure(exception);
+        verify(secondListener).onFailure(exception);
+    }
+
+    public void testSubmit_whenResultCountMismatch_thenDispatchRequestsOneByOne() {
+        ActionListener<List<String>> firstListener = mockListener();
+        ActionListener<List<String>> secondListener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), firstListener, dispatcher, (results, count) -> results);
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("b"), secondListener, dispatcher, (results, count) -> results);
+        flushPendingBatch();
+        dispatchedListeners.getFirst().onResponse(List.of("single_result"));
+
+        assertEquals(List.of(List.of("a", "b"), List.of("a"), List.of("b")), dispatchedInputs);
+        dispatchedListeners.get(1).onResponse(List.of("result_a"));
+        dispatchedListeners.get(2).onResponse(List.of("result_b"));
+        verify(firstListener).onResponse(List.of("result_a"));
+        verify(secondListener).onResponse(List.of("result_b"));
+    }
+
+    public void testSubmit_whenResultSplitterProvided_thenApplyToCoalescedResult() {
+        AtomicReference<Integer> splitterInputCount = new AtomicReference<>();
+        ActionListener<List<String>> firstListener = mockListener();
+        ActionListener<List<String>> secondListener = mockListener();
+
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("a"), firstListener, dispatcher, (results, count) -> {
+            splitterInputCount.set(count);
+            return List.of("x", "y");
+        });
+        InferenceRequestCoalescer.instance().submit(BATCH_KEY, List.of("b"), secondListener, dispatcher, (results, count) -> results);
+        flushPendingBatch();
+        dispatchedListeners.getFirst().onResponse(List.of("combined"));
+
+        assertEquals(Integer.valueOf(2), splitterInputCount.get());
+        verify(firstListener).onResponse(List.of("x"));
+        verify(secondListener).onResponse(List.of("y"));
+    }
+
+    private void flushPendingBatch() {
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(flushCaptor.capture(), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+        flushCaptor.getValue().run();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ActionListener<List<String>> mockListener() {
+        return mock(ActionListener.class);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceRequestSplitterTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private List<List<String>> pieceTexts;
+    private List<ActionListener<List<String>>> pieceListeners;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        InferenceRequestSplitter.initialize(settingsAccessor);
+        pieceTexts = new ArrayList<>();
+        pieceListeners = new ArrayList<>();
+    }
+
+    @After
+    public void resetSplitter() {
+        InferenceRequestSplitter.initialize(null);
+    }
+
+    public void testCutPieces_whenNoLimit_thenSinglePiece() {
+        assertEquals(List.of(3), InferenceRequestSplitter.cutPieces(List.of("a", "b", "c"), 0, 0));
+    }
+
+    public void testCutPieces_whenItemLimitReached_thenStartNewPiece() {
+        assertEquals(List.of(2, 4, 5), InferenceRequestSplitter.cutPieces(List.of("a", "b", "c", "d", "e"), 2, 0));
+    }
+
+    public void testCutPieces_whenCharLimitReached_thenStartNewPiece() {
+        // a text longer than the limit is sent alone
+        assertEquals(List.of(2, 3, 4), InferenceRequestSplitter.cutPieces(List.of("aa", "bbb", "cccccccc", "d"), 0, 5));
+    }
+
+    public void testDispatch_whenWithinLimits_thenSingleCallWithOriginalTexts() {
+        when(settingsAccessor.getMlInferenceMaxItemsPerCall(MODEL_ID)).thenReturn(3);
+        final List<String> inputTexts = List.of("a", "b");
+        final List<List<String>> responses = new ArrayList<>();
+
+        dispatch(inputTexts, ActionListener.wrap(responses::add, e -> fail("unexpected failure")));
+        pieceListeners.getFirst().onResponse(List.of("result_a", "result_b"));
+
+        assertSame(inputTexts, pieceTexts.getFirst());
+        assertEquals(List.of(List.of("result_a", "result_b")), responses);
+        assertEquals(0, EventStatName.ML_INFERENCE_SPLIT_REQUESTS.getEventStat().getValue());
+    }
+
+    public void testDispatch_whenOverLimits_thenConcurrentCallsAndResultsInOrder() {
+        when(settingsAccessor.getMlInferenceMaxItemsPerCall(MODEL_ID)).thenReturn(2);
+        final List<List<String>> responses = new ArrayList<>();
+
+        dispatch(List.of("a", "b", "c"), ActionListener.wrap(responses::add, e -> fail("unexpected failure")));
+
+        // every piece is sent before any of them completes
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), pieceTexts);
+        pieceListeners.get(1).onResponse(List.of("result_c"));
+        assertTrue(responses.isEmpty());
+        pieceListeners.get(0).onResponse(List.of("result_a", "result_b"));
+
+        assertEquals(List.of(List.of("result_a", "result_b", "result_c")), responses);
+        assertEquals(1, EventStatName.ML_INFERENCE_SPLIT_REQUESTS.getEventStat().getValue());
+        assertEquals(2, EventStatName.ML_INFERENCE_SPLIT_PIECES.getEventStat().getValue());
+    }
+
+    public void testDispatch_whenPieceFails_thenFailOnce() {
+        when(settingsAccessor.getMlInferenceMaxCharsPerCall(MODEL_ID)).thenReturn(1);
+        final List<Exception> exceptions = new ArrayList<>();
+        final RuntimeException exception = new RuntimeException("model failure");
+
+        dispatch(List.of("a", "b", "c"), ActionListener.wrap(results -> fail("unexpected results"), exceptions::add));
+        pieceListeners.get(0).onFailure(exception);
+        pieceListeners.get(1).onResponse(List.of("result_b"));
+        pieceListeners.get(2).onFailure(new RuntimeException("another failure"));
+
+        assertEquals(List.of(exception), exceptions);
+    }
+
+    public void testDispatch_whenResultCountMismatch_thenFail() {
+        when(settingsAccessor.getMlInferenceMaxItemsPerCall(MODEL_ID)).thenReturn(2);
+        final List<Exception> exceptions = new ArrayList<>();
+
+        dispatch(List.of("a", "b", "c"), ActionListener.wrap(results -> fail("unexpected results"), exceptions::add));
+        pieceListeners.get(0).onResponse(List.of("result_a"));
+
+        assertEquals(1, exceptions.size());
+        assertEquals("expected [2] inference results but got [1]", exceptions.getFirst().getMessage());
+    }
+
+    private void dispatch(final List<String> inputTexts, final ActionListener<List<String>> listener) {
+        InferenceRequestSplitter.dispatch(MODEL_ID, inputTexts, listener, (texts, pieceListener) -> {
+            pieceTexts.add(texts);
+            pieceListeners.add(pieceListener);
+        }, (results, inputCount) -> results);
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -27,6 +28,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.MLModel;
@@ -36,9 +38,15 @@ import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.neuralsearch.common.FloatVector;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
+import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.processor.highlight.SentenceHighlightingRequest;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 
 public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
@@ -61,6 +69,10 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
     @Before
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        TestUtils.initializeEventStatsManager();
+        RetryUtil.initialize(null, null);
+        InferenceRequestCoalescer.instance().initialize(null, null);
+        InferenceRequestSplitter.initialize(null);
     }
 
     public void testInferenceSentence_whenValidInput_thenSuccess() {
@@ -93,6 +105,47 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentences_whenFloatTensor_thenPrimitiveVector() {
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(new Number[] { 1.5d, 2.5d }, MLResultDataType.FLOAT32));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        final ArgumentCaptor<List<List<Number>>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(resultListener).onResponse(vectorsCaptor.capture());
+        final List<Number> vector = vectorsCaptor.getValue().getFirst();
+        assertTrue(vector instanceof FloatVector);
+        assertEquals(List.of(1.5f, 2.5f), vector);
+    }
+
+    public void testInferenceSentences_whenFloat32TensorOfDoubles_thenNarrowedToFloat() {
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(new Number[] { 0.1d, 0.2d }, MLResultDataType.FLOAT32));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        final ArgumentCaptor<List<List<Number>>> vectorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(resultListener).onResponse(vectorsCaptor.capture());
+        final List<Number> vector = vectorsCaptor.getValue().getFirst();
+        assertEquals(List.of(0.1f, 0.2f), vector);
+        assertNotEquals(0.1d, vector.getFirst().doubleValue(), 0.0d);
+    }
+
+    public void testInferenceSentences_whenDoubleTensor_thenKeepModelValues() {
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(new Number[] { 1.1d, 2.2d }, MLResultDataType.FLOAT64));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        accessor.inferenceSentences(TestCommonConstants.TEXT_INFERENCE_REQUEST, resultListener);
+
+        verify(resultListener).onResponse(List.of(List.of(1.1d, 2.2d)));
+    }
+
     public void testInferenceSentences_whenResultFromClient_thenEmptyVectorList() {
         final List<List<Number>> vectorList = new ArrayList<>();
         vectorList.add(Collections.emptyList());
@@ -190,6 +243,58 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verifyNoMoreInteractions(resultListener);
     }
 
+    public void testInferenceSentencesWithMapResult_whenCoalesced_thenSplitResponsePerRequest() {
+        final NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isInferenceCoalescingEnabled()).thenReturn(true);
+        when(settingsAccessor.getInferenceCoalescingWindow()).thenReturn(TimeValue.timeValueMillis(5));
+        when(settingsAccessor.getInferenceCoalescingMaxBatchSize()).thenReturn(2);
+        InferenceRequestCoalescer.instance().initialize(mock(ThreadPool.class), settingsAccessor);
+        final Map<String, Float> firstTokens = Map.of("hello", 1.0f);
+        final Map<String, Float> secondTokens = Map.of("world", 2.0f);
+        final ActionListener<List<Map<String, ?>>> firstListener = mock(ActionListener.class);
+        final ActionListener<List<Map<String, ?>>> secondListener = mock(ActionListener.class);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(Map.of("response", List.of(firstTokens, secondTokens))));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("hello")).build(),
+            firstListener
+        );
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("world")).build(),
+            secondListener
+        );
+
+        verify(client, times(1)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        verify(firstListener).onResponse(List.of(Map.of("response", List.of(firstTokens))));
+        verify(secondListener).onResponse(List.of(Map.of("response", List.of(secondTokens))));
+    }
+
+    public void testInferenceSentencesWithMapResult_whenOverModelItemLimit_thenSplitIntoCallsAndMergeResults() {
+        final NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.getMlInferenceMaxItemsPerCall(TestCommonConstants.MODEL_ID)).thenReturn(1);
+        InferenceRequestSplitter.initialize(settingsAccessor);
+        final Map<String, Float> tokens = Map.of("hello", 1.0f);
+        final ActionListener<List<Map<String, ?>>> resultListener = mock(ActionListener.class);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createModelTensorOutput(Map.of("response", List.of(tokens))));
+            return null;
+        }).when(client).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+
+        accessor.inferenceSentencesWithMapResult(
+            TextInferenceRequest.builder().modelId(TestCommonConstants.MODEL_ID).inputTexts(List.of("hello", "hello")).build(),
+            resultListener
+        );
+
+        verify(client, times(2)).predict(eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        verify(resultListener).onResponse(List.of(Map.of("response", List.of(tokens)), Map.of("response", List.of(tokens))));
+        Mockito.verifyNoMoreInteractions(resultListener);
+    }
+
     public void testInferenceSentencesWithMapResult_whenTensorOutputListEmpty_thenException() {
         final ActionListener<List<Map<String, ?>>> resultListener = mock(ActionListener.class);
         final ModelTensorOutput modelTensorOutput = new ModelTensorOutput(Collections.emptyList());
@@ -519,6 +624,11 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         return new ModelTensorOutput(tensorsList);
     }
 
+    private ModelTensorOutput createModelTensorOutput(final Number[] data, final MLResultDataType dataType) {
+        final ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(data).dataType(dataType).build();
+        return new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+    }
+
     private ModelTensorOutput createModelTensorOutput(final Map<String, Object> map) {
         final List<ModelTensors> tensorsList = new ArrayList<>();
         final List<ModelTensor> mlModelTensorList = new ArrayList<>();
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -11,9 +12,24 @@ import java.util.List;
 import org.apache.commons.lang3.RandomUtils;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.query.QuerySearchResult;
+
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocStartStopElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createScoreStatisticsElementsForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
 
 public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
     private static final SearchShard SEARCH_SHARD = new SearchShard("my_index", 0, "12345678");
@@ -69,6 +85,25 @@ public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
         assertEquals(2, compoundTopDocs.getScoreDocs().size());
     }
 
+    public void testBasics_whenSubQueryScoresUpdated_thenScoreDocsKeepRawScores() {
+        ScoreDoc[] subQueryScoreDocs = new ScoreDoc[] { new ScoreDoc(2, 5.0f), new ScoreDoc(4, 3.0f) };
+        TopDocs topDocs = new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), subQueryScoreDocs);
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(
+            new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+            List.of(topDocs),
+            false,
+            SEARCH_SHARD
+        );
+
+        // normalization updates scores of sub-query score docs in place
+        subQueryScoreDocs[0].score = 1.0f;
+        subQueryScoreDocs[1].score = 0.0f;
+
+        assertEquals(5.0f, compoundTopDocs.getScoreDocs().get(0).score, 0.0f);
+        assertEquals(3.0f, compoundTopDocs.getScoreDocs().get(1).score, 0.0f);
+        assertNotSame(subQueryScoreDocs[0], compoundTopDocs.getScoreDocs().get(0));
+    }
+
     public void testBasics_whenMultipleTopDocsIsNull_thenScoreDocsIsNull() {
         CompoundTopDocs compoundTopDocs = new CompoundTopDocs(
             new TotalHits(0, TotalHits.Relation.EQUAL_TO),
@@ -237,4 +272,117 @@ public class CompoundTopDocsTests extends OpenSearchQueryTestCase {
 
         assertNotEquals("not a CompoundTopDocs", compoundTopDocs);
     }
+    public void testCreate_whenQuerySearchResultWithCollapse_thenHitsAndCollapseValuesSplitPerSubQuery() {
+        Object[] fields = new Object[] { 1 };
+        FieldDoc fieldDoc1 = new FieldDoc(0, 0.9f, new Object[] { 0.9f });
+        FieldDoc fieldDoc2 = new FieldDoc(3, 0.5f, new Object[] { 0.5f });
+        FieldDoc fieldDoc3 = new FieldDoc(2, 0.7f, new Object[] { 0.7f });
+        CollapseTopFieldDocs collapseTopFieldDocs = new CollapseTopFieldDocs(
+            "category",
+            new TotalHits(3, TotalHits.Relation.EQUAL_TO),
+            new ScoreDoc[] {
+                createFieldDocStartStopElementForHybridSearchResults(0, fields),
+                createFieldDocDelimiterElementForHybridSearchResults(0, fields),
+                fieldDoc1,
+                fieldDoc2,
+                createFieldDocDelimiterElementForHybridSearchResults(0, fields),
+                createFieldDocDelimiterElementForHybridSearchResults(0, fields),
+                fieldDoc3,
+                createFieldDocStartStopElementForHybridSearchResults(0, fields) },
+            new SortField[] { SortField.FIELD_SCORE },
+            new Object[] { 0, 0, "a", "b", 0, 0, "c", 0 }
+        );
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(new TopDocsAndMaxScore(collapseTopFieldDocs, 0.9f), new DocValueFormat[] { DocValueFormat.RAW });
+        SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("my_index", "uuid", 0), null, OriginalIndices.NONE);
+        querySearchResult.setSearchShardTarget(searchShardTarget);
+
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+
+        List<TopDocs> topDocs = compoundTopDocs.getTopDocs();
+        assertEquals(3, topDocs.size());
+        CollapseTopFieldDocs subQueryTopDocs1 = (CollapseTopFieldDocs) topDocs.get(0);
+        assertArrayEquals(new ScoreDoc[] { fieldDoc1, fieldDoc2 }, subQueryTopDocs1.scoreDocs);
+        assertArrayEquals(new Object[] { "a", "b" }, subQueryTopDocs1.collapseValues);
+        assertEquals(2, subQueryTopDocs1.totalHits.value());
+        assertEquals(0, topDocs.get(1).scoreDocs.length);
+        assertEquals(0, ((CollapseTopFieldDocs) topDocs.get(1)).collapseValues.length);
+        assertArrayEquals(new ScoreDoc[] { fieldDoc3 }, topDocs.get(2).scoreDocs);
+        assertArrayEquals(new Object[] { "c" }, ((CollapseTopFieldDocs) topDocs.get(2)).collapseValues);
+        // score docs of the largest sub-query are copied, normalization updates scores of sub-query score docs in place
+        assertEquals(2, compoundTopDocs.getScoreDocs().size());
+        assertEquals(fieldDoc1.doc, compoundTopDocs.getScoreDocs().get(0).doc);
+        assertEquals(fieldDoc2.doc, compoundTopDocs.getScoreDocs().get(1).doc);
+        assertNotSame(fieldDoc1, compoundTopDocs.getScoreDocs().get(0));
+        assertEquals(new SearchShard("my_index", 0, "node"), compoundTopDocs.getSearchShard());
+    }
+
+    public void testCreate_whenQuerySearchResultWithScoreStatistics_thenStatisticsParsedPerSubQuery() {
+        ScoreDoc scoreDoc1 = new ScoreDoc(0, 0.9f);
+        ScoreDoc scoreDoc2 = new ScoreDoc(2, 0.7f);
+        SubQueryScoreStatistics statistics1 = new SubQueryScoreStatistics(3, 0.2f, 0.9f, 1.6, 1.14);
+        SubQueryScoreStatistics statistics2 = new SubQueryScoreStatistics(0, Float.MAX_VALUE, -Float.MAX_VALUE, 0, 0);
+        SubQueryScoreStatistics statistics3 = new SubQueryScoreStatistics(1, 0.7f, 0.7f, 0.7, 0.49);
+        List<ScoreDoc> scoreDocs = new ArrayList<>();
+        scoreDocs.add(createStartStopElementForHybridSearchResults(0));
+        scoreDocs.add(createDelimiterElementForHybridSearchResults(0));
+        scoreDocs.addAll(Arrays.asList(createScoreStatisticsElementsForHybridSearchResults(statistics1)));
+        scoreDocs.add(scoreDoc1);
+        scoreDocs.add(createDelimiterElementForHybridSearchResults(0));
+        scoreDocs.addAll(Arrays.asList(createScoreStatisticsElementsForHybridSearchResults(statistics2)));
+        scoreDocs.add(createDelimiterElementForHybridSearchResults(0));
+        scoreDocs.addAll(Arrays.asList(createScoreStatisticsElementsForHybridSearchResults(statistics3)));
+        scoreDocs.add(scoreDoc2);
+        scoreDocs.add(createStartStopElementForHybridSearchResults(0));
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(4, TotalHits.Relation.EQUAL_TO), scoreDocs.toArray(new ScoreDoc[0])), 0.9f),
+            null
+        );
+        querySearchResult.setSearchShardTarget(
+            new SearchShardTarget("node", new ShardId("my_index", "uuid", 0), null, OriginalIndices.NONE)
+        );
+
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+
+        List<TopDocs> topDocs = compoundTopDocs.getTopDocs();
+        assertEquals(3, topDocs.size());
+        assertArrayEquals(new ScoreDoc[] { scoreDoc1 }, topDocs.get(0).scoreDocs);
+        assertEquals(0, topDocs.get(1).scoreDocs.length);
+        assertArrayEquals(new ScoreDoc[] { scoreDoc2 }, topDocs.get(2).scoreDocs);
+        List<SubQueryScoreStatistics> scoreStatistics = compoundTopDocs.getScoreStatistics();
+        assertEquals(3, scoreStatistics.size());
+        assertEquals(3, scoreStatistics.get(0).getCount());
+        assertEquals(0.2f, scoreStatistics.get(0).getMinScore(), 0.0f);
+        assertEquals(1.6, scoreStatistics.get(0).getSum(), 1e-9);
+        assertEquals(0, scoreStatistics.get(1).getCount());
+        assertEquals(0.49, scoreStatistics.get(2).getSumOfSquares(), 1e-9);
+    }
+
+    public void testCreate_whenQuerySearchResultWithoutScoreStatistics_thenStatisticsEmpty() {
+        ScoreDoc scoreDoc = new ScoreDoc(0, 0.9f);
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(
+                    new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                    new ScoreDoc[] {
+                        createStartStopElementForHybridSearchResults(0),
+                        createDelimiterElementForHybridSearchResults(0),
+                        scoreDoc,
+                        createStartStopElementForHybridSearchResults(0) }
+                ),
+                0.9f
+            ),
+            null
+        );
+        querySearchResult.setSearchShardTarget(
+            new SearchShardTarget("node", new ShardId("my_index", "uuid", 0), null, OriginalIndices.NONE)
+        );
+
+        CompoundTopDocs compoundTopDocs = new CompoundTopDocs(querySearchResult);
+
+        assertArrayEquals(new ScoreDoc[] { scoreDoc }, compoundTopDocs.getTopDocs().get(0).scoreDocs);
+        assertTrue(compoundTopDocs.getScoreStatistics().isEmpty());
+    }
 }
@@ -5,17 +5,27 @@
 package org.opensearch.neuralsearch.processor;
 
 import lombok.Getter;
+import org.junit.After;
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.optimization.AdaptiveBatchSizer;
+import org.opensearch.neuralsearch.processor.optimization.LengthBucketedInferenceExecutor;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -56,6 +66,11 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         when(environment.settings()).thenReturn(settings);
     }
 
+    @After
+    public void resetInferenceCache() {
+        IngestInferenceCache.instance().initialize(null);
+    }
+
     public void test_batchExecute_emptyInput() {
         TestInferenceProcessor processor = new TestInferenceProcessor(createMockVectorResult(), BATCH_SIZE, null);
         Consumer resultHandler = mock(Consumer.class);
@@ -178,6 +193,110 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         assertEquals(List.of("value4"), processor.getAllInferenceInputs().get(2));
     }
 
+    public void test_batchExecute_whenInferenceCacheEnabled_thenSkipDuplicatedAndCachedTexts() {
+        enableIngestInferenceCache();
+        TestInferenceProcessor processor = new TestInferenceProcessor(createMockVectorWithLength(3), BATCH_SIZE, null);
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(2);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("a", "b"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("a", "c"));
+        List<IngestDocumentWrapper> firstResults = new ArrayList<>();
+        processor.batchExecute(wrapperList, firstResults::addAll);
+
+        assertEquals(List.of(List.of("a", "b", "c")), processor.getAllInferenceInputs());
+        List<?> doc1Embeddings = firstResults.get(0).getIngestDocument().getFieldValue("embedding_key1", List.class);
+        List<?> doc2Embeddings = firstResults.get(1).getIngestDocument().getFieldValue("embedding_key1", List.class);
+        assertEquals(((Map) doc1Embeddings.get(0)).get(MAP_KEY), ((Map) doc2Embeddings.get(0)).get(MAP_KEY));
+        assertNotSame(((Map) doc1Embeddings.get(0)).get(MAP_KEY), ((Map) doc2Embeddings.get(0)).get(MAP_KEY));
+
+        // every text of the next batch is already cached
+        List<IngestDocumentWrapper> cachedWrapperList = createIngestDocumentWrappers(1);
+        cachedWrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("c", "a"));
+        List<IngestDocumentWrapper> secondResults = new ArrayList<>();
+        processor.batchExecute(cachedWrapperList, secondResults::addAll);
+
+        assertEquals(1, processor.getAllInferenceInputs().size());
+        assertNull(secondResults.get(0).getException());
+        List<?> cachedEmbeddings = secondResults.get(0).getIngestDocument().getFieldValue("embedding_key1", List.class);
+        assertEquals(((Map) doc2Embeddings.get(1)).get(MAP_KEY), ((Map) cachedEmbeddings.get(0)).get(MAP_KEY));
+        assertEquals(((Map) doc1Embeddings.get(0)).get(MAP_KEY), ((Map) cachedEmbeddings.get(1)).get(MAP_KEY));
+        assertEquals(3, EventStatName.INGEST_INFERENCE_CACHE_HITS.getEventStat().getValue());
+        assertEquals(3, EventStatName.INGEST_INFERENCE_CACHE_MISSES.getEventStat().getValue());
+    }
+
+    public void test_batchExecute_whenInferenceCacheEnabledAndResultCountMismatch_thenException() {
+        enableIngestInferenceCache();
+        TestInferenceProcessor processor = new TestInferenceProcessor(createMockVectorWithLength(1), BATCH_SIZE, null);
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(1);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("a", "b"));
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        processor.batchExecute(wrapperList, results::addAll);
+
+        assertTrue(results.get(0).getException() instanceof IllegalStateException);
+        assertEquals("expected [2] inference results but got [1]", results.get(0).getException().getMessage());
+    }
+
+    public void test_batchExecute_whenAdaptiveBatchSizeEnabled_thenCutOnCharBudget() {
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isAdaptiveBatchSizeEnabled()).thenReturn(true);
+        when(settingsAccessor.getAdaptiveBatchSizeMaxBatchSize()).thenReturn(BATCH_SIZE);
+        when(settingsAccessor.getAdaptiveBatchSizeTargetLatency()).thenReturn(TimeValue.timeValueSeconds(10));
+        when(settingsAccessor.getAdaptiveBatchSizeMaxCharsPerBatch()).thenReturn(12);
+        AdaptiveBatchSizer.initialize(settingsAccessor);
+        try {
+            TestInferenceProcessor processor = new TestInferenceProcessor(createMockVectorWithLength(2), BATCH_SIZE, null);
+            List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(3);
+            for (int i = 0; i < wrapperList.size(); ++i) {
+                wrapperList.get(i).getIngestDocument().setFieldValue("key1", "value" + i);
+            }
+            List<IngestDocumentWrapper> allResults = new ArrayList<>();
+            processor.batchExecute(wrapperList, allResults::addAll);
+
+            assertEquals(List.of(List.of("value0", "value1"), List.of("value2")), processor.getAllInferenceInputs());
+            assertEquals(3, allResults.size());
+            assertNull(allResults.get(0).getException());
+        } finally {
+            AdaptiveBatchSizer.initialize(null);
+        }
+    }
+
+    public void test_batchExecute_whenInferencePipeliningEnabled_thenSendLengthBuckets() {
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isIngestInferencePipeliningEnabled()).thenReturn(true);
+        when(settingsAccessor.getIngestInferencePipeliningBucketSize()).thenReturn(2);
+        when(settingsAccessor.getIngestInferencePipeliningMaxConcurrentBuckets()).thenReturn(2);
+        LengthBucketedInferenceExecutor.initialize(settingsAccessor);
+        try {
+            List<List<Float>> inferenceResults = createMockVectorWithLength(2);
+            TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null);
+            List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(2);
+            wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("aaaaa", "bbb"));
+            wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("cc", "dddd"));
+            List<IngestDocumentWrapper> allResults = new ArrayList<>();
+            processor.batchExecute(wrapperList, allResults::addAll);
+
+            assertEquals(List.of(List.of("cc", "bbb"), List.of("dddd", "aaaaa")), processor.getAllInferenceInputs());
+            List<?> doc1Embeddings = allResults.get(0).getIngestDocument().getFieldValue("embedding_key1", List.class);
+            List<?> doc2Embeddings = allResults.get(1).getIngestDocument().getFieldValue("embedding_key1", List.class);
+            // every bucket gets the same mocked vectors, results are stitched back to the original order
+            assertEquals(inferenceResults.get(1), ((Map) doc1Embeddings.get(0)).get(MAP_KEY));
+            assertEquals(inferenceResults.get(1), ((Map) doc1Embeddings.get(1)).get(MAP_KEY));
+            assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(0)).get(MAP_KEY));
+            assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(1)).get(MAP_KEY));
+        } finally {
+            LengthBucketedInferenceExecutor.initialize(null);
+        }
+    }
+
+    private void enableIngestInferenceCache() {
+        TestUtils.initializeEventStatsManager();
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isIngestInferenceCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getIngestInferenceCacheMaxEntries()).thenReturn(100);
+        when(settingsAccessor.getIngestInferenceCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        when(settingsAccessor.getIngestInferenceCacheExpireAfter()).thenReturn(TimeValue.timeValueMinutes(10));
+        IngestInferenceCache.instance().initialize(settingsAccessor);
+    }
+
     private class TestInferenceProcessor extends InferenceProcessor {
         List<?> vectors;
         Exception exception;
@@ -35,6 +35,13 @@ import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
+import org.opensearch.search.pipeline.ProcessorExecutionDetail;
+import org.opensearch.search.profile.NetworkTime;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.query.CollectorResult;
+import org.opensearch.search.profile.query.QueryProfileShardResult;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -94,6 +101,139 @@ public class NormalizationProcessorWorkflowTests extends OpenSearchTestCase {
         TestUtils.assertQueryResultScores(querySearchResults);
     }
 
+    public void testProfile_whenSearchIsProfiled_thenAddWorkflowTimingsToPipelineProcessorResults() {
+        NormalizationProcessorWorkflow normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(
+            new ScoreNormalizer(),
+            new ScoreCombiner()
+        );
+
+        List<QuerySearchResult> querySearchResults = new ArrayList<>();
+        for (int shardId = 0; shardId < 2; shardId++) {
+            SearchShardTarget searchShardTarget = new SearchShardTarget(
+                "node",
+                new ShardId("index", "uuid", shardId),
+                null,
+                OriginalIndices.NONE
+            );
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            querySearchResult.topDocs(
+                new TopDocsAndMaxScore(
+                    new TopDocs(
+                        new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+                        new ScoreDoc[] {
+                            createStartStopElementForHybridSearchResults(0),
+                            createDelimiterElementForHybridSearchResults(0),
+                            new ScoreDoc(0, 0.5f),
+                            new ScoreDoc(2, 0.3f),
+                            createStartStopElementForHybridSearchResults(0) }
+                    ),
+                    0.5f
+                ),
+                null
+            );
+            querySearchResult.setSearchShardTarget(searchShardTarget);
+            querySearchResult.setShardIndex(shardId);
+            querySearchResult.setShardSearchRequest(mock(ShardSearchRequest.class));
+            ProfileResult hybridQueryProfileResult = new ProfileResult("HybridQuery", "hybrid query", Map.of(), Map.of(), 10L, List.of());
+            querySearchResult.profileResults(
+                new ProfileShardResult(
+                    List.of(
+                        new QueryProfileShardResult(
+                            List.of(hybridQueryProfileResult),
+                            5L,
+                            new CollectorResult("HybridCollectorManager", "search_top_hits", 20L, List.of())
+                        )
+                    ),
+                    null,
+                    new NetworkTime(0L, 0L)
+                )
+            );
+            querySearchResults.add(querySearchResult);
+        }
+        SearchPhaseContext searchPhaseContext = mock(SearchPhaseContext.class);
+        SearchRequest searchRequest = mock(SearchRequest.class);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.from(0);
+        searchSourceBuilder.profile(true);
+        when(searchPhaseContext.getRequest()).thenReturn(searchRequest);
+        when(searchRequest.source()).thenReturn(searchSourceBuilder);
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        NormalizationProcessorWorkflowExecuteRequest normalizationExecuteDTO = NormalizationProcessorWorkflowExecuteRequest.builder()
+            .querySearchResults(querySearchResults)
+            .fetchSearchResultOptional(Optional.empty())
+            .normalizationTechnique(ScoreNormalizationFactory.DEFAULT_METHOD)
+            .combinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+            .pipelineProcessingContext(pipelineProcessingContext)
+            .searchPhaseContext(searchPhaseContext)
+            .build();
+
+        normalizationProcessorWorkflow.execute(normalizationExecuteDTO);
+
+        assertEquals(1, pipelineProcessingContext.getProcessorExecutionDetails().size());
+        ProcessorExecutionDetail processorExecutionDetail = pipelineProcessingContext.getProcessorExecutionDetails().get(0);
+        assertEquals("NormalizationProcessorWorkflow", processorExecutionDetail.getProcessorName());
+        Map<String, Object> breakdown = (Map<String, Object>) processorExecutionDetail.getOutputData();
+        assertEquals(
+            List.of("normalization", "combination", "normalize_time_in_nanos", "combine_time_in_nanos", "update_time_in_nanos"),
+            new ArrayList<>(breakdown.keySet())
+        );
+        assertEquals("min_max", breakdown.get("normalization"));
+        assertEquals("arithmetic_mean", breakdown.get("combination"));
+        // query profiles of shards are left as they are
+        for (QuerySearchResult querySearchResult : querySearchResults) {
+            QueryProfileShardResult shardProfile = querySearchResult.consumeProfileResult().getQueryProfileResults().get(0);
+            assertEquals(1, shardProfile.getQueryResults().size());
+            assertEquals("HybridQuery", shardProfile.getQueryResults().get(0).getQueryName());
+        }
+        TestUtils.assertQueryResultScores(querySearchResults);
+    }
+
+    public void testProfile_whenSearchIsNotProfiled_thenNoWorkflowTimings() {
+        NormalizationProcessorWorkflow normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(
+            new ScoreNormalizer(),
+            new ScoreCombiner()
+        );
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        querySearchResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(
+                    new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                    new ScoreDoc[] {
+                        createStartStopElementForHybridSearchResults(0),
+                        createDelimiterElementForHybridSearchResults(0),
+                        new ScoreDoc(0, 0.5f),
+                        createStartStopElementForHybridSearchResults(0) }
+                ),
+                0.5f
+            ),
+            null
+        );
+        querySearchResult.setSearchShardTarget(
+            new SearchShardTarget("node", new ShardId("index", "uuid", 0), null, OriginalIndices.NONE)
+        );
+        querySearchResult.setShardIndex(0);
+        querySearchResult.setShardSearchRequest(mock(ShardSearchRequest.class));
+        SearchPhaseContext searchPhaseContext = mock(SearchPhaseContext.class);
+        SearchRequest searchRequest = mock(SearchRequest.class);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.from(0);
+        when(searchPhaseContext.getRequest()).thenReturn(searchRequest);
+        when(searchRequest.source()).thenReturn(searchSourceBuilder);
+        PipelineProcessingContext pipelineProcessingContext = new PipelineProcessingContext();
+        NormalizationProcessorWorkflowExecuteRequest normalizationExecuteDTO = NormalizationProcessorWorkflowExecuteRequest.builder()
+            .querySearchResults(new ArrayList<>(List.of(querySearchResult)))
+            .fetchSearchResultOptional(Optional.empty())
+            .normalizationTechnique(ScoreNormalizationFactory.DEFAULT_METHOD)
+            .combinationTechnique(ScoreCombinationFactory.DEFAULT_METHOD)
+            .pipelineProcessingContext(pipelineProcessingContext)
+            .searchPhaseContext(searchPhaseContext)
+            .build();
+
+        normalizationProcessorWorkflow.execute(normalizationExecuteDTO);
+
+        assertTrue(pipelineProcessingContext.getProcessorExecutionDetails().isEmpty());
+    }
+
     public void testSearchResultTypes_whenNoMatches_thenReturnZeroResults() {
         NormalizationProcessorWorkflow normalizationProcessorWorkflow = spy(
             new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner())
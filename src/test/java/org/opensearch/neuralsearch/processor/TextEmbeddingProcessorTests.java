@@ -54,6 +54,7 @@ import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.common.FloatVector;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.factory.TextEmbeddingProcessorFactory;
 
@@ -134,6 +135,15 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         return (TextEmbeddingProcessor) textEmbeddingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
     }
 
+    @SneakyThrows
+    private TextEmbeddingProcessor createInstanceWithFieldMap(Map<String, Object> fieldMap) {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(TextEmbeddingProcessor.FIELD_MAP_FIELD, fieldMap);
+        return (TextEmbeddingProcessor) textEmbeddingProcessorFactory.create(registry, PROCESSOR_TAG, DESCRIPTION, config);
+    }
+
     @SneakyThrows
     private TextEmbeddingProcessor createInstanceWithLevel1MapConfig(int batchSize, boolean skipExisting) {
         Map<String, Processor.Factory> registry = new HashMap<>();
@@ -279,6 +289,33 @@ public class TextEmbeddingProcessorTests extends InferenceProcessorTestCase {
         verify(handler).accept(any(IngestDocument.class), isNull());
     }
 
+    @SneakyThrows
+    public void testExecute_whenTwoProcessorsWriteSameField_thenMergeVectors() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("parent", new HashMap<>(Map.of("key1", "value1", "key2", "value2")));
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        // results of nested fields are merged into the target field
+        TextEmbeddingProcessor firstProcessor = createInstanceWithFieldMap(ImmutableMap.of("parent", ImmutableMap.of("key1", "key_knn")));
+        TextEmbeddingProcessor secondProcessor = createInstanceWithFieldMap(ImmutableMap.of("parent", ImmutableMap.of("key2", "key_knn")));
+        doAnswer(invocation -> {
+            ActionListener<List<List<Number>>> listener = invocation.getArgument(1);
+            listener.onResponse(List.of(FloatVector.wrap(new float[] { 1.0f, 2.0f })));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(argThat(request -> request.getInputTexts() != null), isA(ActionListener.class));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        firstProcessor.execute(ingestDocument, handler);
+        secondProcessor.execute(ingestDocument, handler);
+
+        verify(handler, times(2)).accept(any(IngestDocument.class), isNull());
+        List<Object> vectors = ingestDocument.getFieldValue("parent.key_knn", List.class);
+        assertEquals(List.of(1.0f, 2.0f, 1.0f, 2.0f), vectors);
+        // vectors stay modifiable for following processors
+        vectors.set(0, 3.0f);
+        assertEquals(3.0f, ingestDocument.getFieldValue("parent.key_knn", List.class).getFirst());
+    }
+
     @SneakyThrows
     public void testExecute_whenInferenceThrowInterruptedException_throwRuntimeException() {
         Map<String, Object> sourceAndMetadata = new HashMap<>();
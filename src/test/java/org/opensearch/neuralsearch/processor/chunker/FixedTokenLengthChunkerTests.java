@@ -7,6 +7,8 @@ package org.opensearch.neuralsearch.processor.chunker;
 import lombok.SneakyThrows;
 import org.apache.lucene.tests.analysis.MockTokenizer;
 import org.junit.Before;
+import org.opensearch.action.admin.indices.analyze.AnalyzeAction;
+import org.opensearch.action.admin.indices.analyze.TransportAnalyzeAction;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.env.TestEnvironment;
@@ -21,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
@@ -35,6 +38,7 @@ import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChun
 public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
 
     private FixedTokenLengthChunker fixedTokenLengthChunker;
+    private AnalysisRegistry analysisRegistry;
 
     private final Map<String, Object> runtimeParameters = Map.of(
         MAX_CHUNK_LIMIT_FIELD,
@@ -68,7 +72,7 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
                 );
             }
         };
-        AnalysisRegistry analysisRegistry = new AnalysisModule(environment, singletonList(plugin)).getAnalysisRegistry();
+        analysisRegistry = new AnalysisModule(environment, singletonList(plugin)).getAnalysisRegistry();
         nonRuntimeParameters.put(ANALYSIS_REGISTRY_FIELD, analysisRegistry);
         return new FixedTokenLengthChunker(nonRuntimeParameters);
     }
@@ -181,6 +185,22 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
             .contains(String.format(Locale.ROOT, "analyzer %s throws exception", lowercaseTokenizer)));
     }
 
+    public void testClose_thenAnalyzerClosed() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        String content = "This is an example document to be chunked.";
+        assertEquals(List.of(content), fixedTokenLengthChunker.chunk(content, runtimeParameters));
+
+        fixedTokenLengthChunker.close();
+
+        IllegalStateException illegalStateException = assertThrows(
+            IllegalStateException.class,
+            () -> fixedTokenLengthChunker.chunk(content, runtimeParameters)
+        );
+        assertTrue(illegalStateException.getMessage().contains("fixed token length chunker is closed"));
+    }
+
     public void testChunk_withEmptyInput_thenSucceed() {
         Map<String, Object> parameters = new HashMap<>();
         parameters.put(TOKEN_LIMIT_FIELD, 10);
@@ -309,4 +329,73 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
         );
         assertEquals(expectedPassages, passages);
     }
+
+    public void testChunk_whenExceedMaxTokenCount_thenFail() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        parameters.put(TOKENIZER_FIELD, "standard");
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 20);
+        String content =
+            "This is an example document to be chunked. The document contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch.";
+        IllegalStateException illegalStateException = assertThrows(
+            IllegalStateException.class,
+            () -> fixedTokenLengthChunker.chunk(content, runtimeParameters)
+        );
+        assert (illegalStateException.getMessage()
+            .contains("The number of tokens produced by calling _analyze has exceeded the allowed maximum of [20]."));
+    }
+
+    public void testChunk_whenMaxChunkLimitReachedBeforeMaxTokenCount_thenSucceed() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        parameters.put(TOKENIZER_FIELD, "standard");
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, 2);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 20);
+        String content =
+            "This is an example document to be chunked. The document contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch.";
+        List<String> passages = fixedTokenLengthChunker.chunk(content, runtimeParameters);
+        // the last passage is not tokenized
+        List<String> expectedPassages = List.of(
+            "This is an example document to be chunked. The document ",
+            "contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch."
+        );
+        assertEquals(expectedPassages, passages);
+    }
+
+    @SneakyThrows
+    public void testChunk_withRandomParameters_thenSameAsAnalyzeApiTokens() {
+        int tokenLimit = randomIntBetween(1, 8);
+        double overlapRate = randomFrom(0.0, 0.2, 0.5);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, tokenLimit);
+        parameters.put(OVERLAP_RATE_FIELD, overlapRate);
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        String content = randomList(0, 40, () -> randomAlphaOfLengthBetween(1, 6)).stream()
+            .map(word -> word + randomFrom(" ", ", ", ". ", "  "))
+            .collect(Collectors.joining());
+
+        // passages computed from the start offsets of the tokens returned by the _analyze API
+        AnalyzeAction.Request analyzeRequest = new AnalyzeAction.Request();
+        analyzeRequest.text(content);
+        analyzeRequest.tokenizer("standard");
+        List<AnalyzeAction.AnalyzeToken> tokens = TransportAnalyzeAction.analyze(analyzeRequest, analysisRegistry, null, 10000).getTokens();
+        int overlapTokenNumber = (int) Math.floor(tokenLimit * overlapRate);
+        List<String> expectedPassages = new ArrayList<>();
+        for (int startTokenIndex = 0; startTokenIndex < tokens.size(); startTokenIndex += tokenLimit - overlapTokenNumber) {
+            int startContentPosition = startTokenIndex == 0 ? 0 : tokens.get(startTokenIndex).getStartOffset();
+            if (startTokenIndex + tokenLimit >= tokens.size()) {
+                expectedPassages.add(content.substring(startContentPosition));
+                break;
+            }
+            expectedPassages.add(content.substring(startContentPosition, tokens.get(startTokenIndex + tokenLimit).getStartOffset()));
+        }
+
+        assertEquals(expectedPassages, fixedTokenLengthChunker.chunk(content, runtimeParameters));
+        // the analyzer is reused across calls
+        assertEquals(expectedPassages, fixedTokenLengthChunker.chunk(content, runtimeParameters));
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.combination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ShardScoresTests extends OpenSearchTestCase {
+
+    private static final ScoreCombinationTechnique ARITHMETIC_MEAN = new ArithmeticMeanScoreCombinationTechnique(
+        Map.of(),
+        new ScoreCombinationUtil()
+    );
+
+    public void testCombine_whenDocsMatchSomeSubQueries_thenMissingScoresAreZero() {
+        ShardScores shardScores = new ShardScores();
+        shardScores.collectNormalizedScores(
+            List.of(
+                createTopDocs(new ScoreDoc(5, 1.0f), new ScoreDoc(2, 0.5f)),
+                createTopDocs(),
+                createTopDocs(new ScoreDoc(2, 0.7f), new ScoreDoc(9, 0.2f))
+            )
+        );
+        shardScores.combine(ARITHMETIC_MEAN);
+
+        assertEquals(3, shardScores.getNumOfDocs());
+        assertEquals(1, shardScores.indexOf(5));
+        assertTrue(shardScores.indexOf(3) < 0);
+        // arithmetic mean skips sub-queries without a match only if their score is negative, zero scores count
+        assertEquals(1.0f / 3, shardScores.getCombinedScore(5), 1e-6f);
+        assertEquals(1.2f / 3, shardScores.getCombinedScore(2), 1e-6f);
+        assertEquals(0.2f / 3, shardScores.getCombinedScore(9), 1e-6f);
+        assertArrayEquals(new int[] { 2, 5, 9 }, shardScores.getDocIdsSortedByCombinedScore());
+    }
+
+    public void testGetDocIdsSortedByCombinedScore_whenEqualScores_thenSortedByDocId() {
+        ShardScores shardScores = new ShardScores();
+        shardScores.collectNormalizedScores(
+            List.of(createTopDocs(new ScoreDoc(7, 0.5f), new ScoreDoc(3, 0.5f), new ScoreDoc(4, 0.0f), new ScoreDoc(1, 0.9f)))
+        );
+        shardScores.combine(ARITHMETIC_MEAN);
+
+        assertArrayEquals(new int[] { 1, 3, 7, 4 }, shardScores.getDocIdsSortedByCombinedScore());
+    }
+
+    public void testCollectNormalizedScores_whenReusedForNextShard_thenScoresOfPreviousShardDropped() {
+        ShardScores shardScores = new ShardScores();
+        shardScores.collectNormalizedScores(
+            List.of(
+                createTopDocs(new ScoreDoc(1, 0.9f), new ScoreDoc(2, 0.8f), new ScoreDoc(3, 0.7f)),
+                createTopDocs(new ScoreDoc(1, 0.9f))
+            )
+        );
+        shardScores.combine(ARITHMETIC_MEAN);
+
+        shardScores.collectNormalizedScores(List.of(createTopDocs(new ScoreDoc(2, 0.4f)), createTopDocs(new ScoreDoc(8, 0.6f))));
+        shardScores.combine(ARITHMETIC_MEAN);
+
+        assertEquals(2, shardScores.getNumOfDocs());
+        assertTrue(shardScores.indexOf(1) < 0);
+        assertEquals(0.2f, shardScores.getCombinedScore(2), 1e-6f);
+        assertEquals(0.3f, shardScores.getCombinedScore(8), 1e-6f);
+        assertArrayEquals(new int[] { 8, 2 }, shardScores.getDocIdsSortedByCombinedScore());
+    }
+
+    public void testGetDocIdsSortedByCombinedScore_whenRandomScores_thenSortedByScoreDescending() {
+        int numOfSubQueries = randomIntBetween(1, 4);
+        List<TopDocs> topDocsPerSubQuery = new ArrayList<>();
+        for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+            ScoreDoc[] scoreDocs = new ScoreDoc[randomIntBetween(0, 100)];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                // doc ids are unique within a sub-query and repeat across sub-queries
+                scoreDocs[i] = new ScoreDoc(i * 3 + subQueryIndex % 2, randomIntBetween(0, 10) / 10.0f);
+            }
+            topDocsPerSubQuery.add(createTopDocs(scoreDocs));
+        }
+        ShardScores shardScores = new ShardScores();
+        shardScores.collectNormalizedScores(topDocsPerSubQuery);
+        shardScores.combine(ARITHMETIC_MEAN);
+
+        int[] sortedDocIds = shardScores.getDocIdsSortedByCombinedScore();
+        assertEquals(shardScores.getNumOfDocs(), sortedDocIds.length);
+        for (int i = 1; i < sortedDocIds.length; i++) {
+            float previousScore = shardScores.getCombinedScore(sortedDocIds[i - 1]);
+            float score = shardScores.getCombinedScore(sortedDocIds[i]);
+            assertTrue(previousScore > score || (previousScore == score && sortedDocIds[i - 1] < sortedDocIds[i]));
+        }
+    }
+
+    private TopDocs createTopDocs(ScoreDoc... scoreDocs) {
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+}
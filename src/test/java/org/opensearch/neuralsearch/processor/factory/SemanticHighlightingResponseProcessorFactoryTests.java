@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.factory;
+
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.highlight.SemanticHighlightingResponseProcessor;
+import org.opensearch.search.pipeline.Processor;
+import org.opensearch.search.pipeline.SearchResponseProcessor;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+public class SemanticHighlightingResponseProcessorFactoryTests extends OpenSearchTestCase {
+
+    private final SemanticHighlightingResponseProcessorFactory factory = new SemanticHighlightingResponseProcessorFactory(
+        mock(MLCommonsClientAccessor.class)
+    );
+
+    public void testCreate_whenNoParams_thenDefaults() {
+        SearchResponseProcessor responseProcessor = create(new HashMap<>());
+
+        assertTrue(responseProcessor instanceof SemanticHighlightingResponseProcessor);
+        SemanticHighlightingResponseProcessor processor = (SemanticHighlightingResponseProcessor) responseProcessor;
+        assertEquals(SemanticHighlightingResponseProcessor.TYPE, processor.getType());
+        assertEquals("tag", processor.getTag());
+        assertEquals("description", processor.getDescription());
+        assertFalse(processor.isIgnoreFailure());
+        assertEquals(
+            SemanticHighlightingResponseProcessorFactory.DEFAULT_MAX_CONCURRENT_INFERENCES,
+            processor.getMaxConcurrentInferences()
+        );
+    }
+
+    public void testCreate_whenMaxConcurrentInferences_thenSuccessful() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SemanticHighlightingResponseProcessorFactory.MAX_CONCURRENT_INFERENCES_FIELD, 3);
+
+        SemanticHighlightingResponseProcessor processor = (SemanticHighlightingResponseProcessor) create(config);
+
+        assertEquals(3, processor.getMaxConcurrentInferences());
+    }
+
+    public void testCreate_whenMaxConcurrentInferencesNotPositive_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SemanticHighlightingResponseProcessorFactory.MAX_CONCURRENT_INFERENCES_FIELD, 0);
+
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> create(config));
+
+        assertEquals("[max_concurrent_inferences] must be a positive integer, but was [0]", exception.getMessage());
+    }
+
+    private SearchResponseProcessor create(Map<String, Object> config) {
+        return factory.create(new HashMap<>(), "tag", "description", false, config, mock(Processor.PipelineContext.class));
+    }
+}
@@ -30,6 +30,7 @@ public class SparseEncodingEmbeddingProcessorFactoryTests extends OpenSearchTest
     private static final String DESCRIPTION = "mockDescription";
     private static final String MODEL_ID = "testModelId";
     private static final String SKIP_EXISTING = "skip_existing";
+    private static final String SKIP_EXISTING_FINGERPRINT = "skip_existing_fingerprint";
     private static final int BATCH_SIZE = 1;
 
     private OpenSearchClient openSearchClient;
@@ -204,4 +205,17 @@ public class SparseEncodingEmbeddingProcessorFactoryTests extends OpenSearchTest
         assertEquals(PruneType.NONE, processor.getPruneType());
         assertEquals(0f, processor.getPruneRatio(), 1e-6);
     }
+
+    @SneakyThrows
+    public void testCreateProcessor_whenSkipExistingFingerprintWithoutSkipExisting_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID_FIELD, MODEL_ID);
+        config.put(FIELD_MAP_FIELD, Map.of("a", "b"));
+        config.put(SKIP_EXISTING_FINGERPRINT, true);
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> sparseEncodingProcessorFactory.create(Map.of(), PROCESSOR_TAG, DESCRIPTION, config)
+        );
+        assertEquals("skip_existing_fingerprint is only supported when skip_existing is true", exception.getMessage());
+    }
 }
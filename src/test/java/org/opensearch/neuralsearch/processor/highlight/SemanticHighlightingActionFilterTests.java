@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.highlight;
+
+import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilterChain;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.neuralsearch.highlight.SemanticHighlighterEngine;
+import org.opensearch.neuralsearch.highlight.extractor.QueryTextExtractorRegistry;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.pipeline.PipelineConfiguration;
+import org.opensearch.search.pipeline.SearchPipelineMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SemanticHighlightingActionFilterTests extends OpenSearchTestCase {
+    private static final String PIPELINE_WITH_PROCESSOR = "highlighting_pipeline";
+    private static final String PIPELINE_WITHOUT_PROCESSOR = "other_pipeline";
+
+    private NeuralSearchClusterUtil neuralSearchClusterUtil;
+    private SemanticHighlightingActionFilter actionFilter;
+    private ActionFilterChain<SearchRequest, SearchResponse> chain;
+    private ActionListener<SearchResponse> listener;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ClusterService clusterService = mock(ClusterService.class);
+        SearchPipelineMetadata searchPipelineMetadata = new SearchPipelineMetadata(
+            Map.of(
+                PIPELINE_WITH_PROCESSOR,
+                createPipeline(PIPELINE_WITH_PROCESSOR, "{\"response_processors\":[{\"semantic_highlighting\":{}}]}"),
+                PIPELINE_WITHOUT_PROCESSOR,
+                createPipeline(PIPELINE_WITHOUT_PROCESSOR, "{\"response_processors\":[{\"rerank\":{}}]}")
+            )
+        );
+        ClusterState clusterState = ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(Metadata.builder().putCustom(SearchPipelineMetadata.TYPE, searchPipelineMetadata))
+            .build();
+        when(clusterService.state()).thenReturn(clusterState);
+        neuralSearchClusterUtil = mock(NeuralSearchClusterUtil.class);
+        SemanticHighlighterEngine semanticHighlighterEngine = SemanticHighlighterEngine.builder()
+            .mlCommonsClient(mock(MLCommonsClientAccessor.class))
+            .queryTextExtractorRegistry(new QueryTextExtractorRegistry())
+            .build();
+        actionFilter = new SemanticHighlightingActionFilter(clusterService, neuralSearchClusterUtil, semanticHighlighterEngine);
+        chain = mock(ActionFilterChain.class);
+        listener = mock(ActionListener.class);
+    }
+
+    public void testApply_whenNoBatchInference_thenProceed() {
+        SearchRequest request = createRequest(false);
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+        verify(neuralSearchClusterUtil, never()).getIndexMetadataList(any());
+    }
+
+    public void testApply_whenPipelineHasProcessor_thenProceed() {
+        SearchRequest request = createRequest(true).pipeline(PIPELINE_WITH_PROCESSOR);
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+    }
+
+    public void testApply_whenDefaultPipelineOfIndexHasProcessor_thenProceed() {
+        SearchRequest request = createRequest(true);
+        when(neuralSearchClusterUtil.getIndexMetadataList(request)).thenReturn(
+            List.of(createIndexMetadata(Settings.builder().put(IndexSettings.DEFAULT_SEARCH_PIPELINE.getKey(), PIPELINE_WITH_PROCESSOR)))
+        );
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+    }
+
+    public void testApply_whenInlinePipelineHasProcessor_thenProceed() {
+        SearchRequest request = createRequest(true);
+        request.source().searchPipelineSource(Map.of("response_processors", List.of(Map.of("semantic_highlighting", Map.of()))));
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+    }
+
+    public void testApply_whenPipelineHasNoProcessor_thenFail() {
+        SearchRequest request = createRequest(true).pipeline(PIPELINE_WITHOUT_PROCESSOR);
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(listener).onFailure(any(IllegalArgumentException.class));
+        verify(chain, never()).proceed(any(), any(), any(), any());
+    }
+
+    public void testApply_whenNoPipeline_thenFail() {
+        SearchRequest request = createRequest(true);
+        when(neuralSearchClusterUtil.getIndexMetadataList(request)).thenReturn(List.of(createIndexMetadata(Settings.builder())));
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(listener).onFailure(any(IllegalArgumentException.class));
+        verify(chain, never()).proceed(any(), any(), any(), any());
+    }
+
+    public void testApply_whenPipelineIsUnknown_thenProceed() {
+        // the search fails on the unknown pipeline itself
+        SearchRequest request = createRequest(true).pipeline("unknown_pipeline");
+
+        actionFilter.apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+    }
+
+    public void testApply_whenOtherAction_thenProceed() {
+        SearchRequest request = createRequest(true);
+
+        actionFilter.apply(null, "indices:data/read/other", request, listener, chain);
+
+        verify(chain).proceed(eq(null), eq("indices:data/read/other"), eq(request), eq(listener));
+    }
+
+    private SearchRequest createRequest(boolean batchInference) {
+        HighlightBuilder highlightBuilder = new HighlightBuilder().field(
+            new HighlightBuilder.Field("content").highlighterType("semantic")
+                .options(Map.of("model_id", "model_id", "batch_inference", batchInference))
+        );
+        return new SearchRequest("index").source(
+            new SearchSourceBuilder().query(QueryBuilders.matchQuery("content", "query")).highlighter(highlightBuilder)
+        );
+    }
+
+    private static PipelineConfiguration createPipeline(String id, String config) {
+        return new PipelineConfiguration(id, new BytesArray(config), MediaTypeRegistry.JSON);
+    }
+
+    private static IndexMetadata createIndexMetadata(Settings.Builder settings) {
+        return IndexMetadata.builder("index")
+            .settings(settings.put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.highlight;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.factory.SemanticHighlightingResponseProcessorFactory;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SemanticHighlightingResponseProcessorTests extends OpenSearchTestCase {
+    private static final String TEXT_FIELD = "content";
+    private static final String MODEL_ID = "model_id";
+    private static final String QUERY_TEXT = "what is semantic search";
+
+    private MLCommonsClientAccessor clientAccessor;
+    private List<SentenceHighlightingRequest> inferenceRequests;
+    private List<ActionListener<List<Map<String, Object>>>> inferenceListeners;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        clientAccessor = mock(MLCommonsClientAccessor.class);
+        inferenceRequests = new ArrayList<>();
+        inferenceListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            inferenceRequests.add(invocation.getArgument(0));
+            inferenceListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(clientAccessor).inferenceSentenceHighlighting(any(SentenceHighlightingRequest.class), any());
+    }
+
+    public void testProcessResponseAsync_whenBatchInference_thenHighlightAllHitsWithBoundedConcurrency() {
+        SemanticHighlightingResponseProcessor processor = createProcessor(2);
+        SearchResponse response = createResponse("first text", "second text", "third text");
+        List<SearchResponse> responses = new ArrayList<>();
+
+        processor.processResponseAsync(
+            createRequest(true),
+            response,
+            null,
+            ActionListener.wrap(responses::add, e -> fail("unexpected failure"))
+        );
+
+        // only two inference calls are in flight
+        assertEquals(2, inferenceListeners.size());
+        assertEquals(QUERY_TEXT, inferenceRequests.getFirst().getQuestion());
+        assertEquals("first text", inferenceRequests.getFirst().getContext());
+        inferenceListeners.get(1).onResponse(createModelResult(0, 6));
+        assertEquals(3, inferenceListeners.size());
+        inferenceListeners.get(2).onResponse(createModelResult(0, 5));
+        assertTrue(responses.isEmpty());
+        inferenceListeners.get(0).onResponse(createModelResult(0, 5));
+
+        assertEquals(List.of(response), responses);
+        SearchHit[] hits = response.getHits().getHits();
+        assertEquals("<em>first</em> text", hits[0].getHighlightFields().get(TEXT_FIELD).fragments()[0].string());
+        assertEquals("<em>second</em> text", hits[1].getHighlightFields().get(TEXT_FIELD).fragments()[0].string());
+        assertEquals("<em>third</em> text", hits[2].getHighlightFields().get(TEXT_FIELD).fragments()[0].string());
+        assertEquals(1L, EventStatName.SEMANTIC_HIGHLIGHTING_BATCH_REQUEST_COUNT.getEventStat().getValue());
+        assertEquals(3L, EventStatName.SEMANTIC_HIGHLIGHTING_REQUEST_COUNT.getEventStat().getValue());
+    }
+
+    public void testProcessResponseAsync_whenNoBatchInference_thenResponseUnchanged() {
+        SemanticHighlightingResponseProcessor processor = createProcessor(2);
+        SearchResponse response = createResponse("first text");
+        List<SearchResponse> responses = new ArrayList<>();
+
+        processor.processResponseAsync(
+            createRequest(false),
+            response,
+            null,
+            ActionListener.wrap(responses::add, e -> fail("unexpected failure"))
+        );
+
+        assertEquals(List.of(response), responses);
+        assertTrue(response.getHits().getHits()[0].getHighlightFields().isEmpty());
+        verify(clientAccessor, never()).inferenceSentenceHighlighting(any(), any());
+    }
+
+    public void testProcessResponseAsync_whenInferenceFails_thenFailOnceAndStopDispatching() {
+        SemanticHighlightingResponseProcessor processor = createProcessor(1);
+        SearchResponse response = createResponse("first text", "second text");
+        List<Exception> exceptions = new ArrayList<>();
+
+        processor.processResponseAsync(
+            createRequest(true),
+            response,
+            null,
+            ActionListener.wrap(r -> fail("unexpected response"), exceptions::add)
+        );
+        inferenceListeners.getFirst().onFailure(new RuntimeException("model failure"));
+
+        assertEquals(1, exceptions.size());
+        assertEquals("Error during sentence highlighting inference from model [model_id]", exceptions.getFirst().getMessage());
+        assertEquals(1, inferenceListeners.size());
+    }
+
+    public void testProcessResponse_thenUnsupported() {
+        SemanticHighlightingResponseProcessor processor = createProcessor(1);
+
+        expectThrows(UnsupportedOperationException.class, () -> processor.processResponse(createRequest(true), createResponse()));
+    }
+
+    private SemanticHighlightingResponseProcessor createProcessor(int maxConcurrentInferences) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SemanticHighlightingResponseProcessorFactory.MAX_CONCURRENT_INFERENCES_FIELD, maxConcurrentInferences);
+        return (SemanticHighlightingResponseProcessor) new SemanticHighlightingResponseProcessorFactory(clientAccessor).create(
+            Map.of(),
+            "tag",
+            "description",
+            false,
+            config,
+            null
+        );
+    }
+
+    private SearchRequest createRequest(boolean batchInference) {
+        Map<String, Object> options = new HashMap<>();
+        options.put("model_id", MODEL_ID);
+        options.put("batch_inference", batchInference);
+        HighlightBuilder highlightBuilder = new HighlightBuilder().field(
+            new HighlightBuilder.Field(TEXT_FIELD).highlighterType("semantic").options(options)
+        );
+        return new SearchRequest().source(
+            new SearchSourceBuilder().query(QueryBuilders.matchQuery(TEXT_FIELD, QUERY_TEXT)).highlighter(highlightBuilder)
+        );
+    }
+
+    private SearchResponse createResponse(String... texts) {
+        SearchHit[] hits = new SearchHit[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            hits[i] = new SearchHit(i, String.valueOf(i), Collections.emptyMap(), Collections.emptyMap());
+            hits[i].sourceRef(new BytesArray("{\"" + TEXT_FIELD + "\":\"" + texts[i] + "\"}"));
+        }
+        SearchHits searchHits = new SearchHits(hits, new TotalHits(texts.length, TotalHits.Relation.EQUAL_TO), 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        return new SearchResponse(internal, null, 1, 1, 0, 1, new ShardSearchFailure[0], new SearchResponse.Clusters(1, 1, 0), null);
+    }
+
+    private List<Map<String, Object>> createModelResult(int start, int end) {
+        return List.of(Map.of("highlights", List.of(Map.of("start", start, "end", end))));
+    }
+}
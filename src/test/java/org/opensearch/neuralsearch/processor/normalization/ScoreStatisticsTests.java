@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.normalization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.neuralsearch.processor.CompoundTopDocs;
+import org.opensearch.neuralsearch.processor.SearchShard;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ScoreStatisticsTests extends OpenSearchTestCase {
+    private static final float DELTA_FOR_ASSERTION = 0.0001f;
+    private static final SearchShard SEARCH_SHARD = new SearchShard("my_index", 0, "12345678");
+
+    public void testCollect_whenMultipleShards_thenStatisticsMatchDescriptiveStatistics() {
+        int numOfSubQueries = randomIntBetween(1, 5);
+        int numOfShards = randomIntBetween(1, 5);
+        DescriptiveStatistics[] expected = new DescriptiveStatistics[numOfSubQueries];
+        for (int i = 0; i < numOfSubQueries; i++) {
+            expected[i] = new DescriptiveStatistics();
+        }
+        List<CompoundTopDocs> queryTopDocs = new ArrayList<>();
+        for (int shard = 0; shard < numOfShards; shard++) {
+            List<TopDocs> topDocsPerSubQuery = new ArrayList<>();
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                ScoreDoc[] scoreDocs = new ScoreDoc[randomIntBetween(1, 50)];
+                for (int i = 0; i < scoreDocs.length; i++) {
+                    scoreDocs[i] = new ScoreDoc(i, randomFloat() * 10);
+                    expected[subQueryIndex].addValue(scoreDocs[i].score);
+                }
+                topDocsPerSubQuery.add(new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs));
+            }
+            queryTopDocs.add(new CompoundTopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), topDocsPerSubQuery, false, SEARCH_SHARD));
+        }
+        // shards without results are skipped
+        queryTopDocs.add(null);
+
+        ScoreStatistics statistics = ScoreStatistics.collect(queryTopDocs);
+
+        assertEquals(numOfSubQueries, statistics.getNumOfSubQueries());
+        for (int i = 0; i < numOfSubQueries; i++) {
+            assertEquals(expected[i].getN(), statistics.getCount(i));
+            assertEquals((float) expected[i].getMin(), statistics.getMinScore(i), 0.0f);
+            assertEquals((float) expected[i].getMax(), statistics.getMaxScore(i), 0.0f);
+            assertEquals((float) expected[i].getMean(), statistics.getMean(i), DELTA_FOR_ASSERTION);
+            assertEquals((float) expected[i].getStandardDeviation(), statistics.getStandardDeviation(i), DELTA_FOR_ASSERTION);
+            double sumOfSquares = Arrays.stream(expected[i].getValues()).map(value -> value * value).sum();
+            assertEquals((float) Math.sqrt(sumOfSquares), statistics.getL2Norm(i), DELTA_FOR_ASSERTION);
+        }
+    }
+
+    public void testCollect_whenSingleScoreOrNoScores_thenStandardDeviationIsZero() {
+        List<TopDocs> topDocsPerSubQuery = List.of(
+            new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(1, 0.7f) }),
+            new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0])
+        );
+        ScoreStatistics statistics = ScoreStatistics.collect(
+            List.of(new CompoundTopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), topDocsPerSubQuery, false, SEARCH_SHARD))
+        );
+
+        assertEquals(1, statistics.getCount(0));
+        assertEquals(0.7f, statistics.getMean(0), DELTA_FOR_ASSERTION);
+        assertEquals(0.0f, statistics.getStandardDeviation(0), 0.0f);
+        assertEquals(0.7f, statistics.getMinScore(0), 0.0f);
+        assertEquals(0.7f, statistics.getMaxScore(0), 0.0f);
+        assertEquals(0, statistics.getCount(1));
+        assertEquals(0.0f, statistics.getStandardDeviation(1), 0.0f);
+        assertEquals(0.0f, statistics.getL2Norm(1), 0.0f);
+    }
+
+    public void testCollect_whenShardsReturnScoreStatistics_thenStatisticsMatchAllCollectedScores() {
+        int numOfSubQueries = randomIntBetween(1, 3);
+        DescriptiveStatistics[] expected = new DescriptiveStatistics[numOfSubQueries];
+        for (int i = 0; i < numOfSubQueries; i++) {
+            expected[i] = new DescriptiveStatistics();
+        }
+        List<CompoundTopDocs> queryTopDocs = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            // first shard returns all collected hits, other shards return statistics of collected hits and only the top hit
+            boolean withScoreStatistics = shard > 0;
+            List<TopDocs> topDocsPerSubQuery = new ArrayList<>();
+            List<SubQueryScoreStatistics> scoreStatistics = new ArrayList<>();
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                ScoreDoc[] scoreDocs = new ScoreDoc[randomIntBetween(1, 50)];
+                for (int i = 0; i < scoreDocs.length; i++) {
+                    scoreDocs[i] = new ScoreDoc(i, 5.0f + randomFloat());
+                    expected[subQueryIndex].addValue(scoreDocs[i].score);
+                }
+                scoreStatistics.add(SubQueryScoreStatistics.of(scoreDocs, 0, scoreDocs.length));
+                ScoreDoc[] returnedScoreDocs = withScoreStatistics ? Arrays.copyOf(scoreDocs, 1) : scoreDocs;
+                topDocsPerSubQuery.add(
+                    new TopDocs(new TotalHits(returnedScoreDocs.length, TotalHits.Relation.EQUAL_TO), returnedScoreDocs)
+                );
+            }
+            CompoundTopDocs compoundTopDocs = new CompoundTopDocs(
+                new TotalHits(0, TotalHits.Relation.EQUAL_TO),
+                topDocsPerSubQuery,
+                false,
+                SEARCH_SHARD
+            );
+            if (withScoreStatistics) {
+                compoundTopDocs.setScoreStatistics(scoreStatistics);
+            }
+            queryTopDocs.add(compoundTopDocs);
+        }
+
+        ScoreStatistics statistics = ScoreStatistics.collect(queryTopDocs);
+
+        for (int i = 0; i < numOfSubQueries; i++) {
+            assertEquals(expected[i].getN(), statistics.getCount(i));
+            assertEquals((float) expected[i].getMin(), statistics.getMinScore(i), 0.0f);
+            assertEquals((float) expected[i].getMax(), statistics.getMaxScore(i), 0.0f);
+            assertEquals((float) expected[i].getMean(), statistics.getMean(i), DELTA_FOR_ASSERTION);
+            assertEquals((float) expected[i].getStandardDeviation(), statistics.getStandardDeviation(i), DELTA_FOR_ASSERTION);
+            double sumOfSquares = Arrays.stream(expected[i].getValues()).map(value -> value * value).sum();
+            assertEquals((float) Math.sqrt(sumOfSquares), statistics.getL2Norm(i), DELTA_FOR_ASSERTION);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.VersionType;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveBatchSizerTests extends OpenSearchTestCase {
+    private static final long TARGET_LATENCY_IN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private AtomicLong nanoTime;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isAdaptiveBatchSizeEnabled()).thenReturn(true);
+        when(settingsAccessor.getAdaptiveBatchSizeMaxBatchSize()).thenReturn(4);
+        when(settingsAccessor.getAdaptiveBatchSizeTargetLatency()).thenReturn(TimeValue.timeValueSeconds(1));
+        when(settingsAccessor.getAdaptiveBatchSizeMaxCharsPerBatch()).thenReturn(0);
+        AdaptiveBatchSizer.initialize(settingsAccessor);
+        nanoTime = new AtomicLong();
+    }
+
+    @After
+    public void resetSizer() {
+        AdaptiveBatchSizer.initialize(null);
+    }
+
+    public void testIsEnabled_whenNotInitializedOrDisabled_thenFalse() {
+        assertTrue(new AdaptiveBatchSizer(2).isEnabled());
+        when(settingsAccessor.isAdaptiveBatchSizeEnabled()).thenReturn(false);
+        assertFalse(new AdaptiveBatchSizer(2).isEnabled());
+        AdaptiveBatchSizer.initialize(null);
+        assertFalse(new AdaptiveBatchSizer(2).isEnabled());
+    }
+
+    public void testOnSubBatchComplete_whenFullBatchWithinTargetLatency_thenGrowUpToMax() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(2, nanoTime::get);
+
+        sizer.onSubBatchComplete(2, 0, TARGET_LATENCY_IN_NANOS / 2, 0);
+        assertEquals(3, sizer.getCurrentBatchSize());
+        // a sub-batch smaller than the batch size does not show the model can take more documents
+        sizer.onSubBatchComplete(1, 0, TARGET_LATENCY_IN_NANOS / 2, 0);
+        assertEquals(3, sizer.getCurrentBatchSize());
+        sizer.onSubBatchComplete(3, 0, TARGET_LATENCY_IN_NANOS / 2, 0);
+        sizer.onSubBatchComplete(4, 0, TARGET_LATENCY_IN_NANOS / 2, 0);
+        assertEquals(4, sizer.getCurrentBatchSize());
+        assertEquals(2, EventStatName.ADAPTIVE_BATCH_SIZE_INCREASES.getEventStat().getValue());
+    }
+
+    public void testOnSubBatchComplete_whenOverTargetLatency_thenShrinkProportionally() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(4, nanoTime::get);
+
+        sizer.onSubBatchComplete(4, 0, TARGET_LATENCY_IN_NANOS * 4 / 3, 0);
+        assertEquals(3, sizer.getCurrentBatchSize());
+        // shrinking is bounded to halving the batch size
+        sizer.onSubBatchComplete(3, 0, TARGET_LATENCY_IN_NANOS * 10, 0);
+        assertEquals(1, sizer.getCurrentBatchSize());
+        sizer.onSubBatchComplete(1, 0, TARGET_LATENCY_IN_NANOS * 10, 0);
+        assertEquals(1, sizer.getCurrentBatchSize());
+        assertEquals(2, EventStatName.ADAPTIVE_BATCH_SIZE_DECREASES.getEventStat().getValue());
+    }
+
+    public void testOnSubBatchComplete_whenMostDocsFailed_thenHalve() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(4, nanoTime::get);
+
+        sizer.onSubBatchComplete(4, 0, TARGET_LATENCY_IN_NANOS / 2, 2);
+        assertEquals(4, sizer.getCurrentBatchSize());
+        sizer.onSubBatchComplete(4, 0, TARGET_LATENCY_IN_NANOS / 2, 3);
+        assertEquals(2, sizer.getCurrentBatchSize());
+    }
+
+    public void testCutBatches_whenBatchSizeReached_thenStartNewBatch() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(2, nanoTime::get);
+
+        assertEquals(List.of(2, 4, 5), sizer.cutBatches(new long[] { 1, 1, 1, 1, 1 }));
+    }
+
+    public void testCutBatches_whenMaxCharsPerBatchReached_thenStartNewBatch() {
+        when(settingsAccessor.getAdaptiveBatchSizeMaxCharsPerBatch()).thenReturn(10);
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(4, nanoTime::get);
+
+        // a document longer than the budget is sent alone
+        assertEquals(List.of(2, 3, 4), sizer.cutBatches(new long[] { 4, 6, 20, 1 }));
+    }
+
+    public void testCutBatches_whenLatencyPerCharObserved_thenSplitOnCharBudget() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(4, nanoTime::get);
+        // 100 chars took half of the target latency, so the char budget is 200 chars
+        sizer.onSubBatchComplete(1, 100, TARGET_LATENCY_IN_NANOS / 2, 0);
+
+        assertEquals(List.of(2, 3), sizer.cutBatches(new long[] { 100, 100, 100 }));
+    }
+
+    public void testBatchExecute_thenExecuteSubBatchesAndCallHandlerOnce() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(2, nanoTime::get);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ingestDocumentWrappers.add(createIngestDocumentWrapper(i));
+        }
+        List<List<IngestDocumentWrapper>> subBatches = new ArrayList<>();
+        List<List<IngestDocumentWrapper>> handlerResults = new ArrayList<>();
+
+        sizer.batchExecute(ingestDocumentWrappers, doc -> 10, (subBatch, handler) -> {
+            subBatches.add(subBatch);
+            nanoTime.addAndGet(TARGET_LATENCY_IN_NANOS / 10);
+            handler.accept(subBatch);
+        }, handlerResults::add);
+
+        // sub-batches are cut up front, the batch size grows for the next call
+        assertEquals(List.of(2, 2, 1), subBatches.stream().map(List::size).toList());
+        assertEquals(3, sizer.getCurrentBatchSize());
+        assertEquals(1, handlerResults.size());
+        assertEquals(5, handlerResults.getFirst().size());
+    }
+
+    public void testEstimateTextLength_thenCountNestedStrings() {
+        Map<String, Object> value = new HashMap<>();
+        value.put("title", "abc");
+        value.put("tags", List.of("de", "f"));
+        value.put("count", 10);
+
+        assertEquals(6, AdaptiveBatchSizer.estimateTextLength(value));
+        assertEquals(0, AdaptiveBatchSizer.estimateTextLength(null));
+    }
+
+    private IngestDocumentWrapper createIngestDocumentWrapper(int slot) {
+        IngestDocument ingestDocument = new IngestDocument("index", String.valueOf(slot), null, 1L, VersionType.INTERNAL, new HashMap<>());
+        return new IngestDocumentWrapper(slot, 0, ingestDocument, null);
+    }
+}
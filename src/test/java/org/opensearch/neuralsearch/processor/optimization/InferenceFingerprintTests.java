@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceFingerprintTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "modelId";
+
+    public void testOf_whenText_thenStableHexFingerprint() {
+        Object fingerprint = InferenceFingerprint.of(MODEL_ID, "hello world");
+
+        assertTrue(fingerprint instanceof String);
+        assertTrue(((String) fingerprint).matches("[0-9a-f]{16}"));
+        assertEquals(fingerprint, InferenceFingerprint.of(MODEL_ID, "hello world"));
+        assertNotEquals(fingerprint, InferenceFingerprint.of(MODEL_ID, "hello world!"));
+        // embeddings of another model are regenerated
+        assertNotEquals(fingerprint, InferenceFingerprint.of("otherModelId", "hello world"));
+    }
+
+    public void testOf_whenList_thenFingerprintPerText() {
+        Object fingerprints = InferenceFingerprint.of(MODEL_ID, Arrays.asList("a", 1, "b"));
+
+        assertEquals(
+            Arrays.asList(InferenceFingerprint.of(MODEL_ID, "a"), null, InferenceFingerprint.of(MODEL_ID, "b")),
+            fingerprints
+        );
+        assertNull(InferenceFingerprint.of(MODEL_ID, 1));
+        assertNull(InferenceFingerprint.of(MODEL_ID, null));
+    }
+
+    public void testWrite_whenTopLevelField_thenFingerprintNextToEmbedding() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("text", "hello");
+
+        InferenceFingerprint.write(source, "embedding", "text", MODEL_ID);
+
+        assertEquals(InferenceFingerprint.of(MODEL_ID, "hello"), source.get("embedding_fingerprint"));
+    }
+
+    public void testWrite_whenNestedListOfObjects_thenFingerprintInEveryObject() {
+        Map<String, Object> first = new HashMap<>();
+        first.put("text", "a");
+        Map<String, Object> second = new HashMap<>();
+        second.put("text", "b");
+        Map<String, Object> source = new HashMap<>();
+        source.put("nested", new ArrayList<>(List.of(first, second)));
+
+        InferenceFingerprint.write(source, "nested.embedding", "nested.text", MODEL_ID);
+
+        assertEquals(InferenceFingerprint.of(MODEL_ID, "a"), first.get("embedding_fingerprint"));
+        assertEquals(InferenceFingerprint.of(MODEL_ID, "b"), second.get("embedding_fingerprint"));
+    }
+
+    public void testWrite_whenTextAndEmbeddingInDifferentObjects_thenNoFingerprint() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("text", "a");
+        Map<String, Object> source = new HashMap<>();
+        source.put("nested", nested);
+
+        InferenceFingerprint.write(source, "embedding", "nested.text", MODEL_ID);
+
+        assertEquals(Map.of("nested", Map.of("text", "a")), source);
+    }
+
+    public void testIsMapped_whenFingerprintFieldMapped_thenTrue() {
+        Map<String, Object> mapping = Map.of(
+            "properties",
+            Map.of("nested", Map.of("properties", Map.of("embedding_fingerprint", Map.of("type", "keyword", "index", false))))
+        );
+
+        assertTrue(InferenceFingerprint.isMapped(mapping, "nested.embedding", "nested.text"));
+        assertFalse(InferenceFingerprint.isMapped(mapping, "embedding", "text"));
+        assertFalse(InferenceFingerprint.isMapped(Map.of(), "nested.embedding", "nested.text"));
+        // no fingerprint is written when the text and the embedding are in different objects
+        assertTrue(InferenceFingerprint.isMapped(Map.of(), "embedding", "nested.text"));
+    }
+}
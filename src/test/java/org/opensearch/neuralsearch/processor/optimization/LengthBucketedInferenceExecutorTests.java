@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.optimization;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LengthBucketedInferenceExecutorTests extends OpenSearchTestCase {
+    private static final List<String> SORTED_TEXTS = List.of("a", "b", "cc", "dd", "eee");
+
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private List<List<String>> bucketTexts;
+    private List<Consumer<List<?>>> bucketHandlers;
+    private List<Consumer<Exception>> bucketExceptionHandlers;
+    private LengthBucketedInferenceExecutor.BatchInference batchInference;
+
+    @Before
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isIngestInferencePipeliningEnabled()).thenReturn(true);
+        when(settingsAccessor.getIngestInferencePipeliningBucketSize()).thenReturn(2);
+        when(settingsAccessor.getIngestInferencePipeliningMaxConcurrentBuckets()).thenReturn(2);
+        LengthBucketedInferenceExecutor.initialize(settingsAccessor);
+        bucketTexts = new ArrayList<>();
+        bucketHandlers = new ArrayList<>();
+        bucketExceptionHandlers = new ArrayList<>();
+        batchInference = (inferenceList, handler, onException) -> {
+            bucketTexts.add(inferenceList);
+            bucketHandlers.add(handler);
+            bucketExceptionHandlers.add(onException);
+        };
+    }
+
+    @After
+    public void resetExecutor() {
+        LengthBucketedInferenceExecutor.initialize(null);
+    }
+
+    public void testExecute_whenDisabled_thenSingleCall() {
+        when(settingsAccessor.isIngestInferencePipeliningEnabled()).thenReturn(false);
+
+        LengthBucketedInferenceExecutor.execute(SORTED_TEXTS, batchInference, results -> {}, e -> {});
+
+        assertEquals(List.of(SORTED_TEXTS), bucketTexts);
+    }
+
+    public void testExecute_whenListFitsInOneBucket_thenSingleCall() {
+        LengthBucketedInferenceExecutor.execute(List.of("a", "b"), batchInference, results -> {}, e -> {});
+
+        assertEquals(List.of(List.of("a", "b")), bucketTexts);
+    }
+
+    public void testExecute_whenEnabled_thenBoundedConcurrentBucketsAndResultsInOrder() {
+        List<List<?>> results = new ArrayList<>();
+
+        LengthBucketedInferenceExecutor.execute(SORTED_TEXTS, batchInference, results::add, e -> fail("unexpected failure"));
+
+        // only two buckets are in flight
+        assertEquals(List.of(List.of("a", "b"), List.of("cc", "dd")), bucketTexts);
+        // the bucket of longer texts completes first, it frees a slot for the last bucket
+        bucketHandlers.get(1).accept(List.of("result_cc", "result_dd"));
+        assertEquals(List.of("eee"), bucketTexts.get(2));
+        bucketHandlers.get(2).accept(List.of("result_eee"));
+        assertTrue(results.isEmpty());
+        bucketHandlers.get(0).accept(List.of("result_a", "result_b"));
+
+        assertEquals(List.of(List.of("result_a", "result_b", "result_cc", "result_dd", "result_eee")), results);
+        assertEquals(3, EventStatName.INGEST_INFERENCE_PIPELINED_BUCKETS.getEventStat().getValue());
+    }
+
+    public void testExecute_whenBucketFails_thenFailOnceAndStopDispatching() {
+        List<Exception> exceptions = new ArrayList<>();
+        RuntimeException exception = new RuntimeException("model failure");
+
+        LengthBucketedInferenceExecutor.execute(SORTED_TEXTS, batchInference, results -> fail("unexpected results"), exceptions::add);
+        bucketExceptionHandlers.get(0).accept(exception);
+        bucketHandlers.get(1).accept(List.of("result_cc", "result_dd"));
+
+        assertEquals(List.of(exception), exceptions);
+        assertEquals(2, bucketTexts.size());
+    }
+
+    public void testExecute_whenResultCountMismatch_thenFail() {
+        List<Exception> exceptions = new ArrayList<>();
+
+        LengthBucketedInferenceExecutor.execute(SORTED_TEXTS, batchInference, results -> fail("unexpected results"), exceptions::add);
+        bucketHandlers.get(0).accept(List.of("result_a"));
+
+        assertEquals(1, exceptions.size());
+        assertEquals("expected [2] inference results but got [1]", exceptions.getFirst().getMessage());
+    }
+}
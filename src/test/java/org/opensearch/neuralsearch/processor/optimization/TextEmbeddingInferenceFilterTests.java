@@ -5,8 +5,13 @@
 package org.opensearch.neuralsearch.processor.optimization;
 
 import org.junit.Before;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.neuralsearch.processor.util.ProcessorUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -243,4 +248,143 @@ public class TextEmbeddingInferenceFilterTests extends OpenSearchTestCase {
         assertEquals(2, ((List) ((Map) result.get("outerField")).get("embeddingField")).size());
         assertNull(sourceAndMetadataMap.get("outerField"));
     }
+
+    public void test_filterInferenceValue_FingerprintUnchanged_ShouldCopyEmbedding() {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        List<Double> embeddingValue = Arrays.asList(0.1, 0.2, 0.3);
+        // the existing document is fetched without its text
+        existingSourceAndMetadataMap.put("embeddingField_fingerprint", InferenceFingerprint.of("modelId", "Hello World"));
+        existingSourceAndMetadataMap.put("embeddingField", embeddingValue);
+
+        Object result = filter.filterInferenceValue(
+            "embeddingField",
+            "Hello World",
+            sourceAndMetadataMap,
+            existingSourceAndMetadataMap,
+            -1
+        );
+
+        assertNull(result);
+        assertEquals(embeddingValue, sourceAndMetadataMap.get("embeddingField"));
+    }
+
+    public void test_filterInferenceValue_FingerprintOfOtherModel_ShouldNotCopyEmbedding() {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        existingSourceAndMetadataMap.put("textField", "Hello World");
+        existingSourceAndMetadataMap.put("embeddingField_fingerprint", InferenceFingerprint.of("otherModelId", "Hello World"));
+        existingSourceAndMetadataMap.put("embeddingField", Arrays.asList(0.1, 0.2, 0.3));
+
+        Object result = filter.filterInferenceValue(
+            "embeddingField",
+            "Hello World",
+            sourceAndMetadataMap,
+            existingSourceAndMetadataMap,
+            -1
+        );
+
+        assertEquals("Hello World", result);
+        assertNull(sourceAndMetadataMap.get("embeddingField"));
+    }
+
+    public void test_filterInferenceValue_NoExistingFingerprint_ShouldNotCopyEmbedding() {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        existingSourceAndMetadataMap.put("textField", "Hello World");
+        existingSourceAndMetadataMap.put("embeddingField", Arrays.asList(0.1, 0.2, 0.3));
+
+        Object result = filter.filterInferenceValue(
+            "embeddingField",
+            "Hello World",
+            sourceAndMetadataMap,
+            existingSourceAndMetadataMap,
+            -1
+        );
+
+        assertEquals("Hello World", result);
+    }
+
+    public void test_filterInferenceValuesInList_FingerprintsUnchanged_ShouldCopyAllEmbeddings() {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        List<Object> processList = Arrays.asList("Text A", "Text B");
+        List<Object> embeddingList = Arrays.asList(Arrays.asList(0.1, 0.2), Arrays.asList(0.3, 0.4));
+
+        List<Object> result = filter.copyEmbeddingForListObject(
+            "embeddingField",
+            processList,
+            ProcessorUtils.unsafeCastToObjectList(InferenceFingerprint.of("modelId", processList)),
+            embeddingList,
+            sourceAndMetadataMap
+        );
+
+        assertNull(result);
+        assertEquals(embeddingList, sourceAndMetadataMap.get("embeddingField"));
+    }
+
+    public void test_writeFingerprints_WhenEnabled_ShouldWriteNextToEmbedding() {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        sourceAndMetadataMap.put("textField", "Hello World");
+
+        filter.writeFingerprints(sourceAndMetadataMap);
+        textEmbeddingInferenceFilter.writeFingerprints(existingSourceAndMetadataMap);
+
+        assertEquals(InferenceFingerprint.of("modelId", "Hello World"), sourceAndMetadataMap.get("embeddingField_fingerprint"));
+        assertTrue(existingSourceAndMetadataMap.isEmpty());
+    }
+
+    public void test_getExistingDocumentFetchSourceContext_ShouldFetchOnlyEmbeddingsAndFingerprints() {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+
+        FetchSourceContext fetchSourceContext = filter.getExistingDocumentFetchSourceContext();
+
+        assertTrue(fetchSourceContext.fetchSource());
+        assertArrayEquals(new String[] { "embeddingField", "embeddingField_fingerprint" }, fetchSourceContext.includes());
+        assertNull(textEmbeddingInferenceFilter.getExistingDocumentFetchSourceContext());
+    }
+
+    public void test_forIndex_WhenFingerprintMapped_ShouldUseFingerprints() throws IOException {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        IndexMetadata indexMetadata = createIndexMetadata("{\"properties\":{\"embeddingField_fingerprint\":{\"type\":\"keyword\"}}}");
+
+        assertSame(filter, filter.forIndex(indexMetadata));
+        assertSame(textEmbeddingInferenceFilter, textEmbeddingInferenceFilter.forIndex(null));
+    }
+
+    public void test_forIndex_WhenFingerprintNotMapped_ShouldCompareByContent() throws IOException {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        sourceAndMetadataMap.put("textField", "Hello World");
+
+        InferenceFilter contentFilter = filter.forIndex(createIndexMetadata("{\"properties\":{\"textField\":{\"type\":\"text\"}}}"));
+        contentFilter.writeFingerprints(sourceAndMetadataMap);
+
+        assertNotSame(filter, contentFilter);
+        assertSame(contentFilter, filter.forIndex(null));
+        assertNull(contentFilter.getExistingDocumentFetchSourceContext());
+        assertFalse(sourceAndMetadataMap.containsKey("embeddingField_fingerprint"));
+    }
+
+    public void test_forIndex_WhenIndexRecreatedWithSameMappingVersion_ShouldCheckNewMapping() throws IOException {
+        TextEmbeddingInferenceFilter filter = new TextEmbeddingInferenceFilter(Map.of("textField", "embeddingField"), true, "modelId");
+        IndexMetadata indexMetadata = createIndexMetadata(
+            "{\"properties\":{\"embeddingField_fingerprint\":{\"type\":\"keyword\"}}}",
+            "first-uuid"
+        );
+        IndexMetadata recreatedIndexMetadata = createIndexMetadata("{\"properties\":{\"textField\":{\"type\":\"text\"}}}", "second-uuid");
+        assertEquals(indexMetadata.getMappingVersion(), recreatedIndexMetadata.getMappingVersion());
+
+        assertSame(filter, filter.forIndex(indexMetadata));
+        assertNotSame(filter, filter.forIndex(recreatedIndexMetadata));
+        assertSame(filter, filter.forIndex(indexMetadata));
+    }
+
+    private IndexMetadata createIndexMetadata(String mapping) throws IOException {
+        return createIndexMetadata(mapping, IndexMetadata.INDEX_UUID_NA_VALUE);
+    }
+
+    private IndexMetadata createIndexMetadata(String mapping, String indexUuid) throws IOException {
+        return IndexMetadata.builder("index")
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, indexUuid))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .putMapping(mapping)
+            .build();
+    }
 }
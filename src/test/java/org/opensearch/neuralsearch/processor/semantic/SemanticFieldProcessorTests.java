@@ -13,9 +13,12 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.env.Environment;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.analysis.AnalysisRegistry;
@@ -24,12 +27,14 @@ import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.neuralsearch.cache.IngestInferenceCache;
 import org.opensearch.neuralsearch.mapper.SemanticFieldMapper;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextInferenceRequest;
 import org.opensearch.neuralsearch.processor.chunker.Chunker;
 import org.opensearch.neuralsearch.processor.chunker.ChunkerFactory;
 import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -295,6 +300,44 @@ public class SemanticFieldProcessorTests extends OpenSearchTestCase {
 
     }
 
+    @SuppressWarnings("unchecked")
+    public void testSubBatchExecute_whenInferenceCacheEnabled_thenReuseCachedEmbeddings() throws URISyntaxException, IOException {
+        final NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isIngestInferenceCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getIngestInferenceCacheMaxEntries()).thenReturn(100);
+        when(settingsAccessor.getIngestInferenceCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        when(settingsAccessor.getIngestInferenceCacheExpireAfter()).thenReturn(TimeValue.timeValueMinutes(10));
+        IngestInferenceCache.instance().initialize(settingsAccessor);
+        mockGetModelAndInferenceAPI();
+
+        try {
+            final Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+            semanticFieldProcessor.subBatchExecute(
+                List.of(createIngestDocWrapper("1", readDocSourceFromFile("processor/semantic/ingest_doc1.json"))),
+                handler
+            );
+            // the same doc is ingested again, its embeddings are served from the cache
+            semanticFieldProcessor.subBatchExecute(
+                List.of(createIngestDocWrapper("1", readDocSourceFromFile("processor/semantic/ingest_doc1.json"))),
+                handler
+            );
+
+            final ArgumentCaptor<List<IngestDocumentWrapper>> handlerCaptor = ArgumentCaptor.forClass(List.class);
+            verify(handler, times(2)).accept(handlerCaptor.capture());
+            verify(mlCommonsClientAccessor, times(1)).inferenceSentences(any(), any());
+            verify(mlCommonsClientAccessor, times(1)).inferenceSentencesWithMapResult(any(), any());
+
+            final Map<String, Object> expectedIngestedDoc1 = readExpectedDocFromFile("processor/semantic/ingested_doc1.json");
+            for (List<IngestDocumentWrapper> ingestedDocs : handlerCaptor.getAllValues()) {
+                assertNull(ingestedDocs.get(0).getException());
+                org.assertj.core.api.Assertions.assertThat(ingestedDocs.get(0).getIngestDocument().getSourceAndMetadata())
+                    .isEqualTo(expectedIngestedDoc1);
+            }
+        } finally {
+            IngestInferenceCache.instance().initialize(null);
+        }
+    }
+
     public void testSubBatchExecute_whenModelNotFound_thenAddExceptionToDocProperly() throws URISyntaxException, IOException {
         // prepare ingest doc 1
         final Map<String, Object> ingestDocSource1 = readDocSourceFromFile("processor/semantic/ingest_doc1.json");
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.util;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.lucene.search.TaskExecutor;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ShardSliceUtilsTests extends OpenSearchTestCase {
+
+    public void testGetShardSlices_whenEnoughHits_thenSlicesHaveMinHits() {
+        long[] numOfHits = { 5, 3, 2, 10, 1, 1 };
+
+        List<int[]> slices = ShardSliceUtils.getShardSlices(numOfHits.length, shardIndex -> numOfHits[shardIndex], 5);
+
+        assertEquals(3, slices.size());
+        assertArrayEquals(new int[] { 0, 1 }, slices.get(0));
+        assertArrayEquals(new int[] { 1, 3 }, slices.get(1));
+        // hits of the last shards are not enough for a separate slice
+        assertArrayEquals(new int[] { 3, 6 }, slices.get(2));
+    }
+
+    public void testGetShardSlices_whenNotEnoughHitsOrDisabled_thenSingleSlice() {
+        long[] numOfHits = { 5, 3, 2 };
+
+        List<int[]> slices = ShardSliceUtils.getShardSlices(numOfHits.length, shardIndex -> numOfHits[shardIndex], 100);
+        assertEquals(1, slices.size());
+        assertArrayEquals(new int[] { 0, 3 }, slices.get(0));
+
+        slices = ShardSliceUtils.getShardSlices(numOfHits.length, shardIndex -> numOfHits[shardIndex], 0);
+        assertEquals(1, slices.size());
+        assertArrayEquals(new int[] { 0, 3 }, slices.get(0));
+
+        slices = ShardSliceUtils.getShardSlices(0, shardIndex -> 0, 1);
+        assertEquals(1, slices.size());
+        assertArrayEquals(new int[] { 0, 0 }, slices.get(0));
+    }
+
+    public void testProcessShardSlices_whenSingleSlice_thenProcessedOnCallingThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        TaskExecutor taskExecutor = new TaskExecutor(command -> fail("executor must not be used for a single slice"));
+
+        ShardSliceUtils.processShardSlices(3, shardIndex -> 10, (from, to) -> {
+            assertEquals(0, from);
+            assertEquals(3, to);
+            threads.add(Thread.currentThread());
+        }, 100, taskExecutor);
+
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    public void testProcessShardSlices_whenMultipleSlices_thenEveryShardProcessedOnce() throws InterruptedException {
+        int numOfShards = randomIntBetween(2, 200);
+        AtomicIntegerArray processedShards = new AtomicIntegerArray(numOfShards);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ShardSliceUtils.processShardSlices(numOfShards, shardIndex -> randomIntBetween(0, 100), (from, to) -> {
+                for (int shardIndex = from; shardIndex < to; shardIndex++) {
+                    processedShards.incrementAndGet(shardIndex);
+                }
+            }, randomIntBetween(1, 200), new TaskExecutor(executorService));
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        for (int shardIndex = 0; shardIndex < numOfShards; shardIndex++) {
+            assertEquals(1, processedShards.get(shardIndex));
+        }
+    }
+
+    public void testProcessShardSlices_whenSliceFails_thenExceptionRethrown() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException exception = expectThrows(
+                IllegalStateException.class,
+                () -> ShardSliceUtils.processShardSlices(4, shardIndex -> 10, (from, to) -> {
+                    if (from == 0) {
+                        throw new IllegalStateException("failed slice");
+                    }
+                }, 10, new TaskExecutor(executorService))
+            );
+            assertEquals("failed slice", exception.getMessage());
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
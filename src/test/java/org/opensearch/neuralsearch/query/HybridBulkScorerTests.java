@@ -4,17 +4,50 @@
  */
 package org.opensearch.neuralsearch.query;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterScorer;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TaskExecutor;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.analysis.MockAnalyzer;
+import org.apache.lucene.tests.index.AssertingDirectoryReader;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.IOSupplier;
 import org.junit.Before;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -22,6 +55,7 @@ import static org.mockito.Mockito.when;
 public class HybridBulkScorerTests extends OpenSearchTestCase {
 
     private static final int MAX_DOC = 1000;
+    private static final String TEXT_FIELD_NAME = "text";
     private Scorer mockScorer1;
     private Scorer mockScorer2;
     private DocIdSetIterator mockIterator1;
@@ -106,4 +140,276 @@ public class HybridBulkScorerTests extends OpenSearchTestCase {
         int result = bulkScorer.score(mockLeafCollector, null, 0, MAX_DOC + 100);
         assertEquals(MAX_DOC, result);
     }
+
+    public void testScore_whenPruneNonCompetitiveDocs_thenSameTopDocsWithLessScoredDocs() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())))) {
+                for (int i = 0; i < 20_000; i++) {
+                    // few docs have high term frequency of the common term, so most blocks of docs are not competitive
+                    String text = (i % 1_000 == 0 ? "common ".repeat(20) : "common other") + (i % 7 == 0 ? " rare" : "");
+                    Document document = new Document();
+                    document.add(new TextField(TEXT_FIELD_NAME, text, Field.Store.NO));
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                AtomicInteger exhaustiveScoredDocs = new AtomicInteger();
+                AtomicInteger prunedScoredDocs = new AtomicInteger();
+
+                List<String> terms = List.of("common", "rare");
+
+                List<TopDocs> exhaustiveTopDocs = collectTopDocs(searcher, terms, false, null, exhaustiveScoredDocs);
+                List<TopDocs> prunedTopDocs = collectTopDocs(searcher, terms, true, null, prunedScoredDocs);
+
+                assertSameTopDocs(exhaustiveTopDocs, prunedTopDocs);
+                assertTrue(prunedScoredDocs.get() < exhaustiveScoredDocs.get());
+            }
+        }
+    }
+
+    public void testScore_whenTrackTotalHits_thenExactTotalHits() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())))) {
+                for (int i = 0; i < 20_000; i++) {
+                    String text = (i % 1_000 == 0 ? "common ".repeat(20) : "common other") + (i % 7 == 0 ? " rare" : "");
+                    Document document = new Document();
+                    document.add(new TextField(TEXT_FIELD_NAME, text, Field.Store.NO));
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                AtomicInteger scoredDocs = new AtomicInteger();
+                List<String> terms = List.of("common", "rare");
+
+                // track_total_hits=true, docs are not skipped until every hit is counted
+                List<TopDocs> topDocs = collectTopDocs(searcher, terms, true, null, scoredDocs, null, Integer.MAX_VALUE);
+
+                assertEquals(new TotalHits(20_000, TotalHits.Relation.EQUAL_TO), topDocs.get(0).totalHits);
+                assertEquals(new TotalHits(2_858, TotalHits.Relation.EQUAL_TO), topDocs.get(1).totalHits);
+                // every doc matches the common term, one in seven docs matches the rare term
+                assertEquals(20_000 + 2_858, scoredDocs.get());
+            }
+        }
+    }
+
+    public void testScore_whenSubQueriesScoredConcurrently_thenSameTopDocsAsSequentialScoring() throws IOException {
+        ExecutorService executorService = OpenSearchExecutors.newFixed(
+            "test",
+            2,
+            10,
+            OpenSearchExecutors.daemonThreadFactory("test"),
+            new ThreadContext(Settings.EMPTY)
+        );
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())))) {
+                for (int i = 0; i < 100_000; i++) {
+                    String text = "common "
+                        + (i % 3 == 0 ? "first " : "")
+                        + (i % 5 == 0 ? "second " : "")
+                        + (i % 7 == 0 ? "deleted" : "");
+                    Document document = new Document();
+                    document.add(new TextField(TEXT_FIELD_NAME, text, Field.Store.NO));
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+                writer.deleteDocuments(new Term(TEXT_FIELD_NAME, "deleted"));
+            }
+            // asserting reader fails if postings or live docs are used by a thread other than the one that acquired them
+            try (DirectoryReader reader = new AssertingDirectoryReader(DirectoryReader.open(directory))) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                List<String> terms = List.of("first", "second", "common");
+                TaskExecutor taskExecutor = new TaskExecutor(executorService);
+
+                List<TopDocs> sequentialTopDocs = collectTopDocs(searcher, terms, true, null, new AtomicInteger());
+                List<TopDocs> concurrentTopDocs = collectTopDocs(searcher, terms, true, taskExecutor, new AtomicInteger());
+
+                assertSameTopDocs(sequentialTopDocs, concurrentTopDocs);
+                Bits liveDocs = reader.leaves().get(0).reader().getLiveDocs();
+                for (TopDocs topDocs : concurrentTopDocs) {
+                    assertTrue(Arrays.stream(topDocs.scoreDocs).allMatch(scoreDoc -> liveDocs.get(scoreDoc.doc)));
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    public void testScore_whenSubQueriesStartInDifferentWindows_thenCollectAllDocs() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())))) {
+                for (int i = 0; i < 20_000; i++) {
+                    // docs of the second sub query are far behind docs of the first one
+                    String text = i < 100 ? "late" : (i >= 10_000 && i < 10_100 ? "early" : "other");
+                    Document document = new Document();
+                    document.add(new TextField(TEXT_FIELD_NAME, text, Field.Store.NO));
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                List<String> terms = List.of("early", "late");
+
+                List<TopDocs> sequentialTopDocs = collectTopDocs(searcher, terms, false, null, new AtomicInteger());
+                List<TopDocs> concurrentTopDocs = collectTopDocs(
+                    searcher,
+                    terms,
+                    false,
+                    new TaskExecutor(Runnable::run),
+                    new AtomicInteger()
+                );
+
+                for (List<TopDocs> topDocs : List.of(sequentialTopDocs, concurrentTopDocs)) {
+                    assertEquals(100, topDocs.get(0).scoreDocs.length);
+                    assertEquals(100, topDocs.get(1).scoreDocs.length);
+                }
+            }
+        }
+    }
+
+    public void testScore_whenSubQueryTimeBudgetExhausted_thenCollectPartialDocs() throws IOException {
+        try (Directory directory = newDirectory()) {
+            // log merge policy keeps the order of docs, so they stay in the windows they are added to
+            IndexWriterConfig config = newIndexWriterConfig(new MockAnalyzer(random())).setMergePolicy(newLogMergePolicy());
+            try (IndexWriter writer = new IndexWriter(directory, config)) {
+                for (int i = 0; i < 20_000; i++) {
+                    // docs of both sub queries are in the first window and in a window far behind it
+                    String text = i < 50 || (i >= 10_000 && i < 10_050) ? "first" : "second";
+                    Document document = new Document();
+                    document.add(new TextField(TEXT_FIELD_NAME, text, Field.Store.NO));
+                    writer.addDocument(document);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                List<String> terms = List.of("first", "second");
+                // every read of the clock advances it, so the budget is used up after the first window of both sub queries
+                AtomicLong nanoTime = new AtomicLong();
+                HybridSubQueryTimeBudget budget = new HybridSubQueryTimeBudget(
+                    TimeValue.timeValueNanos(3),
+                    terms.size(),
+                    nanoTime::getAndIncrement
+                );
+
+                List<TopDocs> topDocs = collectTopDocs(searcher, terms, false, null, new AtomicInteger(), budget);
+
+                assertTrue(budget.isStopped(0));
+                assertTrue(budget.isStopped(1));
+                assertEquals(50, topDocs.get(0).scoreDocs.length);
+                assertTrue(Arrays.stream(topDocs.get(1).scoreDocs).allMatch(scoreDoc -> scoreDoc.doc < 4096));
+                List<TopDocs> completeTopDocs = collectTopDocs(searcher, terms, false, null, new AtomicInteger());
+                assertEquals(100, completeTopDocs.get(0).scoreDocs.length);
+            }
+        }
+    }
+
+    private void assertSameTopDocs(List<TopDocs> expectedTopDocs, List<TopDocs> actualTopDocs) {
+        assertEquals(expectedTopDocs.size(), actualTopDocs.size());
+        for (int i = 0; i < expectedTopDocs.size(); i++) {
+            assertEquals(expectedTopDocs.get(i).scoreDocs.length, actualTopDocs.get(i).scoreDocs.length);
+            for (int j = 0; j < expectedTopDocs.get(i).scoreDocs.length; j++) {
+                assertEquals(expectedTopDocs.get(i).scoreDocs[j].doc, actualTopDocs.get(i).scoreDocs[j].doc);
+                assertEquals(expectedTopDocs.get(i).scoreDocs[j].score, actualTopDocs.get(i).scoreDocs[j].score, 0.0f);
+            }
+        }
+    }
+
+    private List<TopDocs> collectTopDocs(
+        IndexSearcher searcher,
+        List<String> terms,
+        boolean pruneNonCompetitiveDocs,
+        TaskExecutor subQueryExecutor,
+        AtomicInteger scoredDocs
+    ) throws IOException {
+        return collectTopDocs(searcher, terms, pruneNonCompetitiveDocs, subQueryExecutor, scoredDocs, null);
+    }
+
+    private List<TopDocs> collectTopDocs(
+        IndexSearcher searcher,
+        List<String> terms,
+        boolean pruneNonCompetitiveDocs,
+        TaskExecutor subQueryExecutor,
+        AtomicInteger scoredDocs,
+        HybridSubQueryTimeBudget subQueryTimeBudget
+    ) throws IOException {
+        return collectTopDocs(searcher, terms, pruneNonCompetitiveDocs, subQueryExecutor, scoredDocs, subQueryTimeBudget, 10_000);
+    }
+
+    private List<TopDocs> collectTopDocs(
+        IndexSearcher searcher,
+        List<String> terms,
+        boolean pruneNonCompetitiveDocs,
+        TaskExecutor subQueryExecutor,
+        AtomicInteger scoredDocs,
+        HybridSubQueryTimeBudget subQueryTimeBudget,
+        int totalHitsThreshold
+    ) throws IOException {
+        LeafReaderContext leafReaderContext = searcher.getIndexReader().leaves().get(0);
+        List<IOSupplier<Scorer>> scorerSuppliers = new ArrayList<>();
+        for (String term : terms) {
+            Query query = searcher.rewrite(new TermQuery(new Term(TEXT_FIELD_NAME, term)));
+            Weight weight = searcher.createWeight(query, ScoreMode.TOP_SCORES, 1.0f);
+            scorerSuppliers.add(() -> new CountingScorer(weight.scorer(leafReaderContext), scoredDocs));
+        }
+        HybridBulkScorer bulkScorer;
+        if (Objects.isNull(subQueryExecutor)) {
+            List<Scorer> scorers = new ArrayList<>();
+            for (IOSupplier<Scorer> scorerSupplier : scorerSuppliers) {
+                scorers.add(scorerSupplier.get());
+            }
+            bulkScorer = new HybridBulkScorer(scorers, true, pruneNonCompetitiveDocs, leafReaderContext.reader().maxDoc());
+        } else {
+            bulkScorer = new HybridBulkScorer(
+                scorerSuppliers,
+                leafReaderContext.reader().maxDoc(),
+                true,
+                pruneNonCompetitiveDocs,
+                leafReaderContext.reader().maxDoc(),
+                subQueryExecutor
+            );
+        }
+        HybridTopScoreDocCollector collector = new HybridTopScoreDocCollector(100, new HitsThresholdChecker(totalHitsThreshold));
+        collector.setSubQueryTimeBudget(subQueryTimeBudget);
+        Bits liveDocs = leafReaderContext.reader().getLiveDocs();
+        bulkScorer.score(collector.getLeafCollector(leafReaderContext), liveDocs, 0, DocIdSetIterator.NO_MORE_DOCS);
+        return collector.topDocs();
+    }
+
+    /**
+     * Scorer that counts the docs it scores
+     */
+    private static class CountingScorer extends FilterScorer {
+        private final AtomicInteger scoredDocs;
+
+        CountingScorer(Scorer in, AtomicInteger scoredDocs) {
+            super(in);
+            this.scoredDocs = scoredDocs;
+        }
+
+        @Override
+        public float score() throws IOException {
+            scoredDocs.incrementAndGet();
+            return in.score();
+        }
+
+        @Override
+        public int advanceShallow(int target) throws IOException {
+            return in.advanceShallow(target);
+        }
+
+        @Override
+        public float getMaxScore(int upTo) throws IOException {
+            return in.getMaxScore(upTo);
+        }
+
+        @Override
+        public void setMinCompetitiveScore(float minScore) throws IOException {
+            in.setMinCompetitiveScore(minScore);
+        }
+    }
 }
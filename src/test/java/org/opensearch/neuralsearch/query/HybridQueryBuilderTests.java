@@ -44,6 +44,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
@@ -537,10 +538,9 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         assertEquals(2, queryTwoSubQueries.queries().size());
         assertTrue(queryTwoSubQueries.queries().get(0) instanceof NeuralQueryBuilder);
 
-        assertTrue(queryTwoSubQueries.queries().get(1) instanceof BoolQueryBuilder);
-        assertEquals(1, ((BoolQueryBuilder) queryTwoSubQueries.queries().get(1)).must().size());
-        assertTrue(((BoolQueryBuilder) queryTwoSubQueries.queries().get(1)).must().get(0) instanceof TermQueryBuilder);
-        assertEquals(1, ((BoolQueryBuilder) queryTwoSubQueries.queries().get(1)).filter().size());
+        // filter is shared by sub-queries and pushed down only to k-NN sub-queries
+        assertTrue(queryTwoSubQueries.queries().get(1) instanceof TermQueryBuilder);
+        assertEquals(new TermQueryBuilder(TEXT_FIELD_NAME, FILTER_TERM_QUERY_TEXT), queryTwoSubQueries.filter());
 
         assertEquals(10, queryTwoSubQueries.paginationDepth().intValue());
         // verify knn vector query
@@ -555,14 +555,7 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
             ((NeuralQueryBuilder) queryTwoSubQueries.queries().get(0)).filter()
         );
         // verify term query
-        assertEquals(
-            new TermQueryBuilder(TEXT_FIELD_NAME, TERM_QUERY_TEXT),
-            ((BoolQueryBuilder) queryTwoSubQueries.queries().get(1)).must().get(0)
-        );
-        assertEquals(
-            new TermQueryBuilder(TEXT_FIELD_NAME, FILTER_TERM_QUERY_TEXT),
-            ((BoolQueryBuilder) queryTwoSubQueries.queries().get(1)).filter().get(0)
-        );
+        assertEquals(new TermQueryBuilder(TEXT_FIELD_NAME, TERM_QUERY_TEXT), queryTwoSubQueries.queries().get(1));
     }
 
     @SneakyThrows
@@ -1037,6 +1030,83 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         assertTrue("Should be HybridQuery", query instanceof HybridQuery);
     }
 
+    @SneakyThrows
+    public void testFromXContent_whenSubQueryTimeout_thenBuildSuccessfully() {
+        setUpClusterService();
+        XContentBuilder xContentBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startArray("queries")
+            .startObject()
+            .startObject(TermQueryBuilder.NAME)
+            .field(TEXT_FIELD_NAME, TERM_QUERY_TEXT)
+            .endObject()
+            .endObject()
+            .endArray()
+            .field("sub_query_timeout", "100ms")
+            .endObject();
+        NamedXContentRegistry namedXContentRegistry = new NamedXContentRegistry(
+            List.of(
+                new NamedXContentRegistry.Entry(QueryBuilder.class, new ParseField(TermQueryBuilder.NAME), TermQueryBuilder::fromXContent)
+            )
+        );
+        XContentParser contentParser = createParser(
+            namedXContentRegistry,
+            xContentBuilder.contentType().xContent(),
+            BytesReference.bytes(xContentBuilder)
+        );
+        contentParser.nextToken();
+
+        HybridQueryBuilder hybridQueryBuilder = HybridQueryBuilder.fromXContent(contentParser);
+
+        assertEquals(TimeValue.timeValueMillis(100), hybridQueryBuilder.subQueryTimeout());
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder = hybridQueryBuilder.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Map<String, Object> out = xContentBuilderToMap(builder);
+        assertEquals("100ms", ((Map<String, Object>) out.get(HybridQueryBuilder.NAME)).get("sub_query_timeout"));
+        assertNotEquals(hybridQueryBuilder, new HybridQueryBuilder().add(new TermQueryBuilder(TEXT_FIELD_NAME, TERM_QUERY_TEXT)));
+    }
+
+    @SneakyThrows
+    public void testDoToQuery_whenSubQueryTimeout_thenQueryHasSubQueryTimeout() {
+        QueryShardContext context = mock(QueryShardContext.class);
+        HybridQueryBuilder builder = new HybridQueryBuilder().add(new MatchAllQueryBuilder()).add(new MatchAllQueryBuilder());
+        builder.subQueryTimeout(TimeValue.timeValueMillis(50));
+
+        Query query = builder.doToQuery(context);
+
+        assertTrue(query instanceof HybridQuery);
+        assertEquals(TimeValue.timeValueMillis(50), ((HybridQuery) query).getQueryContext().getSubQueryTimeout());
+    }
+
+    @SneakyThrows
+    public void testDoToQuery_whenFilter_thenFilterSharedBySubQueries() {
+        QueryShardContext context = mock(QueryShardContext.class);
+        TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) createMapperService().fieldType(TEXT_FIELD_NAME);
+        when(context.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+        HybridQueryBuilder builder = new HybridQueryBuilder().add(new TermQueryBuilder(TEXT_FIELD_NAME, TERM_QUERY_TEXT))
+            .add(new TermQueryBuilder(TEXT_FIELD_NAME, QUERY_TEXT));
+        builder.filter(new TermQueryBuilder(TEXT_FIELD_NAME, FILTER_TERM_QUERY_TEXT));
+
+        Query query = builder.doToQuery(context);
+
+        assertTrue(query instanceof HybridQuery);
+        HybridQuery hybridQuery = (HybridQuery) query;
+        assertTrue(hybridQuery.getFilterQuery().toString().contains(FILTER_TERM_QUERY_TEXT));
+        // sub-queries are not wrapped into the filter, it's evaluated once per segment
+        for (Query subQuery : hybridQuery.getSubQueries()) {
+            assertTrue(subQuery instanceof TermQuery);
+        }
+    }
+
+    public void testDoToQuery_whenSubQueryTimeoutIsZero_thenFail() {
+        QueryShardContext context = mock(QueryShardContext.class);
+        HybridQueryBuilder builder = new HybridQueryBuilder().add(new MatchAllQueryBuilder());
+        builder.subQueryTimeout(TimeValue.ZERO);
+
+        IllegalArgumentException exception = expectThrows(IllegalArgumentException.class, () -> builder.doToQuery(context));
+        assertThat(exception.getMessage(), containsString("sub_query_timeout should be greater than 0"));
+    }
+
     @SneakyThrows
     public void testDoEquals_whenSameParameters_thenEqual() {
         setUpClusterService();
@@ -1103,11 +1173,16 @@ public class HybridQueryBuilderTests extends OpenSearchQueryTestCase {
         HybridQueryBuilder updatedHybridQueryBuilder = (HybridQueryBuilder) hybridQueryBuilder.filter(new MatchAllQueryBuilder());
         assertEquals(updatedHybridQueryBuilder.queryName(), hybridQueryBuilder.queryName());
         assertEquals(updatedHybridQueryBuilder.paginationDepth(), hybridQueryBuilder.paginationDepth());
+        assertEquals(new MatchAllQueryBuilder(), updatedHybridQueryBuilder.filter());
         NeuralQueryBuilder updatedNeuralQueryBuilder = (NeuralQueryBuilder) updatedHybridQueryBuilder.queries().get(0);
         assertEquals(new MatchAllQueryBuilder(), updatedNeuralQueryBuilder.filter());
-        BoolQueryBuilder updatedNeuralSparseQueryBuilder = (BoolQueryBuilder) updatedHybridQueryBuilder.queries().get(1);
-        assertEquals(new NeuralSparseQueryBuilder(), updatedNeuralSparseQueryBuilder.must().get(0));
-        assertEquals(new MatchAllQueryBuilder(), updatedNeuralSparseQueryBuilder.filter().get(0));
+        // filter is not pushed down to sub-queries that don't run k-NN search
+        assertEquals(new NeuralSparseQueryBuilder(), updatedHybridQueryBuilder.queries().get(1));
+
+        // second filter is added to the shared filter
+        TermQueryBuilder secondFilter = new TermQueryBuilder(TEXT_FIELD_NAME, FILTER_TERM_QUERY_TEXT);
+        hybridQueryBuilder.filter(secondFilter);
+        assertEquals(new BoolQueryBuilder().filter(new MatchAllQueryBuilder()).filter(secondFilter), hybridQueryBuilder.filter());
     }
 
     public void testExtractInnerHitsBuilders() {
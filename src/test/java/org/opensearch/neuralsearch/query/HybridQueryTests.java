@@ -24,8 +24,10 @@ import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
@@ -325,22 +327,59 @@ public class HybridQueryTests extends OpenSearchQueryTestCase {
         );
         QueryUtils.check(hybridQuery);
 
+        // filter is shared by sub-queries instead of being added to each of them
         Iterator<Query> queryIterator = hybridQuery.iterator();
         assertNotNull(queryIterator);
         int countOfQueries = 0;
         while (queryIterator.hasNext()) {
             Query query = queryIterator.next();
-            assertNotNull(query);
-            assertTrue(query instanceof BooleanQuery);
-            BooleanQuery booleanQuery = (BooleanQuery) query;
-            assertEquals(2, booleanQuery.clauses().size());
-            Query subQuery = booleanQuery.clauses().get(0).query();
-            assertTrue(subQuery instanceof TermQuery);
-            Query filterQuery = booleanQuery.clauses().get(1).query();
-            assertTrue(filterQuery instanceof BooleanQuery);
-            assertTrue(((BooleanQuery) filterQuery).clauses().get(0).query() instanceof MatchNoDocsQuery);
+            assertTrue(query instanceof TermQuery);
             countOfQueries++;
         }
         assertEquals(2, countOfQueries);
+        assertTrue(hybridQuery.getFilterQuery() instanceof BooleanQuery);
+        BooleanQuery sharedFilterQuery = (BooleanQuery) hybridQuery.getFilterQuery();
+        assertEquals(1, sharedFilterQuery.clauses().size());
+        assertEquals(BooleanClause.Occur.FILTER, sharedFilterQuery.clauses().get(0).occur());
+        Query filterQuery = sharedFilterQuery.clauses().get(0).query();
+        assertTrue(filterQuery instanceof BooleanQuery);
+        assertTrue(((BooleanQuery) filterQuery).clauses().get(0).query() instanceof MatchNoDocsQuery);
+
+        HybridQuery hybridQueryWithoutFilter = new HybridQuery(hybridQuery.getSubQueries(), new HybridQueryContext(10));
+        assertNotEquals(hybridQueryWithoutFilter, hybridQuery);
+        assertEquals(
+            hybridQuery,
+            new HybridQuery(
+                hybridQuery.getSubQueries(),
+                new HybridQueryContext(10),
+                List.of(new BooleanClause(filter, BooleanClause.Occur.FILTER))
+            )
+        );
+    }
+
+    @SneakyThrows
+    public void testFilter_whenScoringOrMustNotClausesPassed_thenClausesAppliedToSubQueries() {
+        Query subQuery1 = new TermQuery(new Term(TEXT_FIELD_NAME, TERM_QUERY_TEXT));
+        Query subQuery2 = new TermQuery(new Term(TEXT_FIELD_NAME, TERM_ANOTHER_QUERY_TEXT));
+        BooleanClause mustNotClause = new BooleanClause(new TermQuery(new Term("category", "excluded")), BooleanClause.Occur.MUST_NOT);
+
+        // must_not only filter has to match all other documents
+        HybridQuery hybridQuery = new HybridQuery(List.of(subQuery1, subQuery2), new HybridQueryContext(10), List.of(mustNotClause));
+        assertEquals(List.of(subQuery1, subQuery2), List.copyOf(hybridQuery.getSubQueries()));
+        BooleanQuery sharedFilterQuery = (BooleanQuery) hybridQuery.getFilterQuery();
+        assertEquals(2, sharedFilterQuery.clauses().size());
+        assertEquals(mustNotClause, sharedFilterQuery.clauses().get(0));
+        assertEquals(new BooleanClause(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER), sharedFilterQuery.clauses().get(1));
+
+        // scoring clauses can't be shared and are added to every sub-query
+        BooleanClause shouldClause = new BooleanClause(new TermQuery(new Term("category", "boosted")), BooleanClause.Occur.SHOULD);
+        hybridQuery = new HybridQuery(List.of(subQuery1, subQuery2), new HybridQueryContext(10), List.of(shouldClause, mustNotClause));
+        assertNull(hybridQuery.getFilterQuery());
+        for (Query query : hybridQuery) {
+            BooleanQuery booleanQuery = (BooleanQuery) query;
+            assertEquals(3, booleanQuery.clauses().size());
+            assertEquals(shouldClause, booleanQuery.clauses().get(1));
+            assertEquals(mustNotClause, booleanQuery.clauses().get(2));
+        }
     }
 }
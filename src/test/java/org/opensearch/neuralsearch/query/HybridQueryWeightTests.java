@@ -11,11 +11,18 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.query.HybridQueryBuilderTests.TEXT_FIELD_NAME;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexOptions;
@@ -24,15 +31,20 @@ import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Matches;
 import org.apache.lucene.search.MatchesIterator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
@@ -40,6 +52,11 @@ import org.apache.lucene.tests.analysis.MockAnalyzer;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.neuralsearch.search.HitsThresholdChecker;
+import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
+import org.opensearch.search.profile.query.ProfileWeight;
+import org.opensearch.search.profile.query.QueryProfileBreakdown;
+import org.opensearch.search.profile.query.QueryTimingType;
 
 import com.carrotsearch.randomizedtesting.RandomizedTest;
 
@@ -51,6 +68,7 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
     private static final String RANGE_FIELD = "date _range";
     private static final String FROM_TEXT = "123";
     private static final String TO_TEXT = "456";
+    private static final String CATEGORY_FIELD = "category";
 
     Directory directory;
     IndexWriter writer;
@@ -161,6 +179,142 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         directory.close();
     }
 
+    @SneakyThrows
+    public void testScorer_whenSharedFilter_thenSubQueryScorersIntersectedWithFilter() {
+        Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        int numOfDocs = randomIntBetween(10, 100);
+        Set<Integer> expectedDocs = new HashSet<>();
+        for (int i = 0; i < numOfDocs; i++) {
+            Document document = new Document();
+            String text = randomFrom(TERM_QUERY_TEXT, "anotherkeyword", "other");
+            String category = randomFrom("included", "excluded");
+            document.add(new StringField(TEXT_FIELD_NAME, text, Field.Store.NO));
+            document.add(new StringField(CATEGORY_FIELD, category, Field.Store.NO));
+            w.addDocument(document);
+            if ("other".equals(text) == false && "included".equals(category)) {
+                expectedDocs.add(i);
+            }
+        }
+        w.forceMerge(1);
+        w.commit();
+
+        IndexReader reader = DirectoryReader.open(w);
+        Query subQuery1 = new TermQuery(new Term(TEXT_FIELD_NAME, TERM_QUERY_TEXT));
+        Query subQuery2 = new TermQuery(new Term(TEXT_FIELD_NAME, "anotherkeyword"));
+        HybridQuery hybridQuery = new HybridQuery(
+            List.of(subQuery1, subQuery2),
+            new HybridQueryContext(10),
+            List.of(new BooleanClause(new TermQuery(new Term(CATEGORY_FIELD, "excluded")), BooleanClause.Occur.MUST_NOT))
+        );
+        IndexSearcher searcher = new IndexSearcher(reader);
+        Weight weight = searcher.createWeight(searcher.rewrite(hybridQuery), ScoreMode.COMPLETE, 1.0f);
+        Weight unfilteredWeight = searcher.createWeight(
+            searcher.rewrite(new HybridQuery(List.of(subQuery1, subQuery2), new HybridQueryContext(10))),
+            ScoreMode.COMPLETE,
+            1.0f
+        );
+        LeafReaderContext leafReaderContext = reader.leaves().get(0);
+
+        Scorer scorer = weight.scorer(leafReaderContext);
+        assertNotNull(scorer);
+        Set<Integer> actualDocs = new HashSet<>();
+        for (int doc = scorer.iterator().nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = scorer.iterator().nextDoc()) {
+            actualDocs.add(doc);
+        }
+        assertEquals(expectedDocs, actualDocs);
+
+        Map<Integer, float[]> subQueryScores = collectSubQueryScores(weight, leafReaderContext);
+        Map<Integer, float[]> unfilteredSubQueryScores = collectSubQueryScores(unfilteredWeight, leafReaderContext);
+        assertEquals(expectedDocs, subQueryScores.keySet());
+        for (Map.Entry<Integer, float[]> entry : subQueryScores.entrySet()) {
+            // scores of sub-queries are not affected by the filter
+            assertArrayEquals(unfilteredSubQueryScores.get(entry.getKey()), entry.getValue(), 0.0f);
+        }
+
+        for (int doc = 0; doc < numOfDocs; doc++) {
+            assertEquals(expectedDocs.contains(doc), weight.explain(leafReaderContext, doc).isMatch());
+        }
+        assertTrue(weight.isCacheable(leafReaderContext));
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testBulkScorer_whenQueryProfiled_thenCollectSameHits() {
+        Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        int numOfDocs = randomIntBetween(10, 100);
+        for (int i = 0; i < numOfDocs; i++) {
+            Document document = new Document();
+            document.add(new StringField(TEXT_FIELD_NAME, randomFrom(TERM_QUERY_TEXT, "anotherkeyword", "other"), Field.Store.NO));
+            w.addDocument(document);
+        }
+        w.forceMerge(1);
+        w.commit();
+
+        IndexReader reader = DirectoryReader.open(w);
+        HybridQuery hybridQuery = new HybridQuery(
+            List.of(new TermQuery(new Term(TEXT_FIELD_NAME, TERM_QUERY_TEXT)), new TermQuery(new Term(TEXT_FIELD_NAME, "anotherkeyword"))),
+            new HybridQueryContext(10)
+        );
+        IndexSearcher searcher = new IndexSearcher(reader);
+        Weight weight = searcher.createWeight(searcher.rewrite(hybridQuery), ScoreMode.TOP_SCORES, 1.0f);
+        QueryProfileBreakdown profileBreakdown = new QueryProfileBreakdown();
+        // profiler scores docs of the hybrid query one by one instead of using its bulk scorer
+        Weight profiledWeight = new ProfileWeight(hybridQuery, weight, profileBreakdown);
+        LeafReaderContext leafReaderContext = reader.leaves().get(0);
+
+        List<TopDocs> topDocs = collectTopDocs(weight, leafReaderContext);
+        List<TopDocs> profiledTopDocs = collectTopDocs(profiledWeight, leafReaderContext);
+
+        assertEquals(2, profiledTopDocs.size());
+        for (int subQueryIndex = 0; subQueryIndex < topDocs.size(); subQueryIndex++) {
+            ScoreDoc[] scoreDocs = topDocs.get(subQueryIndex).scoreDocs;
+            ScoreDoc[] profiledScoreDocs = profiledTopDocs.get(subQueryIndex).scoreDocs;
+            assertEquals(scoreDocs.length, profiledScoreDocs.length);
+            for (int i = 0; i < scoreDocs.length; i++) {
+                assertEquals(scoreDocs[i].doc, profiledScoreDocs[i].doc);
+                assertEquals(scoreDocs[i].score, profiledScoreDocs[i].score, 0.0f);
+            }
+        }
+        assertTrue(profileBreakdown.toBreakdownMap().get(QueryTimingType.NEXT_DOC.toString() + "_count") > 0);
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testScorer_whenNoDocumentMatchesSharedFilter_thenNoScorer() {
+        Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        Document document = new Document();
+        document.add(new StringField(TEXT_FIELD_NAME, TERM_QUERY_TEXT, Field.Store.NO));
+        w.addDocument(document);
+        w.commit();
+
+        IndexReader reader = DirectoryReader.open(w);
+        HybridQuery hybridQuery = new HybridQuery(
+            List.of(new TermQuery(new Term(TEXT_FIELD_NAME, TERM_QUERY_TEXT))),
+            new HybridQueryContext(10),
+            List.of(new BooleanClause(new TermQuery(new Term(CATEGORY_FIELD, "included")), BooleanClause.Occur.FILTER))
+        );
+        IndexSearcher searcher = new IndexSearcher(reader);
+        Weight weight = searcher.createWeight(searcher.rewrite(hybridQuery), ScoreMode.TOP_SCORES, 1.0f);
+        LeafReaderContext leafReaderContext = reader.leaves().get(0);
+
+        assertNull(weight.scorerSupplier(leafReaderContext));
+        assertNull(weight.matches(leafReaderContext, 0));
+        assertFalse(weight.explain(leafReaderContext, 0).isMatch());
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
     @SneakyThrows
     public void testExplain_whenCallExplain_thenSuccessful() {
         QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
@@ -317,6 +471,32 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         cleanup();
     }
 
+    private Map<Integer, float[]> collectSubQueryScores(Weight weight, LeafReaderContext leafReaderContext) throws IOException {
+        Map<Integer, float[]> subQueryScores = new HashMap<>();
+        weight.scorerSupplier(leafReaderContext).bulkScorer().score(new LeafCollector() {
+            private HybridSubQueryScorer scorer;
+
+            @Override
+            public void setScorer(Scorable scorer) {
+                this.scorer = (HybridSubQueryScorer) scorer;
+            }
+
+            @Override
+            public void collect(int doc) {
+                subQueryScores.put(doc, scorer.getSubQueryScores().clone());
+            }
+        }, null, 0, DocIdSetIterator.NO_MORE_DOCS);
+        return subQueryScores;
+    }
+
+    private List<TopDocs> collectTopDocs(Weight weight, LeafReaderContext leafReaderContext) throws IOException {
+        HybridTopScoreDocCollector collector = new HybridTopScoreDocCollector(10, new HitsThresholdChecker(10_000));
+        LeafCollector leafCollector = collector.getLeafCollector(leafReaderContext);
+        weight.bulkScorer(leafReaderContext).score(leafCollector, null, 0, DocIdSetIterator.NO_MORE_DOCS);
+        leafCollector.finish();
+        return collector.topDocs();
+    }
+
     @SneakyThrows
     private LeafReaderContext createLeafReaderContext() {
         Directory directory = new ByteBuffersDirectory();
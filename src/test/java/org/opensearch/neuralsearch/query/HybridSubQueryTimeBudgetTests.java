@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridSubQueryTimeBudgetTests extends OpenSearchTestCase {
+
+    private final AtomicLong nanoTime = new AtomicLong(0);
+
+    public void testIsUsedUp_whenWallTimeBelowTimeout_thenNotUsedUp() {
+        HybridSubQueryTimeBudget budget = new HybridSubQueryTimeBudget(TimeValue.timeValueNanos(100), 2, nanoTime::get);
+
+        nanoTime.addAndGet(99);
+
+        assertEquals(TimeValue.timeValueNanos(100), budget.getTimeout());
+        assertFalse(budget.isUsedUp());
+        assertFalse(budget.hasStoppedSubQueries());
+    }
+
+    public void testIsUsedUp_whenWallTimeReachesTimeout_thenUsedUp() {
+        nanoTime.set(1_000);
+        HybridSubQueryTimeBudget budget = new HybridSubQueryTimeBudget(TimeValue.timeValueNanos(100), 2, nanoTime::get);
+
+        // time is measured from the start of the budget, not from the start of the clock
+        nanoTime.addAndGet(100);
+
+        assertTrue(budget.isUsedUp());
+    }
+
+    public void testStop_whenSubQueryStopped_thenOnlyThatSubQueryStopped() {
+        HybridSubQueryTimeBudget budget = new HybridSubQueryTimeBudget(TimeValue.timeValueNanos(100), 2, nanoTime::get);
+
+        budget.stop(1);
+
+        assertFalse(budget.isStopped(0));
+        assertTrue(budget.isStopped(1));
+        assertTrue(budget.hasStoppedSubQueries());
+    }
+}
@@ -28,6 +28,7 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
+import org.opensearch.neuralsearch.cache.SemanticFieldConfigCache;
 import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.constants.SemanticFieldConstants;
 import org.opensearch.neuralsearch.constants.SemanticInfoFieldConstants;
@@ -847,6 +848,8 @@ public class NeuralQueryBuilderRewriteTests extends OpenSearchTestCase {
         final ClusterService clusterService = NeuralSearchClusterTestUtils.mockClusterService(Version.CURRENT);
         final IndexNameExpressionResolver indexNameExpressionResolver = mock(IndexNameExpressionResolver.class);
         NeuralSearchClusterUtil.instance().initialize(clusterService, indexNameExpressionResolver);
+        // mocked mappings change between tests without a new mapping version, drop configs cached for previous mappings
+        SemanticFieldConfigCache.instance().invalidateAll();
         final Metadata metadata = mock(Metadata.class);
         final Set<String> indices = indexToMappingMap.keySet();
         Map<String, Index> indexNameToIndexMap = new HashMap<>();
@@ -9,6 +9,9 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
@@ -45,10 +48,13 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.index.analysis.AnalyzerScope;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.neuralsearch.cache.QueryInferenceCache;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
 import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.transport.client.Client;
 import org.opensearch.cluster.service.ClusterService;
@@ -60,6 +66,8 @@ import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.io.stream.FilterStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -746,6 +754,33 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(expectedMap, queryBuilder.queryTokensSupplier().get());
     }
 
+    public void testRewrite_whenQueryTokensCached_thenSkipInference() {
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isQueryInferenceCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getQueryInferenceCacheMaxEntries()).thenReturn(10);
+        when(settingsAccessor.getQueryInferenceCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        when(settingsAccessor.getQueryInferenceCacheExpireAfter()).thenReturn(TimeValue.timeValueMinutes(1));
+        QueryInferenceCache.instance().initialize(settingsAccessor);
+        try {
+            Map<String, Float> expectedMap = Map.of("1", 1f, "2", 2f);
+            QueryInferenceCache.instance().putSparseVector(MODEL_ID, QUERY_TEXT, expectedMap);
+            MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+            NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor);
+            QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+
+            NeuralSparseQueryBuilder queryBuilder = (NeuralSparseQueryBuilder) new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+                .queryText(QUERY_TEXT)
+                .modelId(MODEL_ID)
+                .doRewrite(queryRewriteContext);
+
+            assertEquals(expectedMap, queryBuilder.queryTokensSupplier().get());
+            verify(queryRewriteContext, never()).registerAsyncAction(any());
+            verifyNoInteractions(mlCommonsClientAccessor);
+        } finally {
+            QueryInferenceCache.instance().initialize(null);
+        }
+    }
+
     @SneakyThrows
     public void testRewrite_whenQueryTokensSupplierNull_andPruneSet_thenSuceessPrune() {
         NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
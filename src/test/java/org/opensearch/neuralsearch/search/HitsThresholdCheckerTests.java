@@ -4,6 +4,9 @@
  */
 package org.opensearch.neuralsearch.search;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.IntStream;
 
 import org.apache.lucene.search.ScoreMode;
@@ -22,6 +25,32 @@ public class HitsThresholdCheckerTests extends OpenSearchQueryTestCase {
         assertTrue(hitsThresholdChecker.isThresholdReached());
     }
 
+    public void testThresholdReached_whenIncrementCountConcurrently_thenAllHitsCounted() throws InterruptedException {
+        int numOfThreads = randomIntBetween(2, 8);
+        int hitsPerThread = 10_000;
+        HitsThresholdChecker hitsThresholdChecker = new HitsThresholdChecker(numOfThreads * hitsPerThread);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                IntStream.range(0, hitsPerThread).forEach((hit) -> hitsThresholdChecker.incrementHitCount());
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(hitsThresholdChecker.isThresholdReached());
+    }
+
     public void testThresholdLimit_whenThresholdNegative_thenFail() {
         expectThrows(IllegalArgumentException.class, () -> new HitsThresholdChecker(-1));
     }
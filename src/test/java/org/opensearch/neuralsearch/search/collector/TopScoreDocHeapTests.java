@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.HitQueue;
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TopScoreDocHeapTests extends OpenSearchTestCase {
+
+    public void testInsertWithOverflow_whenHeapNotFull_thenNoEviction() {
+        TopScoreDocHeap heap = new TopScoreDocHeap(3);
+
+        assertTrue(Float.isNaN(heap.insertWithOverflow(1, 0.5f)));
+        assertTrue(Float.isNaN(heap.insertWithOverflow(2, 0.7f)));
+        assertEquals(2, heap.size());
+
+        ScoreDoc scoreDoc = heap.pop();
+        assertEquals(1, scoreDoc.doc);
+        assertEquals(0.5f, scoreDoc.score, 0.0f);
+        assertEquals(2, heap.pop().doc);
+        assertNull(heap.pop());
+    }
+
+    public void testInsertWithOverflow_whenHeapFull_thenEvictLeastCompetitive() {
+        TopScoreDocHeap heap = new TopScoreDocHeap(2);
+        heap.insertWithOverflow(1, 0.5f);
+        heap.insertWithOverflow(2, 0.7f);
+
+        // doc with lower score does not fit into the heap
+        assertEquals(0.1f, heap.insertWithOverflow(3, 0.1f), 0.0f);
+        // doc with higher score evicts the doc with the lowest score
+        assertEquals(0.5f, heap.insertWithOverflow(4, 0.9f), 0.0f);
+        // for equal scores, doc with lower id is more competitive
+        assertEquals(0.7f, heap.insertWithOverflow(0, 0.7f), 0.0f);
+
+        assertEquals(2, heap.size());
+        assertEquals(0, heap.pop().doc);
+        assertEquals(4, heap.pop().doc);
+    }
+
+    public void testInsertWithOverflow_whenZeroCapacity_thenEveryDocOverflows() {
+        TopScoreDocHeap heap = new TopScoreDocHeap(0);
+
+        assertEquals(0.5f, heap.insertWithOverflow(1, 0.5f), 0.0f);
+        assertEquals(0, heap.size());
+        assertNull(heap.pop());
+    }
+
+    public void testInsertWithOverflow_whenRandomDocs_thenSameAsHitQueue() {
+        int capacity = randomIntBetween(1, 50);
+        TopScoreDocHeap heap = new TopScoreDocHeap(capacity);
+        HitQueue hitQueue = new HitQueue(capacity, false);
+        int numDocs = randomIntBetween(0, 1_000);
+
+        for (int doc = 0; doc < numDocs; doc++) {
+            // few distinct scores to have ties between docs
+            float score = randomIntBetween(1, 20) / 10.0f;
+            ScoreDoc overflow = hitQueue.insertWithOverflow(new ScoreDoc(doc, score));
+            float overflowScore = heap.insertWithOverflow(doc, score);
+            if (overflow == null) {
+                assertTrue(Float.isNaN(overflowScore));
+            } else {
+                assertEquals(overflow.score, overflowScore, 0.0f);
+            }
+        }
+
+        assertEquals(hitQueue.size(), heap.size());
+        while (hitQueue.size() > 0) {
+            ScoreDoc expected = hitQueue.pop();
+            ScoreDoc actual = heap.pop();
+            assertEquals(expected.doc, actual.doc);
+            assertEquals(expected.score, actual.score, 0.0f);
+        }
+        assertEquals(0, heap.size());
+    }
+}
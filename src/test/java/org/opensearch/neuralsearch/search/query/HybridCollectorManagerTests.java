@@ -41,6 +41,9 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.analysis.MockAnalyzer;
 import org.opensearch.common.lucene.search.FilteredCollector;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.index.query.BoostingQueryBuilder;
@@ -49,14 +52,20 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.neuralsearch.cache.HybridQueryResultCache;
 import org.opensearch.neuralsearch.query.HybridQuery;
 import org.opensearch.neuralsearch.query.HybridQueryContext;
 import org.opensearch.neuralsearch.query.HybridQueryWeight;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
 import org.opensearch.neuralsearch.search.collector.HybridTopScoreDocCollector;
 import org.opensearch.neuralsearch.search.collector.PagingFieldCollector;
 import org.opensearch.neuralsearch.search.collector.SimpleFieldCollector;
 import org.opensearch.neuralsearch.search.query.exception.HybridSearchRescoreQueryException;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.neuralsearch.stats.events.EventStatsManager;
+import org.opensearch.neuralsearch.util.TestUtils;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
@@ -64,6 +73,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ReduceableSearchResult;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -76,6 +86,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.MAGIC_NUMBER_DELIMITER;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.MAGIC_NUMBER_START_STOP;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.NUM_OF_SCORE_STATISTICS_ELEMENTS;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryScoreStatisticsElement;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.parseScoreStatisticsElements;
 
 import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.search.rescore.RescoreContext;
@@ -366,6 +379,247 @@ public class HybridCollectorManagerTests extends OpenSearchQueryTestCase {
         directory.close();
     }
 
+    @SneakyThrows
+    public void testReduce_whenShardScoreStatisticsEnabled_thenStatisticsOfAllHitsAndTopHitsReturned() {
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridShardScoreStatisticsEnabled()).thenReturn(true);
+        HybridCollectorManager.initialize(settingsAccessor);
+        try {
+            SearchContext searchContext = mock(SearchContext.class);
+            QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+            MapperService mapperService = createMapperService();
+            TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) mapperService.fieldType(TEXT_FIELD_NAME);
+            when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+            when(searchContext.mapperService()).thenReturn(mapperService);
+            HybridQueryContext hybridQueryContext = HybridQueryContext.builder().paginationDepth(10).build();
+            // first sub-query matches two docs, second sub-query matches one doc
+            HybridQuery hybridQuery = new HybridQuery(
+                List.of(
+                    QueryBuilders.termQuery(TEXT_FIELD_NAME, "to").toQuery(mockQueryShardContext),
+                    QueryBuilders.termQuery(TEXT_FIELD_NAME, QUERY1).toQuery(mockQueryShardContext)
+                ),
+                hybridQueryContext
+            );
+            when(searchContext.query()).thenReturn(hybridQuery);
+            ContextIndexSearcher indexSearcher = mock(ContextIndexSearcher.class);
+            when(indexSearcher.getIndexReader()).thenReturn(indexReader);
+            when(searchContext.searcher()).thenReturn(indexSearcher);
+            when(searchContext.from()).thenReturn(0);
+            when(searchContext.size()).thenReturn(1);
+            when(searchContext.numberOfShards()).thenReturn(2);
+            when(searchContext.queryCollectorManagers()).thenReturn(new HashMap<>());
+            when(searchContext.shouldUseConcurrentSearch()).thenReturn(false);
+
+            Directory directory = newDirectory();
+            final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+            FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+            ft.setIndexOptions(IndexOptions.DOCS_AND_FREQS);
+            ft.freeze();
+            w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT1, ft));
+            w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT2, ft));
+            w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT3, ft));
+            w.commit();
+            IndexReader reader = DirectoryReader.open(w);
+            IndexSearcher searcher = new IndexSearcher(reader);
+
+            CollectorManager hybridCollectorManager = HybridCollectorManager.createHybridCollectorManager(searchContext);
+            HybridTopScoreDocCollector collector = (HybridTopScoreDocCollector) hybridCollectorManager.newCollector();
+            Weight weight = new HybridQueryWeight(hybridQuery, searcher, ScoreMode.TOP_SCORES, BoostingQueryBuilder.DEFAULT_BOOST);
+            collector.setWeight(weight);
+            for (LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
+                LeafCollector leafCollector = collector.getLeafCollector(leafReaderContext);
+                BulkScorer scorer = weight.bulkScorer(leafReaderContext);
+                if (scorer != null) {
+                    scorer.score(leafCollector, leafReaderContext.reader().getLiveDocs(), 0, DocIdSetIterator.NO_MORE_DOCS);
+                }
+                leafCollector.finish();
+            }
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            ((ReduceableSearchResult) hybridCollectorManager.reduce(List.of())).reduce(querySearchResult);
+            ScoreDoc[] scoreDocs = querySearchResult.topDocs().topDocs.scoreDocs;
+
+            // start, then delimiter, statistics and from + size top hits of each sub-query, then stop
+            assertEquals(2 + 2 * (2 + NUM_OF_SCORE_STATISTICS_ELEMENTS), scoreDocs.length);
+            assertEquals(MAGIC_NUMBER_START_STOP, scoreDocs[0].score, DELTA_FOR_ASSERTION);
+            assertEquals(MAGIC_NUMBER_DELIMITER, scoreDocs[1].score, DELTA_FOR_ASSERTION);
+            assertTrue(isHybridQueryScoreStatisticsElement(scoreDocs[2]));
+            SubQueryScoreStatistics statistics = parseScoreStatisticsElements(scoreDocs, 2);
+            assertEquals(2, statistics.getCount());
+            int firstSubQueryHit = 2 + NUM_OF_SCORE_STATISTICS_ELEMENTS;
+            float minScore = statistics.getMinScore();
+            float maxScore = statistics.getMaxScore();
+            // statistics include the hit that is not returned
+            assertEquals(maxScore, scoreDocs[firstSubQueryHit].score, 0.0f);
+            assertTrue(minScore > 0 && minScore <= maxScore);
+            assertEquals((double) minScore + maxScore, statistics.getSum(), 1e-6);
+            assertEquals((double) minScore * minScore + (double) maxScore * maxScore, statistics.getSumOfSquares(), 1e-6);
+            assertEquals(MAGIC_NUMBER_DELIMITER, scoreDocs[firstSubQueryHit + 1].score, DELTA_FOR_ASSERTION);
+            SubQueryScoreStatistics secondSubQueryStatistics = parseScoreStatisticsElements(scoreDocs, firstSubQueryHit + 2);
+            assertEquals(1, secondSubQueryStatistics.getCount());
+            assertEquals(secondSubQueryStatistics.getMaxScore(), scoreDocs[scoreDocs.length - 2].score, 0.0f);
+            assertEquals(MAGIC_NUMBER_START_STOP, scoreDocs[scoreDocs.length - 1].score, DELTA_FOR_ASSERTION);
+
+            w.close();
+            reader.close();
+            directory.close();
+        } finally {
+            HybridCollectorManager.initialize(null);
+        }
+    }
+
+    @SneakyThrows
+    public void testReduce_whenPaginationCacheEnabled_thenResultsOfSameReaderServedFromCache() {
+        TestUtils.initializeEventStatsManager();
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridPaginationCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getHybridPaginationCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        HybridQueryResultCache.instance().initialize(settingsAccessor);
+        try {
+            SearchContext searchContext = mock(SearchContext.class);
+            QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+            MapperService mapperService = createMapperService();
+            TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) mapperService.fieldType(TEXT_FIELD_NAME);
+            when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+            when(searchContext.mapperService()).thenReturn(mapperService);
+            HybridQuery hybridQuery = new HybridQuery(
+                List.of(
+                    QueryBuilders.termQuery(TEXT_FIELD_NAME, "to").toQuery(mockQueryShardContext),
+                    QueryBuilders.termQuery(TEXT_FIELD_NAME, QUERY1).toQuery(mockQueryShardContext)
+                ),
+                HybridQueryContext.builder().paginationDepth(10).build()
+            );
+            when(searchContext.query()).thenReturn(hybridQuery);
+            ContextIndexSearcher indexSearcher = mock(ContextIndexSearcher.class);
+            when(indexSearcher.getIndexReader()).thenReturn(indexReader);
+            when(searchContext.searcher()).thenReturn(indexSearcher);
+            when(searchContext.size()).thenReturn(1);
+            when(searchContext.numberOfShards()).thenReturn(2);
+            when(searchContext.minimumScore()).thenReturn(null);
+            when(searchContext.queryCollectorManagers()).thenReturn(new HashMap<>());
+            when(searchContext.shouldUseConcurrentSearch()).thenReturn(false);
+
+            HybridCollectorManager hybridCollectorManager = (HybridCollectorManager) HybridCollectorManager.createHybridCollectorManager(
+                searchContext
+            );
+            assertFalse(hybridCollectorManager.hasCachedResults());
+            HybridTopScoreDocCollector collector = (HybridTopScoreDocCollector) hybridCollectorManager.newCollector();
+            IndexSearcher searcher = new IndexSearcher(indexReader);
+            Weight weight = new HybridQueryWeight(hybridQuery, searcher, ScoreMode.TOP_SCORES, BoostingQueryBuilder.DEFAULT_BOOST);
+            collector.setWeight(weight);
+            for (LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
+                LeafCollector leafCollector = collector.getLeafCollector(leafReaderContext);
+                BulkScorer scorer = weight.bulkScorer(leafReaderContext);
+                if (scorer != null) {
+                    scorer.score(leafCollector, leafReaderContext.reader().getLiveDocs(), 0, DocIdSetIterator.NO_MORE_DOCS);
+                }
+                leafCollector.finish();
+            }
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            hybridCollectorManager.reduce(List.of()).reduce(querySearchResult);
+
+            // next page of the same query doesn't collect hits
+            HybridCollectorManager cachedHybridCollectorManager = (HybridCollectorManager) HybridCollectorManager
+                .createHybridCollectorManager(searchContext);
+            assertTrue(cachedHybridCollectorManager.hasCachedResults());
+            QuerySearchResult cachedQuerySearchResult = new QuerySearchResult();
+            cachedHybridCollectorManager.reduce(List.of()).reduce(cachedQuerySearchResult);
+
+            TopDocsAndMaxScore topDocsAndMaxScore = querySearchResult.topDocs();
+            TopDocsAndMaxScore cachedTopDocsAndMaxScore = cachedQuerySearchResult.topDocs();
+            assertEquals(topDocsAndMaxScore.maxScore, cachedTopDocsAndMaxScore.maxScore, 0.0f);
+            assertEquals(topDocsAndMaxScore.topDocs.totalHits, cachedTopDocsAndMaxScore.topDocs.totalHits);
+            ScoreDoc[] scoreDocs = topDocsAndMaxScore.topDocs.scoreDocs;
+            ScoreDoc[] cachedScoreDocs = cachedTopDocsAndMaxScore.topDocs.scoreDocs;
+            assertEquals(scoreDocs.length, cachedScoreDocs.length);
+            for (int i = 0; i < scoreDocs.length; i++) {
+                assertEquals(scoreDocs[i].doc, cachedScoreDocs[i].doc);
+                assertEquals(scoreDocs[i].score, cachedScoreDocs[i].score, 0.0f);
+            }
+
+            // query with a different pagination depth is executed
+            when(searchContext.query()).thenReturn(
+                new HybridQuery(hybridQuery.getSubQueries(), HybridQueryContext.builder().paginationDepth(20).build())
+            );
+            assertFalse(((HybridCollectorManager) HybridCollectorManager.createHybridCollectorManager(searchContext)).hasCachedResults());
+        } finally {
+            HybridQueryResultCache.instance().initialize(null);
+        }
+    }
+
+    @SneakyThrows
+    public void testReduce_whenSubQueryTimeBudgetExhausted_thenPartialResultsFlaggedAndNotCached() {
+        TestUtils.initializeEventStatsManager();
+        NeuralSearchSettingsAccessor settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.isHybridPaginationCacheEnabled()).thenReturn(true);
+        when(settingsAccessor.getHybridPaginationCacheMaxSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        HybridQueryResultCache.instance().initialize(settingsAccessor);
+        Directory directory = newDirectory();
+        IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.setIndexOptions(IndexOptions.DOCS_AND_FREQS);
+        ft.freeze();
+        w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT1, ft));
+        w.addDocument(getDocument(TEXT_FIELD_NAME, RandomizedTest.randomInt(), TEST_DOC_TEXT2, ft));
+        w.commit();
+        IndexReader reader = DirectoryReader.open(w);
+        try {
+            SearchContext searchContext = mock(SearchContext.class);
+            QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+            MapperService mapperService = createMapperService();
+            TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) mapperService.fieldType(TEXT_FIELD_NAME);
+            when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+            when(searchContext.mapperService()).thenReturn(mapperService);
+            // budget is used up before sub-queries start collecting
+            HybridQuery hybridQuery = new HybridQuery(
+                List.of(
+                    QueryBuilders.termQuery(TEXT_FIELD_NAME, "to").toQuery(mockQueryShardContext),
+                    QueryBuilders.termQuery(TEXT_FIELD_NAME, QUERY1).toQuery(mockQueryShardContext)
+                ),
+                HybridQueryContext.builder().paginationDepth(10).subQueryTimeout(TimeValue.ZERO).build()
+            );
+            when(searchContext.query()).thenReturn(hybridQuery);
+            ContextIndexSearcher indexSearcher = mock(ContextIndexSearcher.class);
+            when(indexSearcher.getIndexReader()).thenReturn(reader);
+            when(searchContext.searcher()).thenReturn(indexSearcher);
+            when(searchContext.size()).thenReturn(1);
+            when(searchContext.numberOfShards()).thenReturn(2);
+            when(searchContext.minimumScore()).thenReturn(null);
+            when(searchContext.queryCollectorManagers()).thenReturn(new HashMap<>());
+            when(searchContext.shouldUseConcurrentSearch()).thenReturn(false);
+
+            HybridCollectorManager hybridCollectorManager = (HybridCollectorManager) HybridCollectorManager.createHybridCollectorManager(
+                searchContext
+            );
+            HybridTopScoreDocCollector collector = (HybridTopScoreDocCollector) hybridCollectorManager.newCollector();
+            IndexSearcher searcher = newSearcher(reader);
+            Weight weight = new HybridQueryWeight(hybridQuery, searcher, ScoreMode.TOP_SCORES, BoostingQueryBuilder.DEFAULT_BOOST);
+            collector.setWeight(weight);
+            for (LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
+                LeafCollector leafCollector = collector.getLeafCollector(leafReaderContext);
+                BulkScorer scorer = weight.bulkScorer(leafReaderContext);
+                if (scorer != null) {
+                    scorer.score(leafCollector, leafReaderContext.reader().getLiveDocs(), 0, DocIdSetIterator.NO_MORE_DOCS);
+                }
+                leafCollector.finish();
+            }
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            hybridCollectorManager.reduce(List.of()).reduce(querySearchResult);
+
+            assertTrue(querySearchResult.searchTimedOut());
+            assertFalse(((HybridCollectorManager) HybridCollectorManager.createHybridCollectorManager(searchContext)).hasCachedResults());
+            long subQueryTimeouts = EventStatsManager.instance()
+                .getTimestampedEventStatSnapshots(EnumSet.of(EventStatName.HYBRID_QUERY_SUB_QUERY_TIMEOUTS))
+                .get(EventStatName.HYBRID_QUERY_SUB_QUERY_TIMEOUTS)
+                .getValue();
+            assertEquals(1, subQueryTimeouts);
+        } finally {
+            HybridQueryResultCache.instance().initialize(null);
+            reader.close();
+            w.close();
+            directory.close();
+        }
+    }
+
     @SneakyThrows
     public void testNewCollector_whenNotConcurrentSearchAndSortingIsApplied_thenSuccessful() {
         SearchContext searchContext = mock(SearchContext.class);
@@ -750,12 +1004,12 @@ public class HybridCollectorManagerTests extends OpenSearchQueryTestCase {
         float maxScore = topDocsAndMaxScore.maxScore;
         assertTrue(maxScore > 0);
         FieldDoc[] fieldDocs = (FieldDoc[]) topDocsAndMaxScore.topDocs.scoreDocs;
-        assertEquals(5, fieldDocs.length);
+        // each collector has one hit, merged hits are cut to the size of 1
+        assertEquals(4, fieldDocs.length);
         assertEquals(1, fieldDocs[0].fields[0]);
         assertEquals(1, fieldDocs[1].fields[0]);
         assertEquals(fieldDocs[2].doc, fieldDocs[2].fields[0]);
-        assertEquals(fieldDocs[3].doc, fieldDocs[3].fields[0]);
-        assertEquals(1, fieldDocs[4].fields[0]);
+        assertEquals(1, fieldDocs[3].fields[0]);
 
         w.close();
         reader.close();
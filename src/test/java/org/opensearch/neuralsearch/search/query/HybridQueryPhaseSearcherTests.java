@@ -22,6 +22,7 @@ import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUt
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,6 +40,7 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
@@ -65,7 +67,9 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.remote.RemoteStoreEnums;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.neuralsearch.query.HybridQuery;
 import org.opensearch.neuralsearch.query.HybridQueryBuilder;
+import org.opensearch.neuralsearch.query.HybridQueryContext;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.AggregationProcessor;
@@ -1025,6 +1029,30 @@ public class HybridQueryPhaseSearcherTests extends OpenSearchQueryTestCase {
         releaseResources(directory, w, reader);
     }
 
+    @SneakyThrows
+    public void testQueryResult_whenHybridResultsCached_thenSubQueriesNotExecuted() {
+        HybridQueryPhaseSearcher hybridQueryPhaseSearcher = new HybridQueryPhaseSearcher();
+        SearchContext searchContext = mock(SearchContext.class);
+        when(searchContext.mapperService()).thenReturn(mock(MapperService.class));
+        when(searchContext.shouldUseConcurrentSearch()).thenReturn(true);
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        when(searchContext.queryResult()).thenReturn(querySearchResult);
+        HybridCollectorManager collectorManager = mock(HybridCollectorManager.class);
+        when(collectorManager.hasCachedResults()).thenReturn(true);
+        ReduceableSearchResult reduceableSearchResult = mock(ReduceableSearchResult.class);
+        when(collectorManager.reduce(any())).thenReturn(reduceableSearchResult);
+        Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> queryCollectorManagers = new HashMap<>();
+        queryCollectorManagers.put(HybridCollectorManager.class, collectorManager);
+        when(searchContext.queryCollectorManagers()).thenReturn(queryCollectorManagers);
+        ContextIndexSearcher contextIndexSearcher = mock(ContextIndexSearcher.class);
+        HybridQuery query = new HybridQuery(List.of(new MatchAllDocsQuery()), HybridQueryContext.builder().paginationDepth(10).build());
+
+        assertFalse(hybridQueryPhaseSearcher.searchWith(searchContext, contextIndexSearcher, query, new LinkedList<>(), false, false));
+
+        verify(reduceableSearchResult).reduce(querySearchResult);
+        verify(contextIndexSearcher, never()).search(any(Query.class), any(CollectorManager.class));
+    }
+
     @SneakyThrows
     public void testAggsProcessor_whenGettingAggsProcessor_thenSuccess() {
         HybridQueryPhaseSearcher hybridQueryPhaseSearcher = new HybridQueryPhaseSearcher();
@@ -10,6 +10,10 @@ import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocDelimiterElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createFieldDocStartStopElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
@@ -339,6 +343,104 @@ public class HybridQueryScoreDocsMergerTests extends OpenSearchQueryTestCase {
         assertEquals(1, mergedFieldDocs[3].fields[0]);
     }
 
+    public void testMergeScoreDocs_whenMultipleTopDocsHaveHits_thenKeepTopHitsPerSubQuery() {
+        HybridQueryScoreDocsMerger<ScoreDoc> scoreDocsMerger = new HybridQueryScoreDocsMerger<>();
+        TopDocsMerger topDocsMerger = new TopDocsMerger(null);
+        ScoreDoc[] scoreDocs1 = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(0),
+            createDelimiterElementForHybridSearchResults(0),
+            new ScoreDoc(0, 0.5f),
+            new ScoreDoc(2, 0.3f),
+            createDelimiterElementForHybridSearchResults(0),
+            new ScoreDoc(0, 0.9f),
+            createStartStopElementForHybridSearchResults(0) };
+        ScoreDoc[] scoreDocs2 = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(3),
+            createDelimiterElementForHybridSearchResults(3),
+            new ScoreDoc(3, 0.7f),
+            new ScoreDoc(4, 0.3f),
+            createDelimiterElementForHybridSearchResults(3),
+            createStartStopElementForHybridSearchResults(3) };
+        ScoreDoc[] scoreDocs3 = new ScoreDoc[] {
+            createStartStopElementForHybridSearchResults(6),
+            createDelimiterElementForHybridSearchResults(6),
+            new ScoreDoc(6, 0.6f),
+            createDelimiterElementForHybridSearchResults(6),
+            new ScoreDoc(7, 0.8f),
+            new ScoreDoc(6, 0.1f),
+            createStartStopElementForHybridSearchResults(6) };
+
+        ScoreDoc[] mergedScoreDocs = scoreDocsMerger.merge(
+            List.of(scoreDocs1, new ScoreDoc[0], scoreDocs2, scoreDocs3),
+            topDocsMerger.SCORE_DOC_BY_SCORE_COMPARATOR,
+            false,
+            2
+        );
+
+        assertNotNull(mergedScoreDocs);
+        // 2 hits from each sub-query, plus 2 start-stop elements and 2 delimiters
+        assertEquals(8, mergedScoreDocs.length);
+        assertEquals(MAGIC_NUMBER_START_STOP, mergedScoreDocs[0].score, 0);
+        assertEquals(MAGIC_NUMBER_DELIMITER, mergedScoreDocs[1].score, 0);
+        assertScoreDoc(mergedScoreDocs[2], 3, 0.7f);
+        assertScoreDoc(mergedScoreDocs[3], 6, 0.6f);
+        assertEquals(MAGIC_NUMBER_DELIMITER, mergedScoreDocs[4].score, 0);
+        assertScoreDoc(mergedScoreDocs[5], 0, 0.9f);
+        assertScoreDoc(mergedScoreDocs[6], 7, 0.8f);
+        assertEquals(MAGIC_NUMBER_START_STOP, mergedScoreDocs[7].score, 0);
+    }
+
+    public void testMergeScoreDocs_whenRandomTopDocs_thenSameAsPairwiseMerge() {
+        HybridQueryScoreDocsMerger<ScoreDoc> scoreDocsMerger = new HybridQueryScoreDocsMerger<>();
+        TopDocsMerger topDocsMerger = new TopDocsMerger(null);
+        int numOfSubQueries = randomIntBetween(1, 4);
+        int numHits = randomIntBetween(1, 20);
+        int numOfCollectors = randomIntBetween(2, 10);
+        List<ScoreDoc[]> scoreDocsList = new ArrayList<>();
+        for (int i = 0; i < numOfCollectors; i++) {
+            List<ScoreDoc> scoreDocs = new ArrayList<>();
+            scoreDocs.add(createStartStopElementForHybridSearchResults(i));
+            for (int subQueryIndex = 0; subQueryIndex < numOfSubQueries; subQueryIndex++) {
+                scoreDocs.add(createDelimiterElementForHybridSearchResults(i));
+                int numOfHits = randomIntBetween(0, numHits);
+                float score = 1.0f;
+                for (int hit = 0; hit < numOfHits; hit++) {
+                    // few distinct scores to have ties between collectors
+                    score -= randomIntBetween(0, 2) / 100.0f;
+                    scoreDocs.add(new ScoreDoc(i * 100 + hit, score));
+                }
+            }
+            scoreDocs.add(createStartStopElementForHybridSearchResults(i));
+            scoreDocsList.add(scoreDocs.toArray(new ScoreDoc[0]));
+        }
+
+        Comparator<ScoreDoc> comparator = topDocsMerger.SCORE_DOC_BY_SCORE_COMPARATOR;
+        ScoreDoc[] expectedScoreDocs = scoreDocsList.getFirst();
+        for (int i = 1; i < numOfCollectors; i++) {
+            expectedScoreDocs = scoreDocsMerger.merge(expectedScoreDocs, scoreDocsList.get(i), comparator, false);
+        }
+        ScoreDoc[] mergedScoreDocs = scoreDocsMerger.merge(scoreDocsList, comparator, false, numHits);
+
+        // merge of all hits cut to numHits per sub-query
+        int expectedPointer = 0;
+        int mergedPointer = 0;
+        int hitsOfSubQuery = 0;
+        while (expectedPointer < expectedScoreDocs.length) {
+            ScoreDoc expected = expectedScoreDocs[expectedPointer++];
+            if (expected.score >= 0) {
+                if (hitsOfSubQuery++ >= numHits) {
+                    continue;
+                }
+            } else {
+                hitsOfSubQuery = 0;
+            }
+            assertEquals(expected.doc, mergedScoreDocs[mergedPointer].doc);
+            assertEquals(expected.score, mergedScoreDocs[mergedPointer].score, 0.0f);
+            mergedPointer++;
+        }
+        assertEquals(mergedScoreDocs.length, mergedPointer);
+    }
+
     private void assertScoreDoc(ScoreDoc scoreDoc, int expectedDocId, float expectedScore) {
         assertEquals(expectedDocId, scoreDoc.doc);
         assertEquals(expectedScore, scoreDoc.score, DELTA_FOR_ASSERTION);
@@ -15,6 +15,8 @@ import org.apache.lucene.search.TotalHits;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
 
+import java.util.List;
+
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.MAGIC_NUMBER_START_STOP;
@@ -557,6 +559,54 @@ public class TopDocsMergerTests extends OpenSearchQueryTestCase {
         assertEquals(1, fieldDocs[12].fields[0]);
     }
 
+    @SneakyThrows
+    public void testMergeScoreDocs_whenMultipleTopDocsHaveHits_thenMergeInOnePassAndCutToNumHits() {
+        TopDocsMerger topDocsMerger = new TopDocsMerger(null, 1);
+        TopDocs topDocs1 = new TopDocs(
+            new TotalHits(2, TotalHits.Relation.EQUAL_TO),
+            new ScoreDoc[] {
+                createStartStopElementForHybridSearchResults(0),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(0, 0.5f),
+                createDelimiterElementForHybridSearchResults(0),
+                new ScoreDoc(1, 0.4f),
+                createStartStopElementForHybridSearchResults(0) }
+        );
+        TopDocs topDocs2 = new TopDocs(
+            new TotalHits(3, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO),
+            new ScoreDoc[] {
+                createStartStopElementForHybridSearchResults(2),
+                createDelimiterElementForHybridSearchResults(2),
+                new ScoreDoc(2, 0.7f),
+                createDelimiterElementForHybridSearchResults(2),
+                new ScoreDoc(3, 0.2f),
+                createStartStopElementForHybridSearchResults(2) }
+        );
+        TopDocs topDocs3 = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+
+        TopDocsAndMaxScore mergedTopDocsAndMaxScore = topDocsMerger.merge(
+            List.of(
+                new TopDocsAndMaxScore(topDocs1, 0.5f),
+                new TopDocsAndMaxScore(topDocs3, 0.0f),
+                new TopDocsAndMaxScore(topDocs2, 0.7f)
+            )
+        );
+
+        assertNotNull(mergedTopDocsAndMaxScore);
+        assertEquals(0.7f, mergedTopDocsAndMaxScore.maxScore, DELTA_FOR_ASSERTION);
+        assertEquals(5, mergedTopDocsAndMaxScore.topDocs.totalHits.value());
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, mergedTopDocsAndMaxScore.topDocs.totalHits.relation());
+        // one hit per sub-query, plus 2 start-stop elements + 2 delimiters
+        ScoreDoc[] scoreDocs = mergedTopDocsAndMaxScore.topDocs.scoreDocs;
+        assertEquals(6, scoreDocs.length);
+        assertEquals(MAGIC_NUMBER_START_STOP, scoreDocs[0].score, 0);
+        assertEquals(MAGIC_NUMBER_DELIMITER, scoreDocs[1].score, 0);
+        assertScoreDoc(scoreDocs[2], 2, 0.7f);
+        assertEquals(MAGIC_NUMBER_DELIMITER, scoreDocs[3].score, 0);
+        assertScoreDoc(scoreDocs[4], 1, 0.4f);
+        assertEquals(MAGIC_NUMBER_START_STOP, scoreDocs[5].score, 0);
+    }
+
     private void assertScoreDoc(ScoreDoc scoreDoc, int expectedDocId, float expectedScore) {
         assertEquals(expectedDocId, scoreDoc.doc);
         assertEquals(expectedScore, scoreDoc.score, DELTA_FOR_ASSERTION);
@@ -6,16 +6,21 @@ package org.opensearch.neuralsearch.search.util;
 
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.MAGIC_NUMBER_DELIMITER;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.MAGIC_NUMBER_START_STOP;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.NUM_OF_SCORE_STATISTICS_ELEMENTS;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createDelimiterElementForHybridSearchResults;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createScoreStatisticsElementsForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.createStartStopElementForHybridSearchResults;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryDelimiterElement;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryStartStopElement;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryScoreDocElement;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQueryScoreStatisticsElement;
 import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.isHybridQuerySpecialElement;
+import static org.opensearch.neuralsearch.search.util.HybridSearchResultFormatUtil.parseScoreStatisticsElements;
 
 import org.apache.lucene.search.ScoreDoc;
 import org.opensearch.common.Randomness;
 import org.opensearch.neuralsearch.query.OpenSearchQueryTestCase;
+import org.opensearch.neuralsearch.search.SubQueryScoreStatistics;
 
 public class HybridSearchResultFormatUtilTests extends OpenSearchQueryTestCase {
 
@@ -74,4 +79,31 @@ public class HybridSearchResultFormatUtilTests extends OpenSearchQueryTestCase {
         assertFalse(isHybridQuerySpecialElement(startStopElement));
         assertTrue(isHybridQueryScoreDocElement(startStopElement));
     }
+
+    public void testScoreStatisticsElements_whenCreateAndParse_thenStatisticsKeepDoublePrecision() {
+        ScoreDoc[] scoreDocs = new ScoreDoc[1000];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            scoreDocs[i] = new ScoreDoc(i, 10.0f + Randomness.get().nextFloat() / 1000);
+        }
+        SubQueryScoreStatistics statistics = SubQueryScoreStatistics.of(scoreDocs, 0, scoreDocs.length);
+
+        ScoreDoc[] elements = createScoreStatisticsElementsForHybridSearchResults(statistics);
+        assertEquals(NUM_OF_SCORE_STATISTICS_ELEMENTS, elements.length);
+        for (ScoreDoc element : elements) {
+            assertTrue(isHybridQueryScoreStatisticsElement(element));
+            assertTrue(isHybridQuerySpecialElement(element));
+            assertFalse(isHybridQueryScoreDocElement(element));
+            assertFalse(isHybridQueryStartStopElement(element));
+            assertFalse(isHybridQueryDelimiterElement(element));
+        }
+        SubQueryScoreStatistics parsedStatistics = parseScoreStatisticsElements(elements, 0);
+        assertEquals(statistics.getCount(), parsedStatistics.getCount());
+        assertEquals(statistics.getMinScore(), parsedStatistics.getMinScore(), 0.0f);
+        assertEquals(statistics.getMaxScore(), parsedStatistics.getMaxScore(), 0.0f);
+        // sum and sum of squares are split into two floats, relative error is far below float precision
+        assertEquals(statistics.getSum(), parsedStatistics.getSum(), statistics.getSum() * 1e-12);
+        assertEquals(statistics.getSumOfSquares(), parsedStatistics.getSumOfSquares(), statistics.getSumOfSquares() * 1e-12);
+        assertFalse(isHybridQueryScoreStatisticsElement(new ScoreDoc(1, 0.5f)));
+        assertFalse(isHybridQueryScoreStatisticsElement(null));
+    }
 }
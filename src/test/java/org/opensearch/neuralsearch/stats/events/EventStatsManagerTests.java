@@ -57,6 +57,18 @@ public class EventStatsManagerTests extends OpenSearchTestCase {
         assertEquals(originalValue, newValue);
     }
 
+    public void test_addValue() {
+        when(mockSettingsAccessor.isStatsEnabled()).thenReturn(true);
+
+        EventStat originalStat = STAT_NAME.getEventStat();
+        long originalValue = originalStat.getValue();
+
+        eventStatsManager.addValue(STAT_NAME, 7);
+
+        long newValue = originalStat.getValue();
+        assertEquals(originalValue + 7, newValue);
+    }
+
     public void test_getTimestampedEventStatSnapshots() {
         Map<EventStatName, TimestampedEventStatSnapshot> result = eventStatsManager.getTimestampedEventStatSnapshots(EnumSet.of(STAT_NAME));
 
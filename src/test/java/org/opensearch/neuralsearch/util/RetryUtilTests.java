@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.settings.NeuralSearchSettingsAccessor;
+import org.opensearch.neuralsearch.stats.events.EventStatName;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.NodeNotConnectedException;
+
+public class RetryUtilTests extends OpenSearchTestCase {
+    private ThreadPool threadPool;
+    private NeuralSearchSettingsAccessor settingsAccessor;
+    private ActionListener<Object> listener;
+    private AtomicInteger retryCounter;
+    private NodeNotConnectedException retryableException;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        TestUtils.initializeEventStatsManager();
+        threadPool = mock(ThreadPool.class);
+        settingsAccessor = mock(NeuralSearchSettingsAccessor.class);
+        when(settingsAccessor.getMlInferenceRetryTimeout()).thenReturn(TimeValue.timeValueSeconds(10));
+        when(settingsAccessor.getMlInferenceRetryMaxInFlight()).thenReturn(1);
+        listener = mock(ActionListener.class);
+        retryCounter = new AtomicInteger();
+        retryableException = new NodeNotConnectedException(mock(DiscoveryNode.class), "Node not connected");
+        RetryUtil.initialize(threadPool, settingsAccessor);
+    }
+
+    @After
+    public void resetRetryUtil() {
+        RetryUtil.initialize(null, null);
+    }
+
+    public void testHandleRetryOrFailure_whenRetryableException_thenScheduleRetry() {
+        RetryUtil.handleRetryOrFailure(retryableException, 0, System.nanoTime(), retryCounter::incrementAndGet, listener);
+
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<TimeValue> delayCaptor = ArgumentCaptor.forClass(TimeValue.class);
+        verify(threadPool).schedule(retryCaptor.capture(), delayCaptor.capture(), eq(ThreadPool.Names.GENERIC));
+        assertTrue(delayCaptor.getValue().millis() >= 500);
+        assertEquals(0, retryCounter.get());
+        assertEquals(1, RetryUtil.getRetriesInFlight());
+
+        retryCaptor.getValue().run();
+
+        assertEquals(1, retryCounter.get());
+        assertEquals(0, RetryUtil.getRetriesInFlight());
+        assertEquals(1, EventStatName.ML_INFERENCE_RETRIES_ISSUED.getEventStat().getValue());
+        verifyNoInteractions(listener);
+    }
+
+    public void testHandleRetryOrFailure_whenNotRetryableException_thenFail() {
+        IllegalStateException exception = new IllegalStateException("not retryable");
+
+        RetryUtil.handleRetryOrFailure(exception, 0, System.nanoTime(), retryCounter::incrementAndGet, listener);
+
+        verify(listener).onFailure(exception);
+        verifyNoInteractions(threadPool);
+        assertEquals(0, EventStatName.ML_INFERENCE_RETRIES_DROPPED.getEventStat().getValue());
+    }
+
+    public void testHandleRetryOrFailure_whenMaxRetryReached_thenFail() {
+        RetryUtil.handleRetryOrFailure(retryableException, 3, System.nanoTime(), retryCounter::incrementAndGet, listener);
+
+        verify(listener).onFailure(retryableException);
+        verifyNoInteractions(threadPool);
+    }
+
+    public void testHandleRetryOrFailure_whenDeadlineExceeded_thenDropRetry() {
+        long startTimeInNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(10);
+
+        RetryUtil.handleRetryOrFailure(retryableException, 0, startTimeInNanos, retryCounter::incrementAndGet, listener);
+
+        verify(listener).onFailure(retryableException);
+        verifyNoInteractions(threadPool);
+        assertEquals(1, EventStatName.ML_INFERENCE_RETRIES_DROPPED.getEventStat().getValue());
+    }
+
+    public void testHandleRetryOrFailure_whenRetryBudgetExhausted_thenDropRetry() {
+        RetryUtil.handleRetryOrFailure(retryableException, 0, System.nanoTime(), retryCounter::incrementAndGet, listener);
+        RetryUtil.handleRetryOrFailure(retryableException, 0, System.nanoTime(), retryCounter::incrementAndGet, listener);
+
+        verify(threadPool).schedule(any(Runnable.class), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+        verify(listener).onFailure(retryableException);
+        assertEquals(1, RetryUtil.getRetriesInFlight());
+        assertEquals(1, EventStatName.ML_INFERENCE_RETRIES_ISSUED.getEventStat().getValue());
+        assertEquals(1, EventStatName.ML_INFERENCE_RETRIES_DROPPED.getEventStat().getValue());
+    }
+
+    public void testHandleRetryOrFailure_whenScheduleRejected_thenReleasePermitAndFail() {
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), eq(ThreadPool.Names.GENERIC))).thenThrow(
+            new IllegalStateException("node is closing")
+        );
+
+        RetryUtil.handleRetryOrFailure(retryableException, 0, System.nanoTime(), retryCounter::incrementAndGet, listener);
+
+        verify(listener).onFailure(retryableException);
+        assertEquals(0, retryCounter.get());
+        assertEquals(0, RetryUtil.getRetriesInFlight());
+    }
+
+    public void testHandleRetryOrFailure_whenRetryActionThrows_thenFail() {
+        IllegalStateException exception = new IllegalStateException("failed to send request");
+        RetryUtil.handleRetryOrFailure(retryableException, 0, System.nanoTime(), () -> { throw exception; }, listener);
+
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(retryCaptor.capture(), any(TimeValue.class), eq(ThreadPool.Names.GENERIC));
+        verify(listener, never()).onFailure(any());
+
+        retryCaptor.getValue().run();
+
+        verify(listener).onFailure(exception);
+        assertEquals(0, RetryUtil.getRetriesInFlight());
+    }
+
+    public void testHandleRetryOrFailure_whenThreadPoolNotInitialized_thenRetryInline() {
+        RetryUtil.initialize(null, null);
+
+        RetryUtil.handleRetryOrFailure(retryableException, 0, System.nanoTime(), retryCounter::incrementAndGet, listener);
+
+        assertEquals(1, retryCounter.get());
+        assertEquals(0, RetryUtil.getRetriesInFlight());
+        verifyNoInteractions(listener);
+    }
+}